@@ -1,9 +1,15 @@
 package com.teamoneboxoffice;
 
+import com.teamoneboxoffice.services.implementations.databaseImpl.DataAccessContext;
+import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import com.teamoneboxoffice.util.IdGenerator;
 import com.teamoneboxoffice.util.NavigationUtil;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 import javafx.scene.Parent;
 
@@ -12,9 +18,28 @@ import java.net.URL;
 import java.util.Objects;
 
 public class Main extends Application {
+    // The context start() created; stays null if start() gave up before creating one
+    private DataAccessContext dataAccessContext;
+
     @Override
     public void start(Stage primaryStage) {
         NavigationUtil.setPrimaryStage(primaryStage);
+        try {
+            // IDs must never collide across terminals, so refuse to start without a terminal ID.
+            IdGenerator.getInstance();
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            new Alert(Alert.AlertType.ERROR, e.getMessage()).showAndWait();
+            Platform.exit();
+            return;
+        }
+        // Run with -Dboxoffice.backend=memory to use the in-memory store instead of MySQL
+        if ("memory".equalsIgnoreCase(System.getProperty("boxoffice.backend"))) {
+            dataAccessContext = DataAccessContext.inMemory(InMemoryStore.withDemoData());
+        } else {
+            dataAccessContext = new DataAccessContext(new Database());
+        }
+        NavigationUtil.setDataAccessContext(dataAccessContext);
 
         String fxmlFileName = "LoginForm.fxml"; // Start with Login form
         String fxmlResourcePath = "/scenes/" + fxmlFileName;
@@ -57,6 +82,13 @@ public class Main extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (dataAccessContext != null) {
+            dataAccessContext.shutdown();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -5,28 +5,34 @@ import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.geometry.Side;
 import javafx.scene.control.Alert.AlertType;
 import javafx.util.Duration;
 import java.net.URL;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
-import java.util.UUID;
-import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.services.implementations.customerImpl.CustomerSearchService;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountCatalogue;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountRule;
+import com.teamoneboxoffice.util.IdGenerator;
+import com.teamoneboxoffice.util.NavigationUtil;
 /**
  * Controller for the Customer Booking Info screen (CustomerBookingInfoPage.fxml).
  * Collects customer details, displays timer, and finalizes the booking with confirmation.
  */
 
-import java.sql.ResultSet;
-import java.util.Random;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 
 
@@ -53,7 +59,8 @@ public class CustomerBookingInfoPageController implements Initializable {
 
     private List<String> bookedSeatIds;
     private float baseTotalPrice = 0.0f;
-    private int discountPercentage = 0;
+    private double discountPercentage = 0;
+    private List<DiscountRule> discounts = new ArrayList<>();
 
     private boolean isWheelchairBooking;
     private int numberOfSeats;
@@ -64,6 +71,12 @@ public class CustomerBookingInfoPageController implements Initializable {
 
     // --- Event ID ---
     private String eventId;
+    private String seatHoldId;
+
+    // --- Customer name suggestions ---
+    private static final int MAX_NAME_SUGGESTIONS = 8;
+    private final ContextMenu nameSuggestions = new ContextMenu();
+    private boolean fillingCustomer;
 
     /**
      * Initializes the controller class. This method is automatically called
@@ -75,6 +88,12 @@ public class CustomerBookingInfoPageController implements Initializable {
     public void initialize(URL url, ResourceBundle resourceBundle) {
         System.out.println("CustomerBookingInfoPageController initialize method called."); // LOGGING
         generateInitialData();
+        initializeNameSuggestions();
+        // Fill the customer index while the clerk starts typing.
+        NavigationUtil.getPageTasks().load(() -> {
+            NavigationUtil.getDataAccessContext().getCustomerSearchService().warm();
+            return null;
+        }, ignored -> { });
         System.out.println("CustomerBookingInfoPageController initialize finished."); // LOGGING
     }
 
@@ -83,7 +102,7 @@ public class CustomerBookingInfoPageController implements Initializable {
      * Customer ID will be determined either by lookup or new generation.
      */
     private void generateInitialData() {
-        String ticketNum = "TKT" + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
+        String ticketNum = IdGenerator.nextTicketId();
         ticketNumberField.setText(ticketNum);
 
         // Generate default customer ID
@@ -94,17 +113,29 @@ public class CustomerBookingInfoPageController implements Initializable {
     }
 
     /**
-     * Generates a unique customer ID in the format used in the database (CUS_XXX##)
+     * Generates a unique customer ID (CUS_ followed by an encoded {@link IdGenerator} ID).
      */
     private String generateCustomerId() {
-        // Generate random 3 uppercase letters
-        String letters = UUID.randomUUID().toString().substring(0, 3).toUpperCase();
+        return IdGenerator.nextCustomerId();
+    }
 
-        // Generate random 2-digit number
-        int number = new Random().nextInt(100);
+    /**
+     * Called by MakeBookingPageController before {@link #setBookingDetails}, with the hold
+     * placed on the selected seats. The hold is released when the booking is saved or the
+     * timer runs out.
+     * @param holdId The ID of the seat hold.
+     */
+    public void setSeatHold(String holdId) {
+        this.seatHoldId = holdId;
+    }
 
-        // Format: CUS_XXX## (matching your database format)
-        return String.format("CUS_%s%02d", letters, number);
+    /**
+     * Called by MakeBookingPageController before {@link #setBookingDetails}, with the valid
+     * discount codes that apply to the booking. Their uses are counted when the booking is saved.
+     * @param discounts The discount codes, in stacking order.
+     */
+    public void setDiscounts(List<DiscountRule> discounts) {
+        this.discounts = new ArrayList<>(discounts);
     }
 
     /**
@@ -115,14 +146,13 @@ public class CustomerBookingInfoPageController implements Initializable {
      * @param isWheelchair True if wheelchair space required.
      * @param remainingSeconds The time left on the reservation timer.
      * @param eventId The ID of the event being booked.
-     * @param discountPercentage The percentage discount applied (0 if none).
      * @param baseTotalPrice The total price of selected seats before discount.
      */
     public void setBookingDetails(List<String> seatIds, int quantity, boolean isWheelchair,
-                                  int remainingSeconds, String eventId, int discountPercentage, float baseTotalPrice) {
+                                  int remainingSeconds, String eventId, float baseTotalPrice) {
 
         System.out.println("--- CustomerBookingInfoPageController.setBookingDetails ---"); // LOGGING
-        System.out.println("Received discountPercentage: " + discountPercentage); // LOGGING
+        System.out.println("Received discount codes: " + discounts.size()); // LOGGING
         System.out.println("Received baseTotalPrice: " + baseTotalPrice); // LOGGING
 
         this.bookedSeatIds = seatIds;
@@ -130,22 +160,24 @@ public class CustomerBookingInfoPageController implements Initializable {
         this.isWheelchairBooking = isWheelchair;
         this.timeSeconds = remainingSeconds;
         this.eventId = eventId;
-        this.discountPercentage = discountPercentage;
         this.baseTotalPrice = baseTotalPrice;
 
+        long basePence = Math.round(this.baseTotalPrice * 100.0);
+        long finalPence = DiscountRule.applyAll(discounts, basePence);
+        this.discountPercentage = basePence > 0 ? 100.0 * (basePence - finalPence) / basePence : 0;
+
         numSeatsField.setText(String.valueOf(this.numberOfSeats));
         seatsField.setText(String.join(", ", this.bookedSeatIds));
         wheelchairSeatField.setText(this.isWheelchairBooking ? "Yes" : "No");
 
         if (discountAppliedField != null) {
             System.out.println("Setting discountAppliedField text to: " + this.discountPercentage + "%"); // LOGGING
-            discountAppliedField.setText(this.discountPercentage + "%");
+            discountAppliedField.setText(new DecimalFormat("0.##").format(this.discountPercentage) + "%");
         } else {
             System.err.println("ERROR: discountAppliedField is null in setBookingDetails!"); // LOGGING
         }
 
-        float discountMultiplier = 1.0f - (this.discountPercentage / 100.0f);
-        float finalPrice = this.baseTotalPrice * discountMultiplier;
+        float finalPrice = finalPence / 100.0f;
         System.out.println("Calculated finalPrice: " + finalPrice); // LOGGING
 
         if (totalPriceField != null) {
@@ -211,6 +243,9 @@ public class CustomerBookingInfoPageController implements Initializable {
      */
     private void handleTimerExpiration() {
         stopTimer();
+        // Releasing deletes the hold rows, so it runs in the background.
+        NavigationUtil.getDataAccessContext().getAsyncDataAccess().run(
+                () -> NavigationUtil.getDataAccessContext().getSeatHoldService().release(seatHoldId));
         showAlert(Alert.AlertType.WARNING, "Time Expired", "Your 10-minute reservation has expired. Please start the booking process again.");
         // Disable saving and potentially navigate back automatically
         saveButton.setDisable(true);
@@ -221,71 +256,90 @@ public class CustomerBookingInfoPageController implements Initializable {
 
     /**
      * Handle the customer lookup functionality.
-     * Searches the database for a customer with the entered email and populates fields if found.
+     * Looks the customer up by the entered email, or by phone number if no email is entered,
+     * and populates fields if found. The lookup runs in the background.
      */
     @FXML
     void handleLookupCustomer(ActionEvent event) {
-        String email = emailTextField.getText();
+        String email = emailTextField.getText() == null ? "" : emailTextField.getText().trim();
+        String phone = phoneTextField.getText() == null ? "" : phoneTextField.getText().trim();
+        boolean byEmail = !email.isEmpty();
 
-        if (email == null || email.trim().isEmpty() || !email.contains("@")) {
-            showAlert(AlertType.WARNING, "Invalid Email", "Please enter a valid email address to lookup a customer.");
+        if ((byEmail && !email.contains("@")) || (!byEmail && CustomerSearchService.normalizePhone(phone) == null)) {
+            showAlert(AlertType.WARNING, "Invalid Email", "Please enter a valid email address or phone number to lookup a customer.");
             return;
         }
 
-        Database db = new Database();
-        Connection conn = null;
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
+        CustomerSearchService customerSearch = NavigationUtil.getDataAccessContext().getCustomerSearchService();
+        NavigationUtil.getPageTasks().load(
+                () -> byEmail ? customerSearch.findByEmail(email) : customerSearch.findByPhone(phone),
+                customer -> {
+                    if (customer != null) {
+                        showCustomer(customer);
+                        showAlert(AlertType.INFORMATION, "Customer Found",
+                                "Found existing customer: " + customer.getName() + "\nCustomer ID: " + customer.getCustomerID());
+                    } else {
+                        showAlert(AlertType.INFORMATION, "Customer Not Found",
+                                "No customer found with " + (byEmail ? "email: " + email : "phone number: " + phone)
+                                        + "\nA new Customer ID will be generated.");
+                        customerIdField.setText(generateCustomerId());
+                    }
+                },
+                error -> {
+                    showAlert(AlertType.ERROR, "Database Error", "Could not lookup customer: " + error.getMessage());
+                    customerIdField.setText(generateCustomerId());
+                },
+                lookupCustomerButton);
+    }
 
-        try {
-            conn = db.getConnection();
-
-            String sql = "SELECT Customer_ID, Name, Phone FROM Customer WHERE Email = ?";
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, email);
-
-            rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                // Customer found
-                String customerId = rs.getString("Customer_ID");
-                String name = rs.getString("Name");
-                String phone = rs.getString("Phone");
-
-                // Populate fields
-                customerIdField.setText(customerId);
-                nameTextField.setText(name);
-                phoneTextField.setText(phone);
-
-                showAlert(AlertType.INFORMATION, "Customer Found",
-                        "Found existing customer: " + name + "\nCustomer ID: " + customerId);
-            } else {
-                // Customer not found
-                showAlert(AlertType.INFORMATION, "Customer Not Found",
-                        "No customer found with email: " + email + "\nA new Customer ID will be generated.");
-
-                // Generate a new customer ID
-                String customerId = generateCustomerId();
-                customerIdField.setText(customerId);
+    /**
+     * Suggests returning customers whose name starts with what has been typed, from the
+     * in-memory customer index. Picking one fills in their details.
+     */
+    private void initializeNameSuggestions() {
+        CustomerSearchService customerSearch = NavigationUtil.getDataAccessContext().getCustomerSearchService();
+        nameTextField.textProperty().addListener((obs, oldText, newText) -> {
+            if (fillingCustomer || !nameTextField.isFocused() || newText == null || newText.trim().length() < 2) {
+                nameSuggestions.hide();
+                return;
             }
+            List<Customer> matches = customerSearch.searchByName(newText, MAX_NAME_SUGGESTIONS);
+            if (matches.isEmpty()) {
+                nameSuggestions.hide();
+                return;
+            }
+            List<MenuItem> items = new ArrayList<>();
+            for (Customer customer : matches) {
+                MenuItem item = new MenuItem(customer.getName() + "  " + customer.getEmailAddress()
+                        + (customer.getPhoneNumber() != null ? "  " + customer.getPhoneNumber() : ""));
+                item.setOnAction(e -> showCustomer(customer));
+                items.add(item);
+            }
+            nameSuggestions.getItems().setAll(items);
+            if (!nameSuggestions.isShowing()) {
+                nameSuggestions.show(nameTextField, Side.BOTTOM, 0, 0);
+            }
+        });
+        nameTextField.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                nameSuggestions.hide();
+            }
+        });
+    }
 
-        } catch (SQLException e) {
-            System.err.println("Database error during customer lookup: " + e.getMessage());
-            e.printStackTrace();
-            showAlert(AlertType.ERROR, "Database Error",
-                    "Could not lookup customer: " + e.getMessage());
-
-            String customerId = generateCustomerId();
-            customerIdField.setText(customerId);
-        } finally {
-            try {
-                if (rs != null) rs.close();
-                if (stmt != null) stmt.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing database resources: " + e.getMessage());
+    private void showCustomer(Customer customer) {
+        fillingCustomer = true;
+        try {
+            customerIdField.setText(customer.getCustomerID());
+            if (customer.getName() != null) {
+                nameTextField.setText(customer.getName());
             }
+            emailTextField.setText(customer.getEmailAddress());
+            phoneTextField.setText(customer.getPhoneNumber());
+        } finally {
+            fillingCustomer = false;
         }
+        nameSuggestions.hide();
     }
 
     /**
@@ -312,6 +366,10 @@ public class CustomerBookingInfoPageController implements Initializable {
         Optional<ButtonType> result = confirmationAlert.showAndWait();
 
         if (result.isPresent() && result.get() == ButtonType.OK){
+            if (seatHoldId != null && !NavigationUtil.getDataAccessContext().getSeatHoldService().isActive(seatHoldId)) {
+                handleTimerExpiration();
+                return;
+            }
             stopTimer(); // Stop timer on successful save confirmation
 
             System.out.println("--- Saving Booking (Confirmed) ---");
@@ -319,237 +377,81 @@ public class CustomerBookingInfoPageController implements Initializable {
             System.out.println("Customer ID: " + customerId);
             System.out.println("Event ID: " + eventId);
 
-            // Save to database
-            boolean saveSuccess = saveBookingToDatabase(
-                    ticketNumber,
-                    customerId,
-                    name,
-                    email,
-                    phone,
-                    bookedSeatIds,
-                    isWheelchairBooking
-            );
-
-            if (saveSuccess) {
-                showAlert(AlertType.INFORMATION, "Booking Saved", "Booking details saved successfully!");
-
-                // Disable fields/button after successful save
-                saveButton.setDisable(true);
-                emailTextField.setEditable(false);
-                nameTextField.setEditable(false);
-                phoneTextField.setEditable(false);
-            } else {
-                showAlert(AlertType.ERROR, "Save Error", "Could not save booking to database. Please try again.");
-            }
+            // Save in the background: the commit may retry on deadlock before it gives up.
+            float finalPrice = Float.parseFloat(totalPriceField.getText().replace("£", "")); // Get final price from field
+            BookingRequest request = new BookingRequest(ticketNumber, customerId, name, email, phone,
+                    eventId, bookedSeatIds, isWheelchairBooking, this.discountPercentage > 0, finalPrice,
+                    DiscountCatalogue.cappedCodes(discounts), DiscountCatalogue.voucherCodes(discounts));
+            List<DiscountRule> usedDiscounts = List.copyOf(discounts);
+            NavigationUtil.getPageTasks().load(
+                    () -> saveBookingToDatabase(request, usedDiscounts),
+                    this::showSaveResult,
+                    error -> showAlert(AlertType.ERROR, "Save Error", "Could not save booking to database: " + error.getMessage()),
+                    saveButton);
         } else {
             System.out.println("Booking save cancelled by user.");
         }
     }
 
     /**
-     * Saves booking information to the database according to the provided SQL schema.
+     * Tells the user how the save went and, once the booking is committed, locks the form.
      *
-     * @param ticketNumber Unique ticket identifier
-     * @param customerId Unique customer identifier
-     * @param customerName Customer's name
-     * @param email Customer's email address
-     * @param phone Customer's phone number
-     * @param seatIds List of booked seat IDs
-     * @param isWheelchair Whether the booking includes wheelchair access
-     * @return true if save was successful, false otherwise
-     */
-    private boolean saveBookingToDatabase(String ticketNumber, String customerId,
-                                          String customerName, String email, String phone,
-                                          List<String> seatIds, boolean isWheelchair) {
-        Database db = new Database();
-        Connection conn = null;
-        float finalPrice = Float.parseFloat(totalPriceField.getText().replace("£", "")); // Get final price from field
-
-        try {
-            conn = db.getConnection();
-            conn.setAutoCommit(false);
-
-            boolean customerExists = checkIfCustomerExists(conn, customerId, email);
-
-            if (!customerExists) {
-                System.out.println("Creating new customer: " + customerId);
-                createCustomer(conn, customerId, customerName, email, phone);
-                if (!checkIfCustomerExists(conn, customerId, email)) {
-                    throw new SQLException("Failed to create customer record");
-                }
-            } else {
-                System.out.println("Customer already exists: " + customerId);
-            }
-
-            System.out.println("Creating ticket with Customer_ID: " + customerId);
-            // Pass the final calculated price to createTicket
-            createTicket(conn, ticketNumber, customerId, isWheelchair, eventId, seatIds.get(0), finalPrice);
-
-            System.out.println("Creating booking entry");
-            createBooking(conn, ticketNumber, customerId);
-
-            System.out.println("Adding booked seats");
-            addBookedSeats(conn, ticketNumber, seatIds);
-
-            conn.commit();
-            System.out.println("Booking saved successfully to database.");
-            return true;
-
-        } catch (SQLException e) {
-            System.err.println("Database error while saving booking: " + e.getMessage());
-            e.printStackTrace();
-            try { if (conn != null) conn.rollback(); }
-            catch (SQLException ex) { System.err.println("Error rolling back transaction: " + ex.getMessage()); }
-            return false;
-
-        } finally {
-            try { if (conn != null) { conn.setAutoCommit(true); conn.close(); } }
-            catch (SQLException e) { System.err.println("Error closing database connection: " + e.getMessage()); }
-        }
-    }
-
-
-    /**
-     * Checks if a customer exists in the database.
+     * @param saveResult The outcome of the commit.
      */
-    private boolean checkIfCustomerExists(Connection conn, String customerId, String email) throws SQLException {
-        PreparedStatement stmt = null;
-        ResultSet rs = null;
-
-        try {
-            // Check by customer ID
-            String sql = "SELECT COUNT(*) FROM Customer WHERE Customer_ID = ? OR Email = ?";
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, customerId);
-            stmt.setString(2, email);
-
-            rs = stmt.executeQuery();
-            return rs.next() && rs.getInt(1) > 0;
-
-        } finally {
-            if (rs != null) rs.close();
-            if (stmt != null) stmt.close();
-        }
-    }
-
-    /**
-     * Creates a new customer in the database.
-     */
-    private void createCustomer(Connection conn, String customerId, String name, String email, String phone)
-            throws SQLException {
-        PreparedStatement stmt = null;
-
-        try {
-            String sql = "INSERT INTO Customer (Customer_ID, Name, Email, Phone) VALUES (?, ?, ?, ?)";
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, customerId);
-            stmt.setString(2, name);
-            stmt.setString(3, email);
-            stmt.setString(4, phone);
-
-            int rowsAffected = stmt.executeUpdate();
-            if (rowsAffected == 0) {
-                throw new SQLException("Creating customer failed, no rows affected.");
-            }
-            System.out.println("Created new customer: " + customerId);
-
-        } finally {
-            if (stmt != null) stmt.close();
-        }
-    }
-
-    /**
-     * Creates a ticket entry in the database.
-     * @param conn The database connection.
-     * @param ticketId The unique ID for the ticket.
-     * @param customerId The ID of the customer making the booking.
-     * @param isWheelchair Whether the booking is for a wheelchair space.
-     * @param eventId The ID of the event.
-     * @param seatId The primary seat ID associated with the ticket (can be one of many).
-     * @param finalPrice The calculated final price for the ticket after discounts.
-     * @throws SQLException If a database error occurs.
-     */
-    private void createTicket(Connection conn, String ticketId, String customerId, boolean isWheelchair,
-                              String eventId, String seatId, float finalPrice) throws SQLException { // Added finalPrice parameter
-        PreparedStatement stmt = null;
-
-        try {
-            String sql = "INSERT INTO Ticket (Ticket_ID, Hall, Ticket_Type, Eligible_For_Discount, " +
-                    "Wheelchair, Price, Priority_Status, Customer_ID, Event_ID, Seat_ID) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, ticketId);
-            stmt.setString(2, "Unknown"); // Placeholder - Fetch Hall Type based on eventId if needed
-            stmt.setString(3, "Standard"); // Default ticket type
-            stmt.setBoolean(4, this.discountPercentage > 0); // Eligible if discount was applied
-            stmt.setBoolean(5, isWheelchair);
-            stmt.setDouble(6, finalPrice); // Use the calculated final price
-            stmt.setString(7, "Low");  // Default priority
-            stmt.setString(8, customerId);
-            stmt.setString(9, eventId);
-            stmt.setString(10, seatId); // Link to one seat (Booked_Seats links all)
-
-            int rowsAffected = stmt.executeUpdate();
-            if (rowsAffected == 0) {
-                throw new SQLException("Creating ticket failed, no rows affected.");
-            }
-            System.out.println("Created ticket: " + ticketId + " with final price: " + finalPrice);
-
-        } finally {
-            if (stmt != null) stmt.close();
+    private void showSaveResult(BookingCommitResult saveResult) {
+        if (saveResult.isCommitted()) {
+            showAlert(AlertType.INFORMATION, "Booking Saved", "Booking details saved successfully!");
+
+            // Disable fields/button after successful save
+            saveButton.setDisable(true);
+            emailTextField.setEditable(false);
+            nameTextField.setEditable(false);
+            phoneTextField.setEditable(false);
+        } else if (saveResult.getStatus() == BookingCommitResult.Status.SEATS_TAKEN) {
+            showAlert(AlertType.ERROR, "Seats No Longer Available",
+                    "These seats have already been booked: " + String.join(", ", saveResult.getLostSeatIds())
+                            + "\nNothing was saved. Please start the booking again and choose other seats.");
+            saveButton.setDisable(true);
+        } else if (saveResult.getStatus() == BookingCommitResult.Status.CODES_USED_UP) {
+            showAlert(AlertType.ERROR, "Discount No Longer Available",
+                    "These discount codes have reached their usage limit or been redeemed: " + String.join(", ", saveResult.getUsedUpCodes())
+                            + "\nNothing was saved. Please start the booking again without them.");
+            saveButton.setDisable(true);
+        } else {
+            showAlert(AlertType.ERROR, "Save Error", "Could not save booking to database. Please try again.");
         }
     }
 
-
     /**
-     * Creates a booking entry in the database.
+     * Saves booking information to the database through the booking commit DAO,
+     * which writes the customer, ticket, booking and booked seats, counts the capped
+     * discount codes and redeems the vouchers in one transaction, rejecting the whole
+     * booking if any seat has already been booked or any code is used up. Then updates
+     * the seat index, seat hold, discount usage and customer index to match.
+     * Runs off the FX thread, so it must not touch any controls.
+     *
+     * @param request The booking to save
+     * @param usedDiscounts The discount codes applied to the booking
+     * @return The outcome of the commit, listing any seats lost to another booking
      */
-    private void createBooking(Connection conn, String ticketId, String customerId) throws SQLException {
-        PreparedStatement stmt = null;
-
-        try {
-            String bookingId = "BKG-" + UUID.randomUUID().toString().substring(0, 6);
-
-            String sql = "INSERT INTO Booking_Details (Booking_ID, Status, Customer_ID, Ticket_ID) " +
-                    "VALUES (?, ?, ?, ?)";
-
-            stmt = conn.prepareStatement(sql);
-            stmt.setString(1, bookingId);
-            stmt.setBoolean(2, true); // Active booking
-            stmt.setString(3, customerId);
-            stmt.setString(4, ticketId);
-
-            stmt.executeUpdate();
-            System.out.println("Created booking: " + bookingId);
-
-        } finally {
-            if (stmt != null) stmt.close();
+    private BookingCommitResult saveBookingToDatabase(BookingRequest request, List<DiscountRule> usedDiscounts) {
+        BookingCommitResult result = NavigationUtil.getDataAccessContext().getBookingCommitDAO().claimSeatsAndCommit(request);
+        if (result.getStatus() != BookingCommitResult.Status.FAILED) {
+            NavigationUtil.getDataAccessContext().getPerformanceSeatIndex().invalidateEvent(eventId);
         }
-    }
-
-    /**
-     * Adds booked seats to the database.
-     */
-    private void addBookedSeats(Connection conn, String ticketId, List<String> seatIds) throws SQLException {
-        PreparedStatement stmt = null;
-
-        try {
-            String sql = "INSERT INTO Booked_Seats (Seat_ID, Ticket_ID) VALUES (?, ?)";
-            stmt = conn.prepareStatement(sql);
-
-            for (String seatId : seatIds) {
-                stmt.setString(1, seatId);
-                stmt.setString(2, ticketId);
-                stmt.addBatch();
-            }
-
-            int[] results = stmt.executeBatch();
-            System.out.println("Added " + results.length + " booked seats");
-
-        } finally {
-            if (stmt != null) stmt.close();
+        if (result.isCommitted()) {
+            NavigationUtil.getDataAccessContext().getSeatHoldService().release(seatHoldId);
+            NavigationUtil.getDataAccessContext().getDiscountCatalogue().recordUse(usedDiscounts);
+            Customer customer = new Customer(request.getCustomerID(), false, null, null, null, request.getEmail(), request.getPhone());
+            customer.setName(request.getCustomerName());
+            NavigationUtil.getDataAccessContext().getCustomerSearchService().putIfAbsent(customer);
+        } else if (result.getStatus() == BookingCommitResult.Status.SEATS_TAKEN) {
+            NavigationUtil.getDataAccessContext().getSeatHoldService().release(seatHoldId);
+        } else if (result.getStatus() == BookingCommitResult.Status.CODES_USED_UP) {
+            NavigationUtil.getDataAccessContext().getSeatHoldService().release(seatHoldId);
+            NavigationUtil.getDataAccessContext().getDiscountCatalogue().invalidate();
         }
+        return result;
     }
 
     /**
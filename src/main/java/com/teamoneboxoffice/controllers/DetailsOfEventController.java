@@ -1,7 +1,7 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.Event;
-import com.teamoneboxoffice.services.implementations.DAOs.EventDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
 import com.teamoneboxoffice.util.NavigationUtil;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -42,7 +42,7 @@ public class DetailsOfEventController implements Initializable {
 
     private String eventId;
     private Event currentEvent = null;
-    private final EventDAO eventDAO = new EventDAO();
+    private final IEventDAO eventDAO = NavigationUtil.getDataAccessContext().getEventDAO();
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -66,13 +66,24 @@ public class DetailsOfEventController implements Initializable {
     }
 
     /**
-     * Populates the fields with event details fetched from the database using EventDAO.
+     * Fetches the event in the background using EventDAO and populates the fields when it arrives.
      */
     private void loadEventDetails() {
-        try {
-            clearFields();
+        clearFields();
+        generateReportButton.setDisable(true);
+        String requestedEventId = eventId;
+        NavigationUtil.getPageTasks().load(() -> eventDAO.getById(requestedEventId), this::showEventDetails,
+                error -> showAlert(Alert.AlertType.ERROR, "Error Loading Event",
+                        "An error occurred while loading event details: " + error.getMessage()),
+                null);
+    }
 
-            currentEvent = eventDAO.getById(eventId);
+    /**
+     * Populates the fields with the fetched event.
+     */
+    private void showEventDetails(Event event) {
+        try {
+            currentEvent = event;
 
             if (currentEvent != null) {
                 idTextField.setText(currentEvent.getEventID());
@@ -1,38 +1,52 @@
 package com.teamoneboxoffice.controllers;
 
-import com.teamoneboxoffice.services.implementations.DAOs.DiscountDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IDiscountDAO;
 import com.teamoneboxoffice.entities.Discount;
-import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.services.implementations.discountImpl.VoucherRegistry;
+import com.teamoneboxoffice.util.NavigationUtil;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
+import javafx.stage.FileChooser;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.net.URL;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 public class DiscountPageController implements Initializable {
     @FXML private ComboBox<String> reasonComboBox;
     @FXML private TextField percentageDisplayField;
     @FXML private TextField generatedCodeField;
     @FXML private Button generateCodeButton;
+    @FXML private TextField voucherCountField;
+    @FXML private Button issueVouchersButton;
+    @FXML private Button saveVouchersButton;
 
     private final Map<String, Integer> discountReasons = new HashMap<>();
-    private Database database;
-    private DiscountDAO discountDAO;
+    private IDiscountDAO discountDAO;
+    // The last batch issued, kept so it can be saved again if the first save was cancelled or failed.
+    private List<String> lastBatchCodes;
+    private String lastBatchReason;
+    private int lastBatchPercentage;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         try {
-            database = new Database();
-            discountDAO = new DiscountDAO(database);
+            discountDAO = NavigationUtil.getDataAccessContext().getDiscountDAO();
         } catch (Exception e) {
             showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to initialize database connection: " + e.getMessage());
             // Disable functionality if DB is unavailable
             generateCodeButton.setDisable(true);
+            issueVouchersButton.setDisable(true);
             reasonComboBox.setDisable(true);
         }
         discountReasons.put("NHS Personnel", 15);
@@ -47,7 +61,7 @@ public class DiscountPageController implements Initializable {
             if (newVal != null) {
                 int percentage = discountReasons.getOrDefault(newVal, 0);
                 percentageDisplayField.setText(String.valueOf(percentage));
-                if (database != null && discountDAO != null) {
+                if (discountDAO != null) {
                     generateCodeButton.setDisable(false);
                 }
                 generatedCodeField.clear();
@@ -88,18 +102,110 @@ public class DiscountPageController implements Initializable {
 
         Discount newDiscount = new Discount(discountCode, percentage, selectedReason);
 
+        NavigationUtil.getPageTasks().load(
+                () -> {
+                    try {
+                        discountDAO.addDiscount(newDiscount);
+                        NavigationUtil.getDataAccessContext().getDiscountCatalogue().invalidate();
+                        return discountCode;
+                    } catch (SQLException e) {
+                        throw new CompletionException(e);
+                    }
+                },
+                code -> {
+                    generatedCodeField.setText(code);
+                    showAlert(Alert.AlertType.INFORMATION, "Discount Code Generated & Saved",
+                            "Code generated and saved to database: " + code +
+                                    "\nYou can now copy it from the 'Generated Code' field.");
+                },
+                error -> {
+                    System.err.println("Failed to save discount code: " + error.getMessage());
+                    showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to save discount code: " + error.getMessage());
+                    generatedCodeField.clear();
+                },
+                generateCodeButton);
+    }
+
+    /**
+     * Issues a batch of single-use voucher codes for the selected reason and saves them to
+     * a CSV file for the campaign. The batch is generated and stored in the background.
+     */
+    @FXML
+    void handleIssueVouchers() {
+        String selectedReason = reasonComboBox.getValue();
+        if (selectedReason == null) {
+            showAlert(Alert.AlertType.ERROR, "Selection Error", "Please select a discount reason.");
+            return;
+        }
+        int percentage = discountReasons.getOrDefault(selectedReason, 0);
+        int count;
         try {
-            discountDAO.addDiscount(newDiscount);
-            generatedCodeField.setText(discountCode);
+            count = Integer.parseInt(voucherCountField.getText().trim());
+        } catch (NumberFormatException e) {
+            count = 0;
+        }
+        if (count < 1 || count > VoucherRegistry.MAX_BATCH_SIZE) {
+            showAlert(Alert.AlertType.ERROR, "Input Error",
+                    "Please enter a number of vouchers between 1 and " + VoucherRegistry.MAX_BATCH_SIZE + ".");
+            return;
+        }
+
+        VoucherRegistry voucherRegistry = NavigationUtil.getDataAccessContext().getVoucherRegistry();
+        int batchSize = count;
+        NavigationUtil.getPageTasks().load(
+                () -> {
+                    try {
+                        return voucherRegistry.issueBatch(percentage, selectedReason, batchSize, null);
+                    } catch (SQLException e) {
+                        throw new CompletionException(e);
+                    }
+                },
+                codes -> {
+                    lastBatchCodes = codes;
+                    lastBatchReason = selectedReason;
+                    lastBatchPercentage = percentage;
+                    saveVouchersButton.setDisable(false);
+                    saveVoucherCodes(codes, selectedReason, percentage);
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to issue vouchers: " + error.getMessage()),
+                issueVouchersButton);
+    }
 
-            showAlert(Alert.AlertType.INFORMATION, "Discount Code Generated & Saved",
-                    "Code generated and saved to database: " + discountCode +
-                            "\nYou can now copy it from the 'Generated Code' field.");
+    /**
+     * Saves the codes of the last batch issued to a file again, e.g. after the save
+     * dialog was cancelled.
+     */
+    @FXML
+    void handleSaveVouchers() {
+        if (lastBatchCodes == null) {
+            showAlert(Alert.AlertType.ERROR, "No Vouchers", "No voucher batch has been issued yet.");
+            return;
+        }
+        saveVoucherCodes(lastBatchCodes, lastBatchReason, lastBatchPercentage);
+    }
 
-        } catch (SQLException e) {
-            System.err.println("Failed to save discount code: " + e.getMessage());
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Failed to save discount code: " + e.getMessage());
-            generatedCodeField.clear();
+    private void saveVoucherCodes(List<String> codes, String reason, int percentage) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save Voucher Codes");
+        fileChooser.setInitialFileName(reason.replaceAll("[^a-zA-Z0-9.-]", "_") + "_vouchers.csv");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files (*.csv)", "*.csv"));
+        File file = fileChooser.showSaveDialog(issueVouchersButton.getScene().getWindow());
+        if (file == null) {
+            showAlert(Alert.AlertType.WARNING, "Vouchers Not Saved",
+                    codes.size() + " vouchers were issued but not saved to a file.\nUse 'Save Voucher Codes' to save them.");
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("Code,Percentage,Reason\n");
+            for (String code : codes) {
+                writer.write(code + "," + percentage + "," + reason.replace(",", ";") + "\n");
+            }
+            showAlert(Alert.AlertType.INFORMATION, "Vouchers Issued",
+                    codes.size() + " single-use vouchers issued and saved as:\n" + file.getName());
+        } catch (IOException e) {
+            System.err.println("Error writing voucher file: " + e.getMessage());
+            showAlert(Alert.AlertType.ERROR, "File Save Error", "The vouchers were issued but could not be saved.\nError: " + e.getMessage()
+                    + "\nUse 'Save Voucher Codes' to try again.");
         }
     }
 
@@ -1,13 +1,15 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.Friends_Of_Lancaster;
-import com.teamoneboxoffice.services.implementations.DAOs.FriendsOfLancasterDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IFriendsOfLancasterDAO;
+import com.teamoneboxoffice.util.NavigationUtil;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -28,7 +30,7 @@ public class FriendsOfLancasterListPageController implements Initializable {
     @FXML private TableColumn<Friends_Of_Lancaster, String> phoneColumn;
     @FXML private Label statusLabel;
 
-    private FriendsOfLancasterDAO friendsDAO;
+    private IFriendsOfLancasterDAO friendsDAO;
     private ObservableList<Friends_Of_Lancaster> friendsList;
 
     /**
@@ -40,7 +42,7 @@ public class FriendsOfLancasterListPageController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        friendsDAO = new FriendsOfLancasterDAO();
+        friendsDAO = NavigationUtil.getDataAccessContext().getFriendsOfLancasterDAO();
         setupTableColumns();
         loadFriendsData();
     }
@@ -56,13 +58,20 @@ public class FriendsOfLancasterListPageController implements Initializable {
     }
 
     /**
-     * Loads the list of Friends of Lancaster from the database using the DAO
-     * and populates the TableView.
+     * Loads the list of Friends of Lancaster from the database using the DAO in the
+     * background, and populates the TableView when it arrives.
      */
     private void loadFriendsData() {
         statusLabel.setText("Loading Friends list...");
-        List<Friends_Of_Lancaster> fetchedFriends = friendsDAO.getAllFriends();
+        friendsTableView.setPlaceholder(new ProgressIndicator());
+        NavigationUtil.getPageTasks().load(friendsDAO::getAllFriends, this::showFriendsData,
+                error -> showFriendsData(null), null);
+    }
 
+    /**
+     * Populates the TableView with the fetched friends, or shows a failure if they could not be loaded.
+     */
+    private void showFriendsData(List<Friends_Of_Lancaster> fetchedFriends) {
         if (fetchedFriends != null) {
             friendsList = FXCollections.observableArrayList(fetchedFriends);
             friendsTableView.setItems(friendsList);
@@ -1,7 +1,7 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.User;
-import com.teamoneboxoffice.services.implementations.DAOs.UserDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IUserDAO;
 import com.teamoneboxoffice.util.NavigationUtil;
 import com.teamoneboxoffice.util.SessionManager;
 import javafx.fxml.FXML;
@@ -23,10 +23,10 @@ public class LoginController {
     @FXML private PasswordField passwordField;
     @FXML private Button loginButton;
 
-    private final UserDAO userDAO;
+    private final IUserDAO userDAO;
 
     public LoginController() {
-        this.userDAO = new UserDAO();
+        this.userDAO = NavigationUtil.getDataAccessContext().getUserDAO();
     }
 
     @FXML
@@ -39,20 +39,28 @@ public class LoginController {
             return;
         }
 
-        User authenticatedUser = userDAO.authenticate(username, password);
-
-        if (authenticatedUser != null && authenticatedUser.isActive()) {
-            // Store the full user object in the session
-            SessionManager.setCurrentUser(authenticatedUser); // <<<--- STORE USER OBJECT
-            System.out.println("Login successful for user: " + username);
-            // Pass the button as source node and the user object
-            navigateToRoleBasedScreen(authenticatedUser.getRole(), loginButton, authenticatedUser);
-        } else {
-            SessionManager.clearSession();
-            System.out.println("Login failed. Invalid credentials or inactive account.");
-            showAlert(AlertType.ERROR, "Login Failed", "Invalid username/password or account inactive.");
-            passwordField.clear();
-        }
+        // Checking the password reads the database, so it runs in the background.
+        NavigationUtil.getPageTasks().load(
+                () -> userDAO.authenticate(username, password),
+                authenticatedUser -> {
+                    if (authenticatedUser != null && authenticatedUser.isActive()) {
+                        // Store the full user object in the session
+                        SessionManager.setCurrentUser(authenticatedUser); // <<<--- STORE USER OBJECT
+                        System.out.println("Login successful for user: " + username);
+                        // Pass the button as source node and the user object
+                        navigateToRoleBasedScreen(authenticatedUser.getRole(), loginButton, authenticatedUser);
+                    } else {
+                        SessionManager.clearSession();
+                        System.out.println("Login failed. Invalid credentials or inactive account.");
+                        showAlert(AlertType.ERROR, "Login Failed", "Invalid username/password or account inactive.");
+                        passwordField.clear();
+                    }
+                },
+                error -> {
+                    SessionManager.clearSession();
+                    showAlert(AlertType.ERROR, "Login Error", "Could not check the login: " + error.getMessage());
+                },
+                loginButton);
     }
 
     /**
@@ -1,11 +1,27 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.*;
-import com.teamoneboxoffice.services.implementations.DAOs.DiscountDAO;
-import com.teamoneboxoffice.services.implementations.DAOs.EventDAO;
-import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountCatalogue;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountRule;
+import com.teamoneboxoffice.services.implementations.seatingImpl.AllocationRequest;
+import com.teamoneboxoffice.services.implementations.seatingImpl.BestAvailableAllocator;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplate;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplates;
+import com.teamoneboxoffice.services.implementations.seatingImpl.PerformanceKey;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAdjacencyGraph;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatHoldService;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatSelectionModel;
 import com.teamoneboxoffice.util.NavigationUtil;
+import com.teamoneboxoffice.util.PageTasks;
+import com.teamoneboxoffice.util.SeatCanvas;
+import com.teamoneboxoffice.util.SeatKey;
+import com.teamoneboxoffice.util.SeatMapNodes;
+import com.teamoneboxoffice.util.SeatView;
+import com.teamoneboxoffice.util.SessionManager;
 import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,6 +44,8 @@ import java.net.URL;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 public class MakeBookingPageController implements Initializable {
@@ -44,16 +62,31 @@ public class MakeBookingPageController implements Initializable {
     @FXML private Label timerLabel;
     private Timeline countdownTimeline;
     private int timeSeconds = 600;
-    private List<ToggleButton> selectedSeatButtons = new ArrayList<>();
+    // Mirrors the selection model's seats for the selected seats list.
     private ObservableList<String> selectedSeatIds = FXCollections.observableArrayList();
-    private List<String> bookedSeats = new ArrayList<>();
+    private SeatAvailability seatAvailability = new SeatAvailability();
+    private SeatSelectionModel selectionModel = new SeatSelectionModel(seatAvailability, SeatAdjacencyGraph.builder().build(), 1);
+    private PerformanceKey availabilityPerformance;
+    // Incremented by every reload request; only the latest load may build the plan.
+    private long seatingPlanRequest;
+    // Selection changes within this window are collapsed into a single reload.
+    private static final Duration SEATING_PLAN_DEBOUNCE = Duration.millis(150);
+    private PauseTransition seatingPlanReload;
+    private CompletableFuture<Set<String>> seatingPlanLoad;
+    private PageTasks pageTasks;
     private int maxSeatsToSelect = 1;
-    private SeatingConfig currentSeatingConfig;
+    private LayoutTemplate currentLayout;
+    private BestAvailableAllocator bestAvailableAllocator;
     private Map<String, ToggleButton> seatButtonsMap = new HashMap<>();
+    private SeatMapNodes seatMap;
+    // The seat map's rows and wheelchair spaces, taken from the cached LayoutTemplate of the current venue.
+    private SeatAdjacencyGraph seatGraph;
+    // Set while the current venue is drawn on a canvas instead of with seat buttons.
+    private SeatCanvas seatCanvas;
     @FXML private TextField discountCodeField;
     @FXML private Label discountAppliedLabel;
     private Discount appliedDiscount = null;
-    private DiscountDAO discountDAO;
+    private DiscountCatalogue discountCatalogue;
 
     /**
      * Initializes the controller class. This method is automatically called
@@ -64,9 +97,10 @@ public class MakeBookingPageController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
+        pageTasks = NavigationUtil.getPageTasks();
+        seatMap = new SeatMapNodes(seatingPlanGrid, seatButtonsMap);
         try {
-            Database db = new Database();
-            discountDAO = new DiscountDAO(db);
+            discountCatalogue = NavigationUtil.getDataAccessContext().getDiscountCatalogue();
         } catch (Exception e) {
             System.err.println("Failed to initialize Database or DiscountDAO: " + e.getMessage());
             showAlert(Alert.AlertType.ERROR, "System Error", "Database services are unavailable.");
@@ -85,6 +119,7 @@ public class MakeBookingPageController implements Initializable {
     private void initializeEventHandlers() {
         quantitySpinner.valueProperty().addListener((obs, oldValue, newValue) -> {
             maxSeatsToSelect = newValue;
+            selectionModel.setMaxSeats(newValue);
             clearSeatSelection();
             updateBookButtonState();
         });
@@ -95,14 +130,17 @@ public class MakeBookingPageController implements Initializable {
 
         selectedSeatsListView.setItems(selectedSeatIds);
 
+        seatingPlanReload = new PauseTransition(SEATING_PLAN_DEBOUNCE);
+        seatingPlanReload.setOnFinished(e -> updateSeatingPlan());
+
         eventComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
-            updateSeatingPlan();
+            requestSeatingPlanReload();
         });
         datePicker.valueProperty().addListener((obs, oldVal, newVal) -> {
-            updateSeatingPlan();
+            requestSeatingPlanReload();
         });
         timeComboBox.valueProperty().addListener((obs, oldVal, newVal) -> {
-            updateSeatingPlan();
+            requestSeatingPlanReload();
         });
 
         bookButton.setDisable(true);
@@ -111,45 +149,39 @@ public class MakeBookingPageController implements Initializable {
 
 
     private void initializeComboBoxes() {
-        try {
-            EventDAO eventDAO = new EventDAO();
-            List<Event> events = eventDAO.getAll();
-
-            if (events.isEmpty()) {
-                setupDefaultEvents();
-            }
-
-            eventComboBox.setConverter(new StringConverter<>() {
-                @Override
-                public String toString(Event event) {
-                    return event != null ? formatEventDisplayName(event) : "";
-                }
-
-                @Override
-                public Event fromString(String string) {
-                    return null;
-                }
-            });
-
-            eventComboBox.setItems(FXCollections.observableArrayList(events));
-
-            if (!events.isEmpty()) {
-                eventComboBox.setValue(events.get(0));
-            } else if (!eventComboBox.getItems().isEmpty()){
-                eventComboBox.setValue(eventComboBox.getItems().get(0));
+        eventComboBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Event event) {
+                return event != null ? formatEventDisplayName(event) : "";
             }
 
-            if (timeComboBox.getItems().isEmpty()) {
-                timeComboBox.setItems(FXCollections.observableArrayList("14:00", "19:30", "20:00"));
-                timeComboBox.setValue("19:30");
+            @Override
+            public Event fromString(String string) {
+                return null;
             }
+        });
 
-
-        } catch (Exception e) {
-            System.err.println("Error initializing ComboBoxes: " + e.getMessage());
-            e.printStackTrace();
-            setupDefaultEvents();
+        if (timeComboBox.getItems().isEmpty()) {
+            timeComboBox.setItems(FXCollections.observableArrayList("14:00", "19:30", "20:00"));
+            timeComboBox.setValue("19:30");
         }
+
+        IEventDAO eventDAO = NavigationUtil.getDataAccessContext().getEventDAO();
+        pageTasks.load(
+                eventDAO::getAll,
+                events -> {
+                    if (events.isEmpty()) {
+                        setupDefaultEvents();
+                        return;
+                    }
+                    eventComboBox.setItems(FXCollections.observableArrayList(events));
+                    eventComboBox.setValue(events.get(0));
+                },
+                error -> {
+                    System.err.println("Error initializing ComboBoxes: " + error.getMessage());
+                    setupDefaultEvents();
+                },
+                eventComboBox);
     }
 
     private void setupDefaultEvents() {
@@ -188,7 +220,7 @@ public class MakeBookingPageController implements Initializable {
                 new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 12, 1);
         quantitySpinner.setValueFactory(quantityFactory);
         datePicker.setValue(LocalDate.now());
-        updateSeatingPlan();
+        requestSeatingPlanReload();
     }
 
     private void startTimer() {
@@ -224,9 +256,30 @@ public class MakeBookingPageController implements Initializable {
         }
     }
 
+    /**
+     * Schedules a seating plan reload. Event, date and time often change together (on page
+     * load, or when picking an event resets the time), so the reload waits briefly and
+     * repeated requests restart the wait: a burst of changes costs one fetch and one render.
+     * Any fetch still running for an earlier selection is cancelled straight away.
+     */
+    private void requestSeatingPlanReload() {
+        cancelSeatingPlanLoad();
+        // The plan on screen belongs to the old selection until the reload runs.
+        seatingPlanGrid.setDisable(true);
+        seatingPlanReload.playFromStart();
+    }
+
+    private void cancelSeatingPlanLoad() {
+        seatingPlanRequest++;
+        if (seatingPlanLoad != null) {
+            seatingPlanLoad.cancel(true);
+            seatingPlanLoad = null;
+        }
+    }
+
     /**
      * Updates the seating plan display based on the selected event, date, and time.
-     * Clears the existing plan, fetches booked seats, determines the hall layout,
+     * Clears the existing plan, fetches booked seats in the background, then determines the hall layout
      * and loads the corresponding layout method. Does NOT reset the applied discount.
      */
     private void updateSeatingPlan() {
@@ -235,86 +288,169 @@ public class MakeBookingPageController implements Initializable {
         Event selectedEvent = eventComboBox.getValue();
         LocalDate selectedDate = datePicker.getValue();
         String selectedTime = timeComboBox.getValue();
+        bestAvailableAllocator = null;
+        seatingPlanReload.stop();
+        cancelSeatingPlanLoad();
+        seatingPlanGrid.setDisable(false);
 
         if (selectedEvent == null || selectedDate == null || selectedTime == null || selectedTime.isEmpty()) {
-            seatingPlanGrid.getChildren().clear();
             clearSeatSelection();
+            seatMap.clear();
+            seatCanvas = null;
             return;
         }
 
+        // The current plan stays on screen (disabled) until the new seat states arrive.
         clearSeatSelection();
-
-        seatingPlanGrid.getChildren().clear();
-        seatingPlanGrid.getColumnConstraints().clear();
-        seatingPlanGrid.getRowConstraints().clear();
         seatingPlanGrid.setAlignment(Pos.CENTER);
-        seatButtonsMap.clear();
-
-        fetchBookedSeatsFromDatabase(selectedEvent, selectedDate, selectedTime);
 
-        currentSeatingConfig = new SeatingConfig(
-                selectedEvent.getHallType().toLowerCase().contains("large") ? 1 : 2,
-                selectedEvent.getEventType()
-        );
+        PerformanceKey performance = new PerformanceKey(selectedEvent.getEventID(), selectedDate, selectedTime);
+        long request = seatingPlanRequest;
+        seatingPlanLoad = pageTasks.load(
+                () -> fetchTakenSeats(performance),
+                takenSeats -> {
+                    // A newer request (another performance, or a reload) supersedes this one.
+                    if (request == seatingPlanRequest) {
+                        seatingPlanLoad = null;
+                        showSeatingPlan(selectedEvent, performance, takenSeats);
+                    }
+                },
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error", "Could not load booked seats: " + error.getMessage()),
+                seatingPlanGrid);
+    }
 
-        if (selectedEvent.getHallType().toLowerCase().contains("large")) {
-            loadLargeHallLayout();
-        } else if (selectedEvent.getHallType().toLowerCase().contains("small")) {
-            loadSmallHallLayout();
+    /**
+     * Shows the seating plan for a performance once its taken seats have been loaded.
+     * The seat map is only rebuilt when the layout changes; otherwise the existing seats
+     * are kept and only the seats whose state changed are redrawn. Large venues (see
+     * {@link SeatCanvas#isUsedFor}) are drawn on a canvas instead of with seat buttons.
+     * @param selectedEvent The selected event.
+     * @param performance The selected performance.
+     * @param takenSeats Seats booked or held by other bookings.
+     */
+    private void showSeatingPlan(Event selectedEvent, PerformanceKey performance, TakenSeats takenSeats) {
+        String hallType = selectedEvent.getHallType();
+        int venueId = LayoutTemplates.venueIdForHall(hallType);
+        currentLayout = LayoutTemplates.get(venueId, selectedEvent.getEventType());
+        // Neighbours and wheelchair spaces come with the cached layout, so nothing is rebuilt here.
+        seatGraph = currentLayout.getAdjacency();
+        boolean useCanvas = SeatCanvas.isUsedFor(venueId, currentLayout.getSeatCount());
+        String layoutKey = useCanvas ? "canvas:" + currentLayout.getSeatingConfigID() : hallType;
+        boolean sameLayout = seatMap.isShowing(layoutKey);
+        applyTakenSeats(performance, takenSeats, sameLayout);
+
+        if (sameLayout && seatCanvas != null) {
+            seatCanvas.refresh();
+        } else if (sameLayout) {
+            float price = (float) selectedEvent.getEventPrice();
+            for (ToggleButton seatButton : seatButtonsMap.values()) {
+                SeatData seatData = (SeatData) seatButton.getUserData();
+                seatData.setPrice(price);
+                // VIP seats depend on the event type's configuration, not just the hall.
+                SeatView.of(seatButton).setVip(isVipSeat(seatData.getSeatKey()));
+            }
+            int repainted = seatMap.repaint(seatAvailability, this::applySeatStyle);
+            System.out.println("Reused " + hallType + " seat map, restyled " + repainted + " seat(s)");
         } else {
-            System.err.println("Unknown Hall Type: " + selectedEvent.getHallType());
+            seatCanvas = null;
+            seatMap.rebuild(layoutKey, seatAvailability, () -> {
+                if (useCanvas) {
+                    loadCanvasLayout(currentLayout);
+                    return;
+                }
+                if (hallType.toLowerCase().contains("large")) {
+                    loadLargeHallLayout();
+                } else if (hallType.toLowerCase().contains("small")) {
+                    loadSmallHallLayout();
+                } else {
+                    System.err.println("Unknown Hall Type: " + hallType);
+                }
+            });
         }
+        Collection<String> seatIds = seatCanvas != null ? seatCanvas.getSeatIds() : seatButtonsMap.keySet();
+        bestAvailableAllocator = new BestAvailableAllocator(seatIds, currentLayout);
+        bindSelectionModel(new SeatSelectionModel(seatAvailability, seatGraph, maxSeatsToSelect));
         System.out.println("[updateSeatingPlan] END. Current appliedDiscount: " + (this.appliedDiscount != null ? this.appliedDiscount.getCode() : "null")); // LOGGING
     }
 
-
     /**
-     * Fetches the IDs of seats already booked for the specified event, date, and time
-     * from the database. Populates the `bookedSeats` list. Includes fallback data for testing.
-     * @param event The selected event.
-     * @param eventDate The selected date.
-     * @param eventTime The selected time.
+     * The seats of a performance that cannot be selected: booked ones, and ones other
+     * bookings currently hold.
      */
-    private void fetchBookedSeatsFromDatabase(Event event, LocalDate eventDate, String eventTime) {
-        Database db = new Database();
-        Set<String> bookedSeatSet = new HashSet<>();
-        String sql = "SELECT bs.Seat_ID " +
-                "FROM Booked_Seats bs " +
-                "JOIN Ticket t ON bs.Ticket_ID = t.Ticket_ID " +
-                "JOIN Event e ON t.Event_ID = e.Event_ID " +
-                "WHERE e.Event_ID = ? " +
-                "AND e.Event_Date = ? " +
-                "AND e.Event_Time = ?";
+    private static final class TakenSeats {
+        private final Set<String> bookedSeatIds;
+        private final Set<String> heldSeatIds;
 
-        try (Connection conn = db.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        private TakenSeats(Set<String> bookedSeatIds, Set<String> heldSeatIds) {
+            this.bookedSeatIds = bookedSeatIds;
+            this.heldSeatIds = heldSeatIds;
+        }
+    }
 
-            stmt.setString(1, event.getEventID());
-            stmt.setDate(2, java.sql.Date.valueOf(eventDate));
-            stmt.setString(3, eventTime);
+    /**
+     * Fetches the IDs of seats already booked for a performance from the shared
+     * per-performance seat index, and the seats other bookings currently hold.
+     * Runs off the FX thread, so it must not touch any controls.
+     * @param performance The selected performance.
+     * @return The booked and held seat IDs.
+     */
+    private TakenSeats fetchTakenSeats(PerformanceKey performance) {
+        Set<String> bookedSeatIds = new HashSet<>(NavigationUtil.getDataAccessContext()
+                .getPerformanceSeatIndex().getBookedSeatIds(performance));
+        Set<String> heldSeatIds = new HashSet<>(NavigationUtil.getDataAccessContext()
+                .getSeatHoldService().getHeldSeatIds(performance));
+        // A seat booked since it was held is shown as booked.
+        heldSeatIds.removeAll(bookedSeatIds);
+        return new TakenSeats(bookedSeatIds, heldSeatIds);
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String seatId = rs.getString("Seat_ID");
-                    if (seatId != null && !seatId.trim().isEmpty()) {
-                        bookedSeatSet.add(seatId.trim());
-                    }
-                }
+    /**
+     * Copies the taken seats into `seatAvailability`. The availability model is kept while
+     * the seat map is reused, so the map can diff against its last render; a new hall starts
+     * from a fresh model with the layout's wheelchair spaces flagged.
+     * @param performance The selected performance.
+     * @param takenSeats Seats booked or held by other bookings.
+     * @param sameHall Whether the seat map already shows this performance's hall.
+     */
+    private void applyTakenSeats(PerformanceKey performance, TakenSeats takenSeats, boolean sameHall) {
+        if (!sameHall) {
+            seatAvailability = new SeatAvailability();
+            for (String seatId : seatGraph.getWheelchairSeatIds()) {
+                seatAvailability.setWheelchair(seatId, true);
             }
-            System.out.println("Fetched " + bookedSeatSet.size() + " booked seats for " + event.getEventName() + " on " + eventDate + " at " + eventTime);
+        }
+        availabilityPerformance = performance;
+        seatAvailability.clearSelectionState();
+        seatAvailability.replaceBooked(takenSeats.bookedSeatIds);
+        seatAvailability.replaceHeld(takenSeats.heldSeatIds);
+    }
 
-        } catch (SQLException e) {
-            System.err.println("Database error fetching booked seats: " + e.getMessage());
-            e.printStackTrace();
-            bookedSeatSet.addAll(Arrays.asList(
-                    "A5", "C8", "F4", "L1", "M3", "N2",
-                    "CC4", "P6", "A1",
-                    "AA34", "BB25", "CC7"
-            ));
-            System.out.println("Using fallback booked seats due to DB error.");
-        } finally {
-            bookedSeats = new ArrayList<>(bookedSeatSet);
+    /**
+     * Handles the "Best Available" button. Clears the current selection and selects the
+     * best block of adjacent seats for the chosen quantity, as if each had been clicked.
+     * @param event The action event.
+     */
+    @FXML
+    void handleBestAvailable(ActionEvent event) {
+        if (bestAvailableAllocator == null) {
+            showAlert(Alert.AlertType.WARNING, "No Seating Plan", "Please select an event, date and time first.");
+            return;
+        }
+        if (wheelchairYesRadio.isSelected()) {
+            showAlert(Alert.AlertType.INFORMATION, "Wheelchair Booking", "Please pick wheelchair seats on the plan so the adjacent seat can be checked.");
+            return;
         }
+
+        clearSeatSelection();
+        List<String> seatIds = bestAvailableAllocator.allocate(seatAvailability, AllocationRequest.of(maxSeatsToSelect));
+        if (seatIds.isEmpty()) {
+            showAlert(Alert.AlertType.WARNING, "No Seats Available", "There is no block of " + maxSeatsToSelect + " adjacent seats available.");
+            return;
+        }
+        for (String seatId : seatIds) {
+            selectSeat(seatId);
+        }
+        updateBookButtonState();
     }
 
     /**
@@ -329,53 +465,105 @@ public class MakeBookingPageController implements Initializable {
 
     /**
      * Validates the current seat selection against the required quantity.
-     * Checks the discount code field and validates it if present.
-     * If valid, stops the timer and navigates to the customer booking info page.
+     * Checks the codes in the discount code field, if any, against their validity dates,
+     * event and usage limits in the background; invalid codes are reported and left out.
+     * If valid, goes on to {@link #holdSeatsAndProceed}.
      * Shows error alerts if validation fails.
      */
     private void validateAndProcessBooking() {
-        if (selectedSeatButtons.size() != maxSeatsToSelect) {
+        if (selectedSeatIds.size() != maxSeatsToSelect) {
             showAlert(Alert.AlertType.ERROR, "Selection Error",
-                    "Please select exactly " + maxSeatsToSelect + " seat(s). You have selected " + selectedSeatButtons.size() + ".");
+                    "Please select exactly " + maxSeatsToSelect + " seat(s). You have selected " + selectedSeatIds.size() + ".");
             return;
         }
 
-        int finalDiscountPercentage = 0;
+        List<String> finalSelectedSeatIds = new ArrayList<>(selectedSeatIds);
         String enteredCode = (discountCodeField != null) ? discountCodeField.getText() : null;
+        Event selectedEvent = eventComboBox.getValue();
 
-        if (enteredCode != null && !enteredCode.trim().isEmpty()) {
-            if (discountDAO == null) {
-                showAlert(Alert.AlertType.ERROR, "System Error", "Discount service is unavailable. Cannot validate code.");
-            } else {
-                try {
-                    Discount discount = discountDAO.getDiscountByCode(enteredCode.trim());
-                    if (discount != null) {
-                        finalDiscountPercentage = discount.getPercentage();
-                    } else {
-                        showAlert(Alert.AlertType.WARNING, "Invalid Discount", "The entered discount code is not valid. Proceeding without discount.");
+        if (enteredCode == null || enteredCode.trim().isEmpty()) {
+            holdSeatsAndProceed(finalSelectedSeatIds, selectedEvent, new ArrayList<>());
+            return;
+        }
+        if (discountCatalogue == null) {
+            showAlert(Alert.AlertType.ERROR, "System Error", "Discount service is unavailable. Cannot validate code.");
+            holdSeatsAndProceed(finalSelectedSeatIds, selectedEvent, new ArrayList<>());
+            return;
+        }
+        // Resolving a code may read every discount code and voucher, so it runs in the background.
+        String eventId = selectedEvent != null ? selectedEvent.getEventID() : null;
+        pageTasks.load(
+                () -> {
+                    try {
+                        return discountCatalogue.resolve(enteredCode, eventId);
+                    } catch (SQLException e) {
+                        throw new CompletionException(e);
                     }
-                } catch (SQLException e) {
-                    System.err.println("[validateAndProcessBooking] Database error checking discount code: " + e.getMessage());
+                },
+                resolution -> {
+                    List<DiscountRule> discounts = new ArrayList<>(DiscountRule.applied(resolution.getRules()));
+                    List<String> problems = new ArrayList<>(resolution.getProblems());
+                    for (DiscountRule rule : resolution.getRules()) {
+                        if (!discounts.contains(rule)) {
+                            problems.add(rule.getCode() + ": The discount code cannot be combined with "
+                                    + discounts.get(0).getCode() + ".");
+                        }
+                    }
+                    if (!problems.isEmpty()) {
+                        showAlert(Alert.AlertType.WARNING, "Invalid Discount",
+                                String.join("\n", problems) + "\nProceeding without "
+                                        + (discounts.isEmpty() ? "discount." : "these codes."));
+                    }
+                    holdSeatsAndProceed(finalSelectedSeatIds, selectedEvent, discounts);
+                },
+                error -> {
+                    System.err.println("[validateAndProcessBooking] Database error checking discount code: " + error.getMessage());
                     showAlert(Alert.AlertType.ERROR, "Database Error", "Could not validate discount code. Proceeding without discount.");
-                }
-            }
-        }
+                    holdSeatsAndProceed(finalSelectedSeatIds, selectedEvent, new ArrayList<>());
+                },
+                bookButton);
+    }
 
+    /**
+     * Holds the selected seats for the rest of the reservation period, stops the timer and
+     * navigates to the customer booking info page. If another booking has taken or holds
+     * any of the seats, the seating plan is refreshed instead.
+     * @param finalSelectedSeatIds The seats selected when the booking was confirmed.
+     * @param selectedEvent The event being booked.
+     * @param discounts The valid discount codes entered, in stacking order.
+     */
+    private void holdSeatsAndProceed(List<String> finalSelectedSeatIds, Event selectedEvent, List<DiscountRule> discounts) {
         int remainingTime = timeSeconds;
         stopTimer();
 
-        List<String> finalSelectedSeatIds = selectedSeatButtons.stream()
-                .map(button -> ((SeatData) button.getUserData()).getSeatId())
-                .collect(Collectors.toList());
-
-        Event selectedEvent = eventComboBox.getValue();
         if (selectedEvent == null) {
             showAlert(Alert.AlertType.ERROR, "Booking Error", "Could not determine the selected event. Please try again.");
             startTimer();
             return;
         }
 
-        navigateToCustomerBookingPage(finalSelectedSeatIds, remainingTime, selectedEvent, finalDiscountPercentage);
+        // Placing the hold checks bookings and writes the hold rows, so it runs in the background.
+        SeatHoldService seatHoldService = NavigationUtil.getDataAccessContext().getSeatHoldService();
+        PerformanceKey performance = availabilityPerformance;
+        String userName = SessionManager.getCurrentUser() != null ? SessionManager.getCurrentUser().getUserName() : null;
+        java.time.Duration holdTime = java.time.Duration.ofSeconds(remainingTime);
+        pageTasks.load(
+                () -> seatHoldService.hold(performance, finalSelectedSeatIds, SeatHoldService.holderName(userName), holdTime),
+                holdId -> {
+                    if (holdId == null) {
+                        showAlert(Alert.AlertType.WARNING, "Seats Unavailable",
+                                "One or more of the selected seats has just been booked or reserved by another booking. Please select seats again.");
+                        updateSeatingPlan();
+                        startTimer();
+                        return;
+                    }
+                    navigateToCustomerBookingPage(finalSelectedSeatIds, remainingTime, selectedEvent, discounts, holdId);
+                },
+                error -> {
+                    showAlert(Alert.AlertType.ERROR, "Database Error", "Could not reserve the selected seats: " + error.getMessage());
+                    startTimer();
+                },
+                bookButton);
     }
 
     /**
@@ -385,13 +573,14 @@ public class MakeBookingPageController implements Initializable {
      * @param selectedSeats The list of confirmed seat IDs being booked.
      * @param remainingTime The time left on the reservation timer in seconds.
      * @param selectedEvent The event being booked.
-     * @param discountPercentage The percentage discount applied, if any.
+     * @param discounts The valid discount codes entered, in stacking order.
+     * @param holdId The seat hold placed for the selected seats.
      */
-    private void navigateToCustomerBookingPage(List<String> selectedSeats, int remainingTime, Event selectedEvent, int discountPercentage) {
+    private void navigateToCustomerBookingPage(List<String> selectedSeats, int remainingTime, Event selectedEvent, List<DiscountRule> discounts, String holdId) {
         String fxmlPath = "/scenes/CustomerBookingInfoPage.fxml";
         String title = "Customer Information";
         System.out.println("Navigating to Customer Info Page..."); // LOGGING
-        System.out.println("Discount Percentage being passed: " + discountPercentage); // LOGGING
+        System.out.println("Discount codes being passed: " + discounts.size()); // LOGGING
 
         try {
             NavigationUtil.loadPage(fxmlPath, title, seatingPlanGrid, null);
@@ -399,19 +588,20 @@ public class MakeBookingPageController implements Initializable {
             Object loadedController = NavigationUtil.getLastLoadedController();
             if (loadedController instanceof CustomerBookingInfoPageController) {
                 System.out.println("Found CustomerBookingInfoPageController instance."); // LOGGING
-                float baseTotalPrice = selectedSeatButtons.stream()
-                        .map(button -> ((SeatData) button.getUserData()).getPrice())
+                float baseTotalPrice = selectedSeats.stream()
+                        .map(this::seatPrice)
                         .reduce(0f, Float::sum);
                 System.out.println("Calculated baseTotalPrice: " + baseTotalPrice); // LOGGING
 
-                System.out.println("Calling setBookingDetails with discount: " + discountPercentage); // LOGGING
+                System.out.println("Calling setBookingDetails with discount codes: " + discounts.size()); // LOGGING
+                ((CustomerBookingInfoPageController) loadedController).setSeatHold(holdId);
+                ((CustomerBookingInfoPageController) loadedController).setDiscounts(discounts);
                 ((CustomerBookingInfoPageController) loadedController).setBookingDetails(
                         selectedSeats,
                         maxSeatsToSelect,
                         wheelchairYesRadio.isSelected(),
                         remainingTime,
                         selectedEvent.getEventID(),
-                        discountPercentage, // Pass the applied discount percentage
                         baseTotalPrice
                 );
                 System.out.println("Finished calling setBookingDetails."); // LOGGING
@@ -419,12 +609,18 @@ public class MakeBookingPageController implements Initializable {
                 System.err.println("Navigation Error: Loaded controller is NOT an instance of CustomerBookingInfoPageController."); // LOGGING
                 System.err.println("Actual controller type: " + (loadedController != null ? loadedController.getClass().getName() : "null")); // LOGGING
                 showAlert(Alert.AlertType.ERROR, "Navigation Error", "Could not pass booking details to the next page.");
+                // Releasing deletes the hold rows, so it runs in the background.
+                NavigationUtil.getDataAccessContext().getAsyncDataAccess().run(
+                        () -> NavigationUtil.getDataAccessContext().getSeatHoldService().release(holdId));
                 startTimer();
             }
         } catch (Exception e) {
             System.err.println("Error loading Customer Booking Info Page: " + e.getMessage()); // LOGGING
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Navigation Error", "Failed to load the customer information page.");
+            // Releasing deletes the hold rows, so it runs in the background.
+            NavigationUtil.getDataAccessContext().getAsyncDataAccess().run(
+                    () -> NavigationUtil.getDataAccessContext().getSeatHoldService().release(holdId));
             startTimer();
         }
     }
@@ -435,217 +631,130 @@ public class MakeBookingPageController implements Initializable {
      * the correct number of seats has been selected.
      */
     private void updateBookButtonState() {
-        bookButton.setDisable(selectedSeatButtons.size() != maxSeatsToSelect);
+        bookButton.setDisable(!selectionModel.isComplete());
     }
 
     /**
-     * Handles the event when a seat toggle button is clicked. Manages seat selection,
-     * deselection, wheelchair logic (including adjacent seat blocking), and updates UI state.
+     * Handles the event when a seat toggle button is clicked. The button has already
+     * toggled; the selection rules decide whether that stands.
      * @param event The action event from clicking a seat button.
      */
     @FXML
     private void handleSeatSelection(ActionEvent event) {
         ToggleButton selectedButton = (ToggleButton) event.getSource();
         SeatData seatData = (SeatData) selectedButton.getUserData();
-        String selectedSeatId = seatData.getSeatId();
-        boolean wantsWheelchair = wheelchairYesRadio.isSelected();
-        boolean seatIsWheelchairAccessible = isWheelchairAccessibleSeat(selectedSeatId);
 
         if (selectedButton.isSelected()) {
-
-            if (selectedSeatButtons.size() >= maxSeatsToSelect) {
+            if (!selectSeat(seatData.getSeatId())) {
                 selectedButton.setSelected(false);
-                showAlert(Alert.AlertType.WARNING, "Selection Limit", "You can only select up to " + maxSeatsToSelect + " seat(s).");
-                return;
-            }
-
-            if (wantsWheelchair && seatIsWheelchairAccessible) {
-                String adjacentSeatId = findAdjacentSeat(selectedSeatId);
-                ToggleButton adjacentButton = (adjacentSeatId != null) ? seatButtonsMap.get(adjacentSeatId) : null;
-
-                if (adjacentButton == null || adjacentButton.isDisabled() || adjacentButton.isSelected()) {
-                    selectedButton.setSelected(false);
-                    showAlert(Alert.AlertType.WARNING, "Selection Error", "The required adjacent seat for wheelchair access (" + (adjacentSeatId != null ? adjacentSeatId : "N/A") + ") is unavailable.");
-                    return;
-                }
-
-                seatData.setBlockedAdjacentSeatId(adjacentSeatId);
-                adjacentButton.setDisable(true);
-                adjacentButton.getStyleClass().removeAll("seat-available", "seat-wheelchair-available", "seat-selected", "seat-booked", "seat-wheelchair-booked", "seat-blocked");
-                adjacentButton.getStyleClass().add("seat-blocked");
-                System.out.println("Blocked adjacent seat: " + adjacentSeatId);
             }
-
-            selectedSeatButtons.add(selectedButton);
-            selectedSeatIds.add(selectedSeatId);
-
-            selectedButton.getStyleClass().removeAll("seat-available", "seat-wheelchair-available", "seat-booked", "seat-wheelchair-booked");
-            selectedButton.getStyleClass().add("seat-selected");
-
         } else {
-            selectedSeatButtons.remove(selectedButton);
-            selectedSeatIds.remove(selectedSeatId);
-
-            if (seatData.getBlockedAdjacentSeatId() != null) {
-                String adjacentSeatId = seatData.getBlockedAdjacentSeatId();
-                ToggleButton adjacentButton = seatButtonsMap.get(adjacentSeatId);
-                if (adjacentButton != null && adjacentButton.getStyleClass().contains("seat-blocked")) {
-                    adjacentButton.setDisable(false);
-                    adjacentButton.getStyleClass().removeAll("seat-blocked", "seat-booked");
-
-                    if (isWheelchairAccessibleSeat(adjacentSeatId)) {
-                        adjacentButton.getStyleClass().add("seat-wheelchair-available");
-                    } else {
-                        adjacentButton.getStyleClass().add("seat-available");
-                    }
-                    System.out.println("Unblocked adjacent seat: " + adjacentSeatId);
-                }
-                seatData.setBlockedAdjacentSeatId(null);
-            }
-
-            selectedButton.getStyleClass().remove("seat-selected");
-            if (!bookedSeats.contains(selectedSeatId)) {
-                if (seatIsWheelchairAccessible) {
-                    selectedButton.getStyleClass().add("seat-wheelchair-available");
-                } else {
-                    selectedButton.getStyleClass().add("seat-available");
-                }
-            } else {
-                if (seatIsWheelchairAccessible) {
-                    selectedButton.getStyleClass().add("seat-wheelchair-booked");
-                } else {
-                    selectedButton.getStyleClass().add("seat-booked");
-                }
-                selectedButton.setDisable(true); // Ensure booked remains disabled
-            }
+            deselectSeat(seatData.getSeatId());
         }
-
         updateBookButtonState();
     }
 
     /**
-     * Clears the current seat selection, deselecting all buttons, unblocking adjacent seats,
-     * resetting styles, and clearing selection lists.
+     * Handles a click on a seat drawn on the seat canvas, toggling it like a seat button.
+     * @param seatId The clicked seat.
      */
-    private void clearSeatSelection() {
-        System.out.println("[clearSeatSelection] START. Current appliedDiscount: " + (this.appliedDiscount != null ? this.appliedDiscount.getCode() : "null")); // LOGGING
-
-        List<ToggleButton> buttonsToClear = new ArrayList<>(selectedSeatButtons);
-
-        for (ToggleButton button : buttonsToClear) {
-            button.setSelected(false);
-
-            SeatData seatData = (SeatData) button.getUserData();
-            String seatId = seatData.getSeatId();
-
-            if (seatData.getBlockedAdjacentSeatId() != null) {
-                String adjacentSeatId = seatData.getBlockedAdjacentSeatId();
-                ToggleButton adjacentButton = seatButtonsMap.get(adjacentSeatId);
-                if (adjacentButton != null && adjacentButton.isDisabled() && adjacentButton.getStyleClass().contains("seat-blocked")) {
-                    adjacentButton.setDisable(false);
-                    adjacentButton.getStyleClass().remove("seat-blocked");
-                    if (isWheelchairAccessibleSeat(adjacentSeatId)) {
-                        adjacentButton.getStyleClass().add("seat-wheelchair-available");
-                    } else {
-                        adjacentButton.getStyleClass().add("seat-available");
-                    }
-                }
-                seatData.setBlockedAdjacentSeatId(null);
-            }
-
-            button.getStyleClass().remove("seat-selected");
-            if (!bookedSeats.contains(seatId)) {
-                if (isWheelchairAccessibleSeat(seatId)) {
-                    button.getStyleClass().add("seat-wheelchair-available");
-                } else {
-                    button.getStyleClass().add("seat-available");
-                }
-            } else {
-                if (isWheelchairAccessibleSeat(seatId)) {
-                    button.getStyleClass().add("seat-wheelchair-booked");
-                } else {
-                    button.getStyleClass().add("seat-booked");
-                }
-                button.setDisable(true);
-            }
+    private void handleCanvasSeatClick(String seatId) {
+        if (selectionModel.isSelected(seatId)) {
+            deselectSeat(seatId);
+        } else {
+            selectSeat(seatId);
         }
+        updateBookButtonState();
+    }
 
-        selectedSeatButtons.clear();
+    /**
+     * Replaces the selection model, e.g. when a new seat map is shown, and binds the
+     * seat map, the selected seats list and the book button to it.
+     * @param model The selection model for the seat map now shown.
+     */
+    private void bindSelectionModel(SeatSelectionModel model) {
+        selectionModel = model;
+        selectionModel.addListener(this::handleSelectionChanged);
         selectedSeatIds.clear();
         updateBookButtonState();
-        System.out.println("[clearSeatSelection] END. Current appliedDiscount: " + (this.appliedDiscount != null ? this.appliedDiscount.getCode() : "null")); // LOGGING
     }
 
-    private boolean isWheelchairAccessibleSeat(String seatId) {
-        String rowId = seatId.replaceAll("\\d+", "");
-        int seatNum = Integer.parseInt(seatId.replaceAll("[^0-9]", ""));
-
-        if (rowId.equalsIgnoreCase("A") || rowId.equalsIgnoreCase("L")) {
-            return true;
+    /**
+     * Called by the selection model whenever seats are selected, deselected, or blocked or
+     * freed as wheelchair companion seats.
+     * @param changedSeatIds The seats whose state changed.
+     */
+    private void handleSelectionChanged(List<String> changedSeatIds) {
+        for (String seatId : changedSeatIds) {
+            repaintSeat(seatId);
         }
+        selectedSeatIds.setAll(selectionModel.getSelectedSeatIds());
+    }
 
-        if (rowId.startsWith("CC") || rowId.startsWith("BB") || rowId.startsWith("AA")) {
-            int minSeat = 1, maxSeat = 19;
-            if (rowId.equals("CC")) { minSeat = 1; maxSeat = 8; }
-            else if (rowId.equals("BB")) { minSeat = 6; maxSeat = 23; }
-            else if (rowId.equals("AA")) { minSeat = 21; maxSeat = 33; }
-
-            return seatNum == minSeat || seatNum == maxSeat;
-        } else {
-            char rowChar = rowId.charAt(0);
-            int maxSeat;
-            if (rowChar == 'Q') maxSeat = 10;
-            else if (rowChar == 'P') maxSeat = 11;
-            else if (rowChar == 'O') maxSeat = 20;
-            else if (rowChar == 'N') maxSeat = 19;
-            else if (rowChar == 'M') maxSeat = 16;
-            else maxSeat = 19;
-
-            return seatNum == 1 || seatNum == maxSeat;
+    /**
+     * Selects a seat through the selection model, explaining to the user why not when the
+     * selection rules refuse it.
+     * @param seatId The seat to select.
+     * @return true if the seat was selected.
+     */
+    private boolean selectSeat(String seatId) {
+        SeatSelectionModel.Result result = selectionModel.select(seatId, wheelchairYesRadio.isSelected());
+        switch (result) {
+            case LIMIT_REACHED:
+                showAlert(Alert.AlertType.WARNING, "Selection Limit", "You can only select up to " + maxSeatsToSelect + " seat(s).");
+                break;
+            case NO_COMPANION_SEAT:
+                showAlert(Alert.AlertType.WARNING, "Selection Error", "The required adjacent seat for wheelchair access (N/A) is unavailable.");
+                break;
+            default:
+                break;
         }
+        return result == SeatSelectionModel.Result.SELECTED;
     }
 
     /**
-     * Finds the potential adjacent seat ID needed for wheelchair access.
-     * It prioritizes the right side seat (seatNum + 1) if available.
-     * @param seatId The ID of the wheelchair seat selected.
-     * @return The ID of the adjacent seat to block, or null if none is suitable/found.
+     * Deselects a seat, freeing the companion seat blocked for it, if any.
+     * @param seatId The seat to deselect.
      */
-    private String findAdjacentSeat(String seatId) {
-        String rowId = seatId.replaceAll("\\d+", "");
-        int seatNum;
-        try {
-            seatNum = Integer.parseInt(seatId.replaceAll("[^0-9]", ""));
-        } catch (NumberFormatException e) {
-            return null;
-        }
+    private void deselectSeat(String seatId) {
+        selectionModel.deselect(seatId);
+    }
 
-        String rightSeatId = rowId + (seatNum + 1);
-        String leftSeatId = rowId + (seatNum - 1);
+    /**
+     * Clears the current seat selection, deselecting all seats and unblocking adjacent seats.
+     */
+    private void clearSeatSelection() {
+        System.out.println("[clearSeatSelection] START. Current appliedDiscount: " + (this.appliedDiscount != null ? this.appliedDiscount.getCode() : "null")); // LOGGING
+        selectionModel.clear();
+        updateBookButtonState();
+        System.out.println("[clearSeatSelection] END. Current appliedDiscount: " + (this.appliedDiscount != null ? this.appliedDiscount.getCode() : "null")); // LOGGING
+    }
 
-        if (seatButtonsMap.containsKey(rightSeatId)) {
-            ToggleButton rightButton = seatButtonsMap.get(rightSeatId);
-            if (!rightButton.isDisabled() && !rightButton.isSelected()) {
-                return rightSeatId;
-            }
+    /**
+     * Redraws one seat on whichever renderer the current venue uses.
+     * @param seatId The seat ID.
+     */
+    private void repaintSeat(String seatId) {
+        if (seatCanvas != null) {
+            seatCanvas.repaintSeat(seatId);
+            return;
         }
-
-        if (seatButtonsMap.containsKey(leftSeatId)) {
-            ToggleButton leftButton = seatButtonsMap.get(leftSeatId);
-            if (!leftButton.isDisabled() && !leftButton.isSelected()) {
-                return leftSeatId;
-            }
+        ToggleButton seatButton = seatButtonsMap.get(seatId);
+        if (seatButton != null) {
+            applySeatStyle(seatId, seatButton);
         }
-
-        return null;
     }
 
-    private int getMaxSeatForRow(String rowId) {
-        if (rowId.equals("CC")) return 8;
-        if (rowId.equals("BB")) return 23;
-        if (rowId.equals("AA")) return 33;
-
-        return 19;
+    /**
+     * @param seatId A selected seat.
+     * @return The seat's price.
+     */
+    private float seatPrice(String seatId) {
+        ToggleButton seatButton = seatButtonsMap.get(seatId);
+        if (seatButton != null) {
+            return ((SeatData) seatButton.getUserData()).getPrice();
+        }
+        return findSeatPrice(SeatKey.parse(seatId));
     }
 
     private void showAlert(Alert.AlertType type, String title, String message) {
@@ -665,16 +774,14 @@ public class MakeBookingPageController implements Initializable {
      */
     private ToggleButton createSeatButton(String seatId, String seatNumText) {
         ToggleButton seatButton = new ToggleButton(seatNumText);
-        String rowId = seatId.replaceAll("\\d+", "");
-        int seatNum = 0;
-        try {
-            seatNum = Integer.parseInt(seatId.replaceAll("[^0-9]", ""));
-        } catch (NumberFormatException e) {
-            System.err.println("Could not parse seat number from seatId: " + seatId);
+        int seatKey = SeatKey.parse(seatId);
+        if (seatKey == SeatKey.INVALID) {
+            System.err.println("Could not parse seat ID: " + seatId);
         }
 
-        float price = findSeatPrice(rowId, seatNum);
-        seatButton.setUserData(new SeatData(seatId, price));
+        float price = findSeatPrice(seatKey);
+        seatButton.setUserData(new SeatData(seatId, seatKey, price));
+        SeatView.of(seatButton).setVip(isVipSeat(seatKey));
 
         seatButton.getStyleClass().add("seat-button");
         seatButton.setPrefSize(35, 30);
@@ -682,15 +789,48 @@ public class MakeBookingPageController implements Initializable {
         return seatButton;
     }
 
+    /**
+     * Puts a seat button in the state `seatAvailability` gives its seat: booked, held by
+     * another booking, blocked for a wheelchair companion, selected in this booking, or available.
+     * @param seatId The seat ID.
+     * @param seatButton The seat's button.
+     */
+    private void applySeatStyle(String seatId, ToggleButton seatButton) {
+        SeatView seatView = SeatView.of(seatButton);
+        seatView.setWheelchair(seatAvailability.isWheelchair(seatId));
+        if (seatAvailability.isBooked(seatId)) {
+            seatView.setState(SeatView.State.BOOKED);
+        } else if (seatAvailability.isHeld(seatId)) {
+            seatView.setState(SeatView.State.HELD);
+        } else if (seatAvailability.isBlocked(seatId)) {
+            seatView.setState(SeatView.State.BLOCKED);
+        } else if (seatAvailability.isSelected(seatId)) {
+            seatView.setState(SeatView.State.SELECTED);
+        } else {
+            seatView.setState(SeatView.State.AVAILABLE);
+        }
+    }
+
+    /**
+     * @param seatKey The packed key of a seat.
+     * @return true if the current layout marks the seat as VIP.
+     */
+    private boolean isVipSeat(int seatKey) {
+        if (currentLayout == null || seatKey == SeatKey.INVALID) {
+            return false;
+        }
+        LayoutTemplate.SeatTemplate seat = currentLayout.findSeat(SeatKey.rowLetters(seatKey), SeatKey.number(seatKey));
+        return seat != null && seat.isVip();
+    }
+
 
     /**
      * Finds the price of a seat. Prioritizes the base Event_Price from the
      * selected event in the ComboBox.
-     * @param rowId The row identifier of the seat (currently unused for price).
-     * @param seatNum The number of the seat within the row (currently unused for price).
+     * @param seatKey The packed key of the seat (currently unused for price).
      * @return The price of the seat, primarily based on the selected Event's price.
      */
-    private float findSeatPrice(String rowId, int seatNum) {
+    private float findSeatPrice(int seatKey) {
         Event currentEvent = eventComboBox.getValue();
         if (currentEvent != null) {
             return (float) currentEvent.getEventPrice();
@@ -699,32 +839,64 @@ public class MakeBookingPageController implements Initializable {
     }
 
     /**
-     * Inner class to hold data associated with each seat button,
-     * including its ID, price, and potentially state information like
-     * whether it's blocking an adjacent seat for wheelchair access.
+     * Inner class to hold data associated with each seat button: its ID, packed key and price.
      */
     private static class SeatData {
         private final String seatId;
-        private final float price;
-        private String blockedAdjacentSeatId;
+        private final int seatKey;
+        private float price;
 
         /**
          * Constructor for SeatData.
          * @param seatId The unique ID of the seat.
+         * @param seatKey The packed {@link SeatKey} of the seat.
          * @param price The price of the seat.
          */
-        public SeatData(String seatId, float price) {
+        public SeatData(String seatId, int seatKey, float price) {
             this.seatId = seatId;
+            this.seatKey = seatKey;
             this.price = price;
-            this.blockedAdjacentSeatId = null;
         }
 
         public String getSeatId() { return seatId; }
+        public int getSeatKey() { return seatKey; }
         public float getPrice() { return price; }
-        public String getBlockedAdjacentSeatId() { return blockedAdjacentSeatId; }
-        public void setBlockedAdjacentSeatId(String blockedAdjacentSeatId) { this.blockedAdjacentSeatId = blockedAdjacentSeatId; }
+        public void setPrice(float price) { this.price = price; }
+    }
+
+
+    /**
+     * Draws a venue's seats on a {@link SeatCanvas} placed in the seatingPlanGrid. The seats
+     * come from the venue's layout template rather than a hand-drawn grid; wheelchair spaces,
+     * neighbours and the seat selection rules are the same as for the seat buttons.
+     * @param layout The venue's layout.
+     */
+    private void loadCanvasLayout(LayoutTemplate layout) {
+        System.out.println("Loading canvas seat map for configuration " + layout.getSeatingConfigID() + " (" + layout.getSeatCount() + " seats)");
+        seatCanvas = new SeatCanvas(layout, seatAvailability, this::handleCanvasSeatClick, this::seatTooltip);
+        seatingPlanGrid.add(seatCanvas, 0, 0);
+        seatCanvas.redraw();
     }
 
+    /**
+     * @param seatId A seat on the seat canvas.
+     * @return The tooltip text: the seat, its price and its state.
+     */
+    private String seatTooltip(String seatId) {
+        String state;
+        if (seatAvailability.isBooked(seatId)) {
+            state = "Booked";
+        } else if (seatAvailability.isHeld(seatId)) {
+            state = "Held";
+        } else if (seatAvailability.isBlocked(seatId)) {
+            state = "Blocked";
+        } else if (seatAvailability.isSelected(seatId)) {
+            state = "Selected";
+        } else {
+            state = seatAvailability.isWheelchair(seatId) ? "Wheelchair" : "Available";
+        }
+        return String.format("%s - £%.2f - %s", seatId, seatPrice(seatId), state);
+    }
 
     /**
      * Loads the seating layout for the Small Hall configuration into the seatingPlanGrid.
@@ -759,21 +931,7 @@ public class MakeBookingPageController implements Initializable {
             for (int seatNum = 1; seatNum <= seatsInThisRow; seatNum++) {
                 String seatId = "" + rowChar + seatNum;
                 ToggleButton seatButton = createSeatButton(seatId, String.valueOf(seatNum));
-                boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-                if (bookedSeats.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    if (isAccessible) {
-                        seatButton.getStyleClass().add("seat-wheelchair-booked");
-                    } else {
-                        seatButton.getStyleClass().add("seat-booked");
-                    }
-                } else {
-                    if (isAccessible) {
-                        seatButton.getStyleClass().add("seat-wheelchair-available");
-                    } else {
-                        seatButton.getStyleClass().add("seat-available");
-                    }
-                }
+                applySeatStyle(seatId, seatButton);
 
                 int gridColIndex = startGridCol + seatNum -1;
                 seatingPlanGrid.add(seatButton, gridColIndex, gridRowIndex);
@@ -854,27 +1012,21 @@ public class MakeBookingPageController implements Initializable {
 
         for (int i = 0; i < leftBalconySeatsB.length; i++) {
             int rowIndex = leftBalconyGridRowOffset + i;
-            if (rowIndex > sideBalconyEndRow) break;
             String rowLabel = leftBalconySeatsB[i][0]; String seatNum = leftBalconySeatsB[i][1];
             Label label = new Label(rowLabel); label.setMinWidth(25); label.setAlignment(Pos.CENTER_RIGHT); label.setPadding(new Insets(0, 5, 0, 0));
             seatingPlanGrid.add(label, LEFT_BALCONY_LABEL_COL, rowIndex);
             String seatId = rowLabel + seatNum; ToggleButton seatButton = createSeatButton(seatId, seatNum);
-            boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-            if (bookedSeats.contains(seatId)) { seatButton.setDisable(true); seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-booked" : "seat-booked"); }
-            else { seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-available" : "seat-available"); }
+            applySeatStyle(seatId, seatButton);
             seatingPlanGrid.add(seatButton, LEFT_BALCONY_SEAT_COL, rowIndex);
             seatButtonsMap.put(seatId, seatButton);
         }
         for (int i = 0; i < leftBalconySeatsA.length; i++) {
             int rowIndex = leftBalconyGridRowOffset + i;
-            if (rowIndex > sideBalconyEndRow) break;
             String rowLabel = leftBalconySeatsA[i][0]; String seatNum = leftBalconySeatsA[i][1];
             Label label = new Label(rowLabel); label.setMinWidth(25); label.setAlignment(Pos.CENTER_RIGHT); label.setPadding(new Insets(0, 5, 0, 0));
             seatingPlanGrid.add(label, LEFT_BALCONY_LABEL_COL + 2, rowIndex);
             String seatId = rowLabel + seatNum; ToggleButton seatButton = createSeatButton(seatId, seatNum);
-            boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-            if (bookedSeats.contains(seatId)) { seatButton.setDisable(true); seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-booked" : "seat-booked"); }
-            else { seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-available" : "seat-available"); }
+            applySeatStyle(seatId, seatButton);
             seatingPlanGrid.add(seatButton, LEFT_BALCONY_SEAT_COL + 3, rowIndex );
             seatButtonsMap.put(seatId, seatButton);
         }
@@ -891,27 +1043,21 @@ public class MakeBookingPageController implements Initializable {
 
         for (int i = 0; i < rightBalconySeatsB.length; i++) {
             int rowIndex = rightBalconyGridRowOffset + i;
-            if (rowIndex > sideBalconyEndRow) break;
             String rowLabel = rightBalconySeatsB[i][0]; String seatNum = rightBalconySeatsB[i][1];
             Label label = new Label(rowLabel); label.setMinWidth(25); label.setAlignment(Pos.CENTER_LEFT); label.setPadding(new Insets(0, 0, 0, 5));
             seatingPlanGrid.add(label, RIGHT_BALCONY_LABEL_COL + 3, rowIndex);
             String seatId = rowLabel + seatNum; ToggleButton seatButton = createSeatButton(seatId, seatNum);
-            boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-            if (bookedSeats.contains(seatId)) { seatButton.setDisable(true); seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-booked" : "seat-booked"); }
-            else { seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-available" : "seat-available"); }
+            applySeatStyle(seatId, seatButton);
             seatingPlanGrid.add(seatButton, RIGHT_BALCONY_SEAT_COL + 2, rowIndex);
             seatButtonsMap.put(seatId, seatButton);
         }
         for (int i = 0; i < rightBalconySeatsA.length; i++) {
             int rowIndex = rightBalconyGridRowOffset + i;
-            if (rowIndex > sideBalconyEndRow) break;
             String rowLabel = rightBalconySeatsA[i][0]; String seatNum = rightBalconySeatsA[i][1];
             Label label = new Label(rowLabel); label.setMinWidth(25); label.setAlignment(Pos.CENTER_LEFT); label.setPadding(new Insets(0, 0, 0, 5));
             seatingPlanGrid.add(label, RIGHT_BALCONY_LABEL_COL, rowIndex);
             String seatId = rowLabel + seatNum; ToggleButton seatButton = createSeatButton(seatId, seatNum);
-            boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-            if (bookedSeats.contains(seatId)) { seatButton.setDisable(true); seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-booked" : "seat-booked"); }
-            else { seatButton.getStyleClass().add(isAccessible ? "seat-wheelchair-available" : "seat-available"); }
+            applySeatStyle(seatId, seatButton);
             seatingPlanGrid.add(seatButton, RIGHT_BALCONY_SEAT_COL, rowIndex);
             seatButtonsMap.put(seatId, seatButton);
         }
@@ -921,7 +1067,9 @@ public class MakeBookingPageController implements Initializable {
         stageLabel.setPadding(new Insets(15,0,5,0));
         seatingPlanGrid.add(stageLabel, STALLS_SEAT_START_COL, currentGridRow, (STALLS_SEAT_END_COL - STALLS_SEAT_START_COL + 1), 1);
 
-        for(int i=0; i<currentGridRow + 1; i++){
+        // The side balconies run on past the front row of the stalls.
+        int lastGridRow = Math.max(currentGridRow, sideBalconyStartRow + leftBalconySeatsA.length - 1);
+        for(int i=0; i<lastGridRow + 1; i++){
             RowConstraints rc = new RowConstraints(); rc.setMinHeight(35);
             rc.setVgrow(Priority.NEVER); seatingPlanGrid.getRowConstraints().add(rc);
         }
@@ -951,22 +1099,7 @@ public class MakeBookingPageController implements Initializable {
         for (int seatNum = startSeatNum; seatNum <= endSeatNum; seatNum++) {
             String seatId = rowId + seatNum;
             ToggleButton seatButton = createSeatButton(seatId, String.valueOf(seatNum));
-
-            boolean isAccessible = isWheelchairAccessibleSeat(seatId);
-            if (bookedSeats.contains(seatId)) {
-                seatButton.setDisable(true);
-                if (isAccessible) {
-                    seatButton.getStyleClass().add("seat-wheelchair-booked");
-                } else {
-                    seatButton.getStyleClass().add("seat-booked");
-                }
-            } else {
-                if (isAccessible) {
-                    seatButton.getStyleClass().add("seat-wheelchair-available");
-                } else {
-                    seatButton.getStyleClass().add("seat-available");
-                }
-            }
+            applySeatStyle(seatId, seatButton);
 
             int gridColIndex = seatStartGridCol + (seatNum - startSeatNum);
             seatingPlanGrid.add(seatButton, gridColIndex, gridRowIndex);
@@ -1,7 +1,7 @@
 package com.teamoneboxoffice.controllers;
 
-import com.teamoneboxoffice.services.implementations.DAOs.TicketDAO;
-import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.interfaces.DAOs.ITicketDAO;
+import com.teamoneboxoffice.util.NavigationUtil;
 import javafx.collections.FXCollections;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -24,14 +24,12 @@ public class RefundPageController implements Initializable {
     @FXML private Button processButton;
 
     // --- Database Access ---
-    private Database database;
-    private TicketDAO ticketDAO;
+    private ITicketDAO ticketDAO;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         try {
-            database = new Database();
-            ticketDAO = new TicketDAO();
+            ticketDAO = NavigationUtil.getDataAccessContext().getTicketDAO();
         } catch (Exception e) {
             // Handle initialization errors (e.g., DB connection failed)
             showAlert(AlertType.ERROR, "Database Error", "Failed to initialize database connection: " + e.getMessage());
@@ -109,26 +107,29 @@ public class RefundPageController implements Initializable {
             System.out.println("Reason: " + reason);
             System.out.println("Description: " + description);
 
-            // --- Attempt to Delete Ticket from Database ---
-            try {
-                boolean deleted = ticketDAO.delete(ticketNumber);
-
-                if (deleted) {
-                    showAlert(AlertType.INFORMATION, "Success", "Refund processed and ticket '" + ticketNumber + "' deleted successfully.");
-
-                    ticketNumberTextField.clear();
-                    reasonComboBox.getSelectionModel().clearSelection();
-                    reasonComboBox.setPromptText("Select a reason...");
-                    descriptionTextArea.clear();
-                } else {
-                    showAlert(AlertType.ERROR, "Deletion Failed", "Ticket '" + ticketNumber + "' not found in the database. Please verify the ticket number.");
-                }
-
-            } catch (Exception e) {
-                // --- Database Error During Deletion ---
-                System.err.println("Error deleting ticket during refund: " + e.getMessage());
-                showAlert(AlertType.ERROR, "Database Error", "An error occurred while trying to delete the ticket: " + e.getMessage());
-            }
+            // --- Attempt to Delete Ticket from Database (off the FX thread) ---
+            NavigationUtil.getPageTasks().load(
+                    () -> ticketDAO.delete(ticketNumber),
+                    deleted -> {
+                        if (deleted) {
+                            // The ticket's event is not known here, so drop every cached seat set.
+                            NavigationUtil.getDataAccessContext().getPerformanceSeatIndex().invalidateAll();
+                            showAlert(AlertType.INFORMATION, "Success", "Refund processed and ticket '" + ticketNumber + "' deleted successfully.");
+
+                            ticketNumberTextField.clear();
+                            reasonComboBox.getSelectionModel().clearSelection();
+                            reasonComboBox.setPromptText("Select a reason...");
+                            descriptionTextArea.clear();
+                        } else {
+                            showAlert(AlertType.ERROR, "Deletion Failed", "Ticket '" + ticketNumber + "' not found in the database. Please verify the ticket number.");
+                        }
+                    },
+                    error -> {
+                        // --- Database Error During Deletion ---
+                        System.err.println("Error deleting ticket during refund: " + error.getMessage());
+                        showAlert(AlertType.ERROR, "Database Error", "An error occurred while trying to delete the ticket: " + error.getMessage());
+                    },
+                    processButton);
 
         } else {
             // User clicked No or closed the dialog
@@ -1,7 +1,7 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.Event;
-import com.teamoneboxoffice.services.implementations.DAOs.EventDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
 import com.teamoneboxoffice.util.NavigationUtil;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -32,7 +32,7 @@ public class ViewEventsController implements Initializable {
 
     private final Map<String, String> eventIdMap = new HashMap<>();
     private final ObservableList<String> allEvents = FXCollections.observableArrayList();
-    private final EventDAO eventDAO = new EventDAO();
+    private final IEventDAO eventDAO = NavigationUtil.getDataAccessContext().getEventDAO();
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -42,16 +42,25 @@ public class ViewEventsController implements Initializable {
     }
 
     /**
-     * Loads events from the database and populates the list view
+     * Loads events from the database in the background and populates the list view
+     * when they arrive.
      */
     private void loadEventsFromDatabase() {
+        NavigationUtil.getPageTasks().load(eventDAO::getAll, this::showEvents,
+                error -> showAlert(Alert.AlertType.ERROR, "Database Error",
+                        "Failed to load events from database: " + error.getMessage()),
+                searchButton);
+    }
+
+    /**
+     * Populates the list view with the loaded events.
+     */
+    private void showEvents(List<Event> events) {
         try {
             // Clear previous data
             allEvents.clear();
             eventIdMap.clear();
 
-            List<Event> events = eventDAO.getAll();
-
             if (events.isEmpty()) {
                 showAlert(Alert.AlertType.INFORMATION, "No Events",
                         "No events found in the database. Please add events first.");
@@ -85,8 +94,8 @@ public class ViewEventsController implements Initializable {
 
         } catch (Exception e) {
             e.printStackTrace();
-            showAlert(Alert.AlertType.ERROR, "Database Error",
-                    "Failed to load events from database: " + e.getMessage());
+            showAlert(Alert.AlertType.ERROR, "Display Error",
+                    "Failed to display events: " + e.getMessage());
         }
     }
 
@@ -1,10 +1,17 @@
 package com.teamoneboxoffice.controllers;
 
 import com.teamoneboxoffice.entities.Event;
-import com.teamoneboxoffice.entities.Seat;
-import com.teamoneboxoffice.entities.SeatingConfig;
-import com.teamoneboxoffice.entities.Section;
-import com.teamoneboxoffice.services.implementations.DAOs.EventDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplate;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplates;
+import com.teamoneboxoffice.services.implementations.seatingImpl.PerformanceKey;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAdjacencyGraph;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatPriceTable;
+import com.teamoneboxoffice.util.NavigationUtil;
+import com.teamoneboxoffice.util.SeatKey;
+import com.teamoneboxoffice.util.SeatMapNodes;
+import com.teamoneboxoffice.util.SeatView;
 import javafx.scene.layout.Region;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -31,21 +38,24 @@ import java.util.*;
  * Allows administrators to view and modify seat availability.
  */
 public class ViewSeatingConfigurationsController implements Initializable {
+    private static final int EVENT_PAGE_SIZE = 100;
 
     @FXML private ListView<Event> eventListView;
     @FXML private GridPane seatingPlanGrid;
     @FXML private Label statusLabel;
 
-    private EventDAO eventDAO;
+    private IEventDAO eventDAO;
     private ObservableList<Event> eventList;
     private Map<String, ToggleButton> seatButtonsMap;
     private Event selectedEvent;
-    private Set<String> bookedSeatIdsForCurrentEvent;
+    private SeatAvailability seatAvailability;
+    private SeatMapNodes seatMap;
+    private SeatAdjacencyGraph seatGraph;
 
 
     /**
      * Initializes the controller by loading events, setting up UI components,
-     * and initializing the set for booked seats.
+     * and initializing the seat availability model.
      *
      * @param url The location used to resolve relative paths for the root object, or null if the
      *     location is not known.
@@ -54,9 +64,10 @@ public class ViewSeatingConfigurationsController implements Initializable {
      */
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
-        eventDAO = new EventDAO();
+        eventDAO = NavigationUtil.getDataAccessContext().getEventDAO();
         seatButtonsMap = new HashMap<>();
-        bookedSeatIdsForCurrentEvent = new HashSet<>(); // Initialize the set
+        seatAvailability = new SeatAvailability();
+        seatMap = new SeatMapNodes(seatingPlanGrid, seatButtonsMap);
 
         loadEvents();
 
@@ -67,11 +78,13 @@ public class ViewSeatingConfigurationsController implements Initializable {
     }
 
     /**
-     * Loads events from the database and populates the event list view.
+     * Populates the event list view, loading the events in the background a page at a time
+     * so the first events show before the rest have been read.
      */
     private void loadEvents() {
-        eventList = FXCollections.observableArrayList(eventDAO.getAll());
+        eventList = FXCollections.observableArrayList();
         eventListView.setItems(eventList);
+        loadEventPage(null);
         eventListView.setCellFactory(lv -> new ListCell<>() {
             @Override
             protected void updateItem(Event item, boolean empty) {
@@ -82,29 +95,84 @@ public class ViewSeatingConfigurationsController implements Initializable {
     }
 
     /**
-     * Handles event selection by fetching booked seats for the selected event
-     * and then loading the corresponding seating configuration layout. Clears
-     * previous layout and state before loading the new one.
+     * Loads the page of events after the given event ID, appends it to the list and, if the
+     * page was full, starts loading the next one.
+     *
+     * @param afterEventId The ID of the last event loaded, or null for the first page.
+     */
+    private void loadEventPage(String afterEventId) {
+        NavigationUtil.getPageTasks().load(() -> eventDAO.getPage(afterEventId, EVENT_PAGE_SIZE), page -> {
+            eventList.addAll(page);
+            if (page.size() == EVENT_PAGE_SIZE) {
+                loadEventPage(page.get(page.size() - 1).getEventID());
+            }
+        }, error -> statusLabel.setText("Could not load events: " + error.getMessage()), null);
+    }
+
+    /**
+     * Handles event selection by fetching booked seats for the selected event in the
+     * background and then showing the corresponding seating configuration layout.
+     * Between events with the same layout only the seats whose booked state differs
+     * are restyled.
      *
      * @param event The newly selected event from the ListView, or null if deselected.
      */
     private void handleEventSelection(Event event) {
         selectedEvent = event;
-        seatingPlanGrid.getChildren().clear();
-        seatingPlanGrid.getRowConstraints().clear();
-        seatingPlanGrid.getColumnConstraints().clear();
-        seatButtonsMap.clear();
-        bookedSeatIdsForCurrentEvent.clear();
 
         if (event != null) {
             statusLabel.setText("Loading seating configuration for: " + event.getEventName() + "...");
             System.out.println("Selected event: " + event.getEventName() + " (ID: " + event.getEventID() + ")");
-            bookedSeatIdsForCurrentEvent = eventDAO.getAllBookedSeatIds();
+            NavigationUtil.getPageTasks().load(
+                    () -> NavigationUtil.getDataAccessContext().getPerformanceSeatIndex()
+                            .getBookedSeatIds(PerformanceKey.of(event)),
+                    bookedSeatIds -> {
+                        // Another event was picked while this one was loading.
+                        if (selectedEvent == event) {
+                            showSeatingConfiguration(event, bookedSeatIds);
+                        }
+                    },
+                    error -> {
+                        if (selectedEvent == event) {
+                            statusLabel.setText("Could not load booked seats: " + error.getMessage());
+                        }
+                    },
+                    null);
+        } else {
+            seatMap.clear();
+            seatAvailability = new SeatAvailability();
+            statusLabel.setText("Please select an event.");
+        }
+    }
 
-            loadSeatingConfiguration();
+    /**
+     * Shows the seating configuration for the event once its booked seats are known.
+     * The seat buttons are rebuilt only when the hall or event type changes.
+     *
+     * @param event The selected event.
+     * @param bookedSeatIds The seats already booked for the event.
+     */
+    private void showSeatingConfiguration(Event event, Set<String> bookedSeatIds) {
+        // Prices depend on the event type and wheelchair seats on the hall.
+        String layoutKey = event.getHallType() + "/" + event.getEventType();
+        boolean sameLayout = seatMap.isShowing(layoutKey);
+        if (!sameLayout) {
+            seatAvailability = new SeatAvailability();
+        }
+        seatAvailability.replaceBooked(bookedSeatIds);
 
+        if (sameLayout) {
+            // Restrictions toggled for the previous event do not carry over.
+            for (ToggleButton seatButton : seatButtonsMap.values()) {
+                if (SeatView.of(seatButton).getState() == SeatView.State.RESTRICTED) {
+                    applySeatStyle(seatButton);
+                }
+            }
+            int repainted = seatMap.repaint(seatAvailability, (seatId, seatButton) -> applySeatStyle(seatButton));
+            System.out.println("Reused seat map, restyled " + repainted + " seat(s)");
+            statusLabel.setText("Showing layout for: " + event.getEventName());
         } else {
-            statusLabel.setText("Please select an event.");
+            seatMap.rebuild(layoutKey, seatAvailability, this::loadSeatingConfiguration);
         }
     }
 
@@ -114,6 +182,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
      */
     private void loadSeatingConfiguration() {
         String hallType = selectedEvent.getHallType();
+        seatGraph = getLayoutTemplate().getAdjacency();
 
         if (hallType.equals("Large Hall")) {
             loadLargeHallLayout();
@@ -248,28 +317,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
                 }
                 ToggleButton seatButton = createSeatButton(seatId, seatNum, price);
 
-                boolean isWheelchairSeat = (rowLabel.equals("BB") && (seatNum.equals("1") || seatNum.equals("5"))) ||
-                        (rowLabel.equals("AA") && (seatNum.equals("10") || seatNum.equals("20")));
-                if (isWheelchairSeat) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                }
-
-                if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                    seatButton.getStyleClass().add("seat-booked");
-                } else {
-                    seatButton.setDisable(false);
-                    if (!isWheelchairSeat) {
-                        seatButton.getStyleClass().add("seat-available");
-                        seatButton.getStyleClass().remove("seat-wheelchair");
-                    } else {
-                        if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                            seatButton.getStyleClass().add("seat-wheelchair");
-                        }
-                        seatButton.getStyleClass().remove("seat-available");
-                    }
-                }
+                applySeatStyle(seatButton);
                 int gridColIndex = LEFT_BALCONY_SEAT_COL + 3;
                 seatingPlanGrid.add(seatButton, gridColIndex, rowIndex);
                 seatButtonsMap.put(seatId, seatButton);
@@ -296,28 +344,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
                 }
                 ToggleButton seatButton = createSeatButton(seatId, seatNum, price);
 
-                boolean isWheelchairSeat = (rowLabel.equals("BB") && (seatNum.equals("1") || seatNum.equals("5"))) ||
-                        (rowLabel.equals("AA") && (seatNum.equals("10") || seatNum.equals("20")));
-                if (isWheelchairSeat) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                }
-
-                if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                    seatButton.getStyleClass().add("seat-booked");
-                } else {
-                    seatButton.setDisable(false);
-                    if (!isWheelchairSeat) {
-                        seatButton.getStyleClass().add("seat-available");
-                        seatButton.getStyleClass().remove("seat-wheelchair");
-                    } else {
-                        if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                            seatButton.getStyleClass().add("seat-wheelchair");
-                        }
-                        seatButton.getStyleClass().remove("seat-available");
-                    }
-                }
+                applySeatStyle(seatButton);
                 seatingPlanGrid.add(seatButton, LEFT_BALCONY_SEAT_COL, rowIndex);
                 seatButtonsMap.put(seatId, seatButton);
             }
@@ -381,27 +408,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
                 }
                 ToggleButton seatButton = createSeatButton(seatId, seatNum, price); // Pass price
 
-                boolean isWheelchairSeat = (rowLabel.equals("AA") && (seatNum.equals("34") || seatNum.equals("49")));
-                if (isWheelchairSeat) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                }
-
-                if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                    seatButton.getStyleClass().add("seat-booked");
-                } else {
-                    seatButton.setDisable(false);
-                    if (!isWheelchairSeat) {
-                        seatButton.getStyleClass().add("seat-available");
-                        seatButton.getStyleClass().remove("seat-wheelchair");
-                    } else {
-                        if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                            seatButton.getStyleClass().add("seat-wheelchair");
-                        }
-                        seatButton.getStyleClass().remove("seat-available");
-                    }
-                }
+                applySeatStyle(seatButton);
                 seatingPlanGrid.add(seatButton, RIGHT_BALCONY_SEAT_COL, rowIndex);
                 seatButtonsMap.put(seatId, seatButton);
             }
@@ -426,27 +433,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
                     System.err.println("Could not parse seat number for price lookup: " + seatNum);
                 }
                 ToggleButton seatButton = createSeatButton(seatId, seatNum, price);
-                boolean isWheelchairSeat = (rowLabel.equals("BB") && (seatNum.equals("28") || seatNum.equals("24")));
-                if (isWheelchairSeat) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                }
-
-                if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                    seatButton.getStyleClass().add("seat-booked");
-                } else {
-                    seatButton.setDisable(false);
-                    if (!isWheelchairSeat) {
-                        seatButton.getStyleClass().add("seat-available");
-                        seatButton.getStyleClass().remove("seat-wheelchair");
-                    } else {
-                        if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                            seatButton.getStyleClass().add("seat-wheelchair");
-                        }
-                        seatButton.getStyleClass().remove("seat-available");
-                    }
-                }
+                applySeatStyle(seatButton);
                 seatingPlanGrid.add(seatButton, RIGHT_BALCONY_SEAT_COL + 2, rowIndex);
                 seatButtonsMap.put(seatId, seatButton);
             }
@@ -525,35 +512,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
 
                 float price = findSeatPrice(String.valueOf(rowChar), seatNum);
                 ToggleButton seatButton = createSeatButton(seatId, String.valueOf(seatNum), price);
-                boolean isWheelchairAccessible = false;
-                if (rowChar == 'A' || rowChar == 'L') {
-                    isWheelchairAccessible = true;
-                } else if (rowChar >= 'D' && rowChar <= 'K') {
-                    if (seatNum == 1 || seatNum == 7) isWheelchairAccessible = true;
-                } else if (rowChar >= 'B' && rowChar <= 'C') {
-                    if (seatNum == 1 || seatNum == 8) isWheelchairAccessible = true;
-                }
-
-                if (isWheelchairAccessible) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                }
-
-                if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                    seatButton.setDisable(true);
-                    seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                    seatButton.getStyleClass().add("seat-booked");
-                } else {
-                    seatButton.setDisable(false);
-                    if (!isWheelchairAccessible) {
-                        seatButton.getStyleClass().add("seat-available");
-                        seatButton.getStyleClass().remove("seat-wheelchair");
-                    } else {
-                        if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                            seatButton.getStyleClass().add("seat-wheelchair");
-                        }
-                        seatButton.getStyleClass().remove("seat-available");
-                    }
-                }
+                applySeatStyle(seatButton);
 
                 int gridColIndex = startGridCol + seatNum - 1;
                 seatingPlanGrid.add(seatButton, gridColIndex, gridRowIndex);
@@ -595,7 +554,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
      * Adds a single row of seat buttons to the seating plan grid.
      * Includes row labels at the start and optionally at the end.
      * Determines seat state (available, booked, wheelchair) using the
-     * pre-fetched booked seats set and accessibility logic.
+     * pre-fetched booked seats set and the layout's wheelchair spaces.
      *
      * @param rowId The identifier for the row (e.g., "A", "BB").
      * @param gridRowIndex The row index in the GridPane where this seat row should be placed.
@@ -622,40 +581,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
             float price = findSeatPrice(rowId, seatNum);
             ToggleButton seatButton = createSeatButton(seatId, String.valueOf(seatNum), price); // Pass price
 
-            boolean isWheelchairAccessible = false;
-            if (selectedEvent != null && selectedEvent.getHallType().equals("Small Hall")) {
-                if (rowId.equalsIgnoreCase("A") || rowId.equalsIgnoreCase("L")) {
-                    isWheelchairAccessible = true;
-                } else if ((rowId.compareToIgnoreCase("D") >= 0 && rowId.compareToIgnoreCase("K") <= 0) && (seatNum == 1 || seatNum == 7)) {
-                    isWheelchairAccessible = true;
-                } else if ((rowId.equalsIgnoreCase("B") || rowId.equalsIgnoreCase("C")) && (seatNum == 1 || seatNum == 8)) {
-                    isWheelchairAccessible = true;
-                }
-            } else if (selectedEvent != null && selectedEvent.getHallType().equals("Large Hall")) {
-                if (rowId.equalsIgnoreCase("BB") && (seatNum == 1 || seatNum == 5 || seatNum == 24 || seatNum == 28)) isWheelchairAccessible = true;
-                if (rowId.equalsIgnoreCase("AA") && (seatNum == 10 || seatNum == 20 || seatNum == 34 || seatNum == 49)) isWheelchairAccessible = true;
-                if ((rowId.equalsIgnoreCase("A") || rowId.equalsIgnoreCase("L")) && (seatNum == startSeatNum || seatNum == endSeatNum)) isWheelchairAccessible = true;
-            }
-            if (isWheelchairAccessible) {
-                seatButton.getStyleClass().add("seat-wheelchair");
-            }
-
-            if (bookedSeatIdsForCurrentEvent.contains(seatId)) {
-                seatButton.setDisable(true);
-                seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair");
-                seatButton.getStyleClass().add("seat-booked");
-            } else {
-                seatButton.setDisable(false);
-                if (!isWheelchairAccessible) {
-                    seatButton.getStyleClass().add("seat-available");
-                    seatButton.getStyleClass().remove("seat-wheelchair");
-                } else {
-                    if (!seatButton.getStyleClass().contains("seat-wheelchair")) {
-                        seatButton.getStyleClass().add("seat-wheelchair");
-                    }
-                    seatButton.getStyleClass().remove("seat-available");
-                }
-            }
+            applySeatStyle(seatButton);
 
             int gridColIndex = seatStartGridCol + (seatNum - startSeatNum);
             seatingPlanGrid.add(seatButton, gridColIndex, gridRowIndex);
@@ -676,6 +602,7 @@ public class ViewSeatingConfigurationsController implements Initializable {
 
     /**
      * Creates a ToggleButton for a seat with the given seat ID, number, and price.
+     * Whether the seat is a wheelchair space comes from the layout's seat graph.
      * @param seatId The seat ID
      * @param seatNumText The seat number text
      * @param price The price of the seat
@@ -683,7 +610,9 @@ public class ViewSeatingConfigurationsController implements Initializable {
      */
     private ToggleButton createSeatButton(String seatId, String seatNumText, float price) {
         ToggleButton seatButton = new ToggleButton(seatNumText);
-        seatButton.setUserData(new SeatData(seatId, price));
+        SeatData seatData = new SeatData(seatId, price);
+        seatData.setWheelchair(seatGraph.isWheelchair(seatId));
+        seatButton.setUserData(seatData);
         seatButton.getStyleClass().add("seat-button");
         seatButton.setPrefSize(35, 30);
         seatButton.setOnAction(this::handleSeatClick);
@@ -691,9 +620,22 @@ public class ViewSeatingConfigurationsController implements Initializable {
     }
 
 
+    /**
+     * Puts a seat button in its booked or available state, with the wheelchair flag from
+     * its SeatData. Booked seats are disabled.
+     *
+     * @param seatButton The seat's button.
+     */
+    private void applySeatStyle(ToggleButton seatButton) {
+        SeatData seatData = (SeatData) seatButton.getUserData();
+        SeatView seatView = SeatView.of(seatButton);
+        seatView.setWheelchair(seatData.isWheelchair());
+        seatView.setState(seatAvailability.isBooked(seatData.getSeatId()) ? SeatView.State.BOOKED : SeatView.State.AVAILABLE);
+    }
+
     /**
      * Handles clicks on individual seat ToggleButtons.
-     * Updates the seat status in the database via the DAO based on the toggle state.
+     * Updates the seat status in the database via the DAO based on the toggle state, in the background.
      * Updates the button style and status label accordingly.
      * Reverts the toggle state if the database update fails.
      *
@@ -724,48 +666,35 @@ public class ViewSeatingConfigurationsController implements Initializable {
         }
 
 
-        if (seatButton.isSelected()) {
-            // Attempt to mark seat as restricted
-            if (eventDAO.updateSeatStatus(seatId, "Restricted")) {
-                seatButton.getStyleClass().removeAll("seat-available", "seat-wheelchair", "seat-booked");
-                seatButton.getStyleClass().add("seat-restricted");
-                statusLabel.setText("Updated seat " + seatId + " to Restricted");
-            } else {
-                statusLabel.setText("Failed to update seat " + seatId + " status");
-                seatButton.setSelected(false);
-            }
-        } else {
-            // Attempt to mark seat as available
-            if (eventDAO.updateSeatStatus(seatId, "Available")) {
-                seatButton.getStyleClass().remove("seat-restricted");
-                boolean isWheelchair = seatButton.getStyleClass().contains("seat-wheelchair-marker");
-                if (isWheelchair) {
-                    seatButton.getStyleClass().add("seat-wheelchair");
-                } else {
-                    seatButton.getStyleClass().add("seat-available");
-                }
-
-                statusLabel.setText("Updated seat " + seatId + " to Available");
-            } else {
-                statusLabel.setText("Failed to update seat " + seatId + " status");
-                seatButton.setSelected(true); // Revert the toggle on failure
-            }
-        }
+        // The status is written to the database in the background; the button stays disabled until it is.
+        boolean restricted = seatButton.isSelected();
+        String finalSeatId = seatId;
+        NavigationUtil.getPageTasks().load(
+                () -> eventDAO.updateSeatStatus(finalSeatId, restricted ? "Restricted" : "Available"),
+                updated -> {
+                    if (updated) {
+                        SeatView.of(seatButton).setState(restricted ? SeatView.State.RESTRICTED : SeatView.State.AVAILABLE);
+                        statusLabel.setText("Updated seat " + finalSeatId + " to " + (restricted ? "Restricted" : "Available"));
+                    } else {
+                        statusLabel.setText("Failed to update seat " + finalSeatId + " status");
+                        seatButton.setSelected(!restricted); // Revert the toggle on failure
+                    }
+                },
+                error -> {
+                    statusLabel.setText("Failed to update seat " + finalSeatId + " status");
+                    seatButton.setSelected(!restricted);
+                },
+                seatButton);
     }
 
     /**
-     * Gets the seating configuration for the selected event.
-     * @return The SeatingConfig object
+     * Gets the cached seating layout for the selected event.
+     * @return The shared LayoutTemplate
      */
-    private SeatingConfig getSeatingConfig() {
+    private LayoutTemplate getLayoutTemplate() {
         if (selectedEvent == null) return null;
 
-        Integer venueId = new HashMap<String, Integer>() {{
-            put("Large Hall", 1);
-            put("Small Hall", 2);
-        }}.get(selectedEvent.getHallType());
-
-        return new SeatingConfig(venueId, selectedEvent.getEventType());
+        return LayoutTemplates.get(LayoutTemplates.venueIdForHall(selectedEvent.getHallType()), selectedEvent.getEventType());
     }
 
     /**
@@ -777,15 +706,8 @@ public class ViewSeatingConfigurationsController implements Initializable {
     private float findSeatPrice(String rowId, int seatNum) {
         if (selectedEvent == null) return 0;
 
-        for (Section section : getSeatingConfig().getSections()) {
-            for (Seat seat : section.getSeats()) {
-                String configSeatId = seat.getSeatID();
-                if (configSeatId.contains(rowId) && configSeatId.endsWith(String.valueOf(seatNum))) {
-                    return seat.getPrice();
-                }
-            }
-        }
-        return 0;
+        int pence = getLayoutTemplate().getPriceTable().priceInPence(SeatKey.rowLetters(rowId), seatNum);
+        return pence != SeatPriceTable.NO_PRICE ? pence / 100f : 0;
     }
 }
 
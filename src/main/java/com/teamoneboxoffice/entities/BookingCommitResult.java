@@ -0,0 +1,114 @@
+package com.teamoneboxoffice.entities;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of saving a booking: committed, rejected because some of its seats were
+ * already booked for the performance, rejected because a discount code reached its usage
+ * limit or a voucher was redeemed first, or failed for another reason. When seats were lost, the result lists
+ * exactly which ones so the customer can pick replacements; likewise the used-up codes.
+ * A committed result can also carry how long each phase of the commit took.
+ */
+public class BookingCommitResult {
+
+    /**
+     * How a booking commit ended.
+     */
+    public enum Status {
+        COMMITTED,
+        SEATS_TAKEN,
+        CODES_USED_UP,
+        FAILED
+    }
+
+    private static final BookingCommitResult COMMITTED = new BookingCommitResult(Status.COMMITTED, List.of(), List.of(), Map.of());
+    private static final BookingCommitResult FAILED = new BookingCommitResult(Status.FAILED, List.of(), List.of(), Map.of());
+
+    private final Status status;
+    private final List<String> lostSeatIds;
+    private final List<String> usedUpCodes;
+    private final Map<String, Long> phaseMicros;
+
+    private BookingCommitResult(Status status, List<String> lostSeatIds, List<String> usedUpCodes, Map<String, Long> phaseMicros) {
+        this.status = status;
+        this.lostSeatIds = lostSeatIds;
+        this.usedUpCodes = usedUpCodes;
+        this.phaseMicros = phaseMicros;
+    }
+
+    public static BookingCommitResult committed() {
+        return COMMITTED;
+    }
+
+    /**
+     * @param phaseMicros Microseconds spent in each phase of the commit, in phase order.
+     * @return A COMMITTED result carrying the timings.
+     */
+    public static BookingCommitResult committed(Map<String, Long> phaseMicros) {
+        return new BookingCommitResult(Status.COMMITTED, List.of(), List.of(), Collections.unmodifiableMap(new LinkedHashMap<>(phaseMicros)));
+    }
+
+    public static BookingCommitResult failed() {
+        return FAILED;
+    }
+
+    /**
+     * @param lostSeatIds The requested seats that another booking already holds.
+     * @return A SEATS_TAKEN result listing the lost seats.
+     */
+    public static BookingCommitResult seatsTaken(List<String> lostSeatIds) {
+        return new BookingCommitResult(Status.SEATS_TAKEN, List.copyOf(lostSeatIds), List.of(), Map.of());
+    }
+
+    /**
+     * @param usedUpCodes The discount codes that reached their usage limit, and the vouchers
+     *     that were redeemed, before the booking was saved.
+     * @return A CODES_USED_UP result listing the codes.
+     */
+    public static BookingCommitResult codesUsedUp(List<String> usedUpCodes) {
+        return new BookingCommitResult(Status.CODES_USED_UP, List.of(), List.copyOf(usedUpCodes), Map.of());
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isCommitted() {
+        return status == Status.COMMITTED;
+    }
+
+    /**
+     * @return The seats lost to other bookings; empty unless the status is SEATS_TAKEN.
+     */
+    public List<String> getLostSeatIds() {
+        return lostSeatIds;
+    }
+
+    /**
+     * @return The discount codes that were used up; empty unless the status is CODES_USED_UP.
+     */
+    public List<String> getUsedUpCodes() {
+        return usedUpCodes;
+    }
+
+    /**
+     * @return Microseconds spent in each phase (e.g. "customer", "seats", "commit"), in
+     *     phase order; empty if the commit was not timed.
+     */
+    public Map<String, Long> getPhaseMicros() {
+        return phaseMicros;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingCommitResult{" +
+                "status=" + status +
+                ", lostSeatIds=" + lostSeatIds +
+                ", usedUpCodes=" + usedUpCodes +
+                ", phaseMicros=" + phaseMicros +
+                '}';
+    }
+}
@@ -0,0 +1,151 @@
+package com.teamoneboxoffice.entities;
+
+import java.util.List;
+
+/**
+ * Everything needed to save a booking made on the booking screens: the customer,
+ * the ticket, the seats it covers, and the capped discount codes and vouchers it uses.
+ */
+public class BookingRequest {
+    private final String ticketID;
+    private final String customerID;
+    private final String customerName;
+    private final String email;
+    private final String phone;
+    private final String eventID;
+    private final List<String> seatIds;
+    private final boolean wheelchair;
+    private final boolean eligibleForDiscount;
+    private final double finalPrice;
+    private final List<String> discountCodes;
+    private final List<String> voucherCodes;
+
+    /**
+     * Constructs a new BookingRequest.
+     *
+     * @param ticketID            The ID of the ticket to create.
+     * @param customerID          The ID of the (new or existing) customer.
+     * @param customerName        The customer's name.
+     * @param email               The customer's email address.
+     * @param phone               The customer's phone number.
+     * @param eventID             The ID of the event being booked.
+     * @param seatIds             The IDs of the seats being booked.
+     * @param wheelchair          Whether the booking includes a wheelchair space.
+     * @param eligibleForDiscount Whether a discount was applied.
+     * @param finalPrice          The total price after discounts.
+     */
+    public BookingRequest(
+            String ticketID,
+            String customerID,
+            String customerName,
+            String email,
+            String phone,
+            String eventID,
+            List<String> seatIds,
+            boolean wheelchair,
+            boolean eligibleForDiscount,
+            double finalPrice
+    ) {
+        this(ticketID, customerID, customerName, email, phone, eventID, seatIds,
+                wheelchair, eligibleForDiscount, finalPrice, List.of(), List.of());
+    }
+
+    /**
+     * Constructs a new BookingRequest that uses discount codes with a usage limit or vouchers.
+     *
+     * @param ticketID            The ID of the ticket to create.
+     * @param customerID          The ID of the (new or existing) customer.
+     * @param customerName        The customer's name.
+     * @param email               The customer's email address.
+     * @param phone               The customer's phone number.
+     * @param eventID             The ID of the event being booked.
+     * @param seatIds             The IDs of the seats being booked.
+     * @param wheelchair          Whether the booking includes a wheelchair space.
+     * @param eligibleForDiscount Whether a discount was applied.
+     * @param finalPrice          The total price after discounts.
+     * @param discountCodes       The applied discount codes that have a usage limit, counted
+     *                            when the booking is saved.
+     * @param voucherCodes        The applied voucher codes, redeemed when the booking is saved.
+     */
+    public BookingRequest(
+            String ticketID,
+            String customerID,
+            String customerName,
+            String email,
+            String phone,
+            String eventID,
+            List<String> seatIds,
+            boolean wheelchair,
+            boolean eligibleForDiscount,
+            double finalPrice,
+            List<String> discountCodes,
+            List<String> voucherCodes
+    ) {
+        this.ticketID = ticketID;
+        this.customerID = customerID;
+        this.customerName = customerName;
+        this.email = email;
+        this.phone = phone;
+        this.eventID = eventID;
+        this.seatIds = List.copyOf(seatIds);
+        this.wheelchair = wheelchair;
+        this.eligibleForDiscount = eligibleForDiscount;
+        this.finalPrice = finalPrice;
+        this.discountCodes = List.copyOf(discountCodes);
+        this.voucherCodes = List.copyOf(voucherCodes);
+    }
+
+    public String getTicketID() {
+        return ticketID;
+    }
+
+    public String getCustomerID() {
+        return customerID;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEventID() {
+        return eventID;
+    }
+
+    public List<String> getSeatIds() {
+        return seatIds;
+    }
+
+    public boolean isWheelchair() {
+        return wheelchair;
+    }
+
+    public boolean isEligibleForDiscount() {
+        return eligibleForDiscount;
+    }
+
+    public double getFinalPrice() {
+        return finalPrice;
+    }
+
+    /**
+     * @return The applied discount codes that have a usage limit; empty if none.
+     */
+    public List<String> getDiscountCodes() {
+        return discountCodes;
+    }
+
+    /**
+     * @return The applied voucher codes; empty if none.
+     */
+    public List<String> getVoucherCodes() {
+        return voucherCodes;
+    }
+}
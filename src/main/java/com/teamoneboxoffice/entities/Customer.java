@@ -12,6 +12,7 @@ public class Customer {
     private String postalCode;
     private String emailAddress;
     private String phoneNumber;
+    private String name;
 
     /**
      * Constructs a new Customer object.
@@ -167,4 +168,22 @@ public class Customer {
     public void setPhoneNumber(String phoneNumber) {
         this.phoneNumber = phoneNumber;
     }
+
+    /**
+     * Gets the name of the customer, as entered at the booking screen.
+     *
+     * @return The name, or null if it is not recorded.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the customer.
+     *
+     * @param name The name to set.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
 }
@@ -1,13 +1,25 @@
 package com.teamoneboxoffice.entities;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a discount code with its percentage and reason.
  * Matches the structure of the 'Discount' database table.
+ *
+ * The optional rules (see sql/discount_rules.sql) limit when, for which event and how many
+ * times a code can be used, and whether it can be combined with other codes.
  */
 public class Discount {
     private String code;
     private int percentage;
     private String reason;
+    private LocalDateTime validFrom;
+    private LocalDateTime validUntil;
+    private String eventId;
+    private int maxUses;
+    private int timesUsed;
+    private int priority;
+    private boolean stackable;
 
     /**
      * Constructs a new Discount object.
@@ -17,9 +29,35 @@ public class Discount {
      * @param reason     The reason for the discount.
      */
     public Discount(String code, int percentage, String reason) {
+        this(code, percentage, reason, null, null, null, 0, 0, 0, false);
+    }
+
+    /**
+     * Constructs a new Discount object with usage rules.
+     *
+     * @param code       The unique discount code.
+     * @param percentage The discount percentage.
+     * @param reason     The reason for the discount.
+     * @param validFrom  When the code becomes usable, or null for no start.
+     * @param validUntil When the code stops being usable, or null for no end.
+     * @param eventId    The only event the code applies to, or null for every event.
+     * @param maxUses    How many bookings may use the code, or 0 for no limit.
+     * @param timesUsed  How many bookings have used it so far.
+     * @param priority   Codes with a higher priority are applied first.
+     * @param stackable  Whether the code can be combined with other codes.
+     */
+    public Discount(String code, int percentage, String reason, LocalDateTime validFrom, LocalDateTime validUntil,
+                    String eventId, int maxUses, int timesUsed, int priority, boolean stackable) {
         this.code = code;
         this.percentage = percentage;
         this.reason = reason;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+        this.eventId = eventId;
+        this.maxUses = maxUses;
+        this.timesUsed = timesUsed;
+        this.priority = priority;
+        this.stackable = stackable;
     }
 
     /**
@@ -49,6 +87,40 @@ public class Discount {
         return reason;
     }
 
+    public LocalDateTime getValidFrom() {
+        return validFrom;
+    }
+
+    public LocalDateTime getValidUntil() {
+        return validUntil;
+    }
+
+    /**
+     * @return The only event the code applies to, or null for every event.
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    /**
+     * @return How many bookings may use the code, or 0 for no limit.
+     */
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    public int getTimesUsed() {
+        return timesUsed;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public boolean isStackable() {
+        return stackable;
+    }
+
     /**
      * Returns a string representation of the Discount object.
      *
@@ -1,16 +1,20 @@
 package com.teamoneboxoffice.entities;
 
+import com.teamoneboxoffice.util.SeatKey;
+
 /**
  * Represents a seat with its properties and booking status.
  */
 public class Seat {
     private String seatID;
+    private int seatKey;
     private int row;
     private int column;
     private float price;
     private boolean isBooked;
     private boolean isVip;
     private boolean isRestrictedView;
+    private boolean isWheelchair;
 
     /**
      * Constructs a new Seat object.
@@ -21,13 +25,33 @@ public class Seat {
      * @param price  The base price of the seat.
      */
     public Seat(String seatID, int row, int column, float price) {
+        this(seatID, SeatKey.parse(seatID), row, column, price);
+    }
+
+    /**
+     * Constructs a new Seat object from a packed seat key. The seat ID is the
+     * key's canonical string form.
+     *
+     * @param seatKey The packed {@link SeatKey} of the seat.
+     * @param row     The row number of the seat.
+     * @param column  The column number of the seat.
+     * @param price   The base price of the seat.
+     * @throws IllegalArgumentException if the key is {@link SeatKey#INVALID}.
+     */
+    public Seat(int seatKey, int row, int column, float price) {
+        this(SeatKey.format(seatKey), seatKey, row, column, price);
+    }
+
+    private Seat(String seatID, int seatKey, int row, int column, float price) {
         this.seatID = seatID;
+        this.seatKey = seatKey;
         this.row = row;
         this.column = column;
         this.price = price;
         this.isBooked = false;
         this.isVip = false;
         this.isRestrictedView = false;
+        this.isWheelchair = false;
     }
 
     /**
@@ -39,6 +63,15 @@ public class Seat {
         return seatID;
     }
 
+    /**
+     * Gets the packed seat key, or {@link SeatKey#INVALID} if the seat ID could not be read.
+     *
+     * @return The seat key.
+     */
+    public int getSeatKey() {
+        return seatKey;
+    }
+
     /**
      * Gets the row number of the seat.
      *
@@ -135,6 +168,24 @@ public class Seat {
         }
     }
 
+    /**
+     * Checks if the seat is a wheelchair space.
+     *
+     * @return True if the seat is a wheelchair space, false otherwise.
+     */
+    public boolean isWheelchair() {
+        return isWheelchair;
+    }
+
+    /**
+     * Sets whether the seat is a wheelchair space. The price is unchanged.
+     *
+     * @param wheelchair The wheelchair status to set.
+     */
+    public void setWheelchair(boolean wheelchair) {
+        this.isWheelchair = wheelchair;
+    }
+
     /**
      * Gets a string representation of the seat's status (Booked, VIP, Restricted View, or Available).
      *
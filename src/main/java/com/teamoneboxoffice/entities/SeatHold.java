@@ -0,0 +1,101 @@
+package com.teamoneboxoffice.entities;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Represents a temporary hold on one seat of a performance while a booking is being made.
+ * Matches the structure of the 'Seat_Holds' database table. All seats held for one
+ * booking share the same hold ID.
+ */
+public class SeatHold {
+    private String holdID;
+    private String eventID;
+    private LocalDate eventDate;
+    private String eventTime;
+    private String seatID;
+    private String heldBy;
+    private Instant expiresAt;
+
+    /**
+     * Constructs a new SeatHold object.
+     *
+     * @param holdID    The ID shared by all seats of one hold.
+     * @param eventID   The ID of the event.
+     * @param eventDate The date of the performance.
+     * @param eventTime The time of the performance.
+     * @param seatID    The held seat.
+     * @param heldBy    Who placed the hold (user name and terminal).
+     * @param expiresAt When the hold lapses if it is not extended or released.
+     */
+    public SeatHold(String holdID, String eventID, LocalDate eventDate, String eventTime,
+                    String seatID, String heldBy, Instant expiresAt) {
+        this.holdID = holdID;
+        this.eventID = eventID;
+        this.eventDate = eventDate;
+        this.eventTime = eventTime;
+        this.seatID = seatID;
+        this.heldBy = heldBy;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getHoldID() {
+        return holdID;
+    }
+
+    public String getEventID() {
+        return eventID;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public String getEventTime() {
+        return eventTime;
+    }
+
+    public String getSeatID() {
+        return seatID;
+    }
+
+    public String getHeldBy() {
+        return heldBy;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Sets when the hold lapses.
+     *
+     * @param expiresAt The new expiry time.
+     */
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Checks whether the hold has lapsed.
+     *
+     * @param now The current time.
+     * @return True if the hold expired at or before now.
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String toString() {
+        return "SeatHold{" +
+                "holdID='" + holdID + '\'' +
+                ", eventID='" + eventID + '\'' +
+                ", eventDate=" + eventDate +
+                ", eventTime='" + eventTime + '\'' +
+                ", seatID='" + seatID + '\'' +
+                ", heldBy='" + heldBy + '\'' +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -1,10 +1,12 @@
 package com.teamoneboxoffice.entities;
 
 import com.teamoneboxoffice.interfaces.JARServiceImpl.operations.ISeatingConfig;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatPriceTable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 
 
@@ -15,6 +17,20 @@ public class SeatingConfig implements ISeatingConfig {
     private int venueID;
     private String eventType;
     private ArrayList<Section> sections;
+    private SeatPriceTable priceTable;
+
+    // Wheelchair spaces of the Main Theater: the ends of stalls rows A and L and the marked side balcony seats
+    private static final Set<String> MAIN_THEATER_WHEELCHAIR_SPACES = Set.of(
+            "A1", "A19", "L1", "L19",
+            "BB1", "BB5", "BB24", "BB28",
+            "AA10", "AA20", "AA34", "AA49");
+
+    // Wheelchair spaces of the Small Hall: all of rows A and L and the aisle ends of rows B to K
+    private static final Set<String> SMALL_HALL_WHEELCHAIR_SPACES = Set.of(
+            "A1", "A2", "A3", "A4", "A5", "A6", "A7", "A8",
+            "L1", "L2", "L3", "L4", "L5", "L6", "L7",
+            "B1", "B8", "C1", "C8",
+            "D1", "D7", "E1", "E7", "F1", "F7", "G1", "G7", "H1", "H7", "I1", "I7", "J1", "J7", "K1", "K7");
 
     // Predefine seating configurations
     static {
@@ -39,26 +55,27 @@ public class SeatingConfig implements ISeatingConfig {
         this.sections = generateSeatingLayout(seatingConfigID);
     }
 
-    // Generate Sections for an Event
-    private ArrayList<Section> generateSeatingLayout(int seatingConfigID) {
+    // Generate Sections for an Event. Each call builds new, mutable Section and Seat objects;
+    // read-only callers should use the cached LayoutTemplates instead.
+    public static ArrayList<Section> generateSeatingLayout(int seatingConfigID) {
         ArrayList<Section> sections = new ArrayList<>();
 
         // Based on first image (Main Theater)
         if (seatingConfigID == 101) { // Live Performance in Main Theater
             // Stalls section (main floor)
-            Section stalls = new Section("Stalls", 16, 19, 65.0f);
+            Section stalls = new Section("Stalls", 16, 20, 65.0f);
             stalls.configureComplexLayout();
 
             // Balcony section (upper level)
-            Section balcony = new Section("Balcony", 8, 23, 85.0f);
+            Section balcony = new Section("Balcony", 3, 18, 85.0f);
             balcony.configureComplexLayout();
 
             // Side Balcony Left
-            Section sideBalconyLeft = new Section("Side Balcony Left", 5, 20, 55.0f);
+            Section sideBalconyLeft = new Section("Side Balcony Left", 20, 2, 55.0f);
             sideBalconyLeft.configureComplexLayout();
 
             // Side Balcony Right
-            Section sideBalconyRight = new Section("Side Balcony Right", 5, 20, 55.0f);
+            Section sideBalconyRight = new Section("Side Balcony Right", 20, 2, 55.0f);
             sideBalconyRight.configureComplexLayout();
 
             sections.add(stalls);
@@ -68,19 +85,20 @@ public class SeatingConfig implements ISeatingConfig {
 
             // Mark restricted view seats
             markRestrictedViewSeats(sections);
+            markWheelchairSpaces(sections, MAIN_THEATER_WHEELCHAIR_SPACES);
         }
         else if (seatingConfigID == 102) { // Film in Main Theater
             // Similar layout as Live Performance but with different pricing
-            Section stalls = new Section("Stalls", 16, 19, 45.0f);
+            Section stalls = new Section("Stalls", 16, 20, 45.0f);
             stalls.configureComplexLayout();
 
-            Section balcony = new Section("Balcony", 8, 23, 65.0f);
+            Section balcony = new Section("Balcony", 3, 18, 65.0f);
             balcony.configureComplexLayout();
 
-            Section sideBalconyLeft = new Section("Side Balcony Left", 5, 20, 35.0f);
+            Section sideBalconyLeft = new Section("Side Balcony Left", 20, 2, 35.0f);
             sideBalconyLeft.configureComplexLayout();
 
-            Section sideBalconyRight = new Section("Side Balcony Right", 5, 20, 35.0f);
+            Section sideBalconyRight = new Section("Side Balcony Right", 20, 2, 35.0f);
             sideBalconyRight.configureComplexLayout();
 
             sections.add(stalls);
@@ -90,19 +108,20 @@ public class SeatingConfig implements ISeatingConfig {
 
             // Mark restricted view seats
             markRestrictedViewSeats(sections);
+            markWheelchairSpaces(sections, MAIN_THEATER_WHEELCHAIR_SPACES);
         }
         else if (seatingConfigID == 103) { // Concert in Main Theater
             // Similar layout but with standing area and premium pricing
-            Section stalls = new Section("Stalls", 16, 19, 85.0f);
+            Section stalls = new Section("Stalls", 16, 20, 85.0f);
             stalls.configureComplexLayout();
 
-            Section balcony = new Section("Balcony", 8, 23, 95.0f);
+            Section balcony = new Section("Balcony", 3, 18, 95.0f);
             balcony.configureComplexLayout();
 
-            Section sideBalconyLeft = new Section("Side Balcony Left", 5, 20, 75.0f);
+            Section sideBalconyLeft = new Section("Side Balcony Left", 20, 2, 75.0f);
             sideBalconyLeft.configureComplexLayout();
 
-            Section sideBalconyRight = new Section("Side Balcony Right", 5, 20, 75.0f);
+            Section sideBalconyRight = new Section("Side Balcony Right", 20, 2, 75.0f);
             sideBalconyRight.configureComplexLayout();
 
             sections.add(stalls);
@@ -114,18 +133,21 @@ public class SeatingConfig implements ISeatingConfig {
             markVIPSeats(sections);
             // Mark restricted view seats
             markRestrictedViewSeats(sections);
+            markWheelchairSpaces(sections, MAIN_THEATER_WHEELCHAIR_SPACES);
         }
         else if (seatingConfigID == 201) { // Conference in Conference Room
             // Based on second image - Small Hall
-            Section mainHall = new Section("Conference Hall", 13, 16, 30.0f);
-            mainHall.configureRectangularLayout();
+            Section mainHall = new Section("Conference Hall", 14, 8, 30.0f);
+            mainHall.configureSmallHallLayout();
             sections.add(mainHall);
+            markWheelchairSpaces(sections, SMALL_HALL_WHEELCHAIR_SPACES);
         }
         else if (seatingConfigID == 202) { // Small Event in Small Hall
             // Based on second image - Small Hall with different pricing
-            Section mainHall = new Section("Small Hall", 13, 16, 25.0f);
-            mainHall.configureRectangularLayout();
+            Section mainHall = new Section("Small Hall", 14, 8, 25.0f);
+            mainHall.configureSmallHallLayout();
             sections.add(mainHall);
+            markWheelchairSpaces(sections, SMALL_HALL_WHEELCHAIR_SPACES);
         }
         else {
             // Default simple layout if config not found
@@ -136,7 +158,7 @@ public class SeatingConfig implements ISeatingConfig {
     }
 
     // Mark seats with restricted view for the theater layout
-    private void markRestrictedViewSeats(ArrayList<Section> sections) {
+    private static void markRestrictedViewSeats(ArrayList<Section> sections) {
         for (Section section : sections) {
             ArrayList<Seat> seats = section.getSeats();
 
@@ -149,15 +171,14 @@ public class SeatingConfig implements ISeatingConfig {
                     }
                 }
                 else if (section.getName().contains("Side Balcony")) {
-                    // Some side balcony seats typically have restricted views
-                    if (seat.getRow() >= 3) {
+                    // Side balcony seats nearest the stage look across it at an angle
+                    if (seat.getRow() > section.getRows() - 5) {
                         seat.setRestrictedView(true);
                     }
                 }
                 else if (section.getName().equals("Balcony")) {
-                    // Some balcony seats might have restricted views, especially in the corners
-                    if ((seat.getRow() == 1 && (seat.getColumn() <= 2 || seat.getColumn() >= section.getColumns() - 1)) ||
-                            (seat.getRow() >= 7 && (seat.getColumn() <= 1 || seat.getColumn() >= section.getColumns()))) {
+                    // Some balcony seats might have restricted views, especially in the corners of the back row
+                    if (seat.getRow() == 1 && (seat.getColumn() <= 2 || seat.getColumn() >= section.getColumns() - 1)) {
                         seat.setRestrictedView(true);
                     }
                 }
@@ -165,18 +186,29 @@ public class SeatingConfig implements ISeatingConfig {
         }
     }
 
+    // Mark the hall's wheelchair spaces, given by seat ID
+    private static void markWheelchairSpaces(ArrayList<Section> sections, Set<String> seatIds) {
+        for (Section section : sections) {
+            for (Seat seat : section.getSeats()) {
+                if (seatIds.contains(seat.getSeatID())) {
+                    seat.setWheelchair(true);
+                }
+            }
+        }
+    }
+
     // Mark VIP seats for concerts
-    private void markVIPSeats(ArrayList<Section> sections) {
+    private static void markVIPSeats(ArrayList<Section> sections) {
         for (Section section : sections) {
             ArrayList<Seat> seats = section.getSeats();
 
             for (Seat seat : seats) {
-                // First 3 rows in the stalls are typically VIP for concerts
-                if (section.getName().equals("Stalls") && seat.getRow() <= 3) {
+                // The 3 rows nearest the stage (A to C) are typically VIP for concerts
+                if (section.getName().equals("Stalls") && seat.getRow() > section.getRows() - 3) {
                     seat.setVip(true);
                 }
-                // Center seats in first 2 rows of balcony are also VIP
-                else if (section.getName().equals("Balcony") && seat.getRow() <= 2 &&
+                // Center seats in the front 2 rows of balcony (AA and BB) are also VIP
+                else if (section.getName().equals("Balcony") && seat.getRow() > section.getRows() - 2 &&
                         seat.getColumn() >= 5 && seat.getColumn() <= section.getColumns() - 4) {
                     seat.setVip(true);
                 }
@@ -224,6 +256,15 @@ public class SeatingConfig implements ISeatingConfig {
         return sections;
     }
 
+    // Get the seat prices in pence, keyed by SeatKey. Built on first use and rebuilt after a
+    // seat's VIP or restricted-view flag is changed through this config.
+    public SeatPriceTable getPriceTable() {
+        if (priceTable == null) {
+            priceTable = SeatPriceTable.of(sections);
+        }
+        return priceTable;
+    }
+
     // Modify Seat Booking Status
     @Override
     public void setSeatBooked(Seat seat, boolean booked) {
@@ -233,10 +274,12 @@ public class SeatingConfig implements ISeatingConfig {
     @Override
     public void setSeatVip(Seat seat, boolean vip) {
         seat.setVip(vip);
+        priceTable = null;
     }
 
     @Override
     public void setSeatRestrictedView(Seat seat, boolean restricted) {
         seat.setRestrictedView(restricted);
+        priceTable = null;
     }
 }
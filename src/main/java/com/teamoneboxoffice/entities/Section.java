@@ -1,8 +1,33 @@
 package com.teamoneboxoffice.entities;
 
+import com.teamoneboxoffice.util.SeatKey;
+
 import java.util.ArrayList;
 
 public class Section {
+  // Stalls rows from the back of the hall to the stage. There is no row I.
+  private static final String[] STALLS_ROWS = {
+          "Q", "P", "O", "N", "M", "L", "K", "J", "H", "G", "F", "E", "D", "C", "B", "A"
+  };
+  private static final int[] STALLS_ROW_LENGTHS = {
+          10, 11, 20, 19, 16, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19
+  };
+
+  private static final String[] BALCONY_ROWS = {"CC", "BB", "AA"};
+  private static final int[] BALCONY_FIRST_SEATS = {1, 6, 21};
+  private static final int[] BALCONY_LAST_SEATS = {8, 23, 33};
+
+  // Small hall rows from the back to the stage
+  private static final String[] SMALL_HALL_ROWS = {
+          "N", "M", "L", "K", "J", "I", "H", "G", "F", "E", "D", "C", "B", "A"
+  };
+  private static final int[] SMALL_HALL_ROW_LENGTHS = {
+          4, 4, 7, 7, 7, 7, 7, 7, 7, 7, 7, 8, 8, 8
+  };
+  private static final int[] SMALL_HALL_ROW_OFFSETS = {
+          1, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0
+  };
+
   private String name;
   private int rows;
   private int columns;
@@ -23,12 +48,7 @@ public class Section {
   private void generateBasicLayout() {
     for (int row = 1; row <= rows; row++) {
       for (int col = 1; col <= columns; col++) {
-        // Create a new seat with unique ID (e.g., "Stalls-A-12")
-        String rowLabel = getRowLabel(row);
-        String seatID = name + "-" + rowLabel + "-" + col;
-
-        Seat seat = new Seat(seatID, row, col, basePrice);
-        seats.add(seat);
+        addSeat(getRowLabel(row), col, row, col, basePrice);
       }
     }
   }
@@ -50,119 +70,117 @@ public class Section {
     }
   }
 
-  public void configureRectangularLayout() {
+  // Small hall: rows N (back) to A (stage), with the short rows M and N set in from the aisle
+  public void configureSmallHallLayout() {
     seats.clear();
+    rows = SMALL_HALL_ROWS.length;
+    columns = 8;
 
     for (int row = 1; row <= rows; row++) {
-      for (int col = 1; col <= columns; col++) {
-        String rowLabel = getRowLabel(row);
-        String seatID = name + "-" + rowLabel + "-" + col;
+      String rowLabel = SMALL_HALL_ROWS[row - 1];
+      int numSeats = SMALL_HALL_ROW_LENGTHS[row - 1];
 
-        Seat seat = new Seat(seatID, row, col, basePrice);
-
-        if (row <= 3) {
-          seat.setPrice(basePrice * 1.2f);
+      for (int number = 1; number <= numSeats; number++) {
+        float price = basePrice;
+        if (row > rows - 3) {
+          price = basePrice * 1.2f;
         }
-        else if (row >= rows - 2) {
-          seat.setPrice(basePrice * 0.9f);
+        else if (row <= 3) {
+          price = basePrice * 0.9f;
         }
-        seats.add(seat);
+        addSeat(rowLabel, number, row, SMALL_HALL_ROW_OFFSETS[row - 1] + number, price);
       }
     }
   }
 
+  // Stalls: rows Q (back) to A (stage), seats numbered from 1 at the left
   private void configureStallsLayout() {
-    int[] seatsInRow = {
-            11, 11, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16
-    };
-
-    for (int row = 1; row <= seatsInRow.length; row++) {
-      String rowLabel = getRowLabel(row);
-      int numSeats = seatsInRow[row - 1];
-      int startCol = (19 - numSeats) / 2 + 1;
-
-      for (int col = 0; col < numSeats; col++) {
-        int actualCol = startCol + col;
-        String seatID = name + "-" + rowLabel + "-" + actualCol;
+    rows = STALLS_ROWS.length;
+    columns = 20;
 
-        Seat seat = new Seat(seatID, row, actualCol, basePrice);
-
-        if (actualCol >= 5 && actualCol <= 15) {
-          seat.setPrice(basePrice * 1.15f);
+    for (int row = 1; row <= rows; row++) {
+      String rowLabel = STALLS_ROWS[row - 1];
+      int numSeats = STALLS_ROW_LENGTHS[row - 1];
+      int rowFromStage = rows - row + 1;
+
+      for (int number = 1; number <= numSeats; number++) {
+        float price = basePrice;
+        if (number >= 5 && number <= 15) {
+          price = basePrice * 1.15f;
         }
-        else if (actualCol <= 3 || actualCol >= 17) {
-          seat.setPrice(basePrice * 0.9f);
+        else if (number <= 3 || number >= 18) {
+          price = basePrice * 0.9f;
         }
 
-        if (row >= 3 && row <= 8) {
-          seat.setPrice(seat.getPrice() * 1.1f);
+        if (rowFromStage >= 3 && rowFromStage <= 8) {
+          price *= 1.1f;
         }
-
-        seats.add(seat);
+        addSeat(rowLabel, number, row, number, price);
       }
     }
   }
 
+  // Balcony: rows CC, BB and AA across the back of the hall, each numbered on from the side balcony before it
   private void configureBalconyLayout() {
+    rows = BALCONY_ROWS.length;
+    columns = 18;
 
-    int[] seatsInRow = {
-            8, 23, 23, 23, 23, 23, 23, 23  // Based on image 1
-    };
-
-    for (int row = 1; row <= seatsInRow.length; row++) {
-      String rowLabel = (row == 1) ? "CC" : "AA" + (row - 1);
-      int numSeats = seatsInRow[row - 1];
-
-      int startCol = (23 - numSeats) / 2 + 1;
-
-      for (int col = 0; col < numSeats; col++) {
-        int actualCol = startCol + col;
-        String seatID = name + "-" + rowLabel + "-" + actualCol;
-
-        Seat seat = new Seat(seatID, row, actualCol, basePrice);
-
-        if (actualCol >= 8 && actualCol <= 16) {
-          seat.setPrice(basePrice * 1.2f);
+    for (int row = 1; row <= rows; row++) {
+      String rowLabel = BALCONY_ROWS[row - 1];
+      int first = BALCONY_FIRST_SEATS[row - 1];
+      int last = BALCONY_LAST_SEATS[row - 1];
+
+      for (int number = first; number <= last; number++) {
+        int col = number - first + 1;
+        float price = basePrice;
+        if (col >= 6 && col <= 13) {
+          price = basePrice * 1.2f;
         }
-        else if (actualCol <= 3 || actualCol >= 21) {
-          seat.setPrice(basePrice * 0.85f);
+        else if (col <= 2 || col >= 17) {
+          price = basePrice * 0.85f;
         }
-
-        seats.add(seat);
+        addSeat(rowLabel, number, row, col, price);
       }
     }
   }
 
+  // Side balconies: rows BB and AA run down each side of the stalls, so each row is a column here
   private void configureSideBalconyLayout() {
     boolean isLeft = name.contains("Left");
+    rows = 20;
+    columns = 2;
 
-    for (int row = 1; row <= 5; row++) {
-      String rowLabel = String.valueOf(row);
-
-      for (int col = 1; col <= 20; col++) {
-        int actualCol = isLeft ? col : 21 - col;
-        String seatID = name + "-" + rowLabel + "-" + actualCol;
-
-        Seat seat = new Seat(seatID, row, actualCol, basePrice);
-
-        if (row <= 2) {
-          seat.setPrice(basePrice * 1.1f);
-        }
-        if ((isLeft && col >= 15) || (!isLeft && col <= 5)) {
-          seat.setPrice(seat.getPrice() * 0.9f);
-        }
+    // Left: BB5..BB1 on the outside, AA20..AA1 inside. Right: AA34..AA53 inside, BB24..BB28 outside.
+    addSideBalconyRow("BB", isLeft ? 5 : 24, isLeft ? -1 : 1, 5, isLeft ? 1 : 2);
+    addSideBalconyRow("AA", isLeft ? 20 : 34, isLeft ? -1 : 1, 20, isLeft ? 2 : 1);
+  }
 
-        seats.add(seat);
+  private void addSideBalconyRow(String rowLabel, int firstNumber, int step, int numSeats, int col) {
+    for (int row = 1; row <= numSeats; row++) {
+      float price = basePrice;
+      if (row <= 2) {
+        price = basePrice * 1.1f;
       }
+      else if (row > numSeats - 5) {
+        price = basePrice * 0.9f;
+      }
+      addSeat(rowLabel, firstNumber + (row - 1) * step, row, col, price);
     }
   }
 
+  // Seats use the seat-map ID ("AA34"), the form the booking screens and Booked_Seats use, see SeatKey
+  private void addSeat(String rowLabel, int number, int row, int col, float price) {
+    int seatKey = SeatKey.of(0, SeatKey.rowLetters(rowLabel), 0, number);
+    seats.add(new Seat(seatKey, row, col, price));
+  }
+
   private String getRowLabel(int row) {
     if (row <= 26) {
       return String.valueOf((char)('A' + row - 1));
     } else {
-      // For rows beyond Z
-      return "A" + (row - 26);
+      // For rows beyond Z: AA, BB, ... as in the large hall's balcony
+      char letter = (char)('A' + row - 27);
+      return "" + letter + letter;
     }
   }
 
@@ -69,6 +69,15 @@ public class Ticket {
         return customerID;
     }
 
+    /**
+     * Sets the customer ID associated with the ticket.
+     *
+     * @param customerID The customer ID.
+     */
+    public void setCustomerID(String customerID) {
+        this.customerID = customerID;
+    }
+
     /**
      * Gets the seat number of the ticket.
      *
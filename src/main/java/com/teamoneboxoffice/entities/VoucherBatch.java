@@ -0,0 +1,74 @@
+package com.teamoneboxoffice.entities;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Represents a batch of single-use voucher codes issued together for one campaign.
+ * Matches the structure of the 'Voucher_Batch' database table. Every code in the batch
+ * gives the batch's percentage off and can be redeemed once.
+ */
+public class VoucherBatch {
+    private final String batchID;
+    private final int percentage;
+    private final String reason;
+    private final LocalDateTime validUntil;
+    private final int size;
+    private final Instant createdAt;
+
+    /**
+     * Constructs a new VoucherBatch object.
+     *
+     * @param batchID    The ID of the batch.
+     * @param percentage The discount each code gives.
+     * @param reason     The campaign the codes were issued for.
+     * @param validUntil When the codes expire; null if they do not.
+     * @param size       The number of codes in the batch.
+     * @param createdAt  When the batch was issued.
+     */
+    public VoucherBatch(String batchID, int percentage, String reason, LocalDateTime validUntil,
+                        int size, Instant createdAt) {
+        this.batchID = batchID;
+        this.percentage = percentage;
+        this.reason = reason;
+        this.validUntil = validUntil;
+        this.size = size;
+        this.createdAt = createdAt;
+    }
+
+    public String getBatchID() {
+        return batchID;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public LocalDateTime getValidUntil() {
+        return validUntil;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "VoucherBatch{" +
+                "batchID='" + batchID + '\'' +
+                ", percentage=" + percentage +
+                ", reason='" + reason + '\'' +
+                ", validUntil=" + validUntil +
+                ", size=" + size +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
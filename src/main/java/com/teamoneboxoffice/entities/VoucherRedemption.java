@@ -0,0 +1,48 @@
+package com.teamoneboxoffice.entities;
+
+import java.time.Instant;
+
+/**
+ * Represents the redemption of one voucher code.
+ * Matches the structure of the 'Voucher_Redemption' database table, which holds at most
+ * one row per code.
+ */
+public class VoucherRedemption {
+    private final String code;
+    private final String ticketID;
+    private final Instant redeemedAt;
+
+    /**
+     * Constructs a new VoucherRedemption object.
+     *
+     * @param code       The voucher code redeemed.
+     * @param ticketID   The ticket it was redeemed on; may be null.
+     * @param redeemedAt When it was redeemed.
+     */
+    public VoucherRedemption(String code, String ticketID, Instant redeemedAt) {
+        this.code = code;
+        this.ticketID = ticketID;
+        this.redeemedAt = redeemedAt;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getTicketID() {
+        return ticketID;
+    }
+
+    public Instant getRedeemedAt() {
+        return redeemedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "VoucherRedemption{" +
+                "code='" + code + '\'' +
+                ", ticketID='" + ticketID + '\'' +
+                ", redeemedAt=" + redeemedAt +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+
+/**
+ * Persists a completed booking (customer, ticket, booking record and booked seats)
+ * as a single all-or-nothing unit of work.
+ */
+public interface IBookingCommitDAO {
+
+    /**
+     * Saves the booking. Either every row is written or none is.
+     *
+     * @param request The booking to save.
+     * @return true if the booking was saved, false if it was rolled back.
+     */
+    boolean commitBooking(BookingRequest request);
+
+    /**
+     * Saves the booking, claiming all of its seats for the event at once. If any seat is
+     * already booked for the event, nothing is written and the result lists every seat
+     * that was lost.
+     *
+     * @param request The booking to save.
+     * @return The outcome, including the lost seats when the claim failed.
+     */
+    BookingCommitResult claimSeatsAndCommit(BookingRequest request);
+}
@@ -0,0 +1,104 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Booking_Details;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Data access operations for Booking_Details entities.
+ */
+public interface IBookingDetailsDAO {
+
+    /**
+     * Creates a new booking.
+     *
+     * @param booking The booking to be created.
+     * @return true if the booking was created successfully, false otherwise.
+     */
+    boolean create(Booking_Details booking);
+
+    /**
+     * Retrieves a booking by its ID.
+     *
+     * @param bookingId The ID of the booking to retrieve.
+     * @return The booking with the specified ID, or null if not found.
+     */
+    Booking_Details getById(int bookingId);
+
+    /**
+     * Updates an existing booking.
+     *
+     * @param booking The booking with updated information.
+     * @return true if the booking was updated successfully, false otherwise.
+     */
+    boolean update(Booking_Details booking);
+
+    /**
+     * Updates the status of a booking.
+     *
+     * @param bookingId The ID of the booking to update.
+     * @param status The new status.
+     * @return true if the status was updated successfully, false otherwise.
+     */
+    boolean updateStatus(int bookingId, int status);
+
+    /**
+     * Deletes a booking.
+     *
+     * @param bookingId The ID of the booking to delete.
+     * @return true if the booking was deleted successfully, false otherwise.
+     */
+    boolean delete(int bookingId);
+
+    /**
+     * Retrieves all bookings.
+     *
+     * @return A list of all bookings.
+     */
+    List<Booking_Details> getAll();
+
+    /**
+     * Passes every booking to the action in Booking_ID order, reading them from the database as
+     * they are used rather than all at once. Reports and exports should use this instead
+     * of {@link #getAll()} so their memory use does not grow with the table.
+     *
+     * @param action Called with each booking.
+     * @return true if every booking was read, false if an error stopped the read part way.
+     */
+    boolean forEach(Consumer<Booking_Details> action);
+
+    /**
+     * Retrieves the next page of bookings in Booking_ID order. Pass the Booking_ID of the last
+     * booking of one page to get the next, so each page costs the same however far in it is.
+     *
+     * @param afterBookingId The Booking_ID of the last booking on the previous page, or null for the first page.
+     * @param limit The most bookings to return.
+     * @return Up to limit bookings after afterBookingId; fewer than limit on the last page.
+     */
+    List<Booking_Details> getPage(Integer afterBookingId, int limit);
+
+    /**
+     * Retrieves bookings by customer ID.
+     *
+     * @param customerId The ID of the customer.
+     * @return A list of bookings for the specified customer.
+     */
+    List<Booking_Details> getByCustomerId(int customerId);
+
+    /**
+     * Retrieves bookings by ticket ID.
+     *
+     * @param ticketId The ID of the ticket.
+     * @return A list of bookings for the specified ticket.
+     */
+    List<Booking_Details> getByTicketId(int ticketId);
+
+    /**
+     * Retrieves bookings by status.
+     *
+     * @param status The status of the bookings to retrieve.
+     * @return A list of bookings with the specified status.
+     */
+    List<Booking_Details> getByStatus(int status);
+}
@@ -0,0 +1,79 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Customer;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Data access operations for Customer entities.
+ */
+public interface ICustomerDAO {
+
+    /**
+     * Creates a new customer.
+     *
+     * @param customer The customer to be created.
+     * @return true if the customer was created successfully, false otherwise.
+     */
+    boolean create(Customer customer);
+
+    /**
+     * Retrieves a customer by their ID.
+     *
+     * @param customerId The ID of the customer to retrieve.
+     * @return The customer with the specified ID, or null if not found.
+     */
+    Customer getById(String customerId);
+
+    /**
+     * Retrieves a customer by their email address.
+     *
+     * @param email The email address of the customer to retrieve.
+     * @return The customer with the specified email, or null if not found.
+     */
+    Customer getByEmail(String email);
+
+    /**
+     * Updates an existing customer.
+     *
+     * @param customer The customer with updated information.
+     * @return true if the customer was updated successfully, false otherwise.
+     */
+    boolean update(Customer customer);
+
+    /**
+     * Deletes a customer.
+     *
+     * @param customerId The ID of the customer to delete.
+     * @return true if the customer was deleted successfully, false otherwise.
+     */
+    boolean delete(String customerId);
+
+    /**
+     * Retrieves all customers.
+     *
+     * @return A list of all customers.
+     */
+    List<Customer> getAll();
+
+    /**
+     * Passes every customer to the action in Customer_ID order, reading them from the database as
+     * they are used rather than all at once. Reports and exports should use this instead
+     * of {@link #getAll()} so their memory use does not grow with the table.
+     *
+     * @param action Called with each customer.
+     * @return true if every customer was read, false if an error stopped the read part way.
+     */
+    boolean forEach(Consumer<Customer> action);
+
+    /**
+     * Retrieves the next page of customers in Customer_ID order. Pass the Customer_ID of the last
+     * customer of one page to get the next, so each page costs the same however far in it is.
+     *
+     * @param afterCustomerId The Customer_ID of the last customer on the previous page, or null for the first page.
+     * @param limit The most customers to return.
+     * @return Up to limit customers after afterCustomerId; fewer than limit on the last page.
+     */
+    List<Customer> getPage(String afterCustomerId, int limit);
+}
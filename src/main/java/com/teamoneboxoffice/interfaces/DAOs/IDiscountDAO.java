@@ -0,0 +1,46 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Discount;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Data access operations for Discount codes.
+ */
+public interface IDiscountDAO {
+
+    /**
+     * Adds a new discount record.
+     *
+     * @param discount The Discount object to add.
+     * @throws SQLException if the discount could not be stored.
+     */
+    void addDiscount(Discount discount) throws SQLException;
+
+    /**
+     * Retrieves a Discount based on its code.
+     *
+     * @param code The discount code to search for.
+     * @return The Discount object if found, otherwise null.
+     * @throws SQLException if a data access error occurs.
+     */
+    Discount getDiscountByCode(String code) throws SQLException;
+
+    /**
+     * Retrieves every discount code with its rules, e.g. to fill an in-memory catalogue.
+     *
+     * @return All discounts.
+     * @throws SQLException if a data access error occurs.
+     */
+    List<Discount> getAllDiscounts() throws SQLException;
+
+    /**
+     * Counts one more booking against a code, unless the code has reached its usage limit.
+     *
+     * @param code The discount code used.
+     * @return true if the use was counted, false if the code is unknown or used up.
+     * @throws SQLException if a data access error occurs.
+     */
+    boolean recordDiscountUse(String code) throws SQLException;
+}
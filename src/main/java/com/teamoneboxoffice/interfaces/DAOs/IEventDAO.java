@@ -0,0 +1,125 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Data access operations for Event entities.
+ */
+public interface IEventDAO {
+
+    /**
+     * Creates a new event.
+     *
+     * @param event The event to create
+     * @return true if creation was successful
+     */
+    boolean create(Event event);
+
+    /**
+     * Retrieves an event by its ID.
+     *
+     * @param eventId The ID of the event to retrieve
+     * @return The event object or null if not found
+     */
+    Event getById(String eventId);
+
+    /**
+     * Updates an existing event.
+     *
+     * @param event The event to update
+     * @return true if update was successful
+     */
+    boolean update(Event event);
+
+    /**
+     * Updates ticket statistics for an event.
+     *
+     * @param eventId The ID of the event to update
+     * @param ticketRevenue The new ticket revenue
+     * @param ticketNumbers The new ticket numbers
+     * @return true if update was successful
+     */
+    boolean updateTicketStats(String eventId, double ticketRevenue, int ticketNumbers);
+
+    /**
+     * Deletes an event.
+     *
+     * @param eventId The ID of the event to delete
+     * @return true if deletion was successful
+     */
+    boolean delete(String eventId);
+
+    /**
+     * Retrieves all events.
+     *
+     * @return A list of all events
+     */
+    List<Event> getAll();
+
+    /**
+     * Passes every event to the action in Event_ID order, reading them from the database as
+     * they are used rather than all at once. Reports and exports should use this instead
+     * of {@link #getAll()} so their memory use does not grow with the table.
+     *
+     * @param action Called with each event.
+     * @return true if every event was read, false if an error stopped the read part way.
+     */
+    boolean forEach(Consumer<Event> action);
+
+    /**
+     * Retrieves the next page of events in Event_ID order. Pass the Event_ID of the last
+     * event of one page to get the next, so each page costs the same however far in it is.
+     *
+     * @param afterEventId The Event_ID of the last event on the previous page, or null for the first page.
+     * @param limit The most events to return.
+     * @return Up to limit events after afterEventId; fewer than limit on the last page.
+     */
+    List<Event> getPage(String afterEventId, int limit);
+
+    /**
+     * Retrieves events of a specific type.
+     *
+     * @param eventType The type of events to retrieve
+     * @return A list of events of the specified type
+     */
+    List<Event> getByType(String eventType);
+
+    /**
+     * Retrieves events occurring on a specific date.
+     *
+     * @param date The date to filter events by
+     * @return A list of events on the specified date
+     */
+    List<Event> getByDate(java.util.Date date);
+
+    /**
+     * Updates the status of a specific seat in the main hall.
+     *
+     * @param seatId The ID of the seat to update.
+     * @param status The new status (e.g., "Available", "Restricted").
+     * @return true if the update was successful, false otherwise.
+     */
+    boolean updateSeatStatus(String seatId, String status);
+
+    /**
+     * Retrieves the IDs of every booked seat.
+     *
+     * @return A Set containing the IDs of all booked seats.
+     */
+    Set<String> getAllBookedSeatIds();
+
+    /**
+     * Retrieves the IDs of the seats booked for one performance of an event.
+     *
+     * @param eventId The ID of the event.
+     * @param eventDate The date of the performance.
+     * @param eventTime The time of the performance.
+     * @return The booked seat IDs, empty if none are booked or an error occurs.
+     */
+    Set<String> getBookedSeatIds(String eventId, LocalDate eventDate, String eventTime);
+}
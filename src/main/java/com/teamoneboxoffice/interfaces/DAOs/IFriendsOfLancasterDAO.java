@@ -0,0 +1,26 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Friends_Of_Lancaster;
+
+import java.util.List;
+
+/**
+ * Data access operations for Friends_Of_Lancaster members.
+ */
+public interface IFriendsOfLancasterDAO {
+
+    /**
+     * Retrieves all members, ordered by name.
+     *
+     * @return A List of Friends_Of_Lancaster objects, empty if none are found or an error occurs.
+     */
+    List<Friends_Of_Lancaster> getAllFriends();
+
+    /**
+     * Retrieves a specific member by their ID.
+     *
+     * @param friendId The ID of the friend to retrieve.
+     * @return The Friends_Of_Lancaster object if found, otherwise null.
+     */
+    Friends_Of_Lancaster getFriendById(int friendId);
+}
@@ -0,0 +1,60 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.SeatHold;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data access operations for SeatHold entities (the Seat_Holds table).
+ * A seat of a performance can have at most one unexpired hold.
+ */
+public interface ISeatHoldDAO {
+
+    /**
+     * Inserts all seats of one hold. Either every seat is held or none is; the insert
+     * fails if any seat already has a hold that has not expired.
+     *
+     * @param holds The seat rows of the hold.
+     * @param now   The current time, used to reclaim expired holds on the same seats.
+     * @return true if every seat was held.
+     */
+    boolean insertHolds(List<SeatHold> holds, Instant now);
+
+    /**
+     * Moves the expiry of every seat in a hold.
+     *
+     * @param holdId    The hold to extend.
+     * @param expiresAt The new expiry time.
+     * @return true if the hold existed and was updated.
+     */
+    boolean extendHold(String holdId, Instant expiresAt);
+
+    /**
+     * Deletes every seat of a hold.
+     *
+     * @param holdId The hold to release.
+     * @return true if any rows were deleted.
+     */
+    boolean releaseHold(String holdId);
+
+    /**
+     * Retrieves the unexpired holds on a performance.
+     *
+     * @param eventId   The ID of the event.
+     * @param eventDate The date of the performance.
+     * @param eventTime The time of the performance.
+     * @param now       The current time.
+     * @return The active holds; empty if none are found or an error occurs.
+     */
+    List<SeatHold> getActiveHolds(String eventId, LocalDate eventDate, String eventTime, Instant now);
+
+    /**
+     * Deletes every hold that expired at or before the given time.
+     *
+     * @param now The current time.
+     * @return The number of seat rows deleted.
+     */
+    int deleteExpiredHolds(Instant now);
+}
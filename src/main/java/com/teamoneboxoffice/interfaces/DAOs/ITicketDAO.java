@@ -0,0 +1,96 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Ticket;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Data access operations for Ticket entities.
+ */
+public interface ITicketDAO {
+
+    /**
+     * Creates a new ticket.
+     *
+     * @param ticket The ticket to be created.
+     * @return true if the ticket was created successfully, false otherwise.
+     */
+    boolean create(Ticket ticket);
+
+    /**
+     * Retrieves a ticket by its ID.
+     *
+     * @param ticketId The ID of the ticket to retrieve.
+     * @return The ticket with the specified ID, or null if not found.
+     */
+    Ticket getById(String ticketId);
+
+    /**
+     * Updates an existing ticket.
+     *
+     * @param ticket The ticket with updated information.
+     * @return true if the ticket was updated successfully, false otherwise.
+     */
+    boolean update(Ticket ticket);
+
+    /**
+     * Deletes a ticket and its booked seats as a single unit of work. Nothing is
+     * removed if the ticket does not exist.
+     *
+     * @param ticketId The ID of the ticket to delete.
+     * @return true if the ticket and its booked seats were deleted, false otherwise.
+     */
+    boolean delete(String ticketId);
+
+    /**
+     * Retrieves all tickets.
+     *
+     * @return A list of all tickets.
+     */
+    List<Ticket> getAll();
+
+    /**
+     * Passes every ticket to the action in Ticket_ID order, reading them from the database as
+     * they are used rather than all at once. Reports and exports should use this instead
+     * of {@link #getAll()} so their memory use does not grow with the table.
+     *
+     * @param action Called with each ticket.
+     * @return true if every ticket was read, false if an error stopped the read part way.
+     */
+    boolean forEach(Consumer<Ticket> action);
+
+    /**
+     * Retrieves the next page of tickets in Ticket_ID order. Pass the Ticket_ID of the last
+     * ticket of one page to get the next, so each page costs the same however far in it is.
+     *
+     * @param afterTicketId The Ticket_ID of the last ticket on the previous page, or null for the first page.
+     * @param limit The most tickets to return.
+     * @return Up to limit tickets after afterTicketId; fewer than limit on the last page.
+     */
+    List<Ticket> getPage(String afterTicketId, int limit);
+
+    /**
+     * Retrieves tickets by customer ID.
+     *
+     * @param customerId The ID of the customer.
+     * @return A list of tickets for the specified customer.
+     */
+    List<Ticket> getByCustomerId(String customerId);
+
+    /**
+     * Retrieves tickets by hall.
+     *
+     * @param hall The hall of the tickets to retrieve.
+     * @return A list of tickets for the specified hall.
+     */
+    List<Ticket> getByHall(String hall);
+
+    /**
+     * Retrieves tickets by ticket type.
+     *
+     * @param ticketType The ticket type.
+     * @return A list of tickets of the specified type.
+     */
+    List<Ticket> getByTicketType(String ticketType);
+}
@@ -0,0 +1,84 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.User;
+
+import java.util.List;
+
+/**
+ * Data access operations for User entities.
+ */
+public interface IUserDAO {
+
+    /**
+     * Creates a new user.
+     *
+     * @param user The user to be created.
+     * @return true if the user was created successfully, false otherwise.
+     */
+    boolean create(User user);
+
+    /**
+     * Retrieves a user by their ID.
+     *
+     * @param userId The ID of the user to retrieve.
+     * @return The user with the specified ID, or null if not found.
+     */
+    User getById(long userId);
+
+    /**
+     * Retrieves a user by their username.
+     *
+     * @param username The username of the user to retrieve.
+     * @return The user with the specified username, or null if not found.
+     */
+    User getByUsername(String username);
+
+    /**
+     * Updates an existing user.
+     *
+     * @param user The user with updated information.
+     * @return true if the user was updated successfully, false otherwise.
+     */
+    boolean update(User user);
+
+    /**
+     * Updates the active status of a user.
+     *
+     * @param userId The unique identifier of the user to update
+     * @param isActive The new active status to set
+     * @return true if the update was successful, false otherwise
+     */
+    boolean updateActiveStatus(long userId, boolean isActive);
+
+    /**
+     * Deletes a user.
+     *
+     * @param userId The ID of the user to delete.
+     * @return true if the user was deleted successfully, false otherwise.
+     */
+    boolean delete(long userId);
+
+    /**
+     * Retrieves all users.
+     *
+     * @return A list of all users.
+     */
+    List<User> getAll();
+
+    /**
+     * Retrieves users by their role.
+     *
+     * @param role The role of the users to retrieve.
+     * @return A list of users with the specified role.
+     */
+    List<User> getByRole(String role);
+
+    /**
+     * Authenticates an active user by username and password.
+     *
+     * @param username The username of the user.
+     * @param password The password of the user.
+     * @return The authenticated user, or null if authentication failed.
+     */
+    User authenticate(String username, String password);
+}
@@ -0,0 +1,51 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.Venue;
+
+import java.util.List;
+
+/**
+ * Data access operations for Venue entities.
+ */
+public interface IVenueDAO {
+
+    /**
+     * Creates a new venue.
+     *
+     * @param venue The venue to be created.
+     * @return The ID of the created venue, or -1 if the creation failed.
+     */
+    int create(Venue venue);
+
+    /**
+     * Retrieves a venue by its ID.
+     *
+     * @param venueId The ID of the venue to retrieve.
+     * @return The venue with the specified ID, or null if not found.
+     */
+    Venue getById(int venueId);
+
+    /**
+     * Updates an existing venue.
+     *
+     * @param venue The Venue object containing the updated venue information
+     * @param venueId The ID of the venue to be updated
+     * @return true if the update was successful, false otherwise
+     */
+    boolean update(Venue venue, int venueId);
+
+    /**
+     * Deletes a venue.
+     *
+     * @param venueId The ID of the venue to delete.
+     * @return true if the deletion was successful, false otherwise.
+     */
+    boolean delete(int venueId);
+
+    /**
+     * Retrieves all venues.
+     *
+     * @return A list of all venues.
+     */
+    List<Venue> getAll();
+}
@@ -0,0 +1,57 @@
+package com.teamoneboxoffice.interfaces.DAOs;
+
+import com.teamoneboxoffice.entities.VoucherBatch;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Data access operations for voucher batches, their codes and the redemption log
+ * (the Voucher_Batch, Voucher and Voucher_Redemption tables). Vouchers are redeemed by
+ * the booking commit, in the booking's transaction, not through this DAO.
+ */
+public interface IVoucherDAO {
+
+    /**
+     * Receives the codes read by {@link #forEachCode}.
+     */
+    @FunctionalInterface
+    interface CodeVisitor {
+        void accept(String code, String batchId, boolean redeemed);
+    }
+
+    /**
+     * Stores a batch and all of its codes. Either the whole batch is stored or none of it.
+     *
+     * @param batch The batch.
+     * @param codes Its codes.
+     * @throws SQLException if the batch could not be stored, e.g. because a code already exists.
+     */
+    void insertBatch(VoucherBatch batch, List<String> codes) throws SQLException;
+
+    /**
+     * Retrieves every batch.
+     *
+     * @return All batches.
+     * @throws SQLException if a data access error occurs.
+     */
+    List<VoucherBatch> getAllBatches() throws SQLException;
+
+    /**
+     * Retrieves the codes of a batch.
+     *
+     * @param batchId The batch.
+     * @return Its codes; empty if the batch is unknown.
+     * @throws SQLException if a data access error occurs.
+     */
+    List<String> getCodes(String batchId) throws SQLException;
+
+    /**
+     * Passes every code of every batch to the action, with its batch and whether it has been
+     * redeemed, reading them all with one query rather than one per batch.
+     *
+     * @param action Called with each code.
+     * @throws SQLException if a data access error occurs; some codes may already have been passed.
+     */
+    void forEachCode(CodeVisitor action) throws SQLException;
+}
@@ -0,0 +1,428 @@
+package com.teamoneboxoffice.services.implementations.DAOs;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.interfaces.DAOs.IBookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+import com.teamoneboxoffice.util.IdGenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves a booking made on the Customer Booking Info screen. The customer, ticket,
+ * booking record and booked seats are written in one transaction of four statements:
+ * a conditional customer insert, the ticket, the booking record and one batch for all
+ * seats, plus one batch counting the uses of any capped discount codes and one logging
+ * any voucher redemptions. The pool's connections cache prepared statements and send each
+ * batch in one round trip (see {@link Database}), so a commit costs five to seven round
+ * trips including the COMMIT, however many seats it has. The time spent in each phase is returned with the result.
+ *
+ * Seats are claimed with a conditional insert per seat, backed by the unique
+ * (Event_ID, Seat_ID) key on Booked_Seats (see sql/booked_seats_claim.sql), so two
+ * terminals can never both book the same seat of an event. A transaction that loses a
+ * deadlock or lock wait to another terminal is retried a few times before giving up.
+ * A discount code's use is counted with a conditional update that only succeeds below
+ * its limit, so if another terminal took the last use the whole booking is rolled back.
+ * Vouchers are redeemed the same way, backed by the primary key on Voucher_Redemption.
+ */
+public class BookingCommitDAO implements IBookingCommitDAO {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private final Database db;
+
+    /**
+     * Creates a BookingCommitDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public BookingCommitDAO(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Saves the booking, reporting only whether it was committed.
+     *
+     * @param request The booking to save.
+     * @return true if save was successful, false otherwise
+     */
+    @Override
+    public boolean commitBooking(BookingRequest request) {
+        return claimSeatsAndCommit(request).isCommitted();
+    }
+
+    /**
+     * Saves the booking in a single transaction, creating the customer first if
+     * no customer with the same ID or email exists. Rolls back on any failure; if the
+     * failure was a lost seat, the seats already booked by others are looked up and returned.
+     *
+     * @param request The booking to save.
+     * @return The outcome of the commit.
+     */
+    @Override
+    public BookingCommitResult claimSeatsAndCommit(BookingRequest request) {
+        if (request.getSeatIds().isEmpty()) {
+            System.err.println("Database error while saving booking: no seats in booking " + request.getTicketID());
+            return BookingCommitResult.failed();
+        }
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Connection conn = null;
+            Map<String, Long> phaseMicros = new LinkedHashMap<>();
+            long phaseStart = System.nanoTime();
+            try {
+                conn = db.getConnection();
+                conn.setAutoCommit(false);
+                phaseStart = endPhase(phaseMicros, "connect", phaseStart);
+
+                if (insertCustomerIfAbsent(conn, request)) {
+                    System.out.println("Created new customer: " + request.getCustomerID());
+                } else {
+                    System.out.println("Customer already exists: " + request.getCustomerID());
+                }
+                phaseStart = endPhase(phaseMicros, "customer", phaseStart);
+
+                createTicket(conn, request);
+                phaseStart = endPhase(phaseMicros, "ticket", phaseStart);
+
+                createBooking(conn, request.getTicketID(), request.getCustomerID());
+                phaseStart = endPhase(phaseMicros, "booking", phaseStart);
+
+                List<String> lost = claimSeats(conn, request.getTicketID(), request.getEventID(), request.getSeatIds());
+                phaseStart = endPhase(phaseMicros, "seats", phaseStart);
+                if (!lost.isEmpty()) {
+                    conn.rollback();
+                    System.out.println("Booking " + request.getTicketID() + " rolled back, seats already booked: " + lost);
+                    return BookingCommitResult.seatsTaken(lost);
+                }
+
+                List<String> usedUp = countDiscountUses(conn, request.getDiscountCodes());
+                phaseStart = endPhase(phaseMicros, "discounts", phaseStart);
+                if (!usedUp.isEmpty()) {
+                    conn.rollback();
+                    System.out.println("Booking " + request.getTicketID() + " rolled back, discount codes used up: " + usedUp);
+                    return BookingCommitResult.codesUsedUp(usedUp);
+                }
+
+                List<String> redeemed = redeemVouchers(conn, request.getTicketID(), request.getVoucherCodes());
+                phaseStart = endPhase(phaseMicros, "vouchers", phaseStart);
+                if (!redeemed.isEmpty()) {
+                    conn.rollback();
+                    System.out.println("Booking " + request.getTicketID() + " rolled back, vouchers already redeemed: " + redeemed);
+                    return BookingCommitResult.codesUsedUp(redeemed);
+                }
+
+                conn.commit();
+                endPhase(phaseMicros, "commit", phaseStart);
+                System.out.println("Booking " + request.getTicketID() + " saved successfully to database. Phase timings (us): " + phaseMicros);
+                return BookingCommitResult.committed(phaseMicros);
+
+            } catch (SQLException e) {
+                try { if (conn != null) conn.rollback(); }
+                catch (SQLException ex) { System.err.println("Error rolling back transaction: " + ex.getMessage()); }
+
+                if (isDuplicateKey(e)) {
+                    // Another terminal committed one of the seats after our conditional insert ran.
+                    List<String> lost = findBookedSeats(request.getEventID(), request.getSeatIds());
+                    if (!lost.isEmpty()) {
+                        System.out.println("Booking " + request.getTicketID() + " rolled back, seats already booked: " + lost);
+                        return BookingCommitResult.seatsTaken(lost);
+                    }
+                    // Or another terminal redeemed one of the vouchers.
+                    List<String> redeemed = findRedeemedVouchers(request.getVoucherCodes());
+                    if (!redeemed.isEmpty()) {
+                        System.out.println("Booking " + request.getTicketID() + " rolled back, vouchers already redeemed: " + redeemed);
+                        return BookingCommitResult.codesUsedUp(redeemed);
+                    }
+                }
+                if (isTransient(e) && attempt < MAX_ATTEMPTS) {
+                    System.out.println("Booking " + request.getTicketID() + " hit a lock conflict, retrying (attempt " + attempt + ")");
+                    try {
+                        Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return BookingCommitResult.failed();
+                    }
+                    continue;
+                }
+                System.err.println("Database error while saving booking: " + e.getMessage());
+                e.printStackTrace();
+                return BookingCommitResult.failed();
+
+            } finally {
+                try { if (conn != null) { conn.setAutoCommit(true); conn.close(); } }
+                catch (SQLException e) { System.err.println("Error closing database connection: " + e.getMessage()); }
+            }
+        }
+        return BookingCommitResult.failed();
+    }
+
+    /**
+     * Records the time since {@code phaseStart} under the phase name.
+     *
+     * @return The start time of the next phase.
+     */
+    private static long endPhase(Map<String, Long> phaseMicros, String phase, long phaseStart) {
+        long now = System.nanoTime();
+        phaseMicros.put(phase, (now - phaseStart) / 1000);
+        return now;
+    }
+
+    /**
+     * Inserts the customer unless one with the same ID or email already exists,
+     * in a single statement.
+     *
+     * @return true if a new customer row was written.
+     */
+    private boolean insertCustomerIfAbsent(Connection conn, BookingRequest request) throws SQLException {
+        String sql = "INSERT INTO Customer (Customer_ID, Name, Email, Phone) " +
+                "SELECT ?, ?, ?, ? FROM DUAL WHERE NOT EXISTS " +
+                "(SELECT 1 FROM Customer WHERE Customer_ID = ? OR Email = ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, request.getCustomerID());
+            stmt.setString(2, request.getCustomerName());
+            stmt.setString(3, request.getEmail());
+            stmt.setString(4, request.getPhone());
+            stmt.setString(5, request.getCustomerID());
+            stmt.setString(6, request.getEmail());
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Creates a ticket entry in the database, linked to the first seat of the booking
+     * (Booked_Seats links all of them).
+     */
+    private void createTicket(Connection conn, BookingRequest request) throws SQLException {
+        String sql = "INSERT INTO Ticket (Ticket_ID, Hall, Ticket_Type, Eligible_For_Discount, " +
+                "Wheelchair, Price, Priority_Status, Customer_ID, Event_ID, Seat_ID) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, request.getTicketID());
+            stmt.setString(2, "Unknown"); // Placeholder - Fetch Hall Type based on eventId if needed
+            stmt.setString(3, "Standard"); // Default ticket type
+            stmt.setBoolean(4, request.isEligibleForDiscount());
+            stmt.setBoolean(5, request.isWheelchair());
+            stmt.setDouble(6, request.getFinalPrice());
+            stmt.setString(7, "Low");  // Default priority
+            stmt.setString(8, request.getCustomerID());
+            stmt.setString(9, request.getEventID());
+            stmt.setString(10, request.getSeatIds().get(0));
+
+            int rowsAffected = stmt.executeUpdate();
+            if (rowsAffected == 0) {
+                throw new SQLException("Creating ticket failed, no rows affected.");
+            }
+            System.out.println("Created ticket: " + request.getTicketID() + " with final price: " + request.getFinalPrice());
+        }
+    }
+
+    /**
+     * Creates a booking entry in the database.
+     */
+    private void createBooking(Connection conn, String ticketId, String customerId) throws SQLException {
+        String bookingId = IdGenerator.nextBookingId();
+        String sql = "INSERT INTO Booking_Details (Booking_ID, Status, Customer_ID, Ticket_ID) " +
+                "VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, bookingId);
+            stmt.setBoolean(2, true); // Active booking
+            stmt.setString(3, customerId);
+            stmt.setString(4, ticketId);
+
+            stmt.executeUpdate();
+            System.out.println("Created booking: " + bookingId);
+        }
+    }
+
+    /**
+     * Inserts each seat only if no Booked_Seats row exists for it on the same event.
+     * A zero update count means the seat was already booked.
+     *
+     * @return The seats that could not be claimed, in request order.
+     */
+    private List<String> claimSeats(Connection conn, String ticketId, String eventId, List<String> seatIds) throws SQLException {
+        String sql = "INSERT INTO Booked_Seats (Seat_ID, Ticket_ID, Event_ID) " +
+                "SELECT ?, ?, ? FROM DUAL WHERE NOT EXISTS " +
+                "(SELECT 1 FROM Booked_Seats WHERE Event_ID = ? AND Seat_ID = ?)";
+        List<String> seats = new ArrayList<>(new LinkedHashSet<>(seatIds));
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (String seatId : seats) {
+                stmt.setString(1, seatId);
+                stmt.setString(2, ticketId);
+                stmt.setString(3, eventId);
+                stmt.setString(4, eventId);
+                stmt.setString(5, seatId);
+                stmt.addBatch();
+            }
+
+            int[] results = stmt.executeBatch();
+            List<String> lost = new ArrayList<>();
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) {
+                    lost.add(seats.get(i));
+                }
+            }
+            System.out.println("Claimed " + (results.length - lost.size()) + " of " + seats.size() + " booked seats");
+            return lost;
+        }
+    }
+
+    /**
+     * Counts one use of each capped discount code, only while it is under its limit.
+     * A zero update count means the limit was reached first.
+     *
+     * @return The codes that could not be counted, in request order.
+     */
+    private List<String> countDiscountUses(Connection conn, List<String> codes) throws SQLException {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        String sql = "UPDATE Discount SET Times_Used = Times_Used + 1 " +
+                "WHERE code = ? AND (Max_Uses IS NULL OR Max_Uses = 0 OR Times_Used < Max_Uses)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (String code : codes) {
+                stmt.setString(1, code);
+                stmt.addBatch();
+            }
+
+            int[] results = stmt.executeBatch();
+            List<String> usedUp = new ArrayList<>();
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) {
+                    usedUp.add(codes.get(i));
+                }
+            }
+            return usedUp;
+        }
+    }
+
+    /**
+     * Logs the redemption of each voucher only if it has not been redeemed already.
+     * A zero update count means the voucher was redeemed by another booking.
+     *
+     * @return The vouchers that could not be redeemed, in request order.
+     */
+    private List<String> redeemVouchers(Connection conn, String ticketId, List<String> codes) throws SQLException {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        String sql = "INSERT INTO Voucher_Redemption (Code, Ticket_ID, Redeemed_At) " +
+                "SELECT ?, ?, ? FROM DUAL WHERE NOT EXISTS " +
+                "(SELECT 1 FROM Voucher_Redemption WHERE Code = ?)";
+        Timestamp now = Timestamp.from(Instant.now());
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (String code : codes) {
+                stmt.setString(1, code);
+                stmt.setString(2, ticketId);
+                stmt.setTimestamp(3, now);
+                stmt.setString(4, code);
+                stmt.addBatch();
+            }
+
+            int[] results = stmt.executeBatch();
+            List<String> redeemed = new ArrayList<>();
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0) {
+                    redeemed.add(codes.get(i));
+                }
+            }
+            return redeemed;
+        }
+    }
+
+    /**
+     * Looks up which of the given vouchers are already redeemed, after a redemption was
+     * rejected by the primary key.
+     */
+    private List<String> findRedeemedVouchers(List<String> codes) {
+        List<String> redeemed = new ArrayList<>();
+        if (codes.isEmpty()) {
+            return redeemed;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(codes.size(), "?"));
+        String sql = "SELECT Code FROM Voucher_Redemption WHERE Code IN (" + placeholders + ")";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < codes.size(); i++) {
+                stmt.setString(i + 1, codes.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    redeemed.add(rs.getString("Code"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error checking redeemed vouchers: " + e.getMessage());
+        }
+        return redeemed;
+    }
+
+    /**
+     * Looks up which of the given seats are already booked for the event, after a
+     * claim was rejected by the unique key.
+     */
+    private List<String> findBookedSeats(String eventId, List<String> seatIds) {
+        List<String> booked = new ArrayList<>();
+        String placeholders = String.join(", ", Collections.nCopies(seatIds.size(), "?"));
+        String sql = "SELECT Seat_ID FROM Booked_Seats WHERE Event_ID = ? AND Seat_ID IN (" + placeholders + ")";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, eventId);
+            for (int i = 0; i < seatIds.size(); i++) {
+                stmt.setString(i + 2, seatIds.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    booked.add(rs.getString("Seat_ID"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error checking booked seats for event " + eventId + ": " + e.getMessage());
+        }
+        return booked;
+    }
+
+    /**
+     * A unique key violation (SQLState class 23, MySQL error 1062).
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        for (SQLException cur = e; cur != null; cur = cur.getNextException()) {
+            String state = cur.getSQLState();
+            if (cur.getErrorCode() == 1062 || (state != null && state.startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A deadlock or lock wait timeout, which is worth retrying (SQLState 40001, MySQL errors 1213 and 1205).
+     */
+    private static boolean isTransient(SQLException e) {
+        for (SQLException cur = e; cur != null; cur = cur.getNextException()) {
+            if ("40001".equals(cur.getSQLState()) || cur.getErrorCode() == 1213 || cur.getErrorCode() == 1205) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
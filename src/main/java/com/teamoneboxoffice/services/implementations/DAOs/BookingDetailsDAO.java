@@ -2,18 +2,29 @@ package com.teamoneboxoffice.services.implementations.DAOs;
 
 
 import com.teamoneboxoffice.entities.Booking_Details;
+import com.teamoneboxoffice.interfaces.DAOs.IBookingDetailsDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 
-public class BookingDetailsDAO {
+public class BookingDetailsDAO implements IBookingDetailsDAO {
     private final Database db;
 
     public BookingDetailsDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a BookingDetailsDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public BookingDetailsDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -22,6 +33,7 @@ public class BookingDetailsDAO {
      * @param booking The Booking_Details object containing booking information.
      * @return true if the booking was created successfully, false otherwise.
      */
+    @Override
     public boolean create(Booking_Details booking) {
         String sql = "INSERT INTO Booking_Details (Booking_ID, Status, Customer_ID, Ticket_ID, Event_ID) " +
                 "VALUES (?, ?, ?, ?, ?)";
@@ -50,6 +62,7 @@ public class BookingDetailsDAO {
      * @param bookingId The ID of the booking to retrieve.
      * @return The Booking_Details object if found, null otherwise.
      */
+    @Override
     public Booking_Details getById(int bookingId) {
         String sql = "SELECT * FROM Booking_Details WHERE Booking_ID = ?";
 
@@ -76,6 +89,7 @@ public class BookingDetailsDAO {
      * @param booking The Booking_Details object containing updated booking information.
      * @return true if the booking was updated successfully, false otherwise.
      */
+    @Override
     public boolean update(Booking_Details booking) {
         String sql = "UPDATE Booking_Details SET Status = ?, Customer_ID = ?, Ticket_ID = ? " +
                 "WHERE Booking_ID = ?";
@@ -104,6 +118,7 @@ public class BookingDetailsDAO {
      * @param status    The new status to set.
      * @return true if the status was updated successfully, false otherwise.
      */
+    @Override
     public boolean updateStatus(int bookingId, int status) {
         String sql = "UPDATE Booking_Details SET Status = ? WHERE Booking_ID = ?";
 
@@ -128,6 +143,7 @@ public class BookingDetailsDAO {
      * @param bookingId The ID of the booking to delete.
      * @return true if the booking was deleted successfully, false otherwise.
      */
+    @Override
     public boolean delete(int bookingId) {
         String sql = "DELETE FROM Booking_Details WHERE Booking_ID = ?";
 
@@ -149,6 +165,7 @@ public class BookingDetailsDAO {
      *
      * @return A list of Booking_Details objects.
      */
+    @Override
     public List<Booking_Details> getAll() {
         List<Booking_Details> bookings = new ArrayList<>();
         String sql = "SELECT * FROM Booking_Details";
@@ -168,12 +185,75 @@ public class BookingDetailsDAO {
         return bookings;
     }
 
+    /**
+     * Streams every booking to the action in Booking_ID order. Rows are read from the server as
+     * the action takes them, so only the current booking is held in memory.
+     *
+     * @param action Called with each booking.
+     * @return true if every booking was read, false if an error stopped the read part way.
+     */
+    @Override
+    public boolean forEach(Consumer<Booking_Details> action) {
+        String sql = "SELECT * FROM Booking_Details ORDER BY Booking_ID";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = Database.prepareStreaming(conn, sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(mapResultSetToBooking(rs));
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error streaming bookings: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the page of bookings after the given Booking_ID. The query seeks to it through the
+     * primary key, so a late page is as cheap as the first, unlike an OFFSET.
+     *
+     * @param afterBookingId The Booking_ID of the last booking on the previous page, or null for the first page.
+     * @param limit The most bookings to return.
+     * @return Up to limit bookings in Booking_ID order.
+     */
+    @Override
+    public List<Booking_Details> getPage(Integer afterBookingId, int limit) {
+        List<Booking_Details> bookings = new ArrayList<>();
+        String sql = afterBookingId == null
+                ? "SELECT * FROM Booking_Details ORDER BY Booking_ID LIMIT ?"
+                : "SELECT * FROM Booking_Details WHERE Booking_ID > ? ORDER BY Booking_ID LIMIT ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (afterBookingId != null) {
+                stmt.setInt(index++, afterBookingId);
+            }
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    bookings.add(mapResultSetToBooking(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of bookings: " + e.getMessage());
+        }
+
+        return bookings;
+    }
+
     /**
      * Retrieves bookings by customer ID.
      *
      * @param customerId The ID of the customer whose bookings to retrieve.
      * @return A list of Booking_Details objects for the specified customer.
      */
+    @Override
     public List<Booking_Details> getByCustomerId(int customerId) {
         List<Booking_Details> bookings = new ArrayList<>();
         String sql = "SELECT * FROM Booking_Details WHERE Customer_ID = ?";
@@ -201,6 +281,7 @@ public class BookingDetailsDAO {
      * @param ticketId The ID of the ticket whose bookings to retrieve.
      * @return A list of Booking_Details objects for the specified ticket.
      */
+    @Override
     public List<Booking_Details> getByTicketId(int ticketId) {
         List<Booking_Details> bookings = new ArrayList<>();
         String sql = "SELECT * FROM Booking_Details WHERE Ticket_ID = ?";
@@ -229,6 +310,7 @@ public class BookingDetailsDAO {
         * @return A list of Booking_Details objects with the given status.
         *         Returns an empty list if no bookings match the specified status or if an error occurs during retrieval.
         */
+    @Override
     public List<Booking_Details> getByStatus(int status) {
         List<Booking_Details> bookings = new ArrayList<>();
         String sql = "SELECT * FROM Booking_Details WHERE Status = ?";
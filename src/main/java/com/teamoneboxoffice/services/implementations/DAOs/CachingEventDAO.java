@@ -0,0 +1,257 @@
+package com.teamoneboxoffice.services.implementations.DAOs;
+
+import com.teamoneboxoffice.entities.Event;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache in front of another {@link IEventDAO}.
+ *
+ * The event lists behind the booking, events and seating configuration pages are read
+ * in one pass over the table and then answered from memory, indexed by ID, date and
+ * type, until the entry is older than the time-to-live. {@link #getById} on a cold cache
+ * loads just that event. Creating, updating or deleting an event, or changing its ticket
+ * statistics, through this DAO drops the cache; changes made on other terminals show up
+ * once it goes stale. A load that fails part way is returned but not kept, so the next
+ * read tries the database again.
+ *
+ * Callers get their own copies of the events, so changing one does not change the cache.
+ * Booked-seat queries, seat status updates and the streamed and paged reads go straight
+ * to the wrapped DAO; the last two are for reports and lists that want the table as it is
+ * now and should not fill the cache with it.
+ */
+public class CachingEventDAO implements IEventDAO {
+    private static final long DEFAULT_TTL_MILLIS = 30_000;
+
+    private final IEventDAO delegate;
+    private final long ttlMillis;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // Bumped by every write, so a load that overlapped a write is not kept.
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private final Map<String, Entry> singleEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Every event, as read by one pass of the wrapped DAO's {@code forEach()}, with its indexes.
+     */
+    private static final class Snapshot {
+        private final long loadedAt = System.currentTimeMillis();
+        private final Map<String, Event> byId = new LinkedHashMap<>();
+        private final Map<LocalDate, List<Event>> byDate = new HashMap<>();
+        private final Map<String, List<Event>> byType = new HashMap<>();
+
+        private Snapshot(List<Event> events) {
+            for (Event event : events) {
+                byId.put(event.getEventID(), event);
+                LocalDate date = toLocalDate(event.getEventDate());
+                if (date != null) {
+                    byDate.computeIfAbsent(date, d -> new ArrayList<>()).add(event);
+                }
+                byType.computeIfAbsent(event.getEventType(), t -> new ArrayList<>()).add(event);
+            }
+        }
+    }
+
+    /**
+     * One event loaded by {@link #getById} while no snapshot was fresh.
+     */
+    private static final class Entry {
+        private final long loadedAt = System.currentTimeMillis();
+        private final Event event;
+
+        private Entry(Event event) {
+            this.event = event;
+        }
+    }
+
+    public CachingEventDAO(IEventDAO delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    /**
+     * @param delegate  The DAO that reads and writes the events.
+     * @param ttlMillis How long loaded events are reused before they are re-read.
+     */
+    public CachingEventDAO(IEventDAO delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public boolean create(Event event) {
+        return invalidateAfter(delegate.create(event));
+    }
+
+    @Override
+    public Event getById(String eventId) {
+        Snapshot current = freshSnapshot();
+        if (current != null) {
+            hits.incrementAndGet();
+            return copyEvent(current.byId.get(eventId));
+        }
+        Entry entry = singleEvents.get(eventId);
+        if (entry != null && isFresh(entry.loadedAt)) {
+            hits.incrementAndGet();
+            return copyEvent(entry.event);
+        }
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        Event event = delegate.getById(eventId);
+        if (event != null && generation.get() == loadGeneration) {
+            singleEvents.put(eventId, new Entry(event));
+        }
+        return copyEvent(event);
+    }
+
+    @Override
+    public boolean update(Event event) {
+        return invalidateAfter(delegate.update(event));
+    }
+
+    @Override
+    public boolean updateTicketStats(String eventId, double ticketRevenue, int ticketNumbers) {
+        return invalidateAfter(delegate.updateTicketStats(eventId, ticketRevenue, ticketNumbers));
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        return invalidateAfter(delegate.delete(eventId));
+    }
+
+    @Override
+    public List<Event> getAll() {
+        return copyEvents(loadSnapshot().byId.values());
+    }
+
+    @Override
+    public boolean forEach(Consumer<Event> action) {
+        return delegate.forEach(action);
+    }
+
+    @Override
+    public List<Event> getPage(String afterEventId, int limit) {
+        return delegate.getPage(afterEventId, limit);
+    }
+
+    @Override
+    public List<Event> getByType(String eventType) {
+        return copyEvents(loadSnapshot().byType.getOrDefault(eventType, Collections.emptyList()));
+    }
+
+    @Override
+    public List<Event> getByDate(java.util.Date date) {
+        if (date == null) {
+            System.err.println("Attempted to query events by null date.");
+            return new ArrayList<>();
+        }
+        return copyEvents(loadSnapshot().byDate.getOrDefault(toLocalDate(date), Collections.emptyList()));
+    }
+
+    @Override
+    public boolean updateSeatStatus(String seatId, String status) {
+        return delegate.updateSeatStatus(seatId, status);
+    }
+
+    @Override
+    public Set<String> getAllBookedSeatIds() {
+        return delegate.getAllBookedSeatIds();
+    }
+
+    @Override
+    public Set<String> getBookedSeatIds(String eventId, LocalDate eventDate, String eventTime) {
+        return delegate.getBookedSeatIds(eventId, eventDate, eventTime);
+    }
+
+    /**
+     * Drops every cached event, forcing the next read to go to the database.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshot = null;
+        singleEvents.clear();
+    }
+
+    /**
+     * @return The number of reads answered from memory.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of reads that went to the wrapped DAO.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private boolean invalidateAfter(boolean written) {
+        // Invalidate even on failure: a failed write may still have changed some rows.
+        invalidateAll();
+        return written;
+    }
+
+    private Snapshot freshSnapshot() {
+        Snapshot current = snapshot;
+        return current != null && isFresh(current.loadedAt) ? current : null;
+    }
+
+    private Snapshot loadSnapshot() {
+        Snapshot current = freshSnapshot();
+        if (current != null) {
+            hits.incrementAndGet();
+            return current;
+        }
+        misses.incrementAndGet();
+        long loadGeneration = generation.get();
+        // getAll() cannot tell an empty table from a failed query; forEach() can.
+        List<Event> events = new ArrayList<>();
+        boolean complete = delegate.forEach(events::add);
+        Snapshot loaded = new Snapshot(events);
+        if (complete && generation.get() == loadGeneration) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private boolean isFresh(long loadedAt) {
+        return System.currentTimeMillis() - loadedAt <= ttlMillis;
+    }
+
+    private static LocalDate toLocalDate(java.util.Date date) {
+        return date == null ? null : new java.sql.Date(date.getTime()).toLocalDate();
+    }
+
+    private static List<Event> copyEvents(Iterable<Event> events) {
+        List<Event> copies = new ArrayList<>();
+        for (Event event : events) {
+            copies.add(copyEvent(event));
+        }
+        return copies;
+    }
+
+    private static Event copyEvent(Event event) {
+        if (event == null) {
+            return null;
+        }
+        java.util.Date date = event.getEventDate() == null ? null : new java.util.Date(event.getEventDate().getTime());
+        Event copy = new Event(event.getEventID(), event.getEventName(), event.getEventType(),
+                event.getEventPrice(), event.getHallType(), date, event.getEventTime());
+        copy.setTicketRevenue(event.getTicketRevenue());
+        copy.setTicketNumbers(event.getTicketNumbers());
+        return copy;
+    }
+}
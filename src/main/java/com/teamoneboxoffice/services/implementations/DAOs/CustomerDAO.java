@@ -1,18 +1,40 @@
 package com.teamoneboxoffice.services.implementations.DAOs;
 
 import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.interfaces.DAOs.ICustomerDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-
-
-public class CustomerDAO {
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Data Access Object for the Customer table.
+ *
+ * Customers saved by the booking commit have Name, Email and Phone columns, while older
+ * tables use Email_Address and Phone_Number; reads accept either, and email lookups use
+ * whichever column the table has.
+ */
+public class CustomerDAO implements ICustomerDAO {
     private final Database db;
+    // Resolved from the table on first use.
+    private volatile String emailColumn;
 
     public CustomerDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a CustomerDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public CustomerDAO(Database db) {
+        this.db = db;
     }
 
 
@@ -22,6 +44,7 @@ public class CustomerDAO {
      * @param customer The Customer object containing customer information.
      * @return true if the customer was created successfully, false otherwise.
      */
+    @Override
     public boolean create(Customer customer) {
         String sql = "INSERT INTO Customer (Customer_ID, Opt_IN, Payment_Type, Gender, " +
                 "Postal_Code, Email_Address, Phone_Number) VALUES (?, ?, ?, ?, ?, ?, ?)";
@@ -52,6 +75,7 @@ public class CustomerDAO {
      * @param customerId The ID of the customer to retrieve.
      * @return The Customer object if found, null otherwise.
      */
+    @Override
     public Customer getById(String customerId) {
         String sql = "SELECT * FROM Customer WHERE Customer_ID = ?";
 
@@ -61,7 +85,7 @@ public class CustomerDAO {
             stmt.setString(1, customerId);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToCustomer(rs);
+                    return mapResultSetToCustomer(rs, columnNames(rs.getMetaData()));
                 }
             }
 
@@ -78,16 +102,16 @@ public class CustomerDAO {
      * @param email The email address of the customer to retrieve.
      * @return The Customer object if found, null otherwise.
      */
+    @Override
     public Customer getByEmail(String email) {
-        String sql = "SELECT * FROM Customer WHERE Email_Address = ?";
-
         try (Connection conn = db.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(
+                     "SELECT * FROM Customer WHERE " + emailColumn(conn) + " = ?")) {
 
             stmt.setString(1, email);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToCustomer(rs);
+                    return mapResultSetToCustomer(rs, columnNames(rs.getMetaData()));
                 }
             }
 
@@ -104,6 +128,7 @@ public class CustomerDAO {
      * @param customer The Customer object containing updated information.
      * @return true if the customer was updated successfully, false otherwise.
      */
+    @Override
     public boolean update(Customer customer) {
         String sql = "UPDATE Customer SET Opt_IN = ?, Payment_Type = ?, Gender = ?, " +
                 "Postal_Code = ?, Email_Address = ?, Phone_Number = ? WHERE Customer_ID = ?";
@@ -134,6 +159,7 @@ public class CustomerDAO {
      * @param customerId The ID of the customer to delete.
      * @return true if the customer was deleted successfully, false otherwise.
      */
+    @Override
     public boolean delete(String customerId) {
         String sql = "DELETE FROM Customer WHERE Customer_ID = ?";
 
@@ -155,6 +181,7 @@ public class CustomerDAO {
      *
      * @return A list of Customer objects.
      */
+    @Override
     public List<Customer> getAll() {
         List<Customer> customers = new ArrayList<>();
         String sql = "SELECT * FROM Customer";
@@ -163,8 +190,9 @@ public class CustomerDAO {
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
 
+            Set<String> columns = columnNames(rs.getMetaData());
             while (rs.next()) {
-                customers.add(mapResultSetToCustomer(rs));
+                customers.add(mapResultSetToCustomer(rs, columns));
             }
 
         } catch (SQLException e) {
@@ -174,22 +202,112 @@ public class CustomerDAO {
         return customers;
     }
 
+    /**
+     * Streams every customer to the action in Customer_ID order. Rows are read from the server as
+     * the action takes them, so only the current customer is held in memory.
+     *
+     * @param action Called with each customer.
+     * @return true if every customer was read, false if an error stopped the read part way.
+     */
+    @Override
+    public boolean forEach(Consumer<Customer> action) {
+        String sql = "SELECT * FROM Customer ORDER BY Customer_ID";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = Database.prepareStreaming(conn, sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            Set<String> columns = columnNames(rs.getMetaData());
+            while (rs.next()) {
+                action.accept(mapResultSetToCustomer(rs, columns));
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error streaming customers: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the page of customers after the given Customer_ID. The query seeks to it through the
+     * primary key, so a late page is as cheap as the first, unlike an OFFSET.
+     *
+     * @param afterCustomerId The Customer_ID of the last customer on the previous page, or null for the first page.
+     * @param limit The most customers to return.
+     * @return Up to limit customers in Customer_ID order.
+     */
+    @Override
+    public List<Customer> getPage(String afterCustomerId, int limit) {
+        List<Customer> customers = new ArrayList<>();
+        String sql = afterCustomerId == null
+                ? "SELECT * FROM Customer ORDER BY Customer_ID LIMIT ?"
+                : "SELECT * FROM Customer WHERE Customer_ID > ? ORDER BY Customer_ID LIMIT ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (afterCustomerId != null) {
+                stmt.setString(index++, afterCustomerId);
+            }
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                Set<String> columns = columnNames(rs.getMetaData());
+                while (rs.next()) {
+                    customers.add(mapResultSetToCustomer(rs, columns));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of customers: " + e.getMessage());
+        }
+
+        return customers;
+    }
+
     /**
      * Maps a ResultSet to a Customer object.
      *
      * @param rs The ResultSet containing customer data.
+     * @param columns The result's column names, in lower case.
      * @return A Customer object.
      * @throws SQLException If an SQL error occurs.
      */
-    private Customer mapResultSetToCustomer(ResultSet rs) throws SQLException {
+    private Customer mapResultSetToCustomer(ResultSet rs, Set<String> columns) throws SQLException {
         String customerId = rs.getString("Customer_ID");
-        boolean optIn = rs.getBoolean("Opt_IN");
-        String paymentType = rs.getString("Payment_Type");
-        String gender = rs.getString("Gender");
-        String postalCode = rs.getString("Postal_Code");
-        String emailAddress = rs.getString("Email_Address");
-        String phoneNumber = rs.getString("Phone_Number");
-
-        return new Customer(customerId, optIn, paymentType, gender, postalCode, emailAddress, phoneNumber);
+        boolean optIn = columns.contains("opt_in") && rs.getBoolean("Opt_IN");
+        String paymentType = columns.contains("payment_type") ? rs.getString("Payment_Type") : null;
+        String gender = columns.contains("gender") ? rs.getString("Gender") : null;
+        String postalCode = columns.contains("postal_code") ? rs.getString("Postal_Code") : null;
+        String emailAddress = rs.getString(columns.contains("email") ? "Email" : "Email_Address");
+        String phoneNumber = columns.contains("phone") ? rs.getString("Phone")
+                : columns.contains("phone_number") ? rs.getString("Phone_Number") : null;
+
+        Customer customer = new Customer(customerId, optIn, paymentType, gender, postalCode, emailAddress, phoneNumber);
+        if (columns.contains("name")) {
+            customer.setName(rs.getString("Name"));
+        }
+        return customer;
+    }
+
+    private String emailColumn(Connection conn) throws SQLException {
+        String column = emailColumn;
+        if (column == null) {
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM Customer WHERE 1 = 0");
+                 ResultSet rs = stmt.executeQuery()) {
+                column = columnNames(rs.getMetaData()).contains("email") ? "Email" : "Email_Address";
+            }
+            emailColumn = column;
+        }
+        return column;
+    }
+
+    private static Set<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+        Set<String> names = new HashSet<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            names.add(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT));
+        }
+        return names;
     }
 }
\ No newline at end of file
@@ -1,14 +1,23 @@
 package com.teamoneboxoffice.services.implementations.DAOs;
 
 import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.interfaces.DAOs.IDiscountDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database; // Import your Database class
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
-public class DiscountDAO {
+public class DiscountDAO implements IDiscountDAO {
 
     private Database db;
 
@@ -21,6 +30,7 @@ public class DiscountDAO {
      * @param discount The Discount object to add.
      * @throws SQLException if a database access error occurs.
      */
+    @Override
     public void addDiscount(Discount discount) throws SQLException {
         String sql = "INSERT INTO Discount (code, percentage, reason) VALUES (?, ?, ?)";
 
@@ -49,6 +59,7 @@ public class DiscountDAO {
      * @return The Discount object if found, otherwise null.
      * @throws SQLException if a database access error occurs.
      */
+    @Override
     public Discount getDiscountByCode(String code) throws SQLException {
         String sql = "SELECT code, percentage, reason FROM Discount WHERE code = ?";
         Discount discount = null;
@@ -75,4 +86,82 @@ public class DiscountDAO {
         }
         return discount;
     }
+
+    /**
+     * Retrieves every discount code. The rule columns from sql/discount_rules.sql are read
+     * when the table has them; without them every code gets the default rules.
+     * @return All discounts.
+     * @throws SQLException if a database access error occurs.
+     */
+    @Override
+    public List<Discount> getAllDiscounts() throws SQLException {
+        String sql = "SELECT * FROM Discount";
+        List<Discount> discounts = new ArrayList<>();
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            Set<String> columns = columnNames(rs.getMetaData());
+            boolean hasRules = columns.contains("times_used");
+            while (rs.next()) {
+                String code = rs.getString("code");
+                int percentage = rs.getInt("percentage");
+                String reason = rs.getString("reason");
+                if (!hasRules) {
+                    discounts.add(new Discount(code, percentage, reason));
+                    continue;
+                }
+                discounts.add(new Discount(code, percentage, reason,
+                        toLocalDateTime(rs.getTimestamp("Valid_From")),
+                        toLocalDateTime(rs.getTimestamp("Valid_Until")),
+                        rs.getString("Event_ID"),
+                        rs.getInt("Max_Uses"),
+                        rs.getInt("Times_Used"),
+                        rs.getInt("Priority"),
+                        rs.getBoolean("Stackable")));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving discounts: " + e.getMessage());
+            throw e;
+        }
+        return discounts;
+    }
+
+    /**
+     * Counts one more booking against a code. The limit is checked in the same statement,
+     * so two terminals cannot both take the last use.
+     * @param code The discount code used.
+     * @return true if the use was counted, false if the code is unknown or used up.
+     * @throws SQLException if a database access error occurs.
+     */
+    @Override
+    public boolean recordDiscountUse(String code) throws SQLException {
+        String sql = "UPDATE Discount SET Times_Used = Times_Used + 1 "
+                + "WHERE code = ? AND (Max_Uses IS NULL OR Max_Uses = 0 OR Times_Used < Max_Uses)";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, code);
+            return pstmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error recording use of discount " + code + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static Set<String> columnNames(ResultSetMetaData metaData) throws SQLException {
+        Set<String> names = new HashSet<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            names.add(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
 }
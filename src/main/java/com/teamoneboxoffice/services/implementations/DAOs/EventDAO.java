@@ -1,22 +1,34 @@
 package com.teamoneboxoffice.services.implementations.DAOs;
 
 import com.teamoneboxoffice.entities.Event;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object for Event entities. Handles database operations related to events.
  */
-public class EventDAO {
+public class EventDAO implements IEventDAO {
     private final Database db;
 
     public EventDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a EventDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public EventDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -25,6 +37,7 @@ public class EventDAO {
      * @param event The event to create
      * @return true if creation was successful
      */
+    @Override
     public boolean create(Event event) {
         String sql =
                 "INSERT INTO Event (Event_ID, Event_Type, Event_Name, Event_Price, "
@@ -62,6 +75,7 @@ public class EventDAO {
      * @param eventId The ID of the event to retrieve
      * @return The event object or null if not found
      */
+    @Override
     public Event getById(String eventId) {
         String sql = "SELECT * FROM Event WHERE Event_ID = ?";
 
@@ -88,6 +102,7 @@ public class EventDAO {
      * @param event The event to update
      * @return true if update was successful
      */
+    @Override
     public boolean update(Event event) {
         String sql =
                 "UPDATE Event SET Event_Type = ?, Event_Name = ?, Event_Price = ?, "
@@ -129,6 +144,7 @@ public class EventDAO {
      * @param ticketNumbers The new ticket numbers
      * @return true if update was successful
      */
+    @Override
     public boolean updateTicketStats(String eventId, double ticketRevenue, int ticketNumbers) {
         String sql = "UPDATE Event SET Ticket_Revenue = ?, Ticket_Numbers = ? WHERE Event_ID = ?";
 
@@ -155,6 +171,7 @@ public class EventDAO {
      * @param eventId The ID of the event to delete
      * @return true if deletion was successful
      */
+    @Override
     public boolean delete(String eventId) {
         String sql = "DELETE FROM Event WHERE Event_ID = ?";
 
@@ -177,6 +194,7 @@ public class EventDAO {
      *
      * @return A list of all events
      */
+    @Override
     public List<Event> getAll() {
         List<Event> events = new ArrayList<>();
         String sql = "SELECT * FROM Event";
@@ -196,12 +214,75 @@ public class EventDAO {
         return events;
     }
 
+    /**
+     * Streams every event to the action in Event_ID order. Rows are read from the server as
+     * the action takes them, so only the current event is held in memory.
+     *
+     * @param action Called with each event.
+     * @return true if every event was read, false if an error stopped the read part way.
+     */
+    @Override
+    public boolean forEach(Consumer<Event> action) {
+        String sql = "SELECT * FROM Event ORDER BY Event_ID";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = Database.prepareStreaming(conn, sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(mapResultSetToEvent(rs));
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error streaming events: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the page of events after the given Event_ID. The query seeks to it through the
+     * primary key, so a late page is as cheap as the first, unlike an OFFSET.
+     *
+     * @param afterEventId The Event_ID of the last event on the previous page, or null for the first page.
+     * @param limit The most events to return.
+     * @return Up to limit events in Event_ID order.
+     */
+    @Override
+    public List<Event> getPage(String afterEventId, int limit) {
+        List<Event> events = new ArrayList<>();
+        String sql = afterEventId == null
+                ? "SELECT * FROM Event ORDER BY Event_ID LIMIT ?"
+                : "SELECT * FROM Event WHERE Event_ID > ? ORDER BY Event_ID LIMIT ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (afterEventId != null) {
+                stmt.setString(index++, afterEventId);
+            }
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapResultSetToEvent(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of events: " + e.getMessage());
+        }
+
+        return events;
+    }
+
     /**
      * Retrieves events of a specific type.
      *
      * @param eventType The type of events to retrieve
      * @return A list of events of the specified type
      */
+    @Override
     public List<Event> getByType(String eventType) {
         List<Event> events = new ArrayList<>();
         String sql = "SELECT * FROM Event WHERE Event_Type = ?";
@@ -229,6 +310,7 @@ public class EventDAO {
      * @param date The date to filter events by (java.util.Date)
      * @return A list of events on the specified date
      */
+    @Override
     public List<Event> getByDate(java.util.Date date) {
         List<Event> events = new ArrayList<>();
         String sql = "SELECT * FROM Event WHERE Event_Date = ?";
@@ -298,6 +380,7 @@ public class EventDAO {
      * @param status The new status (e.g., "Available", "Restricted").
      * @return true if the update was successful, false otherwise.
      */
+    @Override
     public boolean updateSeatStatus(String seatId, String status) {
         // IMPORTANT: Make sure 'MainHallSeats' and 'Seat_ID' are correct table/column names
         String sql = "UPDATE MainHallSeats SET Status = ? WHERE Seat_ID = ?";
@@ -318,12 +401,12 @@ public class EventDAO {
     }
 
     /**
-     * Retrieves a set of all booked seat IDs from the Booked_Seats table.
-     * NOTE: Ideally, this should be filtered by eventId if your schema supports it.
-     * Example: getBookedSeatIdsForEvent(String eventId)
+     * Retrieves a set of all booked seat IDs from the Booked_Seats table, across every event.
+     * Seat maps should use {@link #getBookedSeatIds(String, LocalDate, String)} instead.
      *
      * @return A Set containing the IDs of all booked seats found in the table. Returns an empty set on error.
      */
+    @Override
     public Set<String> getAllBookedSeatIds() {
         Set<String> bookedSeats = new HashSet<>();
         String sql = "SELECT Seat_ID FROM Booked_Seats";
@@ -346,6 +429,53 @@ public class EventDAO {
         return bookedSeats;
     }
 
+    /**
+     * Retrieves the IDs of the seats booked for one performance of an event, by joining
+     * Booked_Seats to its tickets for that event. Relies on the indexes in
+     * sql/performance_seat_indexes.sql so the cost grows with the seats sold for the
+     * performance rather than with the whole Booked_Seats table.
+     *
+     * @param eventId The ID of the event.
+     * @param eventDate The date of the performance.
+     * @param eventTime The time of the performance.
+     * @return The booked seat IDs. Returns an empty set on error.
+     */
+    @Override
+    public Set<String> getBookedSeatIds(String eventId, LocalDate eventDate, String eventTime) {
+        Set<String> bookedSeats = new HashSet<>();
+        if (eventId == null || eventDate == null || eventTime == null) {
+            return bookedSeats;
+        }
+        String sql = "SELECT bs.Seat_ID " +
+                "FROM Event e " +
+                "JOIN Ticket t ON t.Event_ID = e.Event_ID " +
+                "JOIN Booked_Seats bs ON bs.Ticket_ID = t.Ticket_ID " +
+                "WHERE e.Event_ID = ? " +
+                "AND e.Event_Date = ? " +
+                "AND e.Event_Time = ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, eventId);
+            stmt.setDate(2, java.sql.Date.valueOf(eventDate));
+            stmt.setString(3, eventTime);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String seatId = rs.getString("Seat_ID");
+                    if (seatId != null && !seatId.trim().isEmpty()) {
+                        bookedSeats.add(seatId.trim());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving booked seat IDs for event " + eventId + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+        return bookedSeats;
+    }
+
     /**
      * Checks if a specific seat is booked by looking it up in the Booked_Seats table.
      * NOTE: This method is inefficient if called repeatedly in a loop.
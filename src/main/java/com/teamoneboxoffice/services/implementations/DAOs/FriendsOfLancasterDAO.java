@@ -1,6 +1,7 @@
 package com.teamoneboxoffice.services.implementations.DAOs;
 
 import com.teamoneboxoffice.entities.Friends_Of_Lancaster;
+import com.teamoneboxoffice.interfaces.DAOs.IFriendsOfLancasterDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
@@ -11,7 +12,7 @@ import java.util.List;
  * Data Access Object for handling Friends_Of_Lancaster entities.
  * Interacts with the dedicated 'Friends_Of_Lancaster' table.
  */
-public class FriendsOfLancasterDAO {
+public class FriendsOfLancasterDAO implements IFriendsOfLancasterDAO {
 
     private final Database db;
 
@@ -19,7 +20,16 @@ public class FriendsOfLancasterDAO {
      * Constructs a new FriendsOfLancasterDAO.
      */
     public FriendsOfLancasterDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a FriendsOfLancasterDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public FriendsOfLancasterDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -27,6 +37,7 @@ public class FriendsOfLancasterDAO {
      *
      * @return A List of Friends_Of_Lancaster objects. Returns an empty list if none are found or an error occurs.
      */
+    @Override
     public List<Friends_Of_Lancaster> getAllFriends() {
         List<Friends_Of_Lancaster> friendsList = new ArrayList<>();
         String sql = "SELECT FriendID, Name, Email, PhoneNumber FROM Friends_Of_Lancaster ORDER BY Name";
@@ -52,6 +63,7 @@ public class FriendsOfLancasterDAO {
      * @param friendId The ID of the friend to retrieve.
      * @return The Friends_Of_Lancaster object if found, otherwise null.
      */
+    @Override
     public Friends_Of_Lancaster getFriendById(int friendId) {
         String sql = "SELECT FriendID, Name, Email, PhoneNumber FROM Friends_Of_Lancaster WHERE FriendID = ?";
         Friends_Of_Lancaster friend = null;
@@ -0,0 +1,199 @@
+package com.teamoneboxoffice.services.implementations.DAOs;
+
+import com.teamoneboxoffice.entities.SeatHold;
+import com.teamoneboxoffice.interfaces.DAOs.ISeatHoldDAO;
+import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for the Seat_Holds table (see sql/seat_holds.sql).
+ * The table's primary key is the performance plus the seat, so the database itself
+ * refuses a second hold on a seat, whichever terminal it comes from.
+ */
+public class SeatHoldDAO implements ISeatHoldDAO {
+    private final Database db;
+
+    /**
+     * Constructs a new SeatHoldDAO.
+     */
+    public SeatHoldDAO() {
+        this(new Database());
+    }
+
+    /**
+     * Creates a SeatHoldDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public SeatHoldDAO(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Deletes any expired holds on the requested seats, then inserts the new rows in one
+     * transaction. A duplicate key means another terminal holds one of the seats, and the
+     * whole hold is rolled back.
+     *
+     * @param holds The seat rows of the hold.
+     * @param now   The current time.
+     * @return true if every seat was held.
+     */
+    @Override
+    public boolean insertHolds(List<SeatHold> holds, Instant now) {
+        if (holds.isEmpty()) {
+            return false;
+        }
+        String reclaimSql = "DELETE FROM Seat_Holds WHERE Event_ID = ? AND Event_Date = ? AND Event_Time = ? " +
+                "AND Seat_ID = ? AND Expires_At <= ?";
+        String insertSql = "INSERT INTO Seat_Holds (Hold_ID, Event_ID, Event_Date, Event_Time, Seat_ID, Held_By, Expires_At) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        Connection conn = null;
+        try {
+            conn = db.getConnection();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement reclaim = conn.prepareStatement(reclaimSql);
+                 PreparedStatement insert = conn.prepareStatement(insertSql)) {
+                for (SeatHold hold : holds) {
+                    reclaim.setString(1, hold.getEventID());
+                    reclaim.setDate(2, java.sql.Date.valueOf(hold.getEventDate()));
+                    reclaim.setString(3, hold.getEventTime());
+                    reclaim.setString(4, hold.getSeatID());
+                    reclaim.setTimestamp(5, Timestamp.from(now));
+                    reclaim.addBatch();
+
+                    insert.setString(1, hold.getHoldID());
+                    insert.setString(2, hold.getEventID());
+                    insert.setDate(3, java.sql.Date.valueOf(hold.getEventDate()));
+                    insert.setString(4, hold.getEventTime());
+                    insert.setString(5, hold.getSeatID());
+                    insert.setString(6, hold.getHeldBy());
+                    insert.setTimestamp(7, Timestamp.from(hold.getExpiresAt()));
+                    insert.addBatch();
+                }
+                reclaim.executeBatch();
+                insert.executeBatch();
+            }
+
+            conn.commit();
+            return true;
+
+        } catch (SQLException e) {
+            if (e instanceof SQLIntegrityConstraintViolationException
+                    || e.getCause() instanceof SQLIntegrityConstraintViolationException) {
+                System.out.println("Seat hold refused, a seat is already held: " + e.getMessage());
+            } else {
+                System.err.println("Error inserting seat hold: " + e.getMessage());
+                e.printStackTrace();
+            }
+            try { if (conn != null) conn.rollback(); }
+            catch (SQLException ex) { System.err.println("Error rolling back seat hold: " + ex.getMessage()); }
+            return false;
+
+        } finally {
+            try { if (conn != null) { conn.setAutoCommit(true); conn.close(); } }
+            catch (SQLException e) { System.err.println("Error closing database connection: " + e.getMessage()); }
+        }
+    }
+
+    @Override
+    public boolean extendHold(String holdId, Instant expiresAt) {
+        String sql = "UPDATE Seat_Holds SET Expires_At = ? WHERE Hold_ID = ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setTimestamp(1, Timestamp.from(expiresAt));
+            stmt.setString(2, holdId);
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error extending seat hold " + holdId + ": " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean releaseHold(String holdId) {
+        String sql = "DELETE FROM Seat_Holds WHERE Hold_ID = ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, holdId);
+            return stmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error releasing seat hold " + holdId + ": " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    @Override
+    public List<SeatHold> getActiveHolds(String eventId, LocalDate eventDate, String eventTime, Instant now) {
+        List<SeatHold> holds = new ArrayList<>();
+        String sql = "SELECT Hold_ID, Event_ID, Event_Date, Event_Time, Seat_ID, Held_By, Expires_At " +
+                "FROM Seat_Holds WHERE Event_ID = ? AND Event_Date = ? AND Event_Time = ? AND Expires_At > ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, eventId);
+            stmt.setDate(2, java.sql.Date.valueOf(eventDate));
+            stmt.setString(3, eventTime);
+            stmt.setTimestamp(4, Timestamp.from(now));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    holds.add(mapResultSetToSeatHold(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving seat holds for event " + eventId + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+        return holds;
+    }
+
+    @Override
+    public int deleteExpiredHolds(Instant now) {
+        String sql = "DELETE FROM Seat_Holds WHERE Expires_At <= ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setTimestamp(1, Timestamp.from(now));
+            return stmt.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting expired seat holds: " + e.getMessage());
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    private SeatHold mapResultSetToSeatHold(ResultSet rs) throws SQLException {
+        return new SeatHold(
+                rs.getString("Hold_ID"),
+                rs.getString("Event_ID"),
+                rs.getDate("Event_Date").toLocalDate(),
+                rs.getString("Event_Time"),
+                rs.getString("Seat_ID"),
+                rs.getString("Held_By"),
+                rs.getTimestamp("Expires_At").toInstant()
+        );
+    }
+}
@@ -2,17 +2,28 @@ package com.teamoneboxoffice.services.implementations.DAOs;
 
 
 import com.teamoneboxoffice.entities.Ticket;
+import com.teamoneboxoffice.interfaces.DAOs.ITicketDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
-public class TicketDAO {
+public class TicketDAO implements ITicketDAO {
     private final Database db;
 
     public TicketDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a TicketDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public TicketDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -21,6 +32,7 @@ public class TicketDAO {
      * @param ticket The ticket to be created.
      * @return true if the ticket was created successfully, false otherwise.
      */
+    @Override
     public boolean create(Ticket ticket) {
         String sql = "INSERT INTO Ticket (Ticket_ID, Seat_Number, Row_Number, Hall, " +
                 "Ticket_Type, Eligible_For_Discount, Wheelchair, Price, Priority_Status, Customer_ID) " +
@@ -55,6 +67,7 @@ public class TicketDAO {
      * @param ticketId The ID of the ticket to retrieve.
      * @return The ticket with the specified ID, or null if not found.
      */
+    @Override
     public Ticket getById(String ticketId) {
         String sql = "SELECT * FROM Ticket WHERE Ticket_ID = ?";
 
@@ -81,6 +94,7 @@ public class TicketDAO {
      * @param ticket The ticket to be updated.
      * @return true if the ticket was updated successfully, false otherwise.
      */
+    @Override
     public boolean update(Ticket ticket) {
         String sql = "UPDATE Ticket SET Seat_Number = ?, Row_Number = ?, Hall = ?, " +
                 "Ticket_Type = ?, Eligible_For_Discount = ?, Wheelchair = ?, " +
@@ -116,6 +130,7 @@ public class TicketDAO {
      * @param ticketId The ID of the ticket to delete.
      * @return true if the ticket and associated booked seats were successfully deleted, false otherwise.
      */
+    @Override
     public boolean delete(String ticketId) {
         Connection conn = null;
         PreparedStatement deleteBookedSeatsStmt = null;
@@ -181,6 +196,7 @@ public class TicketDAO {
      *
      * @return A list of all tickets.
      */
+    @Override
     public List<Ticket> getAll() {
         List<Ticket> tickets = new ArrayList<>();
         String sql = "SELECT * FROM Ticket";
@@ -200,12 +216,75 @@ public class TicketDAO {
         return tickets;
     }
 
+    /**
+     * Streams every ticket to the action in Ticket_ID order. Rows are read from the server as
+     * the action takes them, so only the current ticket is held in memory.
+     *
+     * @param action Called with each ticket.
+     * @return true if every ticket was read, false if an error stopped the read part way.
+     */
+    @Override
+    public boolean forEach(Consumer<Ticket> action) {
+        String sql = "SELECT * FROM Ticket ORDER BY Ticket_ID";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = Database.prepareStreaming(conn, sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(mapResultSetToTicket(rs));
+            }
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error streaming tickets: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the page of tickets after the given Ticket_ID. The query seeks to it through the
+     * primary key, so a late page is as cheap as the first, unlike an OFFSET.
+     *
+     * @param afterTicketId The Ticket_ID of the last ticket on the previous page, or null for the first page.
+     * @param limit The most tickets to return.
+     * @return Up to limit tickets in Ticket_ID order.
+     */
+    @Override
+    public List<Ticket> getPage(String afterTicketId, int limit) {
+        List<Ticket> tickets = new ArrayList<>();
+        String sql = afterTicketId == null
+                ? "SELECT * FROM Ticket ORDER BY Ticket_ID LIMIT ?"
+                : "SELECT * FROM Ticket WHERE Ticket_ID > ? ORDER BY Ticket_ID LIMIT ?";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            if (afterTicketId != null) {
+                stmt.setString(index++, afterTicketId);
+            }
+            stmt.setInt(index, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tickets.add(mapResultSetToTicket(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of tickets: " + e.getMessage());
+        }
+
+        return tickets;
+    }
+
     /**
      * Retrieves tickets by customer ID from the database.
      *
      * @param customerId The ID of the customer whose tickets to retrieve.
      * @return A list of tickets associated with the specified customer ID.
      */
+    @Override
     public List<Ticket> getByCustomerId(String customerId) {
         List<Ticket> tickets = new ArrayList<>();
         String sql = "SELECT * FROM Ticket WHERE Customer_ID = ?";
@@ -234,6 +313,7 @@ public class TicketDAO {
      * @param hall The hall of the tickets to retrieve.
      * @return A list of tickets associated with the specified hall.
      */
+    @Override
     public List<Ticket> getByHall(String hall) {
         List<Ticket> tickets = new ArrayList<>();
         String sql = "SELECT * FROM Ticket WHERE Hall = ?";
@@ -261,6 +341,7 @@ public class TicketDAO {
      * @param ticketType The type of the tickets to retrieve.
      * @return A list of tickets associated with the specified ticket type.
      */
+    @Override
     public List<Ticket> getByTicketType(String ticketType) {
         List<Ticket> tickets = new ArrayList<>();
         String sql = "SELECT * FROM Ticket WHERE Ticket_Type = ?";
@@ -300,7 +381,9 @@ public class TicketDAO {
         double price = rs.getDouble("Price");
         String priorityStatus = rs.getString("Priority_Status");
 
-        return new Ticket(ticketID, seatNumber, rowNumber, hall, ticketType,
+        Ticket ticket = new Ticket(ticketID, seatNumber, rowNumber, hall, ticketType,
                 eligibleForDiscount, wheelchair, price, priorityStatus);
+        ticket.setCustomerID(rs.getString("Customer_ID"));
+        return ticket;
     }
 }
\ No newline at end of file
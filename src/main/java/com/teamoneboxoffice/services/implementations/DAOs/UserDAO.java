@@ -1,17 +1,27 @@
 package com.teamoneboxoffice.services.implementations.DAOs;
 
 import com.teamoneboxoffice.entities.User;
+import com.teamoneboxoffice.interfaces.DAOs.IUserDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
-public class UserDAO {
+public class UserDAO implements IUserDAO {
     private final Database db;
 
     public UserDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a UserDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public UserDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -20,6 +30,7 @@ public class UserDAO {
      * @param user The user to be created.
      * @return true if the user was created successfully, false otherwise.
      */
+    @Override
     public boolean create(User user) {
         String sql = "INSERT INTO User (User_ID, User_Name, Password, Role, Is_Active) " +
                 "VALUES (?, ?, ?, ?, ?)";
@@ -48,6 +59,7 @@ public class UserDAO {
      * @param userId The ID of the user to retrieve.
      * @return The user with the specified ID, or null if not found.
      */
+    @Override
     public User getById(long userId) {
         String sql = "SELECT * FROM User WHERE User_ID = ?";
 
@@ -74,6 +86,7 @@ public class UserDAO {
      * @param username The username of the user to retrieve.
      * @return The user with the specified username, or null if not found.
      */
+    @Override
     public User getByUsername(String username) {
         String sql = "SELECT * FROM User WHERE User_Name = ?";
 
@@ -100,6 +113,7 @@ public class UserDAO {
      * @param user The user with updated information.
      * @return true if the user was updated successfully, false otherwise.
      */
+    @Override
     public boolean update(User user) {
         String sql = "UPDATE User SET User_Name = ?, Password = ?, Role = ?, Is_Active = ? " +
                 "WHERE User_ID = ?";
@@ -129,6 +143,7 @@ public class UserDAO {
      * @param isActive The new active status to set (true for active, false for inactive)
      * @return boolean Returns true if the update was successful, false if it failed
      */
+    @Override
     public boolean updateActiveStatus(long userId, boolean isActive) {
         String sql = "UPDATE User SET Is_Active = ? WHERE User_ID = ?";
 
@@ -153,6 +168,7 @@ public class UserDAO {
      * @param userId The ID of the user to delete.
      * @return true if the user was deleted successfully, false otherwise.
      */
+    @Override
     public boolean delete(long userId) {
         String sql = "DELETE FROM User WHERE User_ID = ?";
 
@@ -174,6 +190,7 @@ public class UserDAO {
      *
      * @return A list of all users.
      */
+    @Override
     public List<User> getAll() {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM User";
@@ -199,6 +216,7 @@ public class UserDAO {
      * @param role The role of the users to retrieve.
      * @return A list of users with the specified role.
      */
+    @Override
     public List<User> getByRole(String role) {
         List<User> users = new ArrayList<>();
         String sql = "SELECT * FROM User WHERE Role = ?";
@@ -227,6 +245,7 @@ public class UserDAO {
      * @param password The password of the user.
      * @return The authenticated user, or null if authentication failed.
      */
+    @Override
     public User authenticate(String username, String password) {
         String sql = "SELECT * FROM User WHERE User_Name = ? AND Password = ? AND Is_Active = true";
 
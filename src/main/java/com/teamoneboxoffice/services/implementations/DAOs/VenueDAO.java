@@ -2,17 +2,27 @@ package com.teamoneboxoffice.services.implementations.DAOs;
 
 
 import com.teamoneboxoffice.entities.Venue;
+import com.teamoneboxoffice.interfaces.DAOs.IVenueDAO;
 import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
-public class VenueDAO {
+public class VenueDAO implements IVenueDAO {
     private final Database db;
 
     public VenueDAO() {
-        this.db = new Database();
+        this(new Database());
+    }
+
+    /**
+     * Creates a VenueDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public VenueDAO(Database db) {
+        this.db = db;
     }
 
     /**
@@ -21,6 +31,7 @@ public class VenueDAO {
      * @param venue The venue to be created.
      * @return The ID of the created venue, or -1 if the creation failed.
      */
+    @Override
     public int create(Venue venue) {
         String sql = "INSERT INTO Venue (Venue_Name, Venue_In_Use, Venue_Capacity, Is_Meeting_Room) " +
                 "VALUES (?, ?, ?, ?)";
@@ -58,6 +69,7 @@ public class VenueDAO {
      * @param venueId The ID of the venue to retrieve.
      * @return The venue with the specified ID, or null if not found.
      */
+    @Override
     public Venue getById(int venueId) {
         String sql = "SELECT * FROM Venue WHERE Venue_ID = ?";
 
@@ -86,6 +98,7 @@ public class VenueDAO {
      * @return true if the update was successful, false otherwise
      * @throws SQLException if a database access error occurs
      */
+    @Override
     public boolean update(Venue venue, int venueId) {
         String sql = "UPDATE Venue SET Venue_Name = ?, Venue_In_Use = ?, " +
                 "Venue_Capacity = ?, Is_Meeting_Room = ? WHERE Venue_ID = ?";
@@ -114,6 +127,7 @@ public class VenueDAO {
      * @param venueId The ID of the venue to delete.
      * @return true if the deletion was successful, false otherwise.
      */
+    @Override
     public boolean delete(int venueId) {
         String sql = "DELETE FROM Venue WHERE Venue_ID = ?";
 
@@ -135,6 +149,7 @@ public class VenueDAO {
      *
      * @return A list of all venues.
      */
+    @Override
     public List<Venue> getAll() {
         List<Venue> venues = new ArrayList<>();
         String sql = "SELECT * FROM Venue";
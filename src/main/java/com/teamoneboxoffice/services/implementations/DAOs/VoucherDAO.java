@@ -0,0 +1,162 @@
+package com.teamoneboxoffice.services.implementations.DAOs;
+
+import com.teamoneboxoffice.entities.VoucherBatch;
+import com.teamoneboxoffice.interfaces.DAOs.IVoucherDAO;
+import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for voucher batches (see sql/voucher_batches.sql).
+ * Redemptions are written by {@link BookingCommitDAO} as inserts into a log keyed by code,
+ * so redeeming never updates or locks a shared row; this DAO only reads the log.
+ */
+public class VoucherDAO implements IVoucherDAO {
+    // Codes sent per executeBatch() when a batch is stored.
+    private static final int INSERT_CHUNK = 1000;
+
+    private final Database db;
+
+    /**
+     * Creates a VoucherDAO that uses the given (shared) Database.
+     *
+     * @param db The Database to borrow connections from.
+     */
+    public VoucherDAO(Database db) {
+        this.db = db;
+    }
+
+    /**
+     * Inserts the batch row, then its codes in chunks of {@value #INSERT_CHUNK} statements,
+     * in one transaction.
+     */
+    @Override
+    public void insertBatch(VoucherBatch batch, List<String> codes) throws SQLException {
+        String batchSql = "INSERT INTO Voucher_Batch (Batch_ID, Percentage, Reason, Valid_Until, Size, Created_At) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
+        String codeSql = "INSERT INTO Voucher (Code, Batch_ID) VALUES (?, ?)";
+
+        Connection conn = null;
+        try {
+            conn = db.getConnection();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement batchStmt = conn.prepareStatement(batchSql);
+                 PreparedStatement codeStmt = conn.prepareStatement(codeSql)) {
+                batchStmt.setString(1, batch.getBatchID());
+                batchStmt.setInt(2, batch.getPercentage());
+                batchStmt.setString(3, batch.getReason());
+                batchStmt.setTimestamp(4, batch.getValidUntil() == null ? null : Timestamp.valueOf(batch.getValidUntil()));
+                batchStmt.setInt(5, batch.getSize());
+                batchStmt.setTimestamp(6, Timestamp.from(batch.getCreatedAt()));
+                batchStmt.executeUpdate();
+
+                int pending = 0;
+                for (String code : codes) {
+                    codeStmt.setString(1, code);
+                    codeStmt.setString(2, batch.getBatchID());
+                    codeStmt.addBatch();
+                    if (++pending == INSERT_CHUNK) {
+                        codeStmt.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    codeStmt.executeBatch();
+                }
+            }
+
+            conn.commit();
+            System.out.println("Voucher batch " + batch.getBatchID() + " stored with " + codes.size() + " codes");
+
+        } catch (SQLException e) {
+            System.err.println("Error storing voucher batch: " + e.getMessage());
+            try { if (conn != null) conn.rollback(); }
+            catch (SQLException ex) { System.err.println("Error rolling back voucher batch: " + ex.getMessage()); }
+            throw e;
+
+        } finally {
+            try { if (conn != null) { conn.setAutoCommit(true); conn.close(); } }
+            catch (SQLException e) { System.err.println("Error closing database connection: " + e.getMessage()); }
+        }
+    }
+
+    @Override
+    public List<VoucherBatch> getAllBatches() throws SQLException {
+        String sql = "SELECT Batch_ID, Percentage, Reason, Valid_Until, Size, Created_At FROM Voucher_Batch";
+        List<VoucherBatch> batches = new ArrayList<>();
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                Timestamp validUntil = rs.getTimestamp("Valid_Until");
+                batches.add(new VoucherBatch(
+                        rs.getString("Batch_ID"),
+                        rs.getInt("Percentage"),
+                        rs.getString("Reason"),
+                        validUntil == null ? null : validUntil.toLocalDateTime(),
+                        rs.getInt("Size"),
+                        rs.getTimestamp("Created_At").toInstant()));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving voucher batches: " + e.getMessage());
+            throw e;
+        }
+        return batches;
+    }
+
+    @Override
+    public List<String> getCodes(String batchId) throws SQLException {
+        String sql = "SELECT Code FROM Voucher WHERE Batch_ID = ?";
+        List<String> codes = new ArrayList<>();
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, batchId);
+            stmt.setFetchSize(INSERT_CHUNK);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    codes.add(rs.getString(1));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving voucher codes: " + e.getMessage());
+            throw e;
+        }
+        return codes;
+    }
+
+    /**
+     * Reads the codes joined to the redemption log, so a reload costs one query however
+     * many batches there are.
+     */
+    @Override
+    public void forEachCode(CodeVisitor action) throws SQLException {
+        String sql = "SELECT v.Code, v.Batch_ID, r.Code IS NOT NULL AS Redeemed " +
+                "FROM Voucher v LEFT JOIN Voucher_Redemption r ON r.Code = v.Code";
+
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = Database.prepareStreaming(conn, sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(rs.getString(1), rs.getString(2), rs.getBoolean(3));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving voucher codes: " + e.getMessage());
+            throw e;
+        }
+    }
+}
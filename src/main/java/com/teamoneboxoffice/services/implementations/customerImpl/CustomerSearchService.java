@@ -0,0 +1,396 @@
+package com.teamoneboxoffice.services.implementations.customerImpl;
+
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.interfaces.DAOs.ICustomerDAO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of customers for the returning-customer lookup on the booking screen.
+ *
+ * Customers are indexed by normalised email (trimmed, lower case), by normalised phone
+ * number (digits only, with a leading +44 or 0044 written as 0) and by each word of their
+ * name, so a clerk can find someone by email, by phone or by typing the start of their
+ * name. The index is filled from {@link ICustomerDAO#forEach} by {@link #warm()}, which
+ * pages call in the background when they open, and refreshed by it once it is older than
+ * the refresh interval; a refresh only updates the customers that were added, changed or
+ * removed. Customers saved on this terminal are added straight away with {@link #put}.
+ *
+ * Lookups never refresh the index themselves, so name search is cheap enough to run on
+ * the FX thread as the clerk types. An email that is not in the index is looked up in the
+ * database, as the customer may have been added on another terminal since the last refresh.
+ *
+ * Lookups return copies, so changing a returned customer does not change the index.
+ */
+public class CustomerSearchService {
+    private static final long DEFAULT_REFRESH_MILLIS = 60_000;
+
+    private final ICustomerDAO customerDAO;
+    private final long refreshMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held for a whole refresh, so two pages warming at once do not both stream the table
+    private final Object refreshLock = new Object();
+
+    private final Map<String, Customer> byId = new HashMap<>();
+    private final Map<String, String> idByEmail = new HashMap<>();
+    private final Map<String, String> idByPhone = new HashMap<>();
+    private final NavigableMap<String, Set<String>> idsByNameWord = new TreeMap<>();
+    private volatile long loadedAt = -1;
+    // Customers put while a refresh streams the table; it may not have read them, so it must not remove them
+    private Set<String> putDuringRefresh;
+
+    public CustomerSearchService(ICustomerDAO customerDAO) {
+        this(customerDAO, DEFAULT_REFRESH_MILLIS);
+    }
+
+    /**
+     * @param customerDAO   The DAO customers are read from.
+     * @param refreshMillis How long the index is used before it is refreshed.
+     */
+    public CustomerSearchService(ICustomerDAO customerDAO, long refreshMillis) {
+        this.customerDAO = customerDAO;
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * @return true once the index has been filled.
+     */
+    public boolean isWarm() {
+        return loadedAt >= 0;
+    }
+
+    /**
+     * Fills the index, or refreshes it if it is stale. Pages call this in the background
+     * when they open so that later lookups are answered from memory.
+     */
+    public void warm() {
+        if (!isWarm() || System.currentTimeMillis() - loadedAt > refreshMillis) {
+            refresh();
+        }
+    }
+
+    /**
+     * Re-reads every customer and applies the differences to the index. Customers are
+     * streamed from the DAO, so only the index itself grows with the table. If the read
+     * stops part way, nobody is removed, since the customers not read may still exist.
+     * Customers {@link #put} while the refresh runs are kept, as the stream may have
+     * passed them before they were saved.
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            lock.writeLock().lock();
+            try {
+                putDuringRefresh = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                refreshFromDatabase();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    putDuringRefresh = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private void refreshFromDatabase() {
+        Set<String> seen = new HashSet<>();
+        int[] changed = {0};
+        boolean complete = customerDAO.forEach(customer -> {
+            seen.add(customer.getCustomerID());
+            lock.writeLock().lock();
+            try {
+                if (!sameCustomer(byId.get(customer.getCustomerID()), customer)) {
+                    index(customer);
+                    changed[0]++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        if (!complete) {
+            System.err.println("Customer index refresh stopped early: " + changed[0] + " changed, none removed");
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<String> removed = new ArrayList<>();
+            for (String customerId : byId.keySet()) {
+                if (!seen.contains(customerId) && !putDuringRefresh.contains(customerId)) {
+                    removed.add(customerId);
+                }
+            }
+            for (String customerId : removed) {
+                unindex(byId.remove(customerId));
+            }
+            loadedAt = System.currentTimeMillis();
+            System.out.println("Customer index refreshed: " + changed[0] + " changed, " + removed.size()
+                    + " removed, " + byId.size() + " total");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or updates one customer, e.g. after a booking saved a new customer.
+     *
+     * @param customer The customer.
+     */
+    public void put(Customer customer) {
+        lock.writeLock().lock();
+        try {
+            index(customer);
+            notePut(customer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a customer unless one with the same ID or email address is already indexed,
+     * e.g. after a booking that saves the customer only if they are new.
+     *
+     * @param customer The customer.
+     */
+    public void putIfAbsent(Customer customer) {
+        lock.writeLock().lock();
+        try {
+            String email = normalizeEmail(customer.getEmailAddress());
+            if (!byId.containsKey(customer.getCustomerID()) && (email == null || !idByEmail.containsKey(email))) {
+                index(customer);
+                notePut(customer);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds a customer by email address, ignoring case and surrounding spaces. Reads the
+     * database if the address is not in the index.
+     *
+     * @param email The email address.
+     * @return The customer, or null if not found.
+     */
+    public Customer findByEmail(String email) {
+        String key = normalizeEmail(email);
+        if (key == null) {
+            return null;
+        }
+        Customer customer = copy(lookup(idByEmail, key));
+        if (customer == null) {
+            customer = customerDAO.getByEmail(email.trim());
+            if (customer != null && isWarm()) {
+                put(customer);
+            }
+        }
+        return customer;
+    }
+
+    /**
+     * Finds a customer by phone number, ignoring spaces, punctuation and a +44 prefix.
+     *
+     * @param phone The phone number.
+     * @return The customer, or null if not found or the index is not filled yet.
+     */
+    public Customer findByPhone(String phone) {
+        String key = normalizePhone(phone);
+        if (key == null) {
+            return null;
+        }
+        return copy(lookup(idByPhone, key));
+    }
+
+    /**
+     * Finds customers whose name has a word starting with each word typed, so "jo sm"
+     * finds "John Smith" and "Smith, Joanna".
+     *
+     * @param typed The start of the name, as typed so far.
+     * @param limit The most customers to return.
+     * @return The matching customers, sorted by name; empty if nothing was typed or the
+     *         index is not filled yet.
+     */
+    public List<Customer> searchByName(String typed, int limit) {
+        List<String> prefixes = nameWords(typed);
+        if (prefixes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            Set<String> matches = null;
+            for (String prefix : prefixes) {
+                Set<String> ids = new HashSet<>();
+                for (Set<String> wordIds : idsByNameWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                    ids.addAll(wordIds);
+                }
+                if (matches == null) {
+                    matches = ids;
+                } else {
+                    matches.retainAll(ids);
+                }
+                if (matches.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+            List<Customer> result = new ArrayList<>();
+            for (String customerId : matches) {
+                result.add(byId.get(customerId));
+            }
+            result.sort((a, b) -> String.CASE_INSENSITIVE_ORDER.compare(
+                    Objects.toString(a.getName(), ""), Objects.toString(b.getName(), "")));
+            List<Customer> copies = new ArrayList<>(Math.min(limit, result.size()));
+            for (int i = 0; i < result.size() && i < limit; i++) {
+                copies.add(copy(result.get(i)));
+            }
+            return copies;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param email An email address.
+     * @return The address trimmed and in lower case, or null if it is blank.
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param phone A phone number.
+     * @return Its digits, with an international +44 or 0044 prefix written as 0, or null if
+     *         it has no digits.
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.length() == 0) {
+            return null;
+        }
+        String number = digits.toString();
+        if (number.startsWith("0044")) {
+            return "0" + number.substring(4);
+        }
+        if (number.startsWith("44") && phone.trim().startsWith("+")) {
+            return "0" + number.substring(2);
+        }
+        return number;
+    }
+
+    // --- Index maintenance (callers hold the write lock) ---
+
+    private void index(Customer customer) {
+        Customer previous = byId.put(customer.getCustomerID(), copy(customer));
+        unindex(previous);
+        String customerId = customer.getCustomerID();
+        String email = normalizeEmail(customer.getEmailAddress());
+        if (email != null) {
+            idByEmail.put(email, customerId);
+        }
+        String phone = normalizePhone(customer.getPhoneNumber());
+        if (phone != null) {
+            idByPhone.put(phone, customerId);
+        }
+        for (String word : nameWords(customer.getName())) {
+            idsByNameWord.computeIfAbsent(word, w -> new LinkedHashSet<>()).add(customerId);
+        }
+    }
+
+    private void notePut(Customer customer) {
+        if (putDuringRefresh != null) {
+            putDuringRefresh.add(customer.getCustomerID());
+        }
+    }
+
+    private void unindex(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        String customerId = customer.getCustomerID();
+        String email = normalizeEmail(customer.getEmailAddress());
+        if (email != null) {
+            idByEmail.remove(email, customerId);
+        }
+        String phone = normalizePhone(customer.getPhoneNumber());
+        if (phone != null) {
+            idByPhone.remove(phone, customerId);
+        }
+        for (String word : nameWords(customer.getName())) {
+            Set<String> ids = idsByNameWord.get(word);
+            if (ids != null && ids.remove(customerId) && ids.isEmpty()) {
+                idsByNameWord.remove(word);
+            }
+        }
+    }
+
+    private Customer lookup(Map<String, String> index, String key) {
+        lock.readLock().lock();
+        try {
+            String customerId = index.get(key);
+            return customerId == null ? null : byId.get(customerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean sameCustomer(Customer indexed, Customer loaded) {
+        return indexed != null
+                && indexed.isOptIN() == loaded.isOptIN()
+                && Objects.equals(indexed.getPaymentType(), loaded.getPaymentType())
+                && Objects.equals(indexed.getGender(), loaded.getGender())
+                && Objects.equals(indexed.getPostalCode(), loaded.getPostalCode())
+                && Objects.equals(indexed.getEmailAddress(), loaded.getEmailAddress())
+                && Objects.equals(indexed.getPhoneNumber(), loaded.getPhoneNumber())
+                && Objects.equals(indexed.getName(), loaded.getName());
+    }
+
+    private static List<String> nameWords(String name) {
+        List<String> words = new ArrayList<>();
+        if (name == null) {
+            return words;
+        }
+        for (String word : name.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}']+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Customer copy(Customer customer) {
+        if (customer == null) {
+            return null;
+        }
+        Customer copy = new Customer(customer.getCustomerID(), customer.isOptIN(), customer.getPaymentType(),
+                customer.getGender(), customer.getPostalCode(), customer.getEmailAddress(),
+                customer.getPhoneNumber());
+        copy.setName(customer.getName());
+        return copy;
+    }
+}
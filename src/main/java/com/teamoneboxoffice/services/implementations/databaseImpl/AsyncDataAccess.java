@@ -0,0 +1,47 @@
+package com.teamoneboxoffice.services.implementations.databaseImpl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs data access off the JavaFX Application Thread. Every call gets its own virtual
+ * thread, so a page can start several queries at once without sizing a pool, and a
+ * thread blocked on a JDBC round trip costs almost nothing.
+ *
+ * Results come back as {@link CompletableFuture}s completed on the virtual thread; use
+ * {@code PageTasks} to hand them back to the FX thread and drop them when the user leaves
+ * the page.
+ */
+public class AsyncDataAccess {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Runs a query on a new virtual thread.
+     *
+     * @param query The query, typically a DAO call.
+     * @param <T>   The result type.
+     * @return A future completed with the query's result, or exceptionally if it threw.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    /**
+     * Runs an update on a new virtual thread.
+     *
+     * @param update The update, typically a DAO call.
+     * @return A future completed when the update has run.
+     */
+    public CompletableFuture<Void> run(Runnable update) {
+        return CompletableFuture.runAsync(update, executor);
+    }
+
+    /**
+     * Stops accepting work and interrupts running queries. Called once when the application stops.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,390 @@
+package com.teamoneboxoffice.services.implementations.databaseImpl;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * A bounded pool of physical JDBC connections shared by every DAO.
+ *
+ * Connections handed out are proxies: calling {@code close()} on them (as the DAOs do at the
+ * end of every try-with-resources block) returns the physical connection to the pool instead
+ * of tearing down the MySQL session. The pool provides:
+ * <ul>
+ *     <li>a hard upper bound on open connections, with a borrow timeout when exhausted,</li>
+ *     <li>validation-on-borrow for connections that have been idle for a while,</li>
+ *     <li>idle eviction down to a configured minimum,</li>
+ *     <li>optional leak detection for connections held longer than a threshold.</li>
+ * </ul>
+ */
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private static final long HOUSEKEEPING_PERIOD_MILLIS = 5000;
+
+    private final String jdbcUrl;
+    private final Properties connectionProps;
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+    private final long validationIntervalMillis;
+    private final int validationTimeoutSeconds;
+
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new connection pool. No physical connections are opened until
+     * {@link #prefill()} or the first {@link #getConnection()}.
+     *
+     * @param jdbcUrl                      The JDBC URL of the database.
+     * @param connectionProps              Driver properties (user, password, timeouts, SSL...).
+     * @param maxPoolSize                  Maximum number of physical connections.
+     * @param minIdle                      Number of idle connections kept open during eviction.
+     * @param borrowTimeoutMillis          How long a caller waits for a free connection.
+     * @param idleTimeoutMillis            How long a connection may sit idle before it is evicted.
+     * @param leakDetectionThresholdMillis How long a connection may be borrowed before it is reported (0 disables).
+     * @param validationIntervalMillis     Connections idle for less than this are handed out without a ping.
+     * @param validationTimeoutSeconds     Timeout for the validation ping.
+     */
+    public ConnectionPool(String jdbcUrl, Properties connectionProps, int maxPoolSize, int minIdle,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long leakDetectionThresholdMillis,
+                          long validationIntervalMillis, int validationTimeoutSeconds) {
+        if (maxPoolSize <= 0) {
+            throw new IllegalArgumentException("maxPoolSize must be positive");
+        }
+        this.jdbcUrl = jdbcUrl;
+        this.connectionProps = connectionProps;
+        this.maxPoolSize = maxPoolSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, maxPoolSize));
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxPoolSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::runHousekeeping,
+                HOUSEKEEPING_PERIOD_MILLIS, HOUSEKEEPING_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens connections until the pool holds {@code minIdle} idle connections.
+     *
+     * @throws SQLException if a connection cannot be opened.
+     */
+    public void prefill() throws SQLException {
+        while (!closed && idleConnections.size() + activeConnections.size() < minIdle) {
+            idleConnections.offerLast(new PooledConnection(openPhysicalConnection()));
+        }
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new physical connection if none are idle
+     * and the pool is below its maximum size. Blocks up to the borrow timeout when exhausted.
+     *
+     * @return A pooled connection; closing it returns it to the pool.
+     * @throws SQLException if the pool is shut down, the timeout elapses or a connection cannot be opened.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down.");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                        + "ms waiting for a pooled connection (" + activeConnections.size() + "/" + maxPoolSize + " in use).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection.", e);
+        }
+
+        try {
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooled)) {
+                    break;
+                }
+                discard(pooled);
+            }
+            if (pooled == null) {
+                pooled = new PooledConnection(openPhysicalConnection());
+            }
+            pooled.lease(leakDetectionThresholdMillis > 0);
+            activeConnections.add(pooled);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Credentials are fixed when the pool is created, so this behaves like {@link #getConnection()}.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Closes every idle connection and stops the housekeeper. Connections that are still
+     * borrowed are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            discard(pooled);
+        }
+        System.out.println("Connection pool shut down.");
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getActiveCount() {
+        return activeConnections.size();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    private Connection openPhysicalConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(jdbcUrl, connectionProps);
+        System.out.println("Database connection established successfully (pool: "
+                + (activeConnections.size() + idleConnections.size() + 1) + "/" + maxPoolSize + ").");
+        return connection;
+    }
+
+    /**
+     * Validation-on-borrow: recently returned connections are trusted, older ones are pinged.
+     */
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            if (pooled.physical.isClosed()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - pooled.lastReturnedAt < validationIntervalMillis) {
+                return true;
+            }
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called when a borrowed handle is closed. Resets transactional state and puts the
+     * physical connection back at the head of the idle deque, or discards it if it is broken.
+     */
+    private void release(PooledConnection pooled) {
+        activeConnections.remove(pooled);
+        try {
+            boolean healthy = !pooled.physical.isClosed();
+            if (healthy && !pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            if (healthy && !closed) {
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idleConnections.offerFirst(pooled);
+            } else {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            System.err.println("Discarding broken pooled connection: " + e.getMessage());
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts connections idle for longer than the idle timeout (keeping {@code minIdle})
+     * and reports connections borrowed for longer than the leak detection threshold.
+     */
+    private void runHousekeeping() {
+        long now = System.currentTimeMillis();
+
+        for (PooledConnection pooled : idleConnections) {
+            if (idleConnections.size() <= minIdle) {
+                break;
+            }
+            if (now - pooled.lastReturnedAt > idleTimeoutMillis && idleConnections.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+
+        if (leakDetectionThresholdMillis > 0) {
+            for (PooledConnection pooled : activeConnections) {
+                if (!pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdMillis) {
+                    pooled.leakReported = true;
+                    System.err.println("Possible connection leak: connection borrowed "
+                            + (now - pooled.borrowedAt) + "ms ago has not been returned to the pool.");
+                    if (pooled.borrowSite != null) {
+                        pooled.borrowSite.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+
+    // --- DataSource boilerplate ---
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("ConnectionPool does not use java.util.logging.");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("ConnectionPool is not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A physical connection plus the bookkeeping the pool needs about its current lease.
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private volatile long lastReturnedAt = System.currentTimeMillis();
+        private volatile long borrowedAt;
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        private void lease(boolean recordBorrowSite) {
+            borrowedAt = System.currentTimeMillis();
+            borrowSite = recordBorrowSite ? new Throwable("Connection borrowed here") : null;
+            leakReported = false;
+        }
+
+        /**
+         * Creates the proxy handed to the caller. Each lease gets its own handle so that a
+         * stale reference closed twice cannot return the connection to the pool twice.
+         */
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /**
+     * Routes calls on a borrowed handle to the physical connection, intercepting
+     * {@code close()} and {@code isClosed()}.
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned = false;
+
+        private LeaseHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + (returned ? ", returned" : "") + "]";
+                default:
+                    if (returned) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
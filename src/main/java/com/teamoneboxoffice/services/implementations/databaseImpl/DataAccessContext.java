@@ -0,0 +1,251 @@
+package com.teamoneboxoffice.services.implementations.databaseImpl;
+
+import com.teamoneboxoffice.interfaces.DAOs.IBookingCommitDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IBookingDetailsDAO;
+import com.teamoneboxoffice.interfaces.DAOs.ICustomerDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IDiscountDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IFriendsOfLancasterDAO;
+import com.teamoneboxoffice.interfaces.DAOs.ISeatHoldDAO;
+import com.teamoneboxoffice.interfaces.DAOs.ITicketDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IUserDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IVenueDAO;
+import com.teamoneboxoffice.interfaces.DAOs.IVoucherDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.BookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.BookingDetailsDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.CachingEventDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.CustomerDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.DiscountDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.EventDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.FriendsOfLancasterDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.SeatHoldDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.TicketDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.UserDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.VenueDAO;
+import com.teamoneboxoffice.services.implementations.DAOs.VoucherDAO;
+import com.teamoneboxoffice.services.implementations.customerImpl.CustomerSearchService;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountCatalogue;
+import com.teamoneboxoffice.services.implementations.discountImpl.VoucherRegistry;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryBookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryBookingDetailsDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryCustomerDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryDiscountDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryEventDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryFriendsOfLancasterDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemorySeatHoldDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryTicketDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryUserDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryVenueDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryVoucherDAO;
+import com.teamoneboxoffice.services.implementations.seatingImpl.PerformanceSeatIndex;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatHoldService;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Application-scoped data access layer. Built once at startup (see {@code Main.start}) and
+ * handed to controllers through {@code NavigationUtil.getDataAccessContext()}, so that page
+ * navigation reuses the same Database, connection pool and DAO instances instead of
+ * re-reading config.properties and reloading the driver on every page.
+ *
+ * The DAOs are exposed through their interfaces, so the same context can be backed by
+ * MySQL ({@link #DataAccessContext(Database)}) or by an in-memory store ({@link #inMemory(InMemoryStore)}).
+ */
+public class DataAccessContext {
+    private final Database database;
+
+    private final IBookingCommitDAO bookingCommitDAO;
+    private final IBookingDetailsDAO bookingDetailsDAO;
+    private final ICustomerDAO customerDAO;
+    private final IDiscountDAO discountDAO;
+    private final IEventDAO eventDAO;
+    private final IFriendsOfLancasterDAO friendsOfLancasterDAO;
+    private final ISeatHoldDAO seatHoldDAO;
+    private final ITicketDAO ticketDAO;
+    private final IUserDAO userDAO;
+    private final IVenueDAO venueDAO;
+    private final IVoucherDAO voucherDAO;
+
+    private final PerformanceSeatIndex performanceSeatIndex;
+    private final SeatHoldService seatHoldService;
+    private final CustomerSearchService customerSearchService;
+    private final VoucherRegistry voucherRegistry;
+    private final DiscountCatalogue discountCatalogue;
+    private final AsyncDataAccess asyncDataAccess = new AsyncDataAccess();
+
+    /**
+     * Creates the context and all MySQL DAOs on top of a single Database.
+     *
+     * @param database The Database every DAO will share.
+     */
+    public DataAccessContext(Database database) {
+        this(database,
+                new BookingCommitDAO(database),
+                new BookingDetailsDAO(database),
+                new CustomerDAO(database),
+                new DiscountDAO(database),
+                new CachingEventDAO(new EventDAO(database)),
+                new FriendsOfLancasterDAO(database),
+                new SeatHoldDAO(database),
+                new TicketDAO(database),
+                new UserDAO(database),
+                new VenueDAO(database),
+                new VoucherDAO(database));
+    }
+
+    private DataAccessContext(Database database, IBookingCommitDAO bookingCommitDAO,
+                              IBookingDetailsDAO bookingDetailsDAO, ICustomerDAO customerDAO,
+                              IDiscountDAO discountDAO, IEventDAO eventDAO,
+                              IFriendsOfLancasterDAO friendsOfLancasterDAO, ISeatHoldDAO seatHoldDAO, ITicketDAO ticketDAO,
+                              IUserDAO userDAO, IVenueDAO venueDAO, IVoucherDAO voucherDAO) {
+        this.database = database;
+        this.bookingCommitDAO = bookingCommitDAO;
+        this.bookingDetailsDAO = bookingDetailsDAO;
+        this.customerDAO = customerDAO;
+        this.discountDAO = discountDAO;
+        this.eventDAO = eventDAO;
+        this.friendsOfLancasterDAO = friendsOfLancasterDAO;
+        this.seatHoldDAO = seatHoldDAO;
+        this.ticketDAO = ticketDAO;
+        this.userDAO = userDAO;
+        this.venueDAO = venueDAO;
+        this.voucherDAO = voucherDAO;
+        this.performanceSeatIndex = new PerformanceSeatIndex(eventDAO);
+        this.seatHoldService = new SeatHoldService(seatHoldDAO, eventDAO);
+        this.customerSearchService = new CustomerSearchService(customerDAO);
+        this.voucherRegistry = new VoucherRegistry(voucherDAO);
+        this.discountCatalogue = new DiscountCatalogue(discountDAO, voucherRegistry);
+    }
+
+    /**
+     * Creates a context whose DAOs all work against the given in-memory store.
+     * No database is opened; {@link #getConnection()} is unavailable.
+     *
+     * @param store The store every DAO will share.
+     * @return A context backed by the store.
+     */
+    public static DataAccessContext inMemory(InMemoryStore store) {
+        return new DataAccessContext(null,
+                new InMemoryBookingCommitDAO(store),
+                new InMemoryBookingDetailsDAO(store),
+                new InMemoryCustomerDAO(store),
+                new InMemoryDiscountDAO(store),
+                new InMemoryEventDAO(store),
+                new InMemoryFriendsOfLancasterDAO(store),
+                new InMemorySeatHoldDAO(store),
+                new InMemoryTicketDAO(store),
+                new InMemoryUserDAO(store),
+                new InMemoryVenueDAO(store),
+                new InMemoryVoucherDAO(store));
+    }
+
+    /**
+     * @return true if this context is backed by an in-memory store rather than MySQL.
+     */
+    public boolean isInMemory() {
+        return database == null;
+    }
+
+    /**
+     * Borrows a pooled connection for code that still runs its own SQL.
+     * The caller must close it to return it to the pool.
+     *
+     * @return A pooled connection.
+     * @throws SQLException if no connection is available.
+     */
+    public Connection getConnection() throws SQLException {
+        if (database == null) {
+            throw new SQLException("No database connection: data access is running in memory.");
+        }
+        return database.getConnection();
+    }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public IBookingCommitDAO getBookingCommitDAO() {
+        return bookingCommitDAO;
+    }
+
+    public IBookingDetailsDAO getBookingDetailsDAO() {
+        return bookingDetailsDAO;
+    }
+
+    public ICustomerDAO getCustomerDAO() {
+        return customerDAO;
+    }
+
+    public IDiscountDAO getDiscountDAO() {
+        return discountDAO;
+    }
+
+    public IEventDAO getEventDAO() {
+        return eventDAO;
+    }
+
+    public IFriendsOfLancasterDAO getFriendsOfLancasterDAO() {
+        return friendsOfLancasterDAO;
+    }
+
+    public ISeatHoldDAO getSeatHoldDAO() {
+        return seatHoldDAO;
+    }
+
+    public ITicketDAO getTicketDAO() {
+        return ticketDAO;
+    }
+
+    public IUserDAO getUserDAO() {
+        return userDAO;
+    }
+
+    public IVenueDAO getVenueDAO() {
+        return venueDAO;
+    }
+
+    public IVoucherDAO getVoucherDAO() {
+        return voucherDAO;
+    }
+
+    public PerformanceSeatIndex getPerformanceSeatIndex() {
+        return performanceSeatIndex;
+    }
+
+    public SeatHoldService getSeatHoldService() {
+        return seatHoldService;
+    }
+
+    public CustomerSearchService getCustomerSearchService() {
+        return customerSearchService;
+    }
+
+    public VoucherRegistry getVoucherRegistry() {
+        return voucherRegistry;
+    }
+
+    public DiscountCatalogue getDiscountCatalogue() {
+        return discountCatalogue;
+    }
+
+    /**
+     * @return The executor controllers use to run DAO calls off the FX Application Thread.
+     */
+    public AsyncDataAccess getAsyncDataAccess() {
+        return asyncDataAccess;
+    }
+
+    /**
+     * Stops background work (queries, seat-hold expiry) and releases the connection pool.
+     * Called once when the application stops.
+     */
+    public void shutdown() {
+        asyncDataAccess.shutdown();
+        seatHoldService.shutdown();
+        if (database != null) {
+            database.closeConnection();
+        }
+    }
+}
@@ -4,25 +4,60 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
 
+/**
+ * Entry point for database access. Connections are borrowed from a single bounded
+ * {@link ConnectionPool} shared by every Database instance, so DAOs closing their
+ * connection in try-with-resources simply hand it back to the pool.
+ */
 public class Database {
     private static final String PROPERTIES_FILE = "config.properties";
 
-    private String jdbcUrl;
-    private String username;
-    private String password;
-    private String driverClass;
-    private int connectionTimeout;
-    private boolean useSSL;
-    private boolean allowPublicKeyRetrieval;
-
-    private Connection connection;
+    private static volatile ConnectionPool sharedPool;
+    // Set by the first Database created; every later one reuses its settings and the shared pool.
+    private static boolean initialized;
+
+    private static String jdbcUrl;
+    private static String username;
+    private static String password;
+    private static String driverClass;
+    private static int connectionTimeout;
+    private static boolean useSSL;
+    private static boolean allowPublicKeyRetrieval;
+
+    // Statement reuse, batching and session state caching (MySQL Connector/J)
+    private static boolean cachePrepStmts;
+    private static int prepStmtCacheSize;
+    private static boolean rewriteBatchedStatements;
+    private static boolean useLocalSessionState;
+
+    // Pool settings
+    private static int poolMaxSize;
+    private static int poolMinIdle;
+    private static long poolBorrowTimeout;
+    private static long poolIdleTimeout;
+    private static long poolLeakDetectionThreshold;
+    private static long poolValidationInterval;
+    private static int poolValidationTimeout;
 
     public Database() {
+        initialize();
+    }
+
+    /**
+     * Reads the settings, loads the JDBC driver and opens the pool's minimum number of
+     * connections. Only the first Database created does this; later ones share the result.
+     */
+    private static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
         loadProperties();
 
         try {
@@ -30,8 +65,8 @@ public class Database {
             Class.forName(driverClass);
             System.out.println("JDBC driver loaded successfully: " + driverClass);
 
-            // Establish connection
-            connect();
+            // Create the shared pool and open the minimum number of connections
+            obtainPool().prefill();
         } catch (ClassNotFoundException e) {
             System.err.println("JDBC Driver not found: " + e.getMessage());
         } catch (SQLException e) {
@@ -40,7 +75,7 @@ public class Database {
     }
 
 
-    private void loadProperties() {
+    private static void loadProperties() {
         Properties props = new Properties();
 
         try (InputStream input = new FileInputStream(PROPERTIES_FILE)) {
@@ -53,6 +88,19 @@ public class Database {
             connectionTimeout = Integer.parseInt(props.getProperty("jdbc.connectionTimeout", "30000"));
             useSSL = Boolean.parseBoolean(props.getProperty("jdbc.useSSL", "false"));
             allowPublicKeyRetrieval = Boolean.parseBoolean(props.getProperty("jdbc.allowPublicKeyRetrieval", "true"));
+            cachePrepStmts = Boolean.parseBoolean(props.getProperty("jdbc.cachePrepStmts", "true"));
+            prepStmtCacheSize = Integer.parseInt(props.getProperty("jdbc.prepStmtCacheSize", "64"));
+            rewriteBatchedStatements = Boolean.parseBoolean(props.getProperty("jdbc.rewriteBatchedStatements", "true"));
+            useLocalSessionState = Boolean.parseBoolean(props.getProperty("jdbc.useLocalSessionState", "true"));
+
+            poolMaxSize = Integer.parseInt(props.getProperty("jdbc.pool.maxSize", "10"));
+            poolMinIdle = Integer.parseInt(props.getProperty("jdbc.pool.minIdle", "2"));
+            poolBorrowTimeout = Long.parseLong(props.getProperty("jdbc.pool.borrowTimeout", String.valueOf(connectionTimeout)));
+            poolIdleTimeout = Long.parseLong(props.getProperty("jdbc.pool.idleTimeout", "600000"));
+            // Off unless set: recording where every connection was borrowed costs a stack trace per borrow.
+            poolLeakDetectionThreshold = Long.parseLong(props.getProperty("jdbc.pool.leakDetectionThreshold", "0"));
+            poolValidationInterval = Long.parseLong(props.getProperty("jdbc.pool.validationInterval", "1000"));
+            poolValidationTimeout = Integer.parseInt(props.getProperty("jdbc.pool.validationTimeout", "2"));
 
             System.out.println("Database properties loaded successfully");
             System.out.println("JDBC URL: " + jdbcUrl);
@@ -71,50 +119,120 @@ public class Database {
             connectionTimeout = 30000;
             useSSL = false;
             allowPublicKeyRetrieval = true;
+            cachePrepStmts = true;
+            prepStmtCacheSize = 64;
+            rewriteBatchedStatements = true;
+            useLocalSessionState = true;
+
+            poolMaxSize = 10;
+            poolMinIdle = 2;
+            poolBorrowTimeout = connectionTimeout;
+            poolIdleTimeout = 600000;
+            poolLeakDetectionThreshold = 0;
+            poolValidationInterval = 1000;
+            poolValidationTimeout = 2;
 
             System.out.println("Using default properties instead");
         }
     }
 
 
-    public Connection connect() throws SQLException {
-        if (connection == null || connection.isClosed()) {
+    /**
+     * Returns the pool shared by all Database instances, creating it the first time (or
+     * after it has been shut down).
+     */
+    private static synchronized ConnectionPool obtainPool() {
+        if (sharedPool == null || sharedPool.isClosed()) {
             Properties connectionProps = new Properties();
             connectionProps.setProperty("user", username);
             connectionProps.setProperty("password", password);
             connectionProps.setProperty("connectTimeout", String.valueOf(connectionTimeout));
             connectionProps.setProperty("useSSL", String.valueOf(useSSL));
             connectionProps.setProperty("allowPublicKeyRetrieval", String.valueOf(allowPublicKeyRetrieval));
-
-            connection = DriverManager.getConnection(jdbcUrl, username, password);
-            System.out.println("Database connection established successfully.");
+            // Reuse parsed statements across leases of a pooled connection, send each batch
+            // in one round trip, and skip the server query behind setAutoCommit/getAutoCommit.
+            connectionProps.setProperty("cachePrepStmts", String.valueOf(cachePrepStmts));
+            connectionProps.setProperty("prepStmtCacheSize", String.valueOf(prepStmtCacheSize));
+            connectionProps.setProperty("rewriteBatchedStatements", String.valueOf(rewriteBatchedStatements));
+            connectionProps.setProperty("useLocalSessionState", String.valueOf(useLocalSessionState));
+
+            sharedPool = new ConnectionPool(jdbcUrl, connectionProps,
+                    poolMaxSize, poolMinIdle, poolBorrowTimeout,
+                    poolIdleTimeout, poolLeakDetectionThreshold,
+                    poolValidationInterval, poolValidationTimeout);
+            System.out.println("Connection pool created (max " + poolMaxSize + " connections).");
         }
-        return connection;
+        return sharedPool;
+    }
+
+    /**
+     * Borrows a connection from the shared pool. Callers must close it (ideally with
+     * try-with-resources) to return it to the pool.
+     *
+     * @return A pooled connection.
+     * @throws SQLException if no connection becomes available within the borrow timeout.
+     */
+    public Connection connect() throws SQLException {
+        return getConnection();
     }
 
+    /**
+     * Borrows a connection from the shared pool. Callers must close it (ideally with
+     * try-with-resources) to return it to the pool.
+     *
+     * @return A pooled connection.
+     * @throws SQLException if no connection becomes available within the borrow timeout.
+     */
     public Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
-            connect();
+        ConnectionPool pool = sharedPool;
+        if (pool == null || pool.isClosed()) {
+            pool = obtainPool();
         }
-        return connection;
+        return pool.getConnection();
+    }
+
+    /**
+     * Prepares a forward-only, read-only query whose rows are streamed from the server as
+     * the result set is read, rather than all being held in memory once it executes. The
+     * connection can run nothing else until the result set is closed, so callers should
+     * read it in the same try-with-resources block that borrowed the connection.
+     *
+     * @param conn The connection to prepare the query on.
+     * @param sql  The query.
+     * @return The prepared statement.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    public static PreparedStatement prepareStreaming(Connection conn, String sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        // Connector/J streams row by row when the fetch size is Integer.MIN_VALUE.
+        stmt.setFetchSize(Integer.MIN_VALUE);
+        return stmt;
+    }
+
+    /**
+     * @return The shared pool as a DataSource.
+     */
+    public ConnectionPool getDataSource() {
+        return obtainPool();
     }
 
+    /**
+     * Shuts down the shared connection pool, closing every idle physical connection.
+     * Should only be called when the application exits.
+     */
     public void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+        synchronized (Database.class) {
+            if (sharedPool != null && !sharedPool.isClosed()) {
+                sharedPool.close();
                 System.out.println("Database connection closed.");
             }
-        } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
         }
     }
 
 
     public static void main(String[] args) {
         Database db = new Database();
-        try {
-            Connection conn = db.getConnection();
+        try (Connection conn = db.getConnection()) {
             if (conn != null && !conn.isClosed()) {
                 System.out.println("Connected to the database successfully!");
                 System.out.println("Database product: " + conn.getMetaData().getDatabaseProductName());
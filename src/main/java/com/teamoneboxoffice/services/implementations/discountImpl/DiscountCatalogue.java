@@ -0,0 +1,266 @@
+package com.teamoneboxoffice.services.implementations.discountImpl;
+
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.entities.VoucherBatch;
+import com.teamoneboxoffice.interfaces.DAOs.IDiscountDAO;
+
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of every discount code, compiled into {@link DiscountRule}s.
+ *
+ * The codes are read with one query the first time one is asked for, and re-read when the
+ * copy is older than the refresh interval, so checking a code at the booking screen is a
+ * hash lookup. A code that is not found triggers at most one early re-read per
+ * {@link #MIN_RELOAD_MILLIS} (it may have just been created on another terminal); after that
+ * it is remembered as unknown until the next re-read, so repeated bad codes cost nothing.
+ *
+ * Usage limits are checked against the counts read with the codes plus the uses recorded
+ * on this terminal; the booking commit enforces them across terminals, counting each use
+ * and redeeming each voucher in the same transaction as the booking. Codes that are not discount codes are looked up as single-use
+ * vouchers in the {@link VoucherRegistry}, if there is one.
+ */
+public class DiscountCatalogue {
+    private static final long DEFAULT_REFRESH_MILLIS = 5 * 60_000;
+    private static final long MIN_RELOAD_MILLIS = 30_000;
+
+    private final IDiscountDAO discountDAO;
+    private final VoucherRegistry voucherRegistry;
+    private final long refreshMillis;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private volatile Map<String, DiscountRule> rules;
+    private volatile long loadedAt;
+    private final Map<String, Integer> timesUsed = new ConcurrentHashMap<>();
+    private final Set<String> unknownCodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The codes entered for one booking, sorted out into usable rules and problems.
+     */
+    public static final class Resolution {
+        private final List<DiscountRule> rules;
+        private final List<String> problems;
+
+        private Resolution(List<DiscountRule> rules, List<String> problems) {
+            this.rules = Collections.unmodifiableList(rules);
+            this.problems = Collections.unmodifiableList(problems);
+        }
+
+        /**
+         * @return The usable codes in stacking order, ready for {@link DiscountRule#applyAll}.
+         */
+        public List<DiscountRule> getRules() {
+            return rules;
+        }
+
+        /**
+         * @return One line per code that cannot be used, saying why.
+         */
+        public List<String> getProblems() {
+            return problems;
+        }
+    }
+
+    public DiscountCatalogue(IDiscountDAO discountDAO) {
+        this(discountDAO, null, DEFAULT_REFRESH_MILLIS);
+    }
+
+    public DiscountCatalogue(IDiscountDAO discountDAO, VoucherRegistry voucherRegistry) {
+        this(discountDAO, voucherRegistry, DEFAULT_REFRESH_MILLIS);
+    }
+
+    /**
+     * @param discountDAO     The DAO the codes are read from.
+     * @param voucherRegistry The vouchers to look codes up in when they are not discount codes; may be null.
+     * @param refreshMillis   How long the codes are used before they are re-read.
+     */
+    public DiscountCatalogue(IDiscountDAO discountDAO, VoucherRegistry voucherRegistry, long refreshMillis) {
+        this.discountDAO = discountDAO;
+        this.voucherRegistry = voucherRegistry;
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * Looks a code up.
+     *
+     * @param code The code as entered; case and surrounding spaces are ignored.
+     * @return The code's rule, or null if there is no such discount code or voucher.
+     * @throws SQLException if the codes had to be read and could not be.
+     */
+    public DiscountRule find(String code) throws SQLException {
+        String key = normalize(code);
+        if (key.isEmpty()) {
+            return null;
+        }
+        DiscountRule rule = currentRules().get(key);
+        if (rule != null || unknownCodes.contains(key)) {
+            return rule;
+        }
+        if (voucherRegistry != null) {
+            VoucherBatch batch = voucherRegistry.findBatch(key);
+            if (batch != null) {
+                return new DiscountRule(key, batch, zone);
+            }
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() - loadedAt > MIN_RELOAD_MILLIS) {
+                rule = reload().get(key);
+            }
+            if (rule == null) {
+                unknownCodes.add(key);
+            }
+        }
+        return rule;
+    }
+
+    /**
+     * Resolves the codes entered for a booking. Several codes may be entered, separated
+     * by commas or spaces.
+     *
+     * @param enteredCodes The text of the discount code field.
+     * @param eventId      The event being booked.
+     * @return The usable codes in stacking order, and why the others cannot be used.
+     * @throws SQLException if the codes had to be read and could not be.
+     */
+    public Resolution resolve(String enteredCodes, String eventId) throws SQLException {
+        List<DiscountRule> usable = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        if (enteredCodes == null) {
+            return new Resolution(usable, problems);
+        }
+        Set<String> codes = new LinkedHashSet<>();
+        for (String code : enteredCodes.trim().split("[,\\s]+")) {
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (String code : codes) {
+            DiscountRule rule = find(code);
+            if (rule == null) {
+                problems.add(code + ": The entered discount code is not valid.");
+                continue;
+            }
+            int used = rule.isVoucher()
+                    ? (voucherRegistry.isRedeemed(code) ? 1 : 0)
+                    : timesUsed.getOrDefault(normalize(code), 0);
+            DiscountRule.Status status = rule.check(eventId, now, used);
+            if (status == DiscountRule.Status.VALID) {
+                usable.add(rule);
+            } else {
+                problems.add(code + ": " + status.getMessage());
+            }
+        }
+        usable.sort(Comparator.comparingInt(DiscountRule::getPriority)
+                .thenComparingInt(DiscountRule::getPercentage).reversed());
+        return new Resolution(usable, problems);
+    }
+
+    /**
+     * Notes the uses of a saved booking's codes on this terminal. The uses were already
+     * counted, and the vouchers redeemed, in the database with the booking; this only keeps
+     * {@link #resolve} from offering a used-up code before the next re-read.
+     *
+     * @param usedRules The codes the booking used.
+     */
+    public void recordUse(List<DiscountRule> usedRules) {
+        for (DiscountRule rule : usedRules) {
+            if (rule.isVoucher()) {
+                voucherRegistry.markRedeemed(rule.getCode());
+            } else if (rule.isCapped()) {
+                timesUsed.merge(normalize(rule.getCode()), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * @param rules The codes a booking uses.
+     * @return The discount codes among them that have a usage limit, to be counted when the
+     *         booking is saved.
+     */
+    public static List<String> cappedCodes(List<DiscountRule> rules) {
+        List<String> codes = new ArrayList<>();
+        for (DiscountRule rule : rules) {
+            if (!rule.isVoucher() && rule.isCapped()) {
+                codes.add(rule.getCode());
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * @param rules The codes a booking uses.
+     * @return The vouchers among them, to be redeemed when the booking is saved.
+     */
+    public static List<String> voucherCodes(List<DiscountRule> rules) {
+        List<String> codes = new ArrayList<>();
+        for (DiscountRule rule : rules) {
+            if (rule.isVoucher()) {
+                codes.add(rule.getCode());
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Forces the codes to be re-read on next use, e.g. after one has been added.
+     */
+    public void invalidate() {
+        loadedAt = 0;
+        rules = null;
+    }
+
+    private Map<String, DiscountRule> currentRules() throws SQLException {
+        Map<String, DiscountRule> current = rules;
+        if (current != null && System.currentTimeMillis() - loadedAt <= refreshMillis) {
+            return current;
+        }
+        synchronized (this) {
+            // invalidate() may clear rules at any moment, so only hand out a local reference
+            current = rules;
+            if (current == null || System.currentTimeMillis() - loadedAt > refreshMillis) {
+                current = reload();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Re-reads the codes.
+     *
+     * @return The codes just read; use this rather than re-reading {@link #rules}, which
+     *         {@link #invalidate()} may have cleared in the meantime.
+     */
+    private Map<String, DiscountRule> reload() throws SQLException {
+        List<Discount> discounts = discountDAO.getAllDiscounts();
+        Map<String, DiscountRule> loaded = new HashMap<>(discounts.size() * 2);
+        Map<String, Integer> uses = new HashMap<>();
+        for (Discount discount : discounts) {
+            String key = normalize(discount.getCode());
+            loaded.put(key, new DiscountRule(discount, zone));
+            uses.put(key, discount.getTimesUsed());
+        }
+        timesUsed.clear();
+        timesUsed.putAll(uses);
+        unknownCodes.clear();
+        rules = loaded;
+        loadedAt = System.currentTimeMillis();
+        System.out.println("Loaded " + loaded.size() + " discount codes");
+        return loaded;
+    }
+
+    private static String normalize(String code) {
+        return code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+    }
+}
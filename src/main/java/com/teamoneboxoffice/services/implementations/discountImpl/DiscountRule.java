@@ -0,0 +1,207 @@
+package com.teamoneboxoffice.services.implementations.discountImpl;
+
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.entities.VoucherBatch;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A discount code compiled for checking and applying without further lookups.
+ *
+ * Rules are built by {@link DiscountCatalogue} when it loads the codes: dates become epoch
+ * milliseconds and the percentage becomes basis points, so {@link #check} and
+ * {@link #apply} are a handful of comparisons and never allocate.
+ */
+public final class DiscountRule {
+    private static final long BASIS_POINTS = 10_000;
+
+    /**
+     * The outcome of {@link #check}.
+     */
+    public enum Status {
+        VALID("The discount code is valid."),
+        NOT_YET_VALID("The discount code cannot be used yet."),
+        EXPIRED("The discount code has expired."),
+        WRONG_EVENT("The discount code does not apply to this event."),
+        USED_UP("The discount code has reached its usage limit.");
+
+        private final String message;
+
+        Status(String message) {
+            this.message = message;
+        }
+
+        /**
+         * @return A sentence explaining the status to staff.
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private final String code;
+    private final int percentage;
+    private final long keepBasisPoints;
+    private final long validFromMillis;
+    private final long validUntilMillis;
+    private final String eventId;
+    private final int maxUses;
+    private final int priority;
+    private final boolean stackable;
+    private final boolean voucher;
+
+    /**
+     * @param discount The discount to compile.
+     * @param zone     The time zone its validity dates are in.
+     */
+    DiscountRule(Discount discount, ZoneId zone) {
+        this.code = discount.getCode();
+        this.percentage = Math.max(0, Math.min(100, discount.getPercentage()));
+        this.keepBasisPoints = BASIS_POINTS - percentage * 100L;
+        this.validFromMillis = toMillis(discount.getValidFrom(), zone, Long.MIN_VALUE);
+        this.validUntilMillis = toMillis(discount.getValidUntil(), zone, Long.MAX_VALUE);
+        this.eventId = discount.getEventId();
+        this.maxUses = discount.getMaxUses();
+        this.priority = discount.getPriority();
+        this.stackable = discount.isStackable();
+        this.voucher = false;
+    }
+
+    /**
+     * Compiles a single-use voucher code: valid for any event until the batch expires,
+     * and not stackable.
+     *
+     * @param code  The voucher code.
+     * @param batch Its batch.
+     * @param zone  The time zone the batch's expiry is in.
+     */
+    DiscountRule(String code, VoucherBatch batch, ZoneId zone) {
+        this.code = code;
+        this.percentage = Math.max(0, Math.min(100, batch.getPercentage()));
+        this.keepBasisPoints = BASIS_POINTS - percentage * 100L;
+        this.validFromMillis = Long.MIN_VALUE;
+        this.validUntilMillis = toMillis(batch.getValidUntil(), zone, Long.MAX_VALUE);
+        this.eventId = null;
+        this.maxUses = 1;
+        this.priority = 0;
+        this.stackable = false;
+        this.voucher = true;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public boolean isStackable() {
+        return stackable;
+    }
+
+    /**
+     * @return true if the code is a single-use voucher from a {@link VoucherRegistry} batch.
+     */
+    public boolean isVoucher() {
+        return voucher;
+    }
+
+    /**
+     * @return true if the code has a usage limit.
+     */
+    public boolean isCapped() {
+        return maxUses > 0;
+    }
+
+    /**
+     * Checks whether the code can be used for a booking.
+     *
+     * @param bookingEventId The event being booked.
+     * @param nowMillis      The current time in epoch milliseconds.
+     * @param timesUsed      How many bookings have used the code so far.
+     * @return VALID, or why the code cannot be used.
+     */
+    public Status check(String bookingEventId, long nowMillis, int timesUsed) {
+        if (nowMillis < validFromMillis) {
+            return Status.NOT_YET_VALID;
+        }
+        if (nowMillis > validUntilMillis) {
+            return Status.EXPIRED;
+        }
+        if (eventId != null && !eventId.equals(bookingEventId)) {
+            return Status.WRONG_EVENT;
+        }
+        if (maxUses > 0 && timesUsed >= maxUses) {
+            return Status.USED_UP;
+        }
+        return Status.VALID;
+    }
+
+    /**
+     * Takes this discount off a price.
+     *
+     * @param pence The price in pence.
+     * @return The discounted price in pence, rounded to the nearest penny.
+     */
+    public long apply(long pence) {
+        return (pence * keepBasisPoints + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    /**
+     * Applies a basket's codes to its price in stacking order: by priority, highest first.
+     * The first code always applies; each later code only applies if it and every code
+     * applied before it are stackable. The rules must already be sorted and checked, as
+     * {@link DiscountCatalogue#resolve} returns them.
+     *
+     * Nothing is allocated, so this can run for every basket.
+     *
+     * @param rules The basket's valid codes, in stacking order.
+     * @param pence The basket price in pence.
+     * @return The discounted price in pence.
+     */
+    public static long applyAll(List<DiscountRule> rules, long pence) {
+        boolean stacking = true;
+        for (int i = 0; i < rules.size(); i++) {
+            DiscountRule rule = rules.get(i);
+            if (i > 0 && !(stacking && rule.stackable)) {
+                continue;
+            }
+            pence = rule.apply(pence);
+            stacking &= rule.stackable;
+        }
+        return pence;
+    }
+
+    /**
+     * Picks the codes {@link #applyAll} takes off the price, for callers that need the
+     * list; the others are skipped because they do not stack.
+     *
+     * @param rules The basket's valid codes, in stacking order.
+     * @return The codes that apply, in the same order.
+     */
+    public static List<DiscountRule> applied(List<DiscountRule> rules) {
+        List<DiscountRule> applied = new ArrayList<>(rules.size());
+        boolean stacking = true;
+        for (int i = 0; i < rules.size(); i++) {
+            DiscountRule rule = rules.get(i);
+            if (i > 0 && !(stacking && rule.stackable)) {
+                continue;
+            }
+            applied.add(rule);
+            stacking &= rule.stackable;
+        }
+        return applied;
+    }
+
+    private static long toMillis(LocalDateTime dateTime, ZoneId zone, long fallback) {
+        return dateTime == null ? fallback : dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,213 @@
+package com.teamoneboxoffice.services.implementations.discountImpl;
+
+import com.teamoneboxoffice.entities.VoucherBatch;
+import com.teamoneboxoffice.interfaces.DAOs.IVoucherDAO;
+import com.teamoneboxoffice.util.IdGenerator;
+
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues single-use voucher codes in batches and tracks which have been redeemed.
+ *
+ * Every code is held in memory, mapped to its batch and whether it has been redeemed, so
+ * checking a code is a hash lookup. The registry does not redeem codes itself: the booking
+ * commit does, by inserting each voucher into the redemption log in the booking's
+ * transaction only if it is not logged already, which settles races between bookings on
+ * any terminal. {@link #markRedeemed} then updates this terminal's copy.
+ *
+ * The codes are read the first time one is asked for, with one query for the batches and one
+ * for all of their codes. A code that is not found triggers at most one re-read per
+ * {@link #MIN_RELOAD_MILLIS}, to pick up batches issued elsewhere. Reads can be slow with
+ * large batches, so callers on the FX thread should look codes up in the background.
+ */
+public class VoucherRegistry {
+    public static final int MAX_BATCH_SIZE = 100_000;
+    private static final long MIN_RELOAD_MILLIS = 30_000;
+
+    private static final String CODE_PREFIX = "V";
+    private static final int CODE_LENGTH = 11;
+    // Crockford base 32, as in IdGenerator: no I, L, O or U to misread.
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final IVoucherDAO voucherDAO;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile Map<String, Voucher> vouchers;
+    private volatile long loadedAt;
+
+    /**
+     * One code: its batch and whether it has been redeemed.
+     */
+    private static final class Voucher {
+        private final VoucherBatch batch;
+        private volatile boolean redeemed;
+
+        private Voucher(VoucherBatch batch, boolean redeemed) {
+            this.batch = batch;
+            this.redeemed = redeemed;
+        }
+    }
+
+    public VoucherRegistry(IVoucherDAO voucherDAO) {
+        this.voucherDAO = voucherDAO;
+    }
+
+    /**
+     * Generates a batch of new codes and stores it.
+     *
+     * @param percentage The discount each code gives.
+     * @param reason     The campaign the codes are for.
+     * @param count      The number of codes, 1 to {@link #MAX_BATCH_SIZE}.
+     * @param validUntil When the codes expire; null if they do not.
+     * @return The new codes.
+     * @throws SQLException if the batch could not be stored.
+     */
+    public List<String> issueBatch(int percentage, String reason, int count, LocalDateTime validUntil) throws SQLException {
+        if (count < 1 || count > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_BATCH_SIZE + ": " + count);
+        }
+        Map<String, Voucher> current = currentVouchers();
+        Set<String> codes = new LinkedHashSet<>(count * 2);
+        while (codes.size() < count) {
+            String code = randomCode();
+            if (!current.containsKey(code)) {
+                codes.add(code);
+            }
+        }
+        List<String> issued = new ArrayList<>(codes);
+        VoucherBatch batch = new VoucherBatch(IdGenerator.nextVoucherBatchId(), percentage, reason,
+                validUntil, count, Instant.now());
+        voucherDAO.insertBatch(batch, issued);
+
+        for (String code : issued) {
+            current.put(code, new Voucher(batch, false));
+        }
+        System.out.println("Issued voucher batch " + batch.getBatchID() + " of " + count + " codes");
+        return issued;
+    }
+
+    /**
+     * Looks a code up.
+     *
+     * @param code The code as entered; case and surrounding spaces are ignored.
+     * @return The code's batch, or null if there is no such code.
+     * @throws SQLException if the codes had to be read and could not be.
+     */
+    public VoucherBatch findBatch(String code) throws SQLException {
+        Voucher voucher = find(normalize(code));
+        return voucher == null ? null : voucher.batch;
+    }
+
+    /**
+     * @param code The code as entered.
+     * @return true if the code is known to have been redeemed.
+     */
+    public boolean isRedeemed(String code) {
+        Map<String, Voucher> current = vouchers;
+        Voucher voucher = current == null ? null : current.get(normalize(code));
+        return voucher != null && voucher.redeemed;
+    }
+
+    /**
+     * Marks a code as redeemed on this terminal after a booking that redeemed it was saved;
+     * the redemption itself was logged in the booking's transaction.
+     *
+     * @param code The code as entered.
+     */
+    public void markRedeemed(String code) {
+        Map<String, Voucher> current = vouchers;
+        Voucher voucher = current == null ? null : current.get(normalize(code));
+        if (voucher != null) {
+            voucher.redeemed = true;
+        }
+    }
+
+    /**
+     * @return The number of codes held in memory.
+     */
+    public int size() {
+        Map<String, Voucher> current = vouchers;
+        return current == null ? 0 : current.size();
+    }
+
+    private Voucher find(String key) throws SQLException {
+        if (key.isEmpty()) {
+            return null;
+        }
+        Voucher voucher = currentVouchers().get(key);
+        if (voucher != null) {
+            return voucher;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() - loadedAt > MIN_RELOAD_MILLIS) {
+                reload();
+            }
+            return vouchers.get(key);
+        }
+    }
+
+    private Map<String, Voucher> currentVouchers() throws SQLException {
+        Map<String, Voucher> current = vouchers;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (vouchers == null) {
+                reload();
+            }
+            return vouchers;
+        }
+    }
+
+    private void reload() throws SQLException {
+        List<VoucherBatch> batches = voucherDAO.getAllBatches();
+        Map<String, VoucherBatch> batchesById = new HashMap<>(batches.size() * 2);
+        for (VoucherBatch batch : batches) {
+            batchesById.put(batch.getBatchID(), batch);
+        }
+        Map<String, Voucher> loaded = new ConcurrentHashMap<>();
+        voucherDAO.forEachCode((code, batchId, redeemed) -> {
+            VoucherBatch batch = batchesById.get(batchId);
+            // A batch stored after getAllBatches() ran is picked up by the next reload.
+            if (batch != null) {
+                loaded.put(code, new Voucher(batch, redeemed));
+            }
+        });
+        Map<String, Voucher> previous = vouchers;
+        if (previous != null) {
+            // Keep redemptions this terminal committed after the codes were read.
+            previous.forEach((code, voucher) -> {
+                Voucher reloaded = loaded.get(code);
+                if (reloaded != null && voucher.redeemed) {
+                    reloaded.redeemed = true;
+                }
+            });
+        }
+        vouchers = loaded;
+        loadedAt = System.currentTimeMillis();
+        System.out.println("Loaded " + loaded.size() + " voucher codes from " + batches.size() + " batches");
+    }
+
+    private String randomCode() {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return CODE_PREFIX + new String(chars);
+    }
+
+    private static String normalize(String code) {
+        return code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.entities.Ticket;
+import com.teamoneboxoffice.entities.VoucherRedemption;
+import com.teamoneboxoffice.interfaces.DAOs.IBookingCommitDAO;
+import com.teamoneboxoffice.util.IdGenerator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory implementation of {@link IBookingCommitDAO}. Writes the same rows as the
+ * JDBC commit (customer if new, ticket, booking reference, booked seats) under the
+ * store's write lock. Every constraint is checked before anything is written, so a
+ * rejected booking leaves the store untouched, like a rolled back transaction.
+ * Seats already booked for the event are rejected, as the unique (Event_ID, Seat_ID)
+ * key on Booked_Seats does for the JDBC commit, and so is a booking using a discount
+ * code that has reached its usage limit or a voucher that has been redeemed.
+ */
+public class InMemoryBookingCommitDAO implements IBookingCommitDAO {
+    private final InMemoryStore store;
+
+    public InMemoryBookingCommitDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean commitBooking(BookingRequest request) {
+        return claimSeatsAndCommit(request).isCommitted();
+    }
+
+    @Override
+    public BookingCommitResult claimSeatsAndCommit(BookingRequest request) {
+        return store.write(() -> {
+            String ticketId = request.getTicketID();
+            if (request.getSeatIds().isEmpty()) {
+                System.err.println("Database error while saving booking: no seats in booking " + ticketId);
+                return BookingCommitResult.failed();
+            }
+            if (store.tickets.containsKey(ticketId)) {
+                System.err.println("Database error while saving booking: duplicate Ticket_ID " + ticketId);
+                return BookingCommitResult.failed();
+            }
+            String bookingId = IdGenerator.nextBookingId();
+            if (store.committedBookings.containsKey(bookingId)) {
+                System.err.println("Database error while saving booking: duplicate Booking_ID " + bookingId);
+                return BookingCommitResult.failed();
+            }
+            List<String> seats = new ArrayList<>(new LinkedHashSet<>(request.getSeatIds()));
+            Set<String> booked = new HashSet<>();
+            for (String existingTicketId : store.ticketsByEvent.get(request.getEventID())) {
+                booked.addAll(store.bookedSeatsByTicket.getOrDefault(existingTicketId, List.of()));
+            }
+            List<String> lost = seats.stream().filter(booked::contains).toList();
+            if (!lost.isEmpty()) {
+                System.out.println("Booking " + ticketId + " rolled back, seats already booked: " + lost);
+                return BookingCommitResult.seatsTaken(lost);
+            }
+            List<String> usedUp = new ArrayList<>();
+            for (String code : request.getDiscountCodes()) {
+                Discount discount = store.discounts.get(code);
+                if (discount == null || (discount.getMaxUses() > 0
+                        && store.discountUses.getOrDefault(code, discount.getTimesUsed()) >= discount.getMaxUses())) {
+                    usedUp.add(code);
+                }
+            }
+            if (!usedUp.isEmpty()) {
+                System.out.println("Booking " + ticketId + " rolled back, discount codes used up: " + usedUp);
+                return BookingCommitResult.codesUsedUp(usedUp);
+            }
+            List<String> redeemed = new ArrayList<>();
+            for (String code : request.getVoucherCodes()) {
+                if (!store.voucherCodes.containsKey(code) || store.voucherRedemptions.containsKey(code)) {
+                    redeemed.add(code);
+                }
+            }
+            if (!redeemed.isEmpty()) {
+                System.out.println("Booking " + ticketId + " rolled back, vouchers already redeemed: " + redeemed);
+                return BookingCommitResult.codesUsedUp(redeemed);
+            }
+
+            String customerId = request.getCustomerID();
+            boolean customerExists = store.customers.containsKey(customerId)
+                    || !store.customersByEmail.get(InMemoryStore.emailKey(request.getEmail())).isEmpty();
+            if (!customerExists) {
+                Customer customer = new Customer(customerId, false, null, null, null,
+                        request.getEmail(), request.getPhone());
+                customer.setName(request.getCustomerName());
+                store.insertCustomer(customer);
+            }
+
+            Ticket ticket = new Ticket(ticketId, 0, 0, "Unknown", "Standard",
+                    request.isEligibleForDiscount(), request.isWheelchair(), request.getFinalPrice(), "Low");
+            ticket.setCustomerID(customerId);
+            store.insertTicket(ticket, request.getEventID());
+            store.committedBookings.put(bookingId, ticketId);
+            store.bookedSeatsByTicket.put(ticketId, seats);
+            for (String code : request.getDiscountCodes()) {
+                int used = store.discountUses.getOrDefault(code, store.discounts.get(code).getTimesUsed());
+                store.discountUses.put(code, used + 1);
+            }
+            Instant now = Instant.now();
+            for (String code : request.getVoucherCodes()) {
+                store.voucherRedemptions.put(code, new VoucherRedemption(code, ticketId, now));
+            }
+            return BookingCommitResult.committed();
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Booking_Details;
+import com.teamoneboxoffice.interfaces.DAOs.IBookingDetailsDAO;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link IBookingDetailsDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryBookingDetailsDAO implements IBookingDetailsDAO {
+    private final InMemoryStore store;
+
+    public InMemoryBookingDetailsDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean create(Booking_Details booking) {
+        return store.write(() -> {
+            if (store.bookings.containsKey(booking.getBookingID())) {
+                System.err.println("Error creating booking: duplicate Booking_ID " + booking.getBookingID());
+                return false;
+            }
+            store.insertBooking(booking);
+            return true;
+        });
+    }
+
+    @Override
+    public Booking_Details getById(int bookingId) {
+        return store.read(() -> {
+            Booking_Details booking = store.bookings.get(bookingId);
+            return booking == null ? null : InMemoryStore.copyBooking(booking);
+        });
+    }
+
+    @Override
+    public boolean update(Booking_Details booking) {
+        return store.write(() -> {
+            if (store.removeBooking(booking.getBookingID()) == null) {
+                return false;
+            }
+            store.insertBooking(booking);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateStatus(int bookingId, int status) {
+        return store.write(() -> {
+            Booking_Details booking = store.removeBooking(bookingId);
+            if (booking == null) {
+                return false;
+            }
+            booking.setStatus(status);
+            store.insertBooking(booking);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(int bookingId) {
+        return store.write(() -> store.removeBooking(bookingId) != null);
+    }
+
+    @Override
+    public List<Booking_Details> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.bookings.keySet(), store.bookings, InMemoryStore::copyBooking));
+    }
+
+    @Override
+    public boolean forEach(Consumer<Booking_Details> action) {
+        // Reads from memory cannot stop part way.
+        store.forEach(store.bookings, Booking_Details::getBookingID, InMemoryStore::copyBooking, action);
+        return true;
+    }
+
+    @Override
+    public List<Booking_Details> getPage(Integer afterBookingId, int limit) {
+        return store.read(() -> InMemoryStore.page(store.bookings, afterBookingId, limit, InMemoryStore::copyBooking));
+    }
+
+    @Override
+    public List<Booking_Details> getByCustomerId(int customerId) {
+        return store.read(() -> InMemoryStore.rows(store.bookingsByCustomer.get(customerId), store.bookings, InMemoryStore::copyBooking));
+    }
+
+    @Override
+    public List<Booking_Details> getByTicketId(int ticketId) {
+        return store.read(() -> InMemoryStore.rows(store.bookingsByTicket.get(ticketId), store.bookings, InMemoryStore::copyBooking));
+    }
+
+    @Override
+    public List<Booking_Details> getByStatus(int status) {
+        return store.read(() -> InMemoryStore.rows(store.bookingsByStatus.get(status), store.bookings, InMemoryStore::copyBooking));
+    }
+}
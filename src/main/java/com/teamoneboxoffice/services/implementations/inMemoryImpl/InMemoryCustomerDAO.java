@@ -0,0 +1,81 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.interfaces.DAOs.ICustomerDAO;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link ICustomerDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryCustomerDAO implements ICustomerDAO {
+    private final InMemoryStore store;
+
+    public InMemoryCustomerDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean create(Customer customer) {
+        return store.write(() -> {
+            if (store.customers.containsKey(customer.getCustomerID())) {
+                System.err.println("Error creating customer: duplicate Customer_ID " + customer.getCustomerID());
+                return false;
+            }
+            store.insertCustomer(customer);
+            return true;
+        });
+    }
+
+    @Override
+    public Customer getById(String customerId) {
+        return store.read(() -> {
+            Customer customer = store.customers.get(customerId);
+            return customer == null ? null : InMemoryStore.copyCustomer(customer);
+        });
+    }
+
+    @Override
+    public Customer getByEmail(String email) {
+        return store.read(() -> {
+            Set<String> ids = store.customersByEmail.get(InMemoryStore.emailKey(email));
+            List<Customer> matches = InMemoryStore.rows(ids, store.customers, InMemoryStore::copyCustomer);
+            return matches.isEmpty() ? null : matches.get(0);
+        });
+    }
+
+    @Override
+    public boolean update(Customer customer) {
+        return store.write(() -> {
+            if (store.removeCustomer(customer.getCustomerID()) == null) {
+                return false;
+            }
+            store.insertCustomer(customer);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(String customerId) {
+        return store.write(() -> store.removeCustomer(customerId) != null);
+    }
+
+    @Override
+    public List<Customer> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.customers.keySet(), store.customers, InMemoryStore::copyCustomer));
+    }
+
+    @Override
+    public boolean forEach(Consumer<Customer> action) {
+        // Reads from memory cannot stop part way.
+        store.forEach(store.customers, Customer::getCustomerID, InMemoryStore::copyCustomer, action);
+        return true;
+    }
+
+    @Override
+    public List<Customer> getPage(String afterCustomerId, int limit) {
+        return store.read(() -> InMemoryStore.page(store.customers, afterCustomerId, limit, InMemoryStore::copyCustomer));
+    }
+}
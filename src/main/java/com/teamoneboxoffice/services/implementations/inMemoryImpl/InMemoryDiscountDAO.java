@@ -0,0 +1,60 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.interfaces.DAOs.IDiscountDAO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory implementation of {@link IDiscountDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryDiscountDAO implements IDiscountDAO {
+    private final InMemoryStore store;
+
+    public InMemoryDiscountDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void addDiscount(Discount discount) throws SQLException {
+        Discount existing = store.write(() -> store.discounts.putIfAbsent(discount.getCode(), discount));
+        if (existing != null) {
+            throw new SQLException("Duplicate discount code: " + discount.getCode());
+        }
+        System.out.println("Discount added successfully: " + discount.getCode());
+    }
+
+    @Override
+    public Discount getDiscountByCode(String code) {
+        return store.read(() -> code == null ? null : store.discounts.get(code));
+    }
+
+    @Override
+    public List<Discount> getAllDiscounts() {
+        return store.read(() -> {
+            List<Discount> discounts = new ArrayList<>(store.discounts.size());
+            for (Discount discount : store.discounts.values()) {
+                discounts.add(InMemoryStore.copyDiscount(discount, store.discountUses.getOrDefault(discount.getCode(), discount.getTimesUsed())));
+            }
+            return discounts;
+        });
+    }
+
+    @Override
+    public boolean recordDiscountUse(String code) {
+        return store.write(() -> {
+            Discount discount = code == null ? null : store.discounts.get(code);
+            if (discount == null) {
+                return false;
+            }
+            int used = store.discountUses.getOrDefault(code, discount.getTimesUsed());
+            if (discount.getMaxUses() > 0 && used >= discount.getMaxUses()) {
+                return false;
+            }
+            store.discountUses.put(code, used + 1);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Event;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link IEventDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryEventDAO implements IEventDAO {
+    private final InMemoryStore store;
+
+    public InMemoryEventDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean create(Event event) {
+        return store.write(() -> {
+            if (store.events.containsKey(event.getEventID())) {
+                System.err.println("Error creating event: duplicate Event_ID " + event.getEventID());
+                return false;
+            }
+            store.insertEvent(event);
+            return true;
+        });
+    }
+
+    @Override
+    public Event getById(String eventId) {
+        return store.read(() -> {
+            Event event = store.events.get(eventId);
+            return event == null ? null : InMemoryStore.copyEvent(event);
+        });
+    }
+
+    @Override
+    public boolean update(Event event) {
+        return store.write(() -> {
+            if (store.removeEvent(event.getEventID()) == null) {
+                return false;
+            }
+            store.insertEvent(event);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateTicketStats(String eventId, double ticketRevenue, int ticketNumbers) {
+        return store.write(() -> {
+            Event event = store.events.get(eventId);
+            if (event == null) {
+                return false;
+            }
+            event.setTicketRevenue(ticketRevenue);
+            event.setTicketNumbers(ticketNumbers);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        return store.write(() -> store.removeEvent(eventId) != null);
+    }
+
+    @Override
+    public List<Event> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.events.keySet(), store.events, InMemoryStore::copyEvent));
+    }
+
+    @Override
+    public boolean forEach(Consumer<Event> action) {
+        // Reads from memory cannot stop part way.
+        store.forEach(store.events, Event::getEventID, InMemoryStore::copyEvent, action);
+        return true;
+    }
+
+    @Override
+    public List<Event> getPage(String afterEventId, int limit) {
+        return store.read(() -> InMemoryStore.page(store.events, afterEventId, limit, InMemoryStore::copyEvent));
+    }
+
+    @Override
+    public List<Event> getByType(String eventType) {
+        return store.read(() -> InMemoryStore.rows(store.eventsByType.get(eventType), store.events, InMemoryStore::copyEvent));
+    }
+
+    @Override
+    public List<Event> getByDate(java.util.Date date) {
+        if (date == null) {
+            System.err.println("Attempted to query events by null date.");
+            return new ArrayList<>();
+        }
+        return store.read(() -> InMemoryStore.rows(
+                store.eventsByDate.get(InMemoryStore.toLocalDate(date)), store.events, InMemoryStore::copyEvent));
+    }
+
+    @Override
+    public boolean updateSeatStatus(String seatId, String status) {
+        return store.write(() -> {
+            store.seatStatuses.put(seatId, status);
+            return true;
+        });
+    }
+
+    @Override
+    public Set<String> getAllBookedSeatIds() {
+        return store.read(() -> {
+            Set<String> bookedSeats = new HashSet<>();
+            for (List<String> seats : store.bookedSeatsByTicket.values()) {
+                bookedSeats.addAll(seats);
+            }
+            return bookedSeats;
+        });
+    }
+
+    /**
+     * Resolves the performance through the Event_ID index on tickets, so only the
+     * tickets of that event are visited.
+     */
+    @Override
+    public Set<String> getBookedSeatIds(String eventId, LocalDate eventDate, String eventTime) {
+        return store.read(() -> {
+            Set<String> bookedSeats = new HashSet<>();
+            Event event = eventId == null ? null : store.events.get(eventId);
+            if (event == null || eventDate == null
+                    || !eventDate.equals(InMemoryStore.toLocalDate(event.getEventDate()))
+                    || !eventTime.equals(event.getEventTime())) {
+                return bookedSeats;
+            }
+            for (String ticketId : store.ticketsByEvent.get(eventId)) {
+                List<String> seats = store.bookedSeatsByTicket.get(ticketId);
+                if (seats != null) {
+                    bookedSeats.addAll(seats);
+                }
+            }
+            return bookedSeats;
+        });
+    }
+}
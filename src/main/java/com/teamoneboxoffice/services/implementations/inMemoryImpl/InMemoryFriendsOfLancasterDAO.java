@@ -0,0 +1,44 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Friends_Of_Lancaster;
+import com.teamoneboxoffice.interfaces.DAOs.IFriendsOfLancasterDAO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory implementation of {@link IFriendsOfLancasterDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryFriendsOfLancasterDAO implements IFriendsOfLancasterDAO {
+    private final InMemoryStore store;
+
+    public InMemoryFriendsOfLancasterDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<Friends_Of_Lancaster> getAllFriends() {
+        return store.read(() -> {
+            List<Friends_Of_Lancaster> friendsList = new ArrayList<>(store.friends.values());
+            friendsList.sort(Comparator.comparing(Friends_Of_Lancaster::getName,
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+            return friendsList;
+        });
+    }
+
+    @Override
+    public Friends_Of_Lancaster getFriendById(int friendId) {
+        return store.read(() -> store.friends.get(friendId));
+    }
+
+    /**
+     * Adds a member. There is no equivalent on the JDBC DAO; members are maintained
+     * outside the application, so this exists for seeding demo and test data.
+     *
+     * @param friend The member to add.
+     */
+    public void addFriend(Friends_Of_Lancaster friend) {
+        store.write(() -> store.friends.put(friend.getFriendID(), friend));
+    }
+}
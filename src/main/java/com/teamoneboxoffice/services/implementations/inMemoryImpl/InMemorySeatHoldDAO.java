@@ -0,0 +1,86 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.SeatHold;
+import com.teamoneboxoffice.interfaces.DAOs.ISeatHoldDAO;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory implementation of {@link ISeatHoldDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemorySeatHoldDAO implements ISeatHoldDAO {
+    private final InMemoryStore store;
+
+    public InMemorySeatHoldDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean insertHolds(List<SeatHold> holds, Instant now) {
+        if (holds.isEmpty()) {
+            return false;
+        }
+        return store.write(() -> {
+            for (SeatHold hold : holds) {
+                SeatHold existing = store.seatHolds.get(key(hold));
+                if (existing != null && !existing.isExpired(now)) {
+                    System.out.println("Seat hold refused, seat " + hold.getSeatID() + " is already held.");
+                    return false;
+                }
+            }
+            for (SeatHold hold : holds) {
+                store.seatHolds.put(key(hold), InMemoryStore.copySeatHold(hold));
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public boolean extendHold(String holdId, Instant expiresAt) {
+        return store.write(() -> {
+            boolean updated = false;
+            for (SeatHold hold : store.seatHolds.values()) {
+                if (hold.getHoldID().equals(holdId)) {
+                    hold.setExpiresAt(expiresAt);
+                    updated = true;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public boolean releaseHold(String holdId) {
+        return store.write(() -> store.seatHolds.values().removeIf(hold -> hold.getHoldID().equals(holdId)));
+    }
+
+    @Override
+    public List<SeatHold> getActiveHolds(String eventId, LocalDate eventDate, String eventTime, Instant now) {
+        return store.read(() -> {
+            List<SeatHold> result = new ArrayList<>();
+            for (SeatHold hold : store.seatHolds.values()) {
+                if (hold.getEventID().equals(eventId) && hold.getEventDate().equals(eventDate)
+                        && hold.getEventTime().equals(eventTime) && !hold.isExpired(now)) {
+                    result.add(InMemoryStore.copySeatHold(hold));
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public int deleteExpiredHolds(Instant now) {
+        return store.write(() -> {
+            int before = store.seatHolds.size();
+            store.seatHolds.values().removeIf(hold -> hold.isExpired(now));
+            return before - store.seatHolds.size();
+        });
+    }
+
+    private static String key(SeatHold hold) {
+        return InMemoryStore.seatHoldKey(hold.getEventID(), hold.getEventDate(), hold.getEventTime(), hold.getSeatID());
+    }
+}
@@ -0,0 +1,363 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Booking_Details;
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.entities.Event;
+import com.teamoneboxoffice.entities.Friends_Of_Lancaster;
+import com.teamoneboxoffice.entities.SeatHold;
+import com.teamoneboxoffice.entities.Ticket;
+import com.teamoneboxoffice.entities.User;
+import com.teamoneboxoffice.entities.Venue;
+import com.teamoneboxoffice.entities.VoucherBatch;
+import com.teamoneboxoffice.entities.VoucherRedemption;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory stand-in for the MySQL schema, shared by all in-memory DAOs.
+ *
+ * Each table is a concurrent map keyed by its primary key, with secondary indexes on the
+ * columns the DAOs filter by (Customer_ID, Event_ID, Status, Hall, Ticket_Type, ...).
+ * The event, ticket, customer and booking tables are sorted by key, like the primary key
+ * index behind them, so their rows can be read a page at a time from any key.
+ * A store-wide read/write lock gives multi-table operations such as ticket deletion and
+ * the booking commit the same all-or-nothing visibility as a database transaction.
+ * Rows are copied on the way in and out so callers cannot mutate stored state.
+ */
+public class InMemoryStore {
+    private static final int FOREACH_PAGE_SIZE = 500;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Event
+    final ConcurrentNavigableMap<String, Event> events = new ConcurrentSkipListMap<>();
+    final SecondaryIndex<String, String> eventsByType = new SecondaryIndex<>();
+    final SecondaryIndex<LocalDate, String> eventsByDate = new SecondaryIndex<>();
+
+    // Ticket (the entity has no Event_ID field, so the column is kept alongside)
+    final ConcurrentNavigableMap<String, Ticket> tickets = new ConcurrentSkipListMap<>();
+    final Map<String, String> ticketEventIds = new ConcurrentHashMap<>();
+    final SecondaryIndex<String, String> ticketsByCustomer = new SecondaryIndex<>();
+    final SecondaryIndex<String, String> ticketsByEvent = new SecondaryIndex<>();
+    final SecondaryIndex<String, String> ticketsByHall = new SecondaryIndex<>();
+    final SecondaryIndex<String, String> ticketsByType = new SecondaryIndex<>();
+
+    // Booked_Seats, grouped by Ticket_ID
+    final Map<String, List<String>> bookedSeatsByTicket = new ConcurrentHashMap<>();
+
+    // Customer (email lookups are case-insensitive, as with MySQL's default collation)
+    final ConcurrentNavigableMap<String, Customer> customers = new ConcurrentSkipListMap<>();
+    final SecondaryIndex<String, String> customersByEmail = new SecondaryIndex<>();
+
+    // Booking_Details
+    final ConcurrentNavigableMap<Integer, Booking_Details> bookings = new ConcurrentSkipListMap<>();
+    final SecondaryIndex<Integer, Integer> bookingsByCustomer = new SecondaryIndex<>();
+    final SecondaryIndex<Integer, Integer> bookingsByTicket = new SecondaryIndex<>();
+    final SecondaryIndex<Integer, Integer> bookingsByStatus = new SecondaryIndex<>();
+    final SecondaryIndex<String, Integer> bookingsByEvent = new SecondaryIndex<>();
+
+    // Booking references written by the booking commit (Booking_ID -> Ticket_ID)
+    final Map<String, String> committedBookings = new ConcurrentHashMap<>();
+
+    // User
+    final Map<Long, User> users = new ConcurrentHashMap<>();
+    final SecondaryIndex<String, Long> usersByName = new SecondaryIndex<>();
+    final SecondaryIndex<String, Long> usersByRole = new SecondaryIndex<>();
+
+    // Venue (auto-increment key)
+    final Map<Integer, Venue> venues = new ConcurrentHashMap<>();
+    final AtomicInteger nextVenueId = new AtomicInteger(1);
+
+    // Friends_Of_Lancaster, Discount, MainHallSeats
+    final Map<Integer, Friends_Of_Lancaster> friends = new ConcurrentHashMap<>();
+    final Map<String, Discount> discounts = new ConcurrentHashMap<>();
+    // Discount.Times_Used, kept apart as Discount is immutable
+    final Map<String, Integer> discountUses = new ConcurrentHashMap<>();
+    final Map<String, String> seatStatuses = new ConcurrentHashMap<>();
+
+    // Seat_Holds, keyed by performance and seat (the table's primary key)
+    final Map<String, SeatHold> seatHolds = new ConcurrentHashMap<>();
+
+    // Voucher_Batch, Voucher (Code -> Batch_ID) and Voucher_Redemption
+    final Map<String, VoucherBatch> voucherBatches = new ConcurrentHashMap<>();
+    final Map<String, String> voucherCodes = new ConcurrentHashMap<>();
+    final SecondaryIndex<String, String> voucherCodesByBatch = new SecondaryIndex<>();
+    final Map<String, VoucherRedemption> voucherRedemptions = new ConcurrentHashMap<>();
+
+    /**
+     * Runs a read under the shared lock, so it never observes half of a write.
+     */
+    <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a write under the exclusive lock. Writes validate before they mutate,
+     * so a failed write leaves every table untouched.
+     */
+    <T> T write(Supplier<T> update) {
+        lock.writeLock().lock();
+        try {
+            return update.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves the primary keys from an index against a table, copying each row.
+     */
+    static <P, R> List<R> rows(Collection<P> keys, Map<P, R> table, Function<R, R> copier) {
+        List<R> result = new ArrayList<>(keys.size());
+        for (P key : keys) {
+            R row = table.get(key);
+            if (row != null) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the rows whose key sorts after the given key, in key order, at most limit of
+     * them. The table is entered at the key, so a page costs the same however far in it is.
+     */
+    static <P, R> List<R> page(NavigableMap<P, R> table, P after, int limit, Function<R, R> copier) {
+        List<R> result = new ArrayList<>();
+        if (limit < 1) {
+            return result;
+        }
+        Map<P, R> tail = after == null ? table : table.tailMap(after, false);
+        for (R row : tail.values()) {
+            result.add(copier.apply(row));
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes every row of a table to the action in key order. Rows are copied a page at a
+     * time under the read lock and handed over after it is released, so the action may
+     * write to the store. Each page starts after the last key handed over, so rows the
+     * action deletes or adds behind that key do not shift the pages.
+     */
+    <P, R> void forEach(NavigableMap<P, R> table, Function<R, P> keyOf, Function<R, R> copier,
+                        Consumer<R> action) {
+        P after = null;
+        List<R> page;
+        do {
+            P from = after;
+            page = read(() -> page(table, from, FOREACH_PAGE_SIZE, copier));
+            if (!page.isEmpty()) {
+                after = keyOf.apply(page.get(page.size() - 1));
+            }
+            for (R row : page) {
+                action.accept(row);
+            }
+        } while (page.size() == FOREACH_PAGE_SIZE);
+    }
+
+    // --- Row maintenance (callers hold the write lock) ---
+
+    void insertEvent(Event event) {
+        Event stored = copyEvent(event);
+        events.put(stored.getEventID(), stored);
+        eventsByType.add(stored.getEventType(), stored.getEventID());
+        eventsByDate.add(toLocalDate(stored.getEventDate()), stored.getEventID());
+    }
+
+    Event removeEvent(String eventId) {
+        Event removed = events.remove(eventId);
+        if (removed != null) {
+            eventsByType.remove(removed.getEventType(), eventId);
+            eventsByDate.remove(toLocalDate(removed.getEventDate()), eventId);
+        }
+        return removed;
+    }
+
+    void insertTicket(Ticket ticket, String eventId) {
+        Ticket stored = copyTicket(ticket);
+        String ticketId = stored.getTicketID();
+        tickets.put(ticketId, stored);
+        if (eventId != null) {
+            ticketEventIds.put(ticketId, eventId);
+        }
+        ticketsByCustomer.add(stored.getCustomerID(), ticketId);
+        ticketsByEvent.add(eventId, ticketId);
+        ticketsByHall.add(stored.getHall(), ticketId);
+        ticketsByType.add(stored.getTicketType(), ticketId);
+    }
+
+    Ticket removeTicket(String ticketId) {
+        Ticket removed = tickets.remove(ticketId);
+        if (removed != null) {
+            String eventId = ticketEventIds.remove(ticketId);
+            ticketsByCustomer.remove(removed.getCustomerID(), ticketId);
+            ticketsByEvent.remove(eventId, ticketId);
+            ticketsByHall.remove(removed.getHall(), ticketId);
+            ticketsByType.remove(removed.getTicketType(), ticketId);
+        }
+        return removed;
+    }
+
+    void insertCustomer(Customer customer) {
+        Customer stored = copyCustomer(customer);
+        customers.put(stored.getCustomerID(), stored);
+        customersByEmail.add(emailKey(stored.getEmailAddress()), stored.getCustomerID());
+    }
+
+    Customer removeCustomer(String customerId) {
+        Customer removed = customers.remove(customerId);
+        if (removed != null) {
+            customersByEmail.remove(emailKey(removed.getEmailAddress()), customerId);
+        }
+        return removed;
+    }
+
+    void insertBooking(Booking_Details booking) {
+        Booking_Details stored = copyBooking(booking);
+        int bookingId = stored.getBookingID();
+        bookings.put(bookingId, stored);
+        bookingsByCustomer.add(stored.getCustomerID(), bookingId);
+        bookingsByTicket.add(stored.getTicketID(), bookingId);
+        bookingsByStatus.add(stored.getStatus(), bookingId);
+        bookingsByEvent.add(stored.getEventID(), bookingId);
+    }
+
+    Booking_Details removeBooking(int bookingId) {
+        Booking_Details removed = bookings.remove(bookingId);
+        if (removed != null) {
+            bookingsByCustomer.remove(removed.getCustomerID(), bookingId);
+            bookingsByTicket.remove(removed.getTicketID(), bookingId);
+            bookingsByStatus.remove(removed.getStatus(), bookingId);
+            bookingsByEvent.remove(removed.getEventID(), bookingId);
+        }
+        return removed;
+    }
+
+    void insertUser(User user) {
+        User stored = copyUser(user);
+        users.put(stored.getId(), stored);
+        usersByName.add(stored.getUserName(), stored.getId());
+        usersByRole.add(stored.getRole(), stored.getId());
+    }
+
+    User removeUser(long userId) {
+        User removed = users.remove(userId);
+        if (removed != null) {
+            usersByName.remove(removed.getUserName(), userId);
+            usersByRole.remove(removed.getRole(), userId);
+        }
+        return removed;
+    }
+
+    static String seatHoldKey(String eventId, LocalDate eventDate, String eventTime, String seatId) {
+        return eventId + "|" + eventDate + "|" + eventTime + "|" + seatId;
+    }
+
+    static String emailKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static LocalDate toLocalDate(java.util.Date date) {
+        return date == null ? null : new java.sql.Date(date.getTime()).toLocalDate();
+    }
+
+    // --- Copies ---
+
+    static Event copyEvent(Event event) {
+        java.util.Date date = event.getEventDate() == null ? null : new java.util.Date(event.getEventDate().getTime());
+        Event copy = new Event(event.getEventID(), event.getEventName(), event.getEventType(),
+                event.getEventPrice(), event.getHallType(), date, event.getEventTime());
+        copy.setTicketRevenue(event.getTicketRevenue());
+        copy.setTicketNumbers(event.getTicketNumbers());
+        return copy;
+    }
+
+    static Discount copyDiscount(Discount discount, int timesUsed) {
+        return new Discount(discount.getCode(), discount.getPercentage(), discount.getReason(),
+                discount.getValidFrom(), discount.getValidUntil(), discount.getEventId(),
+                discount.getMaxUses(), timesUsed, discount.getPriority(), discount.isStackable());
+    }
+
+    static Ticket copyTicket(Ticket ticket) {
+        Ticket copy = new Ticket(ticket.getTicketID(), ticket.getSeatNumber(), ticket.getRowNumber(),
+                ticket.getHall(), ticket.getTicketType(), ticket.getEligibleForDiscount(),
+                ticket.getIsWheelchair(), ticket.getPrice(), ticket.getPriorityStatus());
+        copy.setCustomerID(ticket.getCustomerID());
+        return copy;
+    }
+
+    static Customer copyCustomer(Customer customer) {
+        Customer copy = new Customer(customer.getCustomerID(), customer.isOptIN(), customer.getPaymentType(),
+                customer.getGender(), customer.getPostalCode(), customer.getEmailAddress(),
+                customer.getPhoneNumber());
+        copy.setName(customer.getName());
+        return copy;
+    }
+
+    static Booking_Details copyBooking(Booking_Details booking) {
+        return new Booking_Details(booking.getBookingID(), booking.getStatus(), booking.getCustomerID(),
+                booking.getTicketID(), booking.getEventID());
+    }
+
+    static User copyUser(User user) {
+        return new User(user.getId(), user.getUserName(), user.getPassword(), user.getRole(), user.isActive());
+    }
+
+    static SeatHold copySeatHold(SeatHold hold) {
+        return new SeatHold(hold.getHoldID(), hold.getEventID(), hold.getEventDate(), hold.getEventTime(),
+                hold.getSeatID(), hold.getHeldBy(), hold.getExpiresAt());
+    }
+
+    static Venue copyVenue(Venue venue) {
+        return new Venue(venue.getVenueName(), venue.isVenueInUse(), venue.getVenueCapacity(), venue.isMeetingRoom());
+    }
+
+    /**
+     * Creates a store with one login per role and a few upcoming events, for running
+     * the application without a database.
+     *
+     * @return A store populated with demo data.
+     */
+    public static InMemoryStore withDemoData() {
+        InMemoryStore store = new InMemoryStore();
+        long day = 24L * 60 * 60 * 1000;
+        long now = System.currentTimeMillis();
+        store.write(() -> {
+            store.insertUser(new User(1, "manager", "manager", "Manager", true));
+            store.insertUser(new User(2, "deputy", "deputy", "Deputy", true));
+            store.insertUser(new User(3, "staff", "staff", "Staff", true));
+            store.insertEvent(new Event("EVT001", "Event A", "LivePerformance", 50.00, "Large Hall",
+                    new java.sql.Date(now + 30 * day), "19:30"));
+            store.insertEvent(new Event("EVT002", "Event B", "Conference", 75.50, "Small Hall",
+                    new java.sql.Date(now + 45 * day), "14:00"));
+            store.insertEvent(new Event("EVT003", "Event C", "Concert", 65.25, "Large Hall",
+                    new java.sql.Date(now + 60 * day), "20:00"));
+            return null;
+        });
+        return store;
+    }
+}
@@ -0,0 +1,100 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Ticket;
+import com.teamoneboxoffice.interfaces.DAOs.ITicketDAO;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link ITicketDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryTicketDAO implements ITicketDAO {
+    private final InMemoryStore store;
+
+    public InMemoryTicketDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean create(Ticket ticket) {
+        return store.write(() -> {
+            if (store.tickets.containsKey(ticket.getTicketID())) {
+                System.err.println("Error creating ticket: duplicate Ticket_ID " + ticket.getTicketID());
+                return false;
+            }
+            store.insertTicket(ticket, null);
+            return true;
+        });
+    }
+
+    @Override
+    public Ticket getById(String ticketId) {
+        return store.read(() -> {
+            Ticket ticket = store.tickets.get(ticketId);
+            return ticket == null ? null : InMemoryStore.copyTicket(ticket);
+        });
+    }
+
+    @Override
+    public boolean update(Ticket ticket) {
+        return store.write(() -> {
+            String ticketId = ticket.getTicketID();
+            String eventId = store.ticketEventIds.get(ticketId);
+            if (store.removeTicket(ticketId) == null) {
+                return false;
+            }
+            store.insertTicket(ticket, eventId);
+            return true;
+        });
+    }
+
+    /**
+     * Deletes the ticket and its booked seats under the store's write lock. As with the
+     * JDBC implementation, the booked seats are kept if the ticket does not exist.
+     */
+    @Override
+    public boolean delete(String ticketId) {
+        return store.write(() -> {
+            if (!store.tickets.containsKey(ticketId)) {
+                System.out.println("Ticket not found for deletion: " + ticketId + ". Rolling back potential Booked_Seats deletion.");
+                return false;
+            }
+            store.bookedSeatsByTicket.remove(ticketId);
+            store.removeTicket(ticketId);
+            return true;
+        });
+    }
+
+    @Override
+    public List<Ticket> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.tickets.keySet(), store.tickets, InMemoryStore::copyTicket));
+    }
+
+    @Override
+    public boolean forEach(Consumer<Ticket> action) {
+        // Reads from memory cannot stop part way.
+        store.forEach(store.tickets, Ticket::getTicketID, InMemoryStore::copyTicket, action);
+        return true;
+    }
+
+    @Override
+    public List<Ticket> getPage(String afterTicketId, int limit) {
+        return store.read(() -> InMemoryStore.page(store.tickets, afterTicketId, limit, InMemoryStore::copyTicket));
+    }
+
+    @Override
+    public List<Ticket> getByCustomerId(String customerId) {
+        return store.read(() -> InMemoryStore.rows(store.ticketsByCustomer.get(customerId), store.tickets, InMemoryStore::copyTicket));
+    }
+
+    @Override
+    public List<Ticket> getByHall(String hall) {
+        return store.read(() -> InMemoryStore.rows(store.ticketsByHall.get(hall), store.tickets, InMemoryStore::copyTicket));
+    }
+
+    @Override
+    public List<Ticket> getByTicketType(String ticketType) {
+        return store.read(() -> InMemoryStore.rows(store.ticketsByType.get(ticketType), store.tickets, InMemoryStore::copyTicket));
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.User;
+import com.teamoneboxoffice.interfaces.DAOs.IUserDAO;
+
+import java.util.List;
+
+/**
+ * In-memory implementation of {@link IUserDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryUserDAO implements IUserDAO {
+    private final InMemoryStore store;
+
+    public InMemoryUserDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean create(User user) {
+        return store.write(() -> {
+            if (store.users.containsKey(user.getId())) {
+                System.err.println("Error creating user: duplicate User_ID " + user.getId());
+                return false;
+            }
+            store.insertUser(user);
+            return true;
+        });
+    }
+
+    @Override
+    public User getById(long userId) {
+        return store.read(() -> {
+            User user = store.users.get(userId);
+            return user == null ? null : InMemoryStore.copyUser(user);
+        });
+    }
+
+    @Override
+    public User getByUsername(String username) {
+        return store.read(() -> {
+            List<User> matches = InMemoryStore.rows(store.usersByName.get(username), store.users, InMemoryStore::copyUser);
+            return matches.isEmpty() ? null : matches.get(0);
+        });
+    }
+
+    @Override
+    public boolean update(User user) {
+        return store.write(() -> {
+            if (store.removeUser(user.getId()) == null) {
+                return false;
+            }
+            store.insertUser(user);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateActiveStatus(long userId, boolean isActive) {
+        return store.write(() -> {
+            User user = store.users.get(userId);
+            if (user == null) {
+                return false;
+            }
+            user.setActive(isActive);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(long userId) {
+        return store.write(() -> store.removeUser(userId) != null);
+    }
+
+    @Override
+    public List<User> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.users.keySet(), store.users, InMemoryStore::copyUser));
+    }
+
+    @Override
+    public List<User> getByRole(String role) {
+        return store.read(() -> InMemoryStore.rows(store.usersByRole.get(role), store.users, InMemoryStore::copyUser));
+    }
+
+    @Override
+    public User authenticate(String username, String password) {
+        User user = getByUsername(username);
+        if (user != null && user.isActive() && user.getPassword().equals(password)) {
+            return user;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.Venue;
+import com.teamoneboxoffice.interfaces.DAOs.IVenueDAO;
+
+import java.util.List;
+
+/**
+ * In-memory implementation of {@link IVenueDAO}, backed by an {@link InMemoryStore}.
+ * Venue IDs are generated like an AUTO_INCREMENT column.
+ */
+public class InMemoryVenueDAO implements IVenueDAO {
+    private final InMemoryStore store;
+
+    public InMemoryVenueDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public int create(Venue venue) {
+        return store.write(() -> {
+            int venueId = store.nextVenueId.getAndIncrement();
+            store.venues.put(venueId, InMemoryStore.copyVenue(venue));
+            return venueId;
+        });
+    }
+
+    @Override
+    public Venue getById(int venueId) {
+        return store.read(() -> {
+            Venue venue = store.venues.get(venueId);
+            return venue == null ? null : InMemoryStore.copyVenue(venue);
+        });
+    }
+
+    @Override
+    public boolean update(Venue venue, int venueId) {
+        return store.write(() -> store.venues.replace(venueId, InMemoryStore.copyVenue(venue)) != null);
+    }
+
+    @Override
+    public boolean delete(int venueId) {
+        return store.write(() -> store.venues.remove(venueId) != null);
+    }
+
+    @Override
+    public List<Venue> getAll() {
+        return store.read(() -> InMemoryStore.rows(store.venues.keySet(), store.venues, InMemoryStore::copyVenue));
+    }
+}
@@ -0,0 +1,64 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import com.teamoneboxoffice.entities.VoucherBatch;
+import com.teamoneboxoffice.interfaces.DAOs.IVoucherDAO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory implementation of {@link IVoucherDAO}, backed by an {@link InMemoryStore}.
+ */
+public class InMemoryVoucherDAO implements IVoucherDAO {
+    private final InMemoryStore store;
+
+    public InMemoryVoucherDAO(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void insertBatch(VoucherBatch batch, List<String> codes) throws SQLException {
+        String duplicate = store.write(() -> {
+            if (store.voucherBatches.containsKey(batch.getBatchID())) {
+                return batch.getBatchID();
+            }
+            Set<String> seen = new HashSet<>();
+            for (String code : codes) {
+                if (store.voucherCodes.containsKey(code) || !seen.add(code)) {
+                    return code;
+                }
+            }
+            store.voucherBatches.put(batch.getBatchID(), batch);
+            for (String code : codes) {
+                store.voucherCodes.put(code, batch.getBatchID());
+                store.voucherCodesByBatch.add(batch.getBatchID(), code);
+            }
+            return null;
+        });
+        if (duplicate != null) {
+            throw new SQLException("Duplicate voucher key: " + duplicate);
+        }
+    }
+
+    @Override
+    public List<VoucherBatch> getAllBatches() {
+        return store.read(() -> new ArrayList<>(store.voucherBatches.values()));
+    }
+
+    @Override
+    public List<String> getCodes(String batchId) {
+        return store.read(() -> new ArrayList<>(store.voucherCodesByBatch.get(batchId)));
+    }
+
+    @Override
+    public void forEachCode(CodeVisitor action) {
+        Map<String, String> codes = store.read(() -> new HashMap<>(store.voucherCodes));
+        Set<String> redeemed = store.read(() -> new HashSet<>(store.voucherRedemptions.keySet()));
+        codes.forEach((code, batchId) -> action.accept(code, batchId, redeemed.contains(code)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.teamoneboxoffice.services.implementations.inMemoryImpl;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A non-unique secondary index: maps a column value to the primary keys of the
+ * rows holding that value. Null column values are not indexed (like SQL NULLs
+ * never matching an equality predicate).
+ *
+ * @param <K> The indexed column type.
+ * @param <P> The primary key type of the table.
+ */
+class SecondaryIndex<K, P> {
+    private final Map<K, Set<P>> entries = new ConcurrentHashMap<>();
+
+    void add(K key, P primaryKey) {
+        if (key != null) {
+            entries.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(primaryKey);
+        }
+    }
+
+    void remove(K key, P primaryKey) {
+        if (key != null) {
+            entries.computeIfPresent(key, (k, keys) -> keys.remove(primaryKey) && keys.isEmpty() ? null : keys);
+        }
+    }
+
+    Set<P> get(K key) {
+        Set<P> keys = key == null ? null : entries.get(key);
+        return keys == null ? Collections.emptySet() : keys;
+    }
+}
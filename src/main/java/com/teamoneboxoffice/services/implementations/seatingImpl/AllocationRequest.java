@@ -0,0 +1,55 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+/**
+ * What a "best available" search is asked to find: how many seats, and the buyer's
+ * preferences on price band, VIP seats and restricted-view seats.
+ */
+public final class AllocationRequest {
+    /** Price cap value meaning "any price". */
+    public static final int ANY_PRICE = Integer.MAX_VALUE;
+
+    private final int quantity;
+    private final int maxPriceInPence;
+    private final boolean preferVip;
+    private final boolean allowRestrictedView;
+
+    /**
+     * @param quantity            Number of seats wanted, all in one row and next to each other.
+     * @param maxPriceInPence     Highest acceptable price per seat, or {@link #ANY_PRICE}.
+     * @param preferVip           true to rank VIP seats ahead of others.
+     * @param allowRestrictedView false to never offer restricted-view seats.
+     */
+    public AllocationRequest(int quantity, int maxPriceInPence, boolean preferVip, boolean allowRestrictedView) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+        this.quantity = quantity;
+        this.maxPriceInPence = maxPriceInPence;
+        this.preferVip = preferVip;
+        this.allowRestrictedView = allowRestrictedView;
+    }
+
+    /**
+     * @param quantity Number of seats wanted.
+     * @return A request with no price cap that accepts restricted-view seats as a last resort.
+     */
+    public static AllocationRequest of(int quantity) {
+        return new AllocationRequest(quantity, ANY_PRICE, false, true);
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getMaxPriceInPence() {
+        return maxPriceInPence;
+    }
+
+    public boolean isPreferVip() {
+        return preferVip;
+    }
+
+    public boolean isAllowRestrictedView() {
+        return allowRestrictedView;
+    }
+}
@@ -0,0 +1,204 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.util.SeatKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds the best N adjacent seats for a performance, so a booking can be made without
+ * picking seats by hand.
+ *
+ * The seat map is turned into rows once, when the allocator is built: seats are grouped
+ * by section and row and ordered by seat number, and each seat's price, VIP and
+ * restricted-view flags are copied from the {@link LayoutTemplate}. A search then slides
+ * a window of N seats along every row and checks each seat against the performance's
+ * {@link SeatAvailability}.
+ *
+ * A window is skipped if:
+ * <ul>
+ *     <li>it spans a gap in the seat numbers (an aisle),</li>
+ *     <li>any seat in it is held, booked, blocked or wheelchair-accessible (those are left
+ *     for wheelchair bookings, which need a companion seat),</li>
+ *     <li>any seat in it breaks the request's price cap or restricted-view rule.</li>
+ * </ul>
+ * A window that would leave a single free seat stranded between it and a taken seat or
+ * the end of the row is only chosen when no other window fits.
+ * The remaining windows are scored by row (front rows first), distance from the centre of
+ * the row and the buyer's preferences, and the lowest score wins. The work is linear in the
+ * number of seats, which is a few hundred for the Large Hall.
+ */
+public class BestAvailableAllocator {
+    private static final int ROW_WEIGHT = 4;
+    private static final int RESTRICTED_PENALTY = 30;
+    private static final int NON_VIP_PENALTY = 20;
+
+    private final List<Row> rows;
+
+    /**
+     * One row of the seat map, as parallel arrays ordered by seat number.
+     */
+    private static final class Row {
+        private final String[] seatIds;
+        private final int[] numbers;
+        private final int[] pricesInPence;
+        private final boolean[] vip;
+        private final boolean[] restricted;
+
+        private Row(int size) {
+            seatIds = new String[size];
+            numbers = new int[size];
+            pricesInPence = new int[size];
+            vip = new boolean[size];
+            restricted = new boolean[size];
+        }
+
+        private boolean adjacent(int left, int right) {
+            return numbers[right] == numbers[left] + 1;
+        }
+    }
+
+    /**
+     * Builds the row model for one seat map.
+     *
+     * @param seatIds The IDs of every seat shown on the map, e.g. "A1" or "AA34".
+     * @param layout  The layout the seats belong to, for prices and seat flags; may be null.
+     */
+    public BestAvailableAllocator(Collection<String> seatIds, LayoutTemplate layout) {
+        Map<Integer, List<Integer>> keysByRow = new TreeMap<>();
+        for (String seatId : seatIds) {
+            int key = SeatKey.parse(seatId);
+            if (key != SeatKey.INVALID) {
+                keysByRow.computeIfAbsent(SeatKey.withNumber(key, 0), k -> new ArrayList<>()).add(key);
+            }
+        }
+
+        List<Row> rowList = new ArrayList<>(keysByRow.size());
+        for (List<Integer> keys : keysByRow.values()) {
+            int[] sorted = keys.stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(sorted);
+            Row row = new Row(sorted.length);
+            for (int i = 0; i < sorted.length; i++) {
+                int key = sorted[i];
+                row.seatIds[i] = SeatKey.format(key);
+                row.numbers[i] = SeatKey.number(key);
+                row.pricesInPence[i] = SeatPriceTable.NO_PRICE;
+                if (layout != null) {
+                    row.pricesInPence[i] = layout.getPriceTable().priceInPence(key);
+                    LayoutTemplate.SeatTemplate seat = layout.findSeat(SeatKey.rowLetters(key), row.numbers[i]);
+                    if (seat != null) {
+                        row.vip[i] = seat.isVip();
+                        row.restricted[i] = seat.isRestrictedView();
+                    }
+                }
+            }
+            rowList.add(row);
+        }
+        this.rows = Collections.unmodifiableList(rowList);
+    }
+
+    /**
+     * Finds the best block of seats for the request.
+     *
+     * @param availability The performance's current seat state.
+     * @param request      How many seats and which preferences.
+     * @return The seat IDs of the best block, left to right, or an empty list if no block fits.
+     */
+    public List<String> allocate(SeatAvailability availability, AllocationRequest request) {
+        int quantity = request.getQuantity();
+        // [0] = best window that strands no seat, [1] = best window overall
+        Row[] bestRow = new Row[2];
+        int[] bestStart = new int[2];
+        double[] bestScore = {Double.MAX_VALUE, Double.MAX_VALUE};
+
+        for (int r = 0; r < rows.size(); r++) {
+            Row row = rows.get(r);
+            int size = row.seatIds.length;
+            if (size < quantity) {
+                continue;
+            }
+            boolean[] free = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                free[i] = availability.isAvailable(row.seatIds[i]) && !availability.isWheelchair(row.seatIds[i]);
+            }
+            double rowCentre = (row.numbers[0] + row.numbers[size - 1]) / 2.0;
+
+            // run = number of adjacent free seats ending at i
+            int run = 0;
+            for (int end = 0; end < size; end++) {
+                run = free[end] && (run == 0 || row.adjacent(end - 1, end)) ? run + 1 : (free[end] ? 1 : 0);
+                if (run < quantity) {
+                    continue;
+                }
+                int start = end - quantity + 1;
+                double score = score(row, start, end, r, rowCentre, request);
+                int slot = leavesOrphan(row, free, start, end) ? 1 : 0;
+                for (int s = slot; s < 2; s++) {
+                    if (score < bestScore[s]) {
+                        bestScore[s] = score;
+                        bestRow[s] = row;
+                        bestStart[s] = start;
+                    }
+                }
+            }
+        }
+
+        // Stranding a single seat is only accepted when every other block is taken.
+        int pick = bestRow[0] != null ? 0 : 1;
+        if (bestRow[pick] == null) {
+            return List.of();
+        }
+        return List.of(Arrays.copyOfRange(bestRow[pick].seatIds, bestStart[pick], bestStart[pick] + quantity));
+    }
+
+    /**
+     * @return The window's score (lower is better), or {@link Double#MAX_VALUE} if a seat breaks the request.
+     */
+    private double score(Row row, int start, int end, int rowIndex, double rowCentre, AllocationRequest request) {
+        double score = rowIndex * ROW_WEIGHT;
+        score += Math.abs((row.numbers[start] + row.numbers[end]) / 2.0 - rowCentre);
+        for (int i = start; i <= end; i++) {
+            int price = row.pricesInPence[i];
+            if (price != SeatPriceTable.NO_PRICE && price > request.getMaxPriceInPence()) {
+                return Double.MAX_VALUE;
+            }
+            if (row.restricted[i]) {
+                if (!request.isAllowRestrictedView()) {
+                    return Double.MAX_VALUE;
+                }
+                score += RESTRICTED_PENALTY;
+            }
+            if (request.isPreferVip() && !row.vip[i]) {
+                score += NON_VIP_PENALTY;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * A window strands a seat if the seat just outside it is free but the one beyond that
+     * is taken, missing or across an aisle.
+     */
+    private static boolean leavesOrphan(Row row, boolean[] free, int start, int end) {
+        int left = start - 1;
+        if (left >= 0 && free[left] && row.adjacent(left, start)) {
+            boolean leftOpen = left - 1 >= 0 && free[left - 1] && row.adjacent(left - 1, left);
+            if (!leftOpen) {
+                return true;
+            }
+        }
+        int right = end + 1;
+        if (right < row.seatIds.length && free[right] && row.adjacent(end, right)) {
+            boolean rightOpen = right + 1 < row.seatIds.length && free[right + 1] && row.adjacent(right, right + 1);
+            if (!rightOpen) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
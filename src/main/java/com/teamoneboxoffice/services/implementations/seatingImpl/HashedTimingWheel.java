@@ -0,0 +1,150 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel for running many timeouts with one thread.
+ *
+ * The wheel is a ring of buckets; a single daemon thread advances one bucket per tick and
+ * runs the timeouts in it whose remaining rounds have reached zero. New timeouts are
+ * queued by {@link #schedule} and moved into their buckets by that thread at the start of
+ * each tick, so only it touches the buckets and a timeout can never land in a bucket the
+ * wheel has just passed. Scheduling and cancelling are O(1), and a tick only looks at one
+ * bucket, so thousands of seat holds cost no more than a few. Timeouts fire up to one tick
+ * late, which is fine for holds measured in minutes.
+ */
+public class HashedTimingWheel {
+    private final long tickMillis;
+    // Only touched by the worker thread.
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * A scheduled task. Cancelling it stops it from running; it is dropped from its
+     * bucket the next time the wheel passes over it.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * @param name       The name of the tick thread.
+     * @param tickMillis The length of one tick.
+     * @param wheelSize  The number of buckets.
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = (Queue<Timeout>[]) new Queue<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules a task to run once the delay has passed.
+     *
+     * @param task  The task; it runs on the wheel's thread, so it should be short.
+     * @param delay The delay.
+     * @param unit  The unit of the delay.
+     * @return A handle that can cancel the task.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long deadlineMillis = elapsedMillis + Math.max(0, unit.toMillis(delay));
+        // Round up, so a timeout never fires early.
+        Timeout timeout = new Timeout(task, (deadlineMillis + tickMillis - 1) / tickMillis);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the tick thread. Pending timeouts are dropped.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickMillis = (tick + 1) * tickMillis;
+            long sleepMillis = nextTickMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            tick++;
+            transferPending();
+            expire(buckets[(int) (tick % buckets.length)]);
+        }
+    }
+
+    /**
+     * Moves newly scheduled timeouts into their buckets. One whose deadline has already
+     * passed goes into the current bucket and runs on this tick.
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.cancelled) {
+                long deadlineTick = Math.max(timeout.deadlineTick, tick);
+                buckets[(int) (deadlineTick % buckets.length)].add(timeout);
+            }
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.cancelled) {
+                it.remove();
+            } else if (timeout.deadlineTick <= tick) {
+                it.remove();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error running scheduled timeout: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.entities.Seat;
+import com.teamoneboxoffice.entities.Section;
+import com.teamoneboxoffice.util.SeatKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only seating layout of one seating configuration (101, 102, ...).
+ *
+ * Templates are built once by {@link LayoutTemplates} and shared by every screen and
+ * performance that uses the configuration, so nothing in here may change after
+ * construction. State that differs per performance (booked, held, blocked seats) lives
+ * in {@link SeatAvailability}.
+ *
+ * Seats are identified by their seat-map ID ("AA34"), the form stored in Booked_Seats, so the
+ * seat canvas and the seat button map book the same seats.
+ */
+public final class LayoutTemplate {
+    private final int seatingConfigID;
+    private final List<SectionTemplate> sections;
+    private final Map<Integer, SeatTemplate> seatsByKey;
+    private final SeatPriceTable priceTable;
+    private final SeatAdjacencyGraph adjacency;
+    private final int seatCount;
+
+    /**
+     * Copies a freshly generated layout into immutable templates.
+     *
+     * @param seatingConfigID The configuration ID the sections were generated for.
+     * @param generated       The sections from {@code SeatingConfig.generateSeatingLayout}.
+     * @throws IllegalArgumentException if two seats have the same ID.
+     */
+    LayoutTemplate(int seatingConfigID, List<Section> generated) {
+        this.seatingConfigID = seatingConfigID;
+        List<SectionTemplate> sectionList = new ArrayList<>(generated.size());
+        Map<Integer, SeatTemplate> byKey = new HashMap<>();
+        int count = 0;
+
+        for (Section section : generated) {
+            List<SeatTemplate> seats = new ArrayList<>(section.getSeats().size());
+            for (Seat seat : section.getSeats()) {
+                SeatTemplate template = new SeatTemplate(seat);
+                seats.add(template);
+                if (byKey.putIfAbsent(template.getSeatKey(), template) != null) {
+                    throw new IllegalArgumentException("Seat " + template.getSeatID()
+                            + " appears twice in seating configuration " + seatingConfigID);
+                }
+            }
+            count += seats.size();
+            sectionList.add(new SectionTemplate(section, seats));
+        }
+
+        this.sections = Collections.unmodifiableList(sectionList);
+        this.seatsByKey = byKey;
+        this.priceTable = SeatPriceTable.of(generated);
+        this.adjacency = buildAdjacency(sectionList);
+        this.seatCount = count;
+    }
+
+    /**
+     * Links the seats of each row in seat number order, splitting a row where numbers are
+     * skipped or where it carries on in another section (an aisle). Rows are matched by
+     * their label rather than their position, as the side balcony rows run down the hall.
+     * Wheelchair spaces are the seats the layout data flags as such.
+     */
+    private static SeatAdjacencyGraph buildAdjacency(List<SectionTemplate> sections) {
+        SeatAdjacencyGraph.Builder builder = SeatAdjacencyGraph.builder();
+        for (SectionTemplate section : sections) {
+            Map<Integer, List<SeatTemplate>> rows = new LinkedHashMap<>();
+            for (SeatTemplate seat : section.getSeats()) {
+                rows.computeIfAbsent(SeatKey.withNumber(seat.getSeatKey(), 0), row -> new ArrayList<>()).add(seat);
+            }
+            for (List<SeatTemplate> row : rows.values()) {
+                row.sort(Comparator.comparingInt(seat -> SeatKey.number(seat.getSeatKey())));
+                List<String> run = new ArrayList<>();
+                int previousNumber = Integer.MIN_VALUE;
+                for (SeatTemplate seat : row) {
+                    int number = SeatKey.number(seat.getSeatKey());
+                    if (!run.isEmpty() && number != previousNumber + 1) {
+                        addRun(builder, run);
+                        run = new ArrayList<>();
+                    }
+                    run.add(seat.getSeatID());
+                    previousNumber = number;
+                    if (seat.isWheelchair()) {
+                        builder.markWheelchair(seat.getSeatID());
+                    }
+                }
+                addRun(builder, run);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void addRun(SeatAdjacencyGraph.Builder builder, List<String> run) {
+        if (!run.isEmpty()) {
+            builder.addRow(run);
+        }
+    }
+
+    public int getSeatingConfigID() {
+        return seatingConfigID;
+    }
+
+    public List<SectionTemplate> getSections() {
+        return sections;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public SeatPriceTable getPriceTable() {
+        return priceTable;
+    }
+
+    /**
+     * @return Which seats are side by side, and which are wheelchair spaces.
+     */
+    public SeatAdjacencyGraph getAdjacency() {
+        return adjacency;
+    }
+
+    /**
+     * @param seatKey A packed {@link SeatKey}.
+     * @return The seat with that key, or null if the layout has none.
+     */
+    public SeatTemplate getSeat(int seatKey) {
+        return seatsByKey.get(seatKey);
+    }
+
+    /**
+     * Finds a seat by row letters and seat number, as the seat-map screens label seats ("AA34").
+     *
+     * @param rowLetters The row letters code ({@link SeatKey#rowLetters(String)}).
+     * @param number     The seat number.
+     * @return The seat, or null if the layout has none.
+     */
+    public SeatTemplate findSeat(int rowLetters, int number) {
+        if (rowLetters < 0 || number < 0) {
+            return null;
+        }
+        return seatsByKey.get(SeatKey.of(0, rowLetters, 0, number));
+    }
+
+    /**
+     * One section of a layout.
+     */
+    public static final class SectionTemplate {
+        private final String name;
+        private final int rows;
+        private final int columns;
+        private final float basePrice;
+        private final List<SeatTemplate> seats;
+
+        private SectionTemplate(Section section, List<SeatTemplate> seats) {
+            this.name = section.getName();
+            this.rows = section.getRows();
+            this.columns = section.getColumns();
+            this.basePrice = section.getBasePrice();
+            this.seats = Collections.unmodifiableList(seats);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public float getBasePrice() {
+            return basePrice;
+        }
+
+        public List<SeatTemplate> getSeats() {
+            return seats;
+        }
+    }
+
+    /**
+     * One seat of a layout: its position, price and fixed attributes.
+     */
+    public static final class SeatTemplate {
+        private final int seatKey;
+        private final String seatID;
+        private final int row;
+        private final int column;
+        private final float price;
+        private final boolean vip;
+        private final boolean restrictedView;
+        private final boolean wheelchair;
+
+        private SeatTemplate(Seat seat) {
+            this.seatKey = seat.getSeatKey();
+            this.seatID = seat.getSeatID();
+            this.row = seat.getRow();
+            this.column = seat.getColumn();
+            this.price = seat.getPrice();
+            this.vip = seat.isVip();
+            this.restrictedView = seat.isRestrictedView();
+            this.wheelchair = seat.isWheelchair();
+        }
+
+        public int getSeatKey() {
+            return seatKey;
+        }
+
+        public String getSeatID() {
+            return seatID;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        public float getPrice() {
+            return price;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+
+        public boolean isRestrictedView() {
+            return restrictedView;
+        }
+
+        public boolean isWheelchair() {
+            return wheelchair;
+        }
+    }
+}
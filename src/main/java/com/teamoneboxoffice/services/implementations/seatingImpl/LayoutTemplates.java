@@ -0,0 +1,52 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.entities.SeatingConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-wide cache of {@link LayoutTemplate}s, one per seating configuration ID.
+ * A layout is generated the first time its configuration is asked for and reused after
+ * that. Unknown configurations (ID -1) share the default layout.
+ */
+public final class LayoutTemplates {
+    private static final Map<Integer, LayoutTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private LayoutTemplates() {
+    }
+
+    /**
+     * @param seatingConfigID The seating configuration ID, e.g. 101.
+     * @return The shared layout for that configuration.
+     */
+    public static LayoutTemplate get(int seatingConfigID) {
+        return TEMPLATES.computeIfAbsent(seatingConfigID,
+                id -> new LayoutTemplate(id, SeatingConfig.generateSeatingLayout(id)));
+    }
+
+    /**
+     * @param venueID   The venue ID (1 for the main theatre, 2 for the small hall).
+     * @param eventType The event type, e.g. "Film".
+     * @return The shared layout for the venue and event type. Event types without a
+     *         configuration of their own get the venue's standard layout, so the seat
+     *         map still matches the hall.
+     */
+    public static LayoutTemplate get(int venueID, String eventType) {
+        int seatingConfigID = SeatingConfig.getSeatingConfigID(venueID, eventType);
+        if (seatingConfigID == -1) {
+            seatingConfigID = venueID == 1 ? 101 : 201;
+        }
+        return get(seatingConfigID);
+    }
+
+    /**
+     * Maps a hall type as stored on an event to its venue ID.
+     *
+     * @param hallType The event's hall type, e.g. "Large Hall".
+     * @return 1 for the large hall, otherwise 2.
+     */
+    public static int venueIdForHall(String hallType) {
+        return hallType != null && hallType.toLowerCase().contains("large") ? 1 : 2;
+    }
+}
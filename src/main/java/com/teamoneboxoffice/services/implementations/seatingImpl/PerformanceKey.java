@@ -0,0 +1,73 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.entities.Event;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Identifies one performance: an event at a given date and time.
+ * Used as the key for per-performance seat state.
+ */
+public final class PerformanceKey {
+    private final String eventId;
+    private final LocalDate eventDate;
+    private final String eventTime;
+
+    /**
+     * Constructs a new PerformanceKey.
+     *
+     * @param eventId   The ID of the event.
+     * @param eventDate The date of the performance.
+     * @param eventTime The time of the performance.
+     */
+    public PerformanceKey(String eventId, LocalDate eventDate, String eventTime) {
+        this.eventId = Objects.requireNonNull(eventId, "eventId");
+        this.eventDate = Objects.requireNonNull(eventDate, "eventDate");
+        this.eventTime = Objects.requireNonNull(eventTime, "eventTime");
+    }
+
+    /**
+     * Creates the key for the performance stored on an Event row.
+     *
+     * @param event The event.
+     * @return The key, or null if the event has no date or time.
+     */
+    public static PerformanceKey of(Event event) {
+        if (event == null || event.getEventDate() == null || event.getEventTime() == null) {
+            return null;
+        }
+        LocalDate date = new java.sql.Date(event.getEventDate().getTime()).toLocalDate();
+        return new PerformanceKey(event.getEventID(), date, event.getEventTime());
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public LocalDate getEventDate() {
+        return eventDate;
+    }
+
+    public String getEventTime() {
+        return eventTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PerformanceKey)) return false;
+        PerformanceKey other = (PerformanceKey) o;
+        return eventId.equals(other.eventId) && eventDate.equals(other.eventDate) && eventTime.equals(other.eventTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, eventDate, eventTime);
+    }
+
+    @Override
+    public String toString() {
+        return eventId + "@" + eventDate + " " + eventTime;
+    }
+}
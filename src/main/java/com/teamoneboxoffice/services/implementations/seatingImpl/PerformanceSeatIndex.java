@@ -0,0 +1,82 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory booked-seat state per performance, shared by the seat-map screens.
+ *
+ * The first request for a performance runs the event-scoped query
+ * ({@link IEventDAO#getBookedSeatIds}); later requests within the freshness window are
+ * answered from memory. Bookings and refunds made on this terminal invalidate the affected
+ * state, so staff always see their own changes; bookings from other terminals show up
+ * once the entry goes stale and is reloaded.
+ */
+public class PerformanceSeatIndex {
+    private static final long DEFAULT_FRESHNESS_MILLIS = 5000;
+
+    private final IEventDAO eventDAO;
+    private final long freshnessMillis;
+    private final Map<PerformanceKey, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Booked seats of one performance and when they were read from the database.
+     */
+    private static final class Entry {
+        private final Set<String> bookedSeatIds = ConcurrentHashMap.newKeySet();
+        private final long loadedAt = System.currentTimeMillis();
+    }
+
+    public PerformanceSeatIndex(IEventDAO eventDAO) {
+        this(eventDAO, DEFAULT_FRESHNESS_MILLIS);
+    }
+
+    /**
+     * @param eventDAO        The DAO used to load booked seats.
+     * @param freshnessMillis How long loaded state is reused before it is re-read.
+     */
+    public PerformanceSeatIndex(IEventDAO eventDAO, long freshnessMillis) {
+        this.eventDAO = eventDAO;
+        this.freshnessMillis = freshnessMillis;
+    }
+
+    /**
+     * Returns the seats booked for a performance, loading them if they are not
+     * held in memory or are older than the freshness window.
+     *
+     * @param key The performance.
+     * @return An immutable snapshot of the booked seat IDs.
+     */
+    public Set<String> getBookedSeatIds(PerformanceKey key) {
+        if (key == null) {
+            return Set.of();
+        }
+        Entry entry = entries.get(key);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt > freshnessMillis) {
+            entry = new Entry();
+            entry.bookedSeatIds.addAll(eventDAO.getBookedSeatIds(key.getEventId(), key.getEventDate(), key.getEventTime()));
+            entries.put(key, entry);
+            System.out.println("Fetched " + entry.bookedSeatIds.size() + " booked seats for " + key);
+        }
+        return Set.copyOf(entry.bookedSeatIds);
+    }
+
+    /**
+     * Drops the state of every performance of an event, forcing a reload.
+     *
+     * @param eventId The ID of the event.
+     */
+    public void invalidateEvent(String eventId) {
+        entries.keySet().removeIf(key -> key.getEventId().equals(eventId));
+    }
+
+    /**
+     * Drops all held state, e.g. after a refund whose event is not known.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+}
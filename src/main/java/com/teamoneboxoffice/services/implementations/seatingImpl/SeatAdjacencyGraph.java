@@ -0,0 +1,206 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Which seats of a seat map sit side by side, and which are wheelchair spaces.
+ *
+ * The graph is built once per layout from its rows: neighbouring seats in a row are linked
+ * left and right, so finding the companion seat next to a wheelchair space is two array
+ * lookups rather than parsing and probing seat IDs. Wheelchair spaces are flagged by the
+ * layout's data when it is built, so a new hall needs no code of its own.
+ *
+ * Read-only once built, so one graph can be shared by every performance using the layout.
+ */
+public final class SeatAdjacencyGraph {
+    private static final int NONE = -1;
+
+    private final Map<String, Integer> indexById;
+    private final String[] seatIds;
+    private final int[] left;
+    private final int[] right;
+    private final BitSet wheelchair;
+
+    private SeatAdjacencyGraph(Builder builder) {
+        int size = builder.seatIds.size();
+        this.indexById = builder.indexById;
+        this.seatIds = builder.seatIds.toArray(new String[0]);
+        this.left = Arrays.copyOf(builder.left, size);
+        this.right = Arrays.copyOf(builder.right, size);
+        this.wheelchair = (BitSet) builder.wheelchair.clone();
+    }
+
+    /**
+     * @return A builder for a new graph.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    /**
+     * @return The IDs of every seat in the graph.
+     */
+    public Set<String> getSeatIds() {
+        return Collections.unmodifiableSet(indexById.keySet());
+    }
+
+    public boolean contains(String seatId) {
+        return indexById.containsKey(seatId);
+    }
+
+    public boolean isWheelchair(String seatId) {
+        Integer index = indexById.get(seatId);
+        return index != null && wheelchair.get(index);
+    }
+
+    /**
+     * @return The IDs of every wheelchair space.
+     */
+    public List<String> getWheelchairSeatIds() {
+        List<String> result = new ArrayList<>(wheelchair.cardinality());
+        for (int i = wheelchair.nextSetBit(0); i >= 0; i = wheelchair.nextSetBit(i + 1)) {
+            result.add(seatIds[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param seatId A seat ID.
+     * @return The seat to its left in the same row, or null.
+     */
+    public String getLeft(String seatId) {
+        return neighbour(seatId, left);
+    }
+
+    /**
+     * @param seatId A seat ID.
+     * @return The seat to its right in the same row, or null.
+     */
+    public String getRight(String seatId) {
+        return neighbour(seatId, right);
+    }
+
+    /**
+     * Finds the seat to keep free next to a wheelchair space: the seat to its right if that
+     * is free, otherwise the seat to its left.
+     *
+     * @param seatId The wheelchair space.
+     * @param isFree Tells whether a seat can be blocked for the companion.
+     * @return The companion seat ID, or null if neither neighbour is free.
+     */
+    public String findCompanionSeat(String seatId, Predicate<String> isFree) {
+        Integer index = indexById.get(seatId);
+        if (index == null) {
+            return null;
+        }
+        int rightIndex = right[index];
+        if (rightIndex != NONE && isFree.test(seatIds[rightIndex])) {
+            return seatIds[rightIndex];
+        }
+        int leftIndex = left[index];
+        if (leftIndex != NONE && isFree.test(seatIds[leftIndex])) {
+            return seatIds[leftIndex];
+        }
+        return null;
+    }
+
+    private String neighbour(String seatId, int[] links) {
+        Integer index = indexById.get(seatId);
+        if (index == null || links[index] == NONE) {
+            return null;
+        }
+        return seatIds[links[index]];
+    }
+
+    /**
+     * Collects a layout's rows and wheelchair spaces.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> indexById = new HashMap<>();
+        private final List<String> seatIds = new ArrayList<>();
+        private final BitSet wheelchair = new BitSet();
+        private int[] left = new int[64];
+        private int[] right = new int[64];
+        private boolean built;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a row, or a run of a row between aisles. Each seat is linked to the seats
+         * before and after it in the list; the ends are left unlinked on their outer side.
+         *
+         * @param rowSeatIds The row's seat IDs, in order from one end to the other.
+         * @return This builder.
+         */
+        public Builder addRow(List<String> rowSeatIds) {
+            checkNotBuilt();
+            int previous = NONE;
+            for (String seatId : rowSeatIds) {
+                int index = indexOf(seatId);
+                if (previous != NONE) {
+                    right[previous] = index;
+                    left[index] = previous;
+                }
+                previous = index;
+            }
+            return this;
+        }
+
+        /**
+         * Flags a seat as a wheelchair space, adding it if it is not in a row.
+         *
+         * @param seatId The seat ID.
+         * @return This builder.
+         */
+        public Builder markWheelchair(String seatId) {
+            checkNotBuilt();
+            wheelchair.set(indexOf(seatId));
+            return this;
+        }
+
+        /**
+         * @return The graph. The builder cannot be used after this.
+         */
+        public SeatAdjacencyGraph build() {
+            checkNotBuilt();
+            built = true;
+            return new SeatAdjacencyGraph(this);
+        }
+
+        private int indexOf(String seatId) {
+            Integer index = indexById.get(seatId);
+            if (index != null) {
+                return index;
+            }
+            int created = seatIds.size();
+            if (created == left.length) {
+                left = Arrays.copyOf(left, created * 2);
+                right = Arrays.copyOf(right, created * 2);
+            }
+            left[created] = NONE;
+            right[created] = NONE;
+            seatIds.add(seatId);
+            indexById.put(seatId, created);
+            return created;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Seat adjacency graph already built");
+            }
+        }
+    }
+}
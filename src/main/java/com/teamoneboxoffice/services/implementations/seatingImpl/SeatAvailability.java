@@ -0,0 +1,218 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seat state of one performance as it is shown on a seat map.
+ *
+ * Every seat ID is given an ordinal the first time it is seen, and each state
+ * (selected, held, booked, blocked, wheelchair) is one bit per ordinal, so a status check is a
+ * map lookup plus a bit test instead of a scan of a seat list. A {@link Snapshot} copies
+ * the bits, which lets a screen work out which seats changed between two refreshes.
+ *
+ * Selected seats are the ones picked for the booking on this screen; held seats are held
+ * by other bookings that have not been committed yet.
+ *
+ * Not thread-safe; seat maps only touch it from the JavaFX application thread.
+ */
+public class SeatAvailability {
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> seatIds = new ArrayList<>();
+
+    private final BitSet selected = new BitSet();
+    private final BitSet held = new BitSet();
+    private final BitSet booked = new BitSet();
+    private final BitSet blocked = new BitSet();
+    private final BitSet wheelchair = new BitSet();
+
+    /**
+     * Returns the ordinal of a seat, assigning the next one if the seat is new.
+     *
+     * @param seatId The seat ID (e.g. "A1").
+     * @return The seat's ordinal.
+     */
+    public int ordinalOf(String seatId) {
+        Integer ordinal = ordinals.get(seatId);
+        if (ordinal == null) {
+            ordinal = seatIds.size();
+            ordinals.put(seatId, ordinal);
+            seatIds.add(seatId);
+        }
+        return ordinal;
+    }
+
+    /**
+     * @param ordinal A seat ordinal.
+     * @return The seat ID the ordinal was assigned to, or null if it is unknown.
+     */
+    public String seatIdAt(int ordinal) {
+        return ordinal >= 0 && ordinal < seatIds.size() ? seatIds.get(ordinal) : null;
+    }
+
+    /**
+     * @return The number of seats that have been given an ordinal.
+     */
+    public int size() {
+        return seatIds.size();
+    }
+
+    public boolean isSelected(String seatId) {
+        return test(selected, seatId);
+    }
+
+    public boolean isHeld(String seatId) {
+        return test(held, seatId);
+    }
+
+    public boolean isBooked(String seatId) {
+        return test(booked, seatId);
+    }
+
+    public boolean isBlocked(String seatId) {
+        return test(blocked, seatId);
+    }
+
+    public boolean isWheelchair(String seatId) {
+        return test(wheelchair, seatId);
+    }
+
+    /**
+     * @param seatId The seat ID.
+     * @return true if the seat is not selected, held, booked or blocked.
+     */
+    public boolean isAvailable(String seatId) {
+        Integer ordinal = ordinals.get(seatId);
+        return ordinal == null
+                || !(selected.get(ordinal) || held.get(ordinal) || booked.get(ordinal) || blocked.get(ordinal));
+    }
+
+    public void setSelected(String seatId, boolean value) {
+        selected.set(ordinalOf(seatId), value);
+    }
+
+    public void setHeld(String seatId, boolean value) {
+        held.set(ordinalOf(seatId), value);
+    }
+
+    public void setBooked(String seatId, boolean value) {
+        booked.set(ordinalOf(seatId), value);
+    }
+
+    public void setBlocked(String seatId, boolean value) {
+        blocked.set(ordinalOf(seatId), value);
+    }
+
+    public void setWheelchair(String seatId, boolean value) {
+        wheelchair.set(ordinalOf(seatId), value);
+    }
+
+    /**
+     * Replaces the booked seats with the given set, e.g. after a reload from the database.
+     * Selected, held, blocked and wheelchair bits are left as they are.
+     *
+     * @param bookedSeatIds The seats that are now booked.
+     */
+    public void replaceBooked(Collection<String> bookedSeatIds) {
+        replace(booked, bookedSeatIds);
+    }
+
+    /**
+     * Replaces the seats held by other bookings with the given set, e.g. after a reload.
+     * Selected, booked, blocked and wheelchair bits are left as they are.
+     *
+     * @param heldSeatIds The seats that are now held.
+     */
+    public void replaceHeld(Collection<String> heldSeatIds) {
+        replace(held, heldSeatIds);
+    }
+
+    /**
+     * Clears every selected and blocked bit, leaving held, booked and wheelchair seats alone.
+     */
+    public void clearSelectionState() {
+        selected.clear();
+        blocked.clear();
+    }
+
+    /**
+     * @return A copy of the current bits that later changes do not affect.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot((BitSet) selected.clone(), (BitSet) held.clone(), (BitSet) booked.clone(),
+                (BitSet) blocked.clone());
+    }
+
+    /**
+     * Lists the seats whose selected, held, booked or blocked state differs from an earlier snapshot.
+     *
+     * @param previous The snapshot taken at the last refresh, or null to list every seat that is not available.
+     * @return The IDs of the seats that changed.
+     */
+    public List<String> changedSince(Snapshot previous) {
+        BitSet changed = snapshot().diff(previous);
+        List<String> changedSeatIds = new ArrayList<>(changed.cardinality());
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            changedSeatIds.add(seatIds.get(i));
+        }
+        return changedSeatIds;
+    }
+
+    private void replace(BitSet bits, Collection<String> seatIds) {
+        bits.clear();
+        for (String seatId : seatIds) {
+            bits.set(ordinalOf(seatId));
+        }
+    }
+
+    private boolean test(BitSet bits, String seatId) {
+        Integer ordinal = ordinals.get(seatId);
+        return ordinal != null && bits.get(ordinal);
+    }
+
+    /**
+     * Immutable copy of the selected, held, booked and blocked bits at one point in time.
+     */
+    public static final class Snapshot {
+        private final BitSet selected;
+        private final BitSet held;
+        private final BitSet booked;
+        private final BitSet blocked;
+
+        private Snapshot(BitSet selected, BitSet held, BitSet booked, BitSet blocked) {
+            this.selected = selected;
+            this.held = held;
+            this.booked = booked;
+            this.blocked = blocked;
+        }
+
+        public int bookedCount() {
+            return booked.cardinality();
+        }
+
+        /**
+         * @param previous An earlier snapshot of the same performance, or null.
+         * @return The ordinals whose state differs between the two snapshots.
+         */
+        BitSet diff(Snapshot previous) {
+            BitSet changed = new BitSet();
+            changed.or(xor(selected, previous == null ? null : previous.selected));
+            changed.or(xor(held, previous == null ? null : previous.held));
+            changed.or(xor(booked, previous == null ? null : previous.booked));
+            changed.or(xor(blocked, previous == null ? null : previous.blocked));
+            return changed;
+        }
+
+        private static BitSet xor(BitSet current, BitSet previous) {
+            BitSet result = (BitSet) current.clone();
+            if (previous != null) {
+                result.xor(previous);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.entities.SeatHold;
+import com.teamoneboxoffice.interfaces.DAOs.IEventDAO;
+import com.teamoneboxoffice.interfaces.DAOs.ISeatHoldDAO;
+import com.teamoneboxoffice.util.IdGenerator;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places, extends and releases temporary holds on the seats of a booking in progress.
+ *
+ * Holds are written to the Seat_Holds table through {@link ISeatHoldDAO}, whose primary key
+ * stops two terminals holding the same seat, and mirrored in memory so this terminal sees
+ * its own holds without a query. Expiry is driven by a {@link HashedTimingWheel}: each hold
+ * schedules one timeout, and when it fires the hold is dropped from the mirror straight
+ * away and from the table on a separate thread, so a slow query never holds up the wheel
+ * and the other expiries due on it. Holds left behind by a terminal that stopped are reclaimed by the next hold on the
+ * same seat, and swept once in the background when the service starts.
+ */
+public class SeatHoldService {
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+
+    private final ISeatHoldDAO seatHoldDAO;
+    private final IEventDAO eventDAO;
+    private final HashedTimingWheel wheel;
+    // Deletes the rows of expired holds, and the startup sweep, one virtual thread each.
+    private final ExecutorService expiryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // holdId -> hold, and performance -> seatId -> holdId
+    private final Map<String, ActiveHold> holds = new ConcurrentHashMap<>();
+    private final Map<PerformanceKey, Map<String, String>> heldSeats = new ConcurrentHashMap<>();
+
+    /**
+     * One hold placed from this terminal.
+     */
+    private static final class ActiveHold {
+        private final String holdId;
+        private final PerformanceKey performance;
+        private final List<String> seatIds;
+        private volatile Instant expiresAt;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private ActiveHold(String holdId, PerformanceKey performance, List<String> seatIds, Instant expiresAt) {
+            this.holdId = holdId;
+            this.performance = performance;
+            this.seatIds = seatIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * @param seatHoldDAO The DAO holds are persisted through.
+     * @param eventDAO    The DAO used to check that requested seats are not already booked.
+     */
+    public SeatHoldService(ISeatHoldDAO seatHoldDAO, IEventDAO eventDAO) {
+        this.seatHoldDAO = seatHoldDAO;
+        this.eventDAO = eventDAO;
+        this.wheel = new HashedTimingWheel("seat-hold-expiry", TICK_MILLIS, WHEEL_SIZE);
+        // The service is built on the FX thread at startup, so the sweep runs off it. Only
+        // holds already expired now are removed, never ones placed while the sweep runs.
+        Instant startedAt = Instant.now();
+        expiryExecutor.execute(() -> {
+            int swept = seatHoldDAO.deleteExpiredHolds(startedAt);
+            if (swept > 0) {
+                System.out.println("Removed " + swept + " expired seat holds.");
+            }
+        });
+    }
+
+    /**
+     * Holds a set of seats for one booking. Either every seat is held or none is.
+     *
+     * @param performance The performance.
+     * @param seatIds     The seats to hold.
+     * @param heldBy      Who is holding them (see {@link #holderName(String)}).
+     * @param ttl         How long the hold lasts unless extended or released.
+     * @return The ID of the new hold, or null if any seat is booked or held elsewhere.
+     */
+    public String hold(PerformanceKey performance, Collection<String> seatIds, String heldBy, Duration ttl) {
+        if (performance == null || seatIds == null || seatIds.isEmpty()) {
+            return null;
+        }
+        List<String> seats = List.copyOf(new HashSet<>(seatIds));
+        Set<String> booked = new HashSet<>(eventDAO.getBookedSeatIds(
+                performance.getEventId(), performance.getEventDate(), performance.getEventTime()));
+        for (String seatId : seats) {
+            if (booked.contains(seatId)) {
+                System.out.println("Seat " + seatId + " is already booked for " + performance);
+                return null;
+            }
+        }
+
+        String holdId = IdGenerator.nextHoldId();
+        Instant now = Instant.now();
+        ActiveHold hold = new ActiveHold(holdId, performance, seats, now.plus(ttl));
+
+        // Claim the seats in the mirror first, so two bookings on this terminal cannot race.
+        Map<String, String> performanceSeats = heldSeats.computeIfAbsent(performance, k -> new ConcurrentHashMap<>());
+        List<String> claimed = new ArrayList<>(seats.size());
+        for (String seatId : seats) {
+            if (performanceSeats.putIfAbsent(seatId, holdId) != null) {
+                claimed.forEach(id -> performanceSeats.remove(id, holdId));
+                System.out.println("Seat " + seatId + " is already held on this terminal for " + performance);
+                return null;
+            }
+            claimed.add(seatId);
+        }
+
+        List<SeatHold> rows = new ArrayList<>(seats.size());
+        for (String seatId : seats) {
+            rows.add(new SeatHold(holdId, performance.getEventId(), performance.getEventDate(),
+                    performance.getEventTime(), seatId, heldBy, hold.expiresAt));
+        }
+        if (!seatHoldDAO.insertHolds(rows, now)) {
+            claimed.forEach(id -> performanceSeats.remove(id, holdId));
+            return null;
+        }
+
+        holds.put(holdId, hold);
+        schedule(hold, ttl);
+        System.out.println("Held " + seats + " for " + performance + " until " + hold.expiresAt + " (" + holdId + ")");
+        return holdId;
+    }
+
+    /**
+     * Pushes back the expiry of a hold.
+     *
+     * @param holdId The hold.
+     * @param ttl    How long from now the hold should last.
+     * @return true if the hold was still active and was extended.
+     */
+    public boolean extend(String holdId, Duration ttl) {
+        ActiveHold hold = holdId == null ? null : holds.get(holdId);
+        if (hold == null || !hold.expiresAt.isAfter(Instant.now())) {
+            return false;
+        }
+        Instant expiresAt = Instant.now().plus(ttl);
+        if (!seatHoldDAO.extendHold(holdId, expiresAt)) {
+            return false;
+        }
+        hold.expiresAt = expiresAt;
+        hold.timeout.cancel();
+        schedule(hold, ttl);
+        return true;
+    }
+
+    /**
+     * Releases a hold, e.g. once its booking is committed or abandoned.
+     *
+     * @param holdId The hold; null is ignored.
+     */
+    public void release(String holdId) {
+        if (holdId == null) {
+            return;
+        }
+        ActiveHold hold = holds.remove(holdId);
+        if (hold != null) {
+            if (hold.timeout != null) {
+                hold.timeout.cancel();
+            }
+            forget(hold);
+        }
+        seatHoldDAO.releaseHold(holdId);
+    }
+
+    /**
+     * @param holdId The hold.
+     * @return true if the hold exists and has not expired.
+     */
+    public boolean isActive(String holdId) {
+        ActiveHold hold = holdId == null ? null : holds.get(holdId);
+        return hold != null && hold.expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * Lists the seats of a performance currently held by any terminal, including this one.
+     *
+     * @param performance The performance.
+     * @return The held seat IDs.
+     */
+    public Set<String> getHeldSeatIds(PerformanceKey performance) {
+        if (performance == null) {
+            return Set.of();
+        }
+        Set<String> held = new HashSet<>(heldSeats.getOrDefault(performance, Map.of()).keySet());
+        for (SeatHold hold : seatHoldDAO.getActiveHolds(performance.getEventId(), performance.getEventDate(),
+                performance.getEventTime(), Instant.now())) {
+            held.add(hold.getSeatID());
+        }
+        return held;
+    }
+
+    /**
+     * Stops the expiry threads. Holds already in the table expire on their own.
+     */
+    public void shutdown() {
+        wheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    /**
+     * Builds the Held_By value for the current terminal.
+     *
+     * @param userName The logged-in user, or null.
+     * @return e.g. "staff@BOXOFFICE-2".
+     */
+    public static String holderName(String userName) {
+        String terminal;
+        try {
+            terminal = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            terminal = "unknown";
+        }
+        return (userName != null ? userName : "unknown") + "@" + terminal;
+    }
+
+    private void schedule(ActiveHold hold, Duration ttl) {
+        hold.timeout = wheel.schedule(() -> expire(hold), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void expire(ActiveHold hold) {
+        Instant now = Instant.now();
+        if (hold.expiresAt.isAfter(now)) {
+            // The wall clock lags the wheel's; check again once it catches up.
+            if (holds.get(hold.holdId) == hold) {
+                schedule(hold, Duration.between(now, hold.expiresAt));
+            }
+            return;
+        }
+        if (!holds.remove(hold.holdId, hold)) {
+            return;
+        }
+        forget(hold);
+        try {
+            expiryExecutor.execute(() -> {
+                seatHoldDAO.releaseHold(hold.holdId);
+                System.out.println("Seat hold " + hold.holdId + " on " + hold.performance + " expired.");
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down: the row has expired and is swept when a service next starts.
+        }
+    }
+
+    private void forget(ActiveHold hold) {
+        Map<String, String> performanceSeats = heldSeats.get(hold.performance);
+        if (performanceSeats != null) {
+            hold.seatIds.forEach(seatId -> performanceSeats.remove(seatId, hold.holdId));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import com.teamoneboxoffice.entities.Seat;
+import com.teamoneboxoffice.entities.Section;
+import com.teamoneboxoffice.util.SeatKey;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Seat prices of one seating configuration in pence, keyed by {@link SeatKey}.
+ *
+ * The prices come from the layout's Section pricing rules and are copied into two
+ * open-addressing int tables when the table is built: one keyed by the full seat key
+ * ("Stalls-A-12") and one keyed by row letters and seat number only, for the seat-map
+ * IDs ("A12") that carry no section. A lookup is a hash and a short probe with no boxing.
+ */
+public final class SeatPriceTable {
+    /** Returned when a seat is not part of the layout. */
+    public static final int NO_PRICE = -1;
+
+    private static final int EMPTY = SeatKey.INVALID;
+
+    private final int[] keys;
+    private final int[] pence;
+    private final int[] seatMapKeys;
+    private final int[] seatMapPence;
+    private final int mask;
+
+    private SeatPriceTable(int capacity) {
+        this.keys = new int[capacity];
+        this.pence = new int[capacity];
+        this.seatMapKeys = new int[capacity];
+        this.seatMapPence = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(seatMapKeys, EMPTY);
+    }
+
+    /**
+     * Builds the table from a generated layout. When two sections have a seat with the same
+     * row letters and number, the seat-map lookup returns the one in the earlier section.
+     *
+     * @param sections The layout's sections, in display order.
+     * @return The price table.
+     */
+    public static SeatPriceTable of(List<Section> sections) {
+        int seatCount = 0;
+        for (Section section : sections) {
+            seatCount += section.getSeats().size();
+        }
+        // Keep the load factor at or below one half so probes stay short.
+        int capacity = Integer.highestOneBit(Math.max(2, seatCount) * 2 - 1) << 1;
+        SeatPriceTable table = new SeatPriceTable(capacity);
+
+        for (Section section : sections) {
+            for (Seat seat : section.getSeats()) {
+                int seatKey = seat.getSeatKey();
+                if (seatKey == SeatKey.INVALID) {
+                    continue;
+                }
+                int price = toPence(seat.getPrice());
+                table.put(table.keys, table.pence, seatKey, price, true);
+                table.put(table.seatMapKeys, table.seatMapPence, seatMapKey(seatKey), price, false);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @param seatKey A packed seat key in either form.
+     * @return The price in pence, or {@link #NO_PRICE} if the seat is not in the layout.
+     */
+    public int priceInPence(int seatKey) {
+        if (seatKey == SeatKey.INVALID) {
+            return NO_PRICE;
+        }
+        if (SeatKey.section(seatKey) == 0) {
+            return get(seatMapKeys, seatMapPence, seatMapKey(seatKey));
+        }
+        return get(keys, pence, seatKey);
+    }
+
+    /**
+     * Prices a seat-map seat by row letters and number.
+     *
+     * @param rowLetters The row letters code ({@link SeatKey#rowLetters(String)}).
+     * @param number     The seat number.
+     * @return The price in pence, or {@link #NO_PRICE}.
+     */
+    public int priceInPence(int rowLetters, int number) {
+        if (rowLetters < 0 || number < 0) {
+            return NO_PRICE;
+        }
+        return get(seatMapKeys, seatMapPence, SeatKey.of(0, rowLetters, 0, number));
+    }
+
+    /**
+     * @param price A price in pounds as held on Seat.
+     * @return The price rounded to whole pence.
+     */
+    public static int toPence(float price) {
+        return Math.round(price * 100f);
+    }
+
+    private static int seatMapKey(int seatKey) {
+        return SeatKey.of(0, SeatKey.rowLetters(seatKey), 0, SeatKey.number(seatKey));
+    }
+
+    private void put(int[] tableKeys, int[] tableValues, int key, int value, boolean replace) {
+        int slot = hash(key) & mask;
+        while (tableKeys[slot] != EMPTY && tableKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (tableKeys[slot] == EMPTY || replace) {
+            tableKeys[slot] = key;
+            tableValues[slot] = value;
+        }
+    }
+
+    private int get(int[] tableKeys, int[] tableValues, int key) {
+        int slot = hash(key) & mask;
+        while (tableKeys[slot] != EMPTY) {
+            if (tableKeys[slot] == key) {
+                return tableValues[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_PRICE;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
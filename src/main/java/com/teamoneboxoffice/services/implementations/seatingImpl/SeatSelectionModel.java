@@ -0,0 +1,258 @@
+package com.teamoneboxoffice.services.implementations.seatingImpl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The seats picked for one booking on one seat map, and the rules for picking them.
+ *
+ * The model works on seat IDs and a performance's {@link SeatAvailability}: a selected seat
+ * is marked selected, and the companion seat kept free next to a wheelchair seat is marked
+ * blocked. It knows nothing about JavaFX, so the same rules serve the seat buttons, the seat
+ * canvas, the best-available allocator and tests. Screens listen for changes and redraw
+ * the seats they are told about.
+ *
+ * The rules:
+ * <ul>
+ *     <li>no more than {@link #getMaxSeats()} seats can be selected;</li>
+ *     <li>only available seats (not selected, held by another booking, booked or blocked) can be selected;</li>
+ *     <li>for a wheelchair booking, a wheelchair space needs a free neighbour in its row
+ *     (right first, then left, from the map's {@link SeatAdjacencyGraph}), which is blocked
+ *     until the seat is deselected.</li>
+ * </ul>
+ * Selecting, deselecting and undoing the last of those are constant time.
+ *
+ * Not thread-safe; use it from one thread, like the {@link SeatAvailability} it wraps.
+ */
+public class SeatSelectionModel {
+
+    /**
+     * The outcome of {@link #select}.
+     */
+    public enum Result {
+        SELECTED,
+        /** The seat is held by another booking, booked, blocked, already selected or not on the map. */
+        UNAVAILABLE,
+        /** The maximum number of seats is already selected. */
+        LIMIT_REACHED,
+        /** A wheelchair seat has no free neighbour for the companion. */
+        NO_COMPANION_SEAT
+    }
+
+    /**
+     * Receives the seats whose selection state changed, including blocked companions.
+     */
+    public interface Listener {
+        void seatsChanged(List<String> seatIds);
+    }
+
+    /** One select or deselect, remembered so it can be undone. */
+    private static final class Step {
+        private final boolean selected;
+        private final String seatId;
+        private final String companionSeatId;
+
+        private Step(boolean selected, String seatId, String companionSeatId) {
+            this.selected = selected;
+            this.seatId = seatId;
+            this.companionSeatId = companionSeatId;
+        }
+    }
+
+    private final SeatAvailability availability;
+    private final SeatAdjacencyGraph seatGraph;
+    private final Set<String> selected = new LinkedHashSet<>();
+    private final Map<String, String> companions = new HashMap<>();
+    private final Deque<Step> history = new ArrayDeque<>();
+    private final List<Listener> listeners = new ArrayList<>();
+    private int maxSeats;
+
+    /**
+     * @param availability The performance's seat state; selections are written into it.
+     * @param seatGraph    The seats on the map and their neighbours.
+     * @param maxSeats     How many seats the booking needs.
+     */
+    public SeatSelectionModel(SeatAvailability availability, SeatAdjacencyGraph seatGraph, int maxSeats) {
+        this.availability = availability;
+        this.seatGraph = seatGraph;
+        this.maxSeats = maxSeats;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public int getMaxSeats() {
+        return maxSeats;
+    }
+
+    /**
+     * Changes how many seats the booking needs. Seats already selected stay selected.
+     *
+     * @param maxSeats The new number of seats.
+     */
+    public void setMaxSeats(int maxSeats) {
+        this.maxSeats = maxSeats;
+    }
+
+    /**
+     * @return The selected seat IDs in the order they were picked.
+     */
+    public List<String> getSelectedSeatIds() {
+        return new ArrayList<>(selected);
+    }
+
+    public int getSelectedCount() {
+        return selected.size();
+    }
+
+    public boolean isSelected(String seatId) {
+        return selected.contains(seatId);
+    }
+
+    /**
+     * @return true once exactly the required number of seats is selected.
+     */
+    public boolean isComplete() {
+        return selected.size() == maxSeats;
+    }
+
+    /**
+     * @param seatId A selected wheelchair seat.
+     * @return The companion seat blocked for it, or null.
+     */
+    public String getCompanionSeat(String seatId) {
+        return companions.get(seatId);
+    }
+
+    /**
+     * Selects a seat if the rules allow it.
+     *
+     * @param seatId            The seat to select.
+     * @param wheelchairBooking Whether the booking is for a wheelchair user.
+     * @return SELECTED, or why the seat could not be selected.
+     */
+    public Result select(String seatId, boolean wheelchairBooking) {
+        if (!seatGraph.contains(seatId) || !availability.isAvailable(seatId)) {
+            return Result.UNAVAILABLE;
+        }
+        if (selected.size() >= maxSeats) {
+            return Result.LIMIT_REACHED;
+        }
+        String companionSeatId = null;
+        if (wheelchairBooking && seatGraph.isWheelchair(seatId)) {
+            companionSeatId = seatGraph.findCompanionSeat(seatId, availability::isAvailable);
+            if (companionSeatId == null) {
+                return Result.NO_COMPANION_SEAT;
+            }
+        }
+        applySelect(seatId, companionSeatId);
+        history.push(new Step(true, seatId, companionSeatId));
+        return Result.SELECTED;
+    }
+
+    /**
+     * Deselects a seat and frees its companion seat, if it has one.
+     *
+     * @param seatId The seat to deselect.
+     * @return true if the seat was selected.
+     */
+    public boolean deselect(String seatId) {
+        if (!selected.contains(seatId)) {
+            return false;
+        }
+        String companionSeatId = applyDeselect(seatId);
+        history.push(new Step(false, seatId, companionSeatId));
+        return true;
+    }
+
+    /**
+     * Reverts the most recent select or deselect. A deselect is only undone if the seat
+     * and its companion are still free.
+     *
+     * @return true if something was undone.
+     */
+    public boolean undo() {
+        Step step = history.poll();
+        if (step == null) {
+            return false;
+        }
+        if (step.selected) {
+            if (selected.contains(step.seatId)) {
+                applyDeselect(step.seatId);
+                return true;
+            }
+            return false;
+        }
+        boolean free = availability.isAvailable(step.seatId)
+                && (step.companionSeatId == null || availability.isAvailable(step.companionSeatId));
+        if (!free || selected.size() >= maxSeats) {
+            return false;
+        }
+        applySelect(step.seatId, step.companionSeatId);
+        return true;
+    }
+
+    /**
+     * Deselects every seat and frees every companion seat. The undo history is dropped, as
+     * a clear follows a new performance, quantity or reload.
+     */
+    public void clear() {
+        List<String> changed = new ArrayList<>(selected.size() + companions.size());
+        for (String seatId : selected) {
+            availability.setSelected(seatId, false);
+            changed.add(seatId);
+        }
+        for (String companionSeatId : companions.values()) {
+            availability.setBlocked(companionSeatId, false);
+            changed.add(companionSeatId);
+        }
+        selected.clear();
+        companions.clear();
+        history.clear();
+        if (!changed.isEmpty()) {
+            fire(changed);
+        }
+    }
+
+    private void applySelect(String seatId, String companionSeatId) {
+        selected.add(seatId);
+        availability.setSelected(seatId, true);
+        if (companionSeatId != null) {
+            companions.put(seatId, companionSeatId);
+            availability.setBlocked(companionSeatId, true);
+            fire(List.of(seatId, companionSeatId));
+        } else {
+            fire(List.of(seatId));
+        }
+    }
+
+    private String applyDeselect(String seatId) {
+        selected.remove(seatId);
+        availability.setSelected(seatId, false);
+        String companionSeatId = companions.remove(seatId);
+        if (companionSeatId != null) {
+            availability.setBlocked(companionSeatId, false);
+            fire(List.of(seatId, companionSeatId));
+        } else {
+            fire(List.of(seatId));
+        }
+        return companionSeatId;
+    }
+
+    private void fire(List<String> seatIds) {
+        for (Listener listener : listeners) {
+            listener.seatsChanged(seatIds);
+        }
+    }
+}
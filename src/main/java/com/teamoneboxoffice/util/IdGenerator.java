@@ -0,0 +1,210 @@
+package com.teamoneboxoffice.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique, time-ordered IDs for tickets, bookings, customers, seat holds and
+ * voucher batches.
+ *
+ * Each ID is a 63-bit number laid out like a Snowflake ID:
+ * milliseconds since 2024-01-01 (41 bits) | terminal (10 bits) | sequence (12 bits).
+ * The terminal number keeps IDs from different box-office terminals apart, and the
+ * sequence allows 4096 IDs per millisecond on one terminal. Because the timestamp comes
+ * first, new IDs sort after old ones, so inserts land at the end of the primary key index.
+ *
+ * The last timestamp and sequence are kept in one {@link AtomicLong}, so generating an ID is
+ * a compare-and-set with no lock. If the clock goes backwards, or the sequence runs out
+ * within a millisecond, the generator carries on from its last timestamp instead of waiting.
+ *
+ * IDs are written as 13 Crockford base-32 characters (digits and capitals without I, L, O
+ * and U) after a type prefix, e.g. "TKT01HV3K9Q2M4ZP". The encoding has a fixed width, so
+ * the strings sort in the same order as the numbers.
+ */
+public final class IdGenerator {
+    public static final String TICKET_PREFIX = "TKT";
+    public static final String BOOKING_PREFIX = "BKG-";
+    public static final String CUSTOMER_PREFIX = "CUS_";
+    public static final String HOLD_PREFIX = "HLD-";
+    public static final String VOUCHER_BATCH_PREFIX = "VBT-";
+
+    public static final String TERMINAL_ID_PROPERTY = "boxoffice.terminalId";
+
+    /** 2024-01-01T00:00:00Z */
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TERMINAL_BITS = 10;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    public static final int MAX_TERMINAL = (1 << TERMINAL_BITS) - 1;
+    private static final int TERMINAL_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + TERMINAL_BITS;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private static volatile IdGenerator instance;
+
+    private final long terminalBits;
+    // (timestamp << SEQUENCE_BITS) | sequence of the last ID handed out
+    private final AtomicLong lastState = new AtomicLong();
+
+    /**
+     * @param terminalId This terminal's number, 0 to {@link #MAX_TERMINAL}.
+     */
+    public IdGenerator(int terminalId) {
+        if (terminalId < 0 || terminalId > MAX_TERMINAL) {
+            throw new IllegalArgumentException("terminalId must be between 0 and " + MAX_TERMINAL + ": " + terminalId);
+        }
+        this.terminalBits = (long) terminalId << TERMINAL_SHIFT;
+    }
+
+    /**
+     * Returns the generator for this terminal. The terminal number comes from the
+     * {@code boxoffice.terminalId} system property, which every terminal must set to a
+     * number of its own.
+     *
+     * @return The shared generator.
+     * @throws IllegalStateException if the terminal ID is missing or not 0 to {@link #MAX_TERMINAL}.
+     */
+    public static IdGenerator getInstance() {
+        IdGenerator generator = instance;
+        if (generator == null) {
+            synchronized (IdGenerator.class) {
+                if (instance == null) {
+                    instance = new IdGenerator(configuredTerminalId());
+                }
+                generator = instance;
+            }
+        }
+        return generator;
+    }
+
+    public static String nextTicketId() {
+        return getInstance().next(TICKET_PREFIX);
+    }
+
+    public static String nextBookingId() {
+        return getInstance().next(BOOKING_PREFIX);
+    }
+
+    public static String nextCustomerId() {
+        return getInstance().next(CUSTOMER_PREFIX);
+    }
+
+    public static String nextHoldId() {
+        return getInstance().next(HOLD_PREFIX);
+    }
+
+    public static String nextVoucherBatchId() {
+        return getInstance().next(VOUCHER_BATCH_PREFIX);
+    }
+
+    /**
+     * @return A new ID, greater than every ID this generator returned before.
+     */
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // Same millisecond, or the clock went back: continue from the last state.
+                // A full sequence rolls over into the next millisecond.
+                next = last + 1;
+            }
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & MAX_SEQUENCE;
+                return (timestamp << TIMESTAMP_SHIFT) | terminalBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * @param prefix The type prefix, e.g. {@link #TICKET_PREFIX}.
+     * @return The prefix followed by a new encoded ID.
+     */
+    public String next(String prefix) {
+        return prefix + encode(nextId());
+    }
+
+    /**
+     * @param id An ID.
+     * @return Its 13-character Crockford base-32 form.
+     */
+    public static String encode(long id) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Reads an encoded ID, ignoring any type prefix.
+     *
+     * @param encoded An encoded ID, with or without its prefix.
+     * @return The ID, or -1 if the string does not end in a valid encoding.
+     */
+    public static long decode(String encoded) {
+        if (encoded == null || encoded.length() < ENCODED_LENGTH) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = encoded.length() - ENCODED_LENGTH; i < encoded.length(); i++) {
+            int value = indexOf(encoded.charAt(i));
+            if (value < 0) {
+                return -1;
+            }
+            id = (id << 5) | value;
+        }
+        return id;
+    }
+
+    /**
+     * @return When the ID was generated, in epoch milliseconds.
+     */
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    /**
+     * @return The terminal that generated the ID.
+     */
+    public static int terminalOf(long id) {
+        return (int) ((id >>> TERMINAL_SHIFT) & MAX_TERMINAL);
+    }
+
+    private static int indexOf(char c) {
+        char upper = Character.toUpperCase(c);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == upper) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int configuredTerminalId() {
+        String configured = System.getProperty(TERMINAL_ID_PROPERTY);
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("No terminal ID configured. Start every terminal with its own -D"
+                    + TERMINAL_ID_PROPERTY + "=<0-" + MAX_TERMINAL + ">, so IDs from different terminals cannot collide.");
+        }
+        int terminalId;
+        try {
+            terminalId = Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid " + TERMINAL_ID_PROPERTY + " '" + configured + "': not a number.");
+        }
+        if (terminalId < 0 || terminalId > MAX_TERMINAL) {
+            throw new IllegalStateException("Invalid " + TERMINAL_ID_PROPERTY + " " + terminalId
+                    + ": must be between 0 and " + MAX_TERMINAL + ".");
+        }
+        return terminalId;
+    }
+}
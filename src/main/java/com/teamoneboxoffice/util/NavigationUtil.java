@@ -2,6 +2,8 @@ package com.teamoneboxoffice.util;
 
 import com.teamoneboxoffice.controllers.BaseDashboardController;
 import com.teamoneboxoffice.entities.User;
+import com.teamoneboxoffice.services.implementations.databaseImpl.DataAccessContext;
+import com.teamoneboxoffice.services.implementations.databaseImpl.Database;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -24,6 +26,8 @@ public class NavigationUtil {
 
     private static Stage primaryStage = null;
     private static Object lastLoadedController = null;
+    private static DataAccessContext dataAccessContext = null;
+    private static PageTasks pageTasks = null;
 
 
     /**
@@ -35,7 +39,50 @@ public class NavigationUtil {
         primaryStage = stage;
     }
 
+    /**
+     * Stores the application-wide data access context shared by all controllers.
+     * Should be called once in the application's start method, before the first page loads.
+     * @param context The data access context of the application.
+     */
+    public static synchronized void setDataAccessContext(DataAccessContext context) {
+        dataAccessContext = context;
+    }
+
+    /**
+     * Gets the application-wide data access context. If none was set (e.g. a page loaded
+     * outside of Main), one is created on first use and reused afterwards.
+     * @return The shared data access context.
+     */
+    public static synchronized DataAccessContext getDataAccessContext() {
+        if (dataAccessContext == null) {
+            dataAccessContext = new DataAccessContext(new Database());
+        }
+        return dataAccessContext;
+    }
+
 
+    /**
+     * Gets the background loads of the page currently on screen. Controllers start their
+     * DAO calls through it so they run off the FX Application Thread and are cancelled when
+     * the user navigates to another page.
+     * @return The current page's tasks.
+     */
+    public static synchronized PageTasks getPageTasks() {
+        if (pageTasks == null) {
+            pageTasks = new PageTasks(getDataAccessContext().getAsyncDataAccess());
+        }
+        return pageTasks;
+    }
+
+    /**
+     * Cancels the loads of the page being left and starts a fresh set for the next page.
+     */
+    private static synchronized void resetPageTasks() {
+        if (pageTasks != null) {
+            pageTasks.cancelAll();
+        }
+        pageTasks = new PageTasks(getDataAccessContext().getAsyncDataAccess());
+    }
 
     /**
      * Loads a new FXML page into the primary stage's scene.
@@ -93,6 +140,7 @@ public class NavigationUtil {
             showAlert("Navigation Error", "Internal error: Application window reference lost.");
             return;
         }
+        resetPageTasks();
         try {
             URL location = NavigationUtil.class.getResource(fxmlPath);
             if (location == null) {
@@ -0,0 +1,145 @@
+package com.teamoneboxoffice.util;
+
+import com.teamoneboxoffice.services.implementations.databaseImpl.AsyncDataAccess;
+import javafx.application.Platform;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Background data loads started by the page currently on screen.
+ *
+ * {@link #load} runs a query through {@link AsyncDataAccess} and delivers the result to the
+ * page on the FX Application Thread. While anything is loading, the window shows a wait
+ * cursor; each busy node is disabled until the last load started for it finishes, whatever
+ * else the page is still loading. {@link NavigationUtil} gives every page a fresh PageTasks
+ * and cancels the previous one, so a query that finishes after the user has navigated away
+ * never touches the old page's controls.
+ */
+public class PageTasks {
+    private final AsyncDataAccess async;
+    private final Executor fxThread;
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    // Loads still running per busy node; only touched on the FX thread
+    private final Map<Node, Integer> busyNodes = new HashMap<>();
+    private volatile boolean cancelled;
+
+    public PageTasks(AsyncDataAccess async) {
+        this(async, Platform::runLater);
+    }
+
+    /**
+     * @param async    Runs the queries.
+     * @param fxThread Runs the result callbacks; {@code Platform::runLater} in the application.
+     */
+    public PageTasks(AsyncDataAccess async, Executor fxThread) {
+        this.async = async;
+        this.fxThread = fxThread;
+    }
+
+    /**
+     * Runs a query in the background and hands its result to the page. Call on the FX thread.
+     *
+     * @param query     The query, run on a virtual thread. Must not touch JavaFX controls.
+     * @param onSuccess Receives the result on the FX thread.
+     * @param onError   Receives the failure on the FX thread.
+     * @param busyNode  A control to disable while the query runs (e.g. the button that started it); may be null.
+     * @param <T>       The result type.
+     * @return The underlying future; cancelling it stops the result from being delivered.
+     */
+    public <T> CompletableFuture<T> load(Supplier<T> query, Consumer<T> onSuccess,
+                                         Consumer<Throwable> onError, Node busyNode) {
+        if (cancelled) {
+            return CompletableFuture.failedFuture(new CancellationException("Page was closed"));
+        }
+        CompletableFuture<T> future = async.supply(query);
+        pending.add(future);
+        markBusy(busyNode);
+        updateCursor();
+
+        future.whenComplete((result, error) -> fxThread.execute(() -> {
+            pending.remove(future);
+            if (cancelled) {
+                // The page is gone; its controls and the cursor now belong to the next page.
+                return;
+            }
+            markDone(busyNode);
+            updateCursor();
+            if (future.isCancelled()) {
+                return;
+            }
+            if (error == null) {
+                onSuccess.accept(result);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                System.err.println("Background load failed: " + cause.getMessage());
+                onError.accept(cause);
+            }
+        }));
+        return future;
+    }
+
+    /**
+     * Runs a query in the background and hands its result to the page. Failures are logged.
+     *
+     * @see #load(Supplier, Consumer, Consumer, Node)
+     */
+    public <T> CompletableFuture<T> load(Supplier<T> query, Consumer<T> onSuccess) {
+        return load(query, onSuccess, error -> error.printStackTrace(), null);
+    }
+
+    /**
+     * @return true while any load started by this page is still running.
+     */
+    public boolean isBusy() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Cancels every pending load. Results that arrive afterwards are discarded.
+     * Queries already sent to the database finish in the background.
+     */
+    public void cancelAll() {
+        cancelled = true;
+        for (CompletableFuture<?> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        busyNodes.clear();
+        updateCursor();
+    }
+
+    private void markBusy(Node busyNode) {
+        if (busyNode != null && busyNodes.merge(busyNode, 1, Integer::sum) == 1) {
+            busyNode.setDisable(true);
+        }
+    }
+
+    private void markDone(Node busyNode) {
+        if (busyNode != null && busyNodes.computeIfPresent(busyNode, (node, count) -> count > 1 ? count - 1 : null) == null) {
+            busyNode.setDisable(false);
+        }
+    }
+
+    private void updateCursor() {
+        boolean busy = !cancelled && isBusy();
+        for (Window window : Window.getWindows()) {
+            Scene scene = window.getScene();
+            if (scene != null) {
+                scene.setCursor(busy ? Cursor.WAIT : Cursor.DEFAULT);
+            }
+        }
+    }
+}
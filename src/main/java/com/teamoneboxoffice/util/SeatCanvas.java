@@ -0,0 +1,460 @@
+package com.teamoneboxoffice.util;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplate;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Seat map drawn on a single {@link Canvas}, for venues too large for one ToggleButton per seat.
+ *
+ * Seats are laid out from a {@link LayoutTemplate}: each section's seats sit on a grid by row
+ * and column, and sections are stacked top to bottom. Seat positions are kept in plain arrays
+ * and a cell-to-seat map, so hit-testing a click is one lookup and drawing only visits the
+ * seats inside the visible area. The map supports zooming with the mouse wheel around the
+ * cursor, panning by dragging, and a tooltip naming the seat under the mouse.
+ *
+ * Seat colours are read from the seat button rules in styles.css ({@code .seat-button:available},
+ * {@code .seat-button:booked:wheelchair}, ...) once the canvas is in a scene, so both
+ * renderers look the same.
+ *
+ * The canvas does not decide what a click means: it reports the seat ID to the screen, which
+ * applies its selection rules to its {@link SeatAvailability} and then calls
+ * {@link #repaintSeat} or {@link #refresh}.
+ */
+public final class SeatCanvas extends Pane {
+    /** Venues with at least this many seats use the canvas unless configured otherwise. */
+    public static final int CANVAS_SEAT_THRESHOLD = 2000;
+    /** Comma-separated venue IDs that always use the canvas, e.g. "1,3". */
+    public static final String CANVAS_VENUES_PROPERTY = "boxoffice.canvasSeatMapVenues";
+
+    private static final double CELL = 24;
+    private static final double SEAT = 20;
+    // One cell high, so every seat sits on the cell grid used for hit-testing.
+    private static final double SECTION_HEADER = CELL;
+    private static final double MIN_SCALE = 0.1;
+    private static final double MAX_SCALE = 4;
+    private static final double DRAG_THRESHOLD = 4;
+    private static final double MIN_LABEL_SIZE = 14;
+
+    /** The seat states the canvas can draw, with the seat button state each one takes its colours from. */
+    private enum SeatState {
+        AVAILABLE(SeatView.State.AVAILABLE, false, "#D5F5E3", "#58D68D", "#1D8348"),
+        WHEELCHAIR_AVAILABLE(SeatView.State.AVAILABLE, true, "#D6EAF8", "#85C1E9", "#2874A6"),
+        SELECTED(SeatView.State.SELECTED, false, "#E74C3C", "#C0392B", "#FFFFFF"),
+        HELD(SeatView.State.HELD, false, "#FDEBD0", "#F5B041", "#9C640C"),
+        WHEELCHAIR_HELD(SeatView.State.HELD, true, "#FDEBD0", "#F5B041", "#9C640C"),
+        BOOKED(SeatView.State.BOOKED, false, "#EBEDEF", "#B3B6B7", "#808B96"),
+        WHEELCHAIR_BOOKED(SeatView.State.BOOKED, true, "#A9CCE3", "#5499C7", "#1A5276"),
+        BLOCKED(SeatView.State.BLOCKED, false, "#AEB6BF", "#85929E", "#FDFEFE");
+
+        private final SeatView.State viewState;
+        private final boolean wheelchair;
+        private final Paint defaultFill;
+        private final Paint defaultStroke;
+        private final Paint text;
+
+        SeatState(SeatView.State viewState, boolean wheelchair, String fill, String stroke, String text) {
+            this.viewState = viewState;
+            this.wheelchair = wheelchair;
+            this.defaultFill = Color.web(fill);
+            this.defaultStroke = Color.web(stroke);
+            this.text = Color.web(text);
+        }
+    }
+
+    private final Canvas canvas = new Canvas();
+    private final SeatAvailability availability;
+    private final Consumer<String> onSeatClicked;
+    private final Tooltip tooltip = new Tooltip();
+    private final Function<String, String> tooltipText;
+    private final Map<SeatState, Paint> fills = new EnumMap<>(SeatState.class);
+    private final Map<SeatState, Paint> strokes = new EnumMap<>(SeatState.class);
+
+    // Seat i is drawn at (seatX[i], seatY[i]) in layout coordinates.
+    private final String[] seatIds;
+    private final String[] seatLabels;
+    private final double[] seatX;
+    private final double[] seatY;
+    private final Map<String, Integer> indexBySeatId = new HashMap<>();
+    private final Map<Long, Integer> indexByCell = new HashMap<>();
+    private final List<double[]> sectionHeaders = new ArrayList<>();
+    private final List<String> sectionNames = new ArrayList<>();
+    private final double contentWidth;
+    private final double contentHeight;
+
+    private double scale = 1;
+    private double offsetX;
+    private double offsetY;
+    private double pressX;
+    private double pressY;
+    private boolean dragging;
+    private int hoveredSeat = -1;
+    private boolean tooltipInstalled;
+    private SeatAvailability.Snapshot rendered;
+
+    /**
+     * @param layout        The venue layout to draw.
+     * @param availability  The performance's seat state; the canvas only reads it.
+     * @param onSeatClicked Receives the ID of a seat the user clicked.
+     * @param tooltipText   Gives the tooltip text for a seat ID.
+     */
+    public SeatCanvas(LayoutTemplate layout, SeatAvailability availability,
+                      Consumer<String> onSeatClicked, Function<String, String> tooltipText) {
+        this.availability = availability;
+        this.onSeatClicked = onSeatClicked;
+        this.tooltipText = tooltipText;
+        for (SeatState state : SeatState.values()) {
+            fills.put(state, state.defaultFill);
+            strokes.put(state, state.defaultStroke);
+        }
+
+        int count = layout.getSeatCount();
+        seatIds = new String[count];
+        seatLabels = new String[count];
+        seatX = new double[count];
+        seatY = new double[count];
+
+        int i = 0;
+        double top = 0;
+        double width = 0;
+        for (LayoutTemplate.SectionTemplate section : layout.getSections()) {
+            sectionHeaders.add(new double[] {0, top});
+            sectionNames.add(section.getName());
+            top += SECTION_HEADER;
+            int maxRow = 0;
+            for (LayoutTemplate.SeatTemplate seat : section.getSeats()) {
+                seatIds[i] = seat.getSeatID();
+                seatLabels[i] = String.valueOf(SeatKey.number(seat.getSeatKey()));
+                seatX[i] = seat.getColumn() * CELL;
+                seatY[i] = top + seat.getRow() * CELL;
+                indexBySeatId.put(seatIds[i], i);
+                indexByCell.put(cell(seatX[i], seatY[i]), i);
+                maxRow = Math.max(maxRow, seat.getRow());
+                width = Math.max(width, seatX[i] + CELL);
+                i++;
+            }
+            top += (maxRow + 1) * CELL;
+        }
+        this.contentWidth = width;
+        this.contentHeight = top;
+
+        getChildren().add(canvas);
+        setPrefSize(Math.min(contentWidth, 900), Math.min(contentHeight, 600));
+        setMinSize(200, 150);
+        widthProperty().addListener((obs, oldVal, newVal) -> resizeCanvas());
+        heightProperty().addListener((obs, oldVal, newVal) -> resizeCanvas());
+        sceneProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null) {
+                readColoursFromStylesheet();
+                redraw();
+            }
+        });
+
+        canvas.addEventHandler(ScrollEvent.SCROLL, this::handleScroll);
+        canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, this::handlePressed);
+        canvas.addEventHandler(MouseEvent.MOUSE_DRAGGED, this::handleDragged);
+        canvas.addEventHandler(MouseEvent.MOUSE_RELEASED, this::handleReleased);
+        canvas.addEventHandler(MouseEvent.MOUSE_MOVED, this::handleMoved);
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, e -> setHoveredSeat(-1));
+    }
+
+    /**
+     * Decides whether a venue's seat map is drawn on a canvas. Venues listed in the
+     * {@value #CANVAS_VENUES_PROPERTY} system property always are; otherwise the canvas is
+     * used from {@link #CANVAS_SEAT_THRESHOLD} seats up.
+     *
+     * @param venueId   The venue ID.
+     * @param seatCount The number of seats in the venue's layout.
+     * @return true to use the canvas renderer, false for per-seat buttons.
+     */
+    public static boolean isUsedFor(int venueId, int seatCount) {
+        String configured = System.getProperty(CANVAS_VENUES_PROPERTY);
+        if (configured != null) {
+            for (String part : configured.split(",")) {
+                if (part.trim().equals(String.valueOf(venueId))) {
+                    return true;
+                }
+            }
+        }
+        return seatCount >= CANVAS_SEAT_THRESHOLD;
+    }
+
+    /**
+     * @return The IDs of every seat on the map.
+     */
+    public List<String> getSeatIds() {
+        return Collections.unmodifiableList(Arrays.asList(seatIds));
+    }
+
+    /**
+     * @param seatId A seat ID.
+     * @return true if the seat is on this map.
+     */
+    public boolean hasSeat(String seatId) {
+        return indexBySeatId.containsKey(seatId);
+    }
+
+    /**
+     * Redraws the seats whose state changed since the last full draw or refresh.
+     */
+    public void refresh() {
+        for (String seatId : availability.changedSince(rendered)) {
+            repaintSeat(seatId);
+        }
+        rendered = availability.snapshot();
+    }
+
+    /**
+     * Redraws a single seat from its current state.
+     *
+     * @param seatId The seat ID; ignored if the seat is not on this map.
+     */
+    public void repaintSeat(String seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        if (index != null) {
+            GraphicsContext g = canvas.getGraphicsContext2D();
+            double x = toScreenX(seatX[index]);
+            double y = toScreenY(seatY[index]);
+            double size = CELL * scale;
+            g.clearRect(x, y, size, size);
+            drawSeat(g, index);
+        }
+    }
+
+    /**
+     * Redraws the whole visible area.
+     */
+    public void redraw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        g.setFill(Color.web("#34495E"));
+        g.setFont(Font.font("System", FontWeight.BOLD, Math.max(8, 12 * scale)));
+        g.setTextAlign(TextAlignment.LEFT);
+        g.setTextBaseline(VPos.CENTER);
+        for (int s = 0; s < sectionHeaders.size(); s++) {
+            double[] header = sectionHeaders.get(s);
+            g.fillText(sectionNames.get(s), toScreenX(header[0]), toScreenY(header[1] + SECTION_HEADER / 2));
+        }
+
+        double minX = fromScreenX(0) - CELL;
+        double maxX = fromScreenX(canvas.getWidth());
+        double minY = fromScreenY(0) - CELL;
+        double maxY = fromScreenY(canvas.getHeight());
+        for (int i = 0; i < seatIds.length; i++) {
+            if (seatX[i] >= minX && seatX[i] <= maxX && seatY[i] >= minY && seatY[i] <= maxY) {
+                drawSeat(g, i);
+            }
+        }
+        rendered = availability.snapshot();
+    }
+
+    private void drawSeat(GraphicsContext g, int index) {
+        SeatState state = stateOf(seatIds[index]);
+        double x = toScreenX(seatX[index]);
+        double y = toScreenY(seatY[index]);
+        double size = SEAT * scale;
+        double arc = 3 * scale;
+
+        g.setFill(fills.get(state));
+        g.fillRoundRect(x, y, size, size, arc, arc);
+        g.setStroke(index == hoveredSeat && isClickable(state) ? state.text : strokes.get(state));
+        g.setLineWidth(1);
+        g.strokeRoundRect(x, y, size, size, arc, arc);
+
+        if (size >= MIN_LABEL_SIZE) {
+            g.setFill(state.text);
+            g.setFont(Font.font(Math.min(10 * scale, 14)));
+            g.setTextAlign(TextAlignment.CENTER);
+            g.setTextBaseline(VPos.CENTER);
+            g.fillText(seatLabels[index], x + size / 2, y + size / 2);
+        }
+    }
+
+    private SeatState stateOf(String seatId) {
+        boolean wheelchair = availability.isWheelchair(seatId);
+        if (availability.isBooked(seatId)) {
+            return wheelchair ? SeatState.WHEELCHAIR_BOOKED : SeatState.BOOKED;
+        }
+        if (availability.isHeld(seatId)) {
+            return wheelchair ? SeatState.WHEELCHAIR_HELD : SeatState.HELD;
+        }
+        if (availability.isBlocked(seatId)) {
+            return SeatState.BLOCKED;
+        }
+        if (availability.isSelected(seatId)) {
+            return SeatState.SELECTED;
+        }
+        return wheelchair ? SeatState.WHEELCHAIR_AVAILABLE : SeatState.AVAILABLE;
+    }
+
+    private static boolean isClickable(SeatState state) {
+        return !state.viewState.isDisabled();
+    }
+
+    private void handleScroll(ScrollEvent event) {
+        double factor = event.getDeltaY() > 0 ? 1.1 : 1 / 1.1;
+        double newScale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale * factor));
+        // Keep the layout point under the cursor where it is.
+        double layoutX = fromScreenX(event.getX());
+        double layoutY = fromScreenY(event.getY());
+        scale = newScale;
+        offsetX = event.getX() - layoutX * scale;
+        offsetY = event.getY() - layoutY * scale;
+        redraw();
+        event.consume();
+    }
+
+    private void handlePressed(MouseEvent event) {
+        pressX = event.getX();
+        pressY = event.getY();
+        dragging = false;
+    }
+
+    private void handleDragged(MouseEvent event) {
+        double dx = event.getX() - pressX;
+        double dy = event.getY() - pressY;
+        if (!dragging && Math.hypot(dx, dy) < DRAG_THRESHOLD) {
+            return;
+        }
+        dragging = true;
+        offsetX += dx;
+        offsetY += dy;
+        pressX = event.getX();
+        pressY = event.getY();
+        redraw();
+        event.consume();
+    }
+
+    private void handleReleased(MouseEvent event) {
+        if (dragging || event.getButton() != MouseButton.PRIMARY) {
+            return;
+        }
+        int index = seatAt(event.getX(), event.getY());
+        if (index >= 0 && isClickable(stateOf(seatIds[index]))) {
+            onSeatClicked.accept(seatIds[index]);
+        }
+    }
+
+    private void handleMoved(MouseEvent event) {
+        setHoveredSeat(seatAt(event.getX(), event.getY()));
+    }
+
+    private void setHoveredSeat(int index) {
+        if (index == hoveredSeat) {
+            return;
+        }
+        int previous = hoveredSeat;
+        hoveredSeat = index;
+        if (previous >= 0) {
+            repaintSeat(seatIds[previous]);
+        }
+        if (index >= 0) {
+            repaintSeat(seatIds[index]);
+            tooltip.setText(tooltipText.apply(seatIds[index]));
+            if (!tooltipInstalled) {
+                Tooltip.install(canvas, tooltip);
+                tooltipInstalled = true;
+            }
+        } else if (tooltipInstalled) {
+            Tooltip.uninstall(canvas, tooltip);
+            tooltipInstalled = false;
+        }
+    }
+
+    /**
+     * @return The index of the seat drawn at a canvas point, or -1.
+     */
+    private int seatAt(double screenX, double screenY) {
+        double x = fromScreenX(screenX);
+        double y = fromScreenY(screenY);
+        Integer index = indexByCell.get(cell(x, y));
+        if (index == null) {
+            return -1;
+        }
+        // The seat only covers the top-left SEAT x SEAT of its cell; the rest is the gap.
+        return x - seatX[index] <= SEAT && y - seatY[index] <= SEAT ? index : -1;
+    }
+
+    /**
+     * @return The key of the grid cell containing a layout point.
+     */
+    private long cell(double x, double y) {
+        long column = (long) Math.floor(x / CELL);
+        long row = (long) Math.floor(y / CELL);
+        return (column << 32) | (row & 0xffffffffL);
+    }
+
+    private void resizeCanvas() {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+        redraw();
+    }
+
+    /**
+     * Looks up the fill and border colours of each seat state by giving a throwaway Region
+     * the seat button's style class and pseudo-classes. States without rules keep their defaults.
+     */
+    private void readColoursFromStylesheet() {
+        for (SeatState state : SeatState.values()) {
+            Region probe = new Region();
+            probe.getStyleClass().add("seat-button");
+            probe.pseudoClassStateChanged(state.viewState.getPseudoClass(), true);
+            probe.pseudoClassStateChanged(SeatView.WHEELCHAIR, state.wheelchair);
+            probe.setManaged(false);
+            probe.setVisible(false);
+            getChildren().add(probe);
+            probe.applyCss();
+            if (probe.getBackground() != null && !probe.getBackground().getFills().isEmpty()) {
+                BackgroundFill fill = probe.getBackground().getFills().get(0);
+                fills.put(state, fill.getFill());
+            }
+            if (probe.getBorder() != null && !probe.getBorder().getStrokes().isEmpty()) {
+                BorderStroke stroke = probe.getBorder().getStrokes().get(0);
+                strokes.put(state, stroke.getTopStroke());
+            }
+            getChildren().remove(probe);
+        }
+    }
+
+    private double toScreenX(double x) {
+        return x * scale + offsetX;
+    }
+
+    private double toScreenY(double y) {
+        return y * scale + offsetY;
+    }
+
+    private double fromScreenX(double x) {
+        return (x - offsetX) / scale;
+    }
+
+    private double fromScreenY(double y) {
+        return (y - offsetY) / scale;
+    }
+}
@@ -0,0 +1,325 @@
+package com.teamoneboxoffice.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Packs a seat's section, row and number into one int, and converts between that
+ * int and the seat ID strings used across the application.
+ *
+ * Two string forms are understood:
+ * <ul>
+ *     <li>Seat-map form, used by the seat layouts and booking screens and stored in Booked_Seats:
+ *     row letters followed by the seat number, e.g. "A12" or "AA34". Its section code is 0.</li>
+ *     <li>Section form, still read for seats named by section:
+ *     section name, row label and seat number separated by '-', e.g. "Stalls-A-12",
+ *     "Balcony-AA3-5" or "Side Balcony Left-2-7".</li>
+ * </ul>
+ *
+ * Bit layout: unused sign bit | section (7 bits) | row letters (6 bits) | row suffix (6 bits) | seat number (12 bits).
+ * The sign bit stays clear so every key is non-negative and never equals {@link #INVALID}.
+ * Row letters are 1-26 for a single letter and 27-52 for a doubled letter ("AA" to "ZZ").
+ * Parsing is a single pass over the characters, so no regular expressions or substrings
+ * are needed to read a row or a seat number.
+ */
+public final class SeatKey {
+    /** Returned by {@link #parse(String)} when a seat ID cannot be read. */
+    public static final int INVALID = -1;
+
+    private static final int NUMBER_BITS = 12;
+    private static final int SUFFIX_BITS = 6;
+    private static final int LETTERS_BITS = 6;
+
+    private static final int MAX_NUMBER = (1 << NUMBER_BITS) - 1;
+    private static final int MAX_SUFFIX = (1 << SUFFIX_BITS) - 1;
+    private static final int MAX_SECTION = 0x7F;
+
+    private static final int SUFFIX_SHIFT = NUMBER_BITS;
+    private static final int LETTERS_SHIFT = SUFFIX_SHIFT + SUFFIX_BITS;
+    private static final int SECTION_SHIFT = LETTERS_SHIFT + LETTERS_BITS;
+
+    private static final Map<String, Integer> SECTION_CODES = new ConcurrentHashMap<>();
+    private static final List<String> SECTION_NAMES = new ArrayList<>();
+
+    static {
+        // Section 0 is the seat-map form, which has no section name.
+        SECTION_NAMES.add("");
+        for (String name : new String[] {"Stalls", "Balcony", "Side Balcony Left", "Side Balcony Right",
+                "Conference Hall", "Small Hall", "Default Section"}) {
+            sectionCode(name);
+        }
+    }
+
+    private SeatKey() {
+    }
+
+    /**
+     * Builds a key from its parts.
+     *
+     * @param section    The section code (0 for seat-map IDs).
+     * @param rowLetters The row letters code (see {@link #rowLetters(String)}), or 0 if the row has none.
+     * @param rowSuffix  The number after the row letters (e.g. 3 for "AA3"), or 0 if there is none.
+     * @param number     The seat number.
+     * @return The packed key.
+     * @throws IllegalArgumentException if a part is out of range.
+     */
+    public static int of(int section, int rowLetters, int rowSuffix, int number) {
+        if (section < 0 || section > MAX_SECTION || rowLetters < 0 || rowLetters > 52
+                || rowSuffix < 0 || rowSuffix > MAX_SUFFIX || number < 0 || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("Seat key part out of range: section=" + section
+                    + ", rowLetters=" + rowLetters + ", rowSuffix=" + rowSuffix + ", number=" + number);
+        }
+        return (section << SECTION_SHIFT) | (rowLetters << LETTERS_SHIFT) | (rowSuffix << SUFFIX_SHIFT) | number;
+    }
+
+    /**
+     * Builds the key of a seat in a named section.
+     *
+     * @param sectionName The section name, e.g. "Stalls".
+     * @param rowLabel    The row label, e.g. "A", "AA3" or "2".
+     * @param number      The seat number.
+     * @return The packed key.
+     * @throws IllegalArgumentException if the row label cannot be read or the number is out of range.
+     */
+    public static int of(String sectionName, String rowLabel, int number) {
+        int row = parseRow(rowLabel, 0, rowLabel.length());
+        if (row < 0 || number < 0 || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("Seat cannot be encoded: section=" + sectionName
+                    + ", row=" + rowLabel + ", number=" + number);
+        }
+        return (sectionCode(sectionName) << SECTION_SHIFT) | (row << SUFFIX_SHIFT) | number;
+    }
+
+    /**
+     * Reads a seat ID in either string form. Section names are only looked up, never
+     * registered, so an ID naming a section no layout has built does not parse.
+     *
+     * @param seatId The seat ID, e.g. "AA34" or "Stalls-A-12".
+     * @return The packed key, or {@link #INVALID} if the ID cannot be read.
+     */
+    public static int parse(String seatId) {
+        if (seatId == null || seatId.isEmpty()) {
+            return INVALID;
+        }
+        int lastDash = seatId.lastIndexOf('-');
+        if (lastDash < 0) {
+            return parseSeatMapId(seatId);
+        }
+        int rowDash = seatId.lastIndexOf('-', lastDash - 1);
+        if (rowDash <= 0) {
+            return INVALID;
+        }
+        int row = parseRow(seatId, rowDash + 1, lastDash);
+        int number = parseNumber(seatId, lastDash + 1, seatId.length());
+        if (row < 0 || number < 0) {
+            return INVALID;
+        }
+        Integer section = SECTION_CODES.get(seatId.substring(0, rowDash));
+        if (section == null) {
+            return INVALID;
+        }
+        return (section << SECTION_SHIFT) | (row << SUFFIX_SHIFT) | number;
+    }
+
+    /**
+     * Returns the canonical string form of a key: "AA34" for seat-map keys and
+     * "Stalls-A-12" for keys in a named section.
+     *
+     * @param key A packed key.
+     * @return The seat ID.
+     * @throws IllegalArgumentException if the key is {@link #INVALID} or otherwise negative.
+     */
+    public static String format(int key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Not a seat key: " + key);
+        }
+        StringBuilder sb = new StringBuilder(24);
+        int section = section(key);
+        if (section != 0) {
+            sb.append(sectionName(section)).append('-');
+        }
+        appendRow(sb, key);
+        if (section != 0) {
+            sb.append('-');
+        }
+        return sb.append(number(key)).toString();
+    }
+
+    /**
+     * @param key A packed key.
+     * @return The row label, e.g. "AA" or "AA3".
+     */
+    public static String rowLabel(int key) {
+        StringBuilder sb = new StringBuilder(4);
+        appendRow(sb, key);
+        return sb.toString();
+    }
+
+    public static int section(int key) {
+        return key >>> SECTION_SHIFT;
+    }
+
+    public static int rowLetters(int key) {
+        return (key >>> LETTERS_SHIFT) & 0x3F;
+    }
+
+    public static int rowSuffix(int key) {
+        return (key >>> SUFFIX_SHIFT) & MAX_SUFFIX;
+    }
+
+    public static int number(int key) {
+        return key & MAX_NUMBER;
+    }
+
+    /**
+     * @param key    A packed key.
+     * @param number The new seat number.
+     * @return The key of the seat with the same section and row but a different number,
+     *         or {@link #INVALID} if the number is out of range.
+     */
+    public static int withNumber(int key, int number) {
+        if (number < 0 || number > MAX_NUMBER) {
+            return INVALID;
+        }
+        return (key & ~MAX_NUMBER) | number;
+    }
+
+    /**
+     * Returns the row letters code of a label made only of letters, for comparing rows
+     * against a key without building strings.
+     *
+     * @param letters "A" to "Z" or a doubled letter "AA" to "ZZ".
+     * @return 1-26 for a single letter, 27-52 for a doubled letter, or {@link #INVALID}.
+     */
+    public static int rowLetters(String letters) {
+        int row = parseRow(letters, 0, letters.length());
+        return row < 0 || (row & MAX_SUFFIX) != 0 ? INVALID : row >>> SUFFIX_BITS;
+    }
+
+    /**
+     * Returns the code of a section, registering names that have not been seen before.
+     * Only the layout builders should call this; {@link #parse(String)} never registers.
+     *
+     * @param name The section name.
+     * @return The section code.
+     * @throws IllegalStateException if more than 127 section names are registered.
+     */
+    public static int sectionCode(String name) {
+        Integer code = SECTION_CODES.get(name);
+        if (code != null) {
+            return code;
+        }
+        synchronized (SECTION_NAMES) {
+            return SECTION_CODES.computeIfAbsent(name, n -> {
+                if (SECTION_NAMES.size() > MAX_SECTION) {
+                    throw new IllegalStateException("Too many seating sections: " + n);
+                }
+                SECTION_NAMES.add(n);
+                return SECTION_NAMES.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * @param section A section code.
+     * @return The section name, or "" for the seat-map form.
+     */
+    public static String sectionName(int section) {
+        synchronized (SECTION_NAMES) {
+            return section < SECTION_NAMES.size() ? SECTION_NAMES.get(section) : "";
+        }
+    }
+
+    private static int parseSeatMapId(String seatId) {
+        int digitsStart = 0;
+        while (digitsStart < seatId.length() && isLetter(seatId.charAt(digitsStart))) {
+            digitsStart++;
+        }
+        int letters = letters(seatId, 0, digitsStart);
+        int number = parseNumber(seatId, digitsStart, seatId.length());
+        if (letters <= 0 || number < 0) {
+            return INVALID;
+        }
+        return (letters << LETTERS_SHIFT) | number;
+    }
+
+    /**
+     * Reads a row label into (letters << 6 | suffix), or -1 if it cannot be read.
+     */
+    private static int parseRow(String s, int from, int to) {
+        int digitsStart = from;
+        while (digitsStart < to && isLetter(s.charAt(digitsStart))) {
+            digitsStart++;
+        }
+        int letters = letters(s, from, digitsStart);
+        if (letters < 0) {
+            return -1;
+        }
+        int suffix = 0;
+        if (digitsStart < to) {
+            suffix = parseNumber(s, digitsStart, to);
+            if (suffix < 0 || suffix > MAX_SUFFIX) {
+                return -1;
+            }
+        } else if (letters == 0) {
+            return -1;
+        }
+        return (letters << SUFFIX_BITS) | suffix;
+    }
+
+    /**
+     * Reads zero, one or two identical letters into a letters code, or -1.
+     */
+    private static int letters(String s, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return 0;
+        }
+        char first = Character.toUpperCase(s.charAt(from));
+        if (length == 1) {
+            return first - 'A' + 1;
+        }
+        if (length == 2 && Character.toUpperCase(s.charAt(from + 1)) == first) {
+            return first - 'A' + 27;
+        }
+        return -1;
+    }
+
+    private static int parseNumber(String s, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+            if (value > MAX_NUMBER) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static void appendRow(StringBuilder sb, int key) {
+        int letters = rowLetters(key);
+        if (letters > 26) {
+            char c = (char) ('A' + letters - 27);
+            sb.append(c).append(c);
+        } else if (letters > 0) {
+            sb.append((char) ('A' + letters - 1));
+        }
+        int suffix = rowSuffix(key);
+        if (suffix > 0 || letters == 0) {
+            sb.append(suffix);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.teamoneboxoffice.util;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.GridPane;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps the nodes of a seat map alive between refreshes.
+ *
+ * A seat map's labels, seat buttons and row constraints only depend on its layout (the
+ * hall, and for some screens the event type), so they are built once per layout. When only
+ * availability changes, e.g. switching to another performance in the same hall or reloading
+ * mid-sale, {@link #repaint} restyles just the seats whose state differs from the last
+ * render, using {@link SeatAvailability#changedSince}.
+ *
+ * The availability passed to {@link #rebuild} and {@link #repaint} must be the same object
+ * for as long as the layout stays the same, since snapshots are compared by seat ordinal.
+ */
+public class SeatMapNodes {
+    private final GridPane grid;
+    private final Map<String, ToggleButton> seatButtons;
+    private String layoutKey;
+    private SeatAvailability.Snapshot rendered;
+
+    /**
+     * @param grid        The grid the seat map is drawn into.
+     * @param seatButtons The controller's seat ID to button map, filled by its layout builders.
+     */
+    public SeatMapNodes(GridPane grid, Map<String, ToggleButton> seatButtons) {
+        this.grid = grid;
+        this.seatButtons = seatButtons;
+    }
+
+    /**
+     * @param layoutKey Identifies a layout, e.g. the hall type.
+     * @return true if the grid currently holds that layout's nodes.
+     */
+    public boolean isShowing(String layoutKey) {
+        return this.layoutKey != null && this.layoutKey.equals(layoutKey);
+    }
+
+    /**
+     * Clears the grid and builds a new layout. The builder adds its nodes to the grid and its
+     * seat buttons to the seat map, styling each seat from the availability as it goes.
+     *
+     * @param layoutKey    Identifies the new layout.
+     * @param availability The seat state the builder styled the seats from.
+     * @param builder      Adds the layout's nodes.
+     */
+    public void rebuild(String layoutKey, SeatAvailability availability, Runnable builder) {
+        clear();
+        builder.run();
+        this.layoutKey = layoutKey;
+        this.rendered = availability.snapshot();
+    }
+
+    /**
+     * Restyles the seats whose selected, held, booked or blocked state changed since the last rebuild
+     * or repaint. Every other node is left untouched.
+     *
+     * @param availability The current seat state.
+     * @param styler       Applies a seat's state to its button.
+     * @return The number of seats restyled.
+     */
+    public int repaint(SeatAvailability availability, BiConsumer<String, ToggleButton> styler) {
+        List<String> changedSeatIds = availability.changedSince(rendered);
+        int repainted = 0;
+        for (String seatId : changedSeatIds) {
+            ToggleButton seatButton = seatButtons.get(seatId);
+            if (seatButton != null) {
+                styler.accept(seatId, seatButton);
+                repainted++;
+            }
+        }
+        rendered = availability.snapshot();
+        return repainted;
+    }
+
+    /**
+     * Removes every node, so the next {@link #rebuild} starts from an empty grid.
+     */
+    public void clear() {
+        grid.getChildren().clear();
+        grid.getColumnConstraints().clear();
+        grid.getRowConstraints().clear();
+        seatButtons.clear();
+        layoutKey = null;
+        rendered = null;
+    }
+}
@@ -0,0 +1,132 @@
+package com.teamoneboxoffice.util;
+
+import javafx.css.PseudoClass;
+import javafx.scene.control.ToggleButton;
+
+/**
+ * Display state of one seat button, expressed as CSS pseudo-classes.
+ *
+ * A seat is in exactly one {@link State} at a time, plus the independent wheelchair and VIP
+ * flags. Changing state turns one pseudo-class off and another on, which JavaFX handles as a
+ * bit flip, instead of removing and re-adding style classes (a list scan each, and a full
+ * re-match of the node's rules). Setting the state a seat is already in does nothing.
+ *
+ * styles.css styles the states as {@code .seat-button:available}, {@code .seat-button:booked},
+ * {@code .seat-button:available:wheelchair} and so on.
+ */
+public final class SeatView {
+    public static final PseudoClass WHEELCHAIR = PseudoClass.getPseudoClass("wheelchair");
+    public static final PseudoClass VIP = PseudoClass.getPseudoClass("vip");
+
+    private static final String PROPERTY_KEY = SeatView.class.getName();
+
+    /**
+     * The states a seat can be shown in.
+     */
+    public enum State {
+        /** Free to select. */
+        AVAILABLE("available", false, false),
+        /** Held by another booking that has not been committed yet. */
+        HELD("held", true, false),
+        /** Chosen in the booking being made on this screen. */
+        SELECTED("selected", false, true),
+        /** Sold. */
+        BOOKED("booked", true, false),
+        /** Kept free as the companion seat of a wheelchair booking. */
+        BLOCKED("blocked", true, false),
+        /** Taken out of sale by an administrator. */
+        RESTRICTED("restricted", false, true);
+
+        private final PseudoClass pseudoClass;
+        private final boolean disabled;
+        private final boolean toggled;
+
+        State(String pseudoClass, boolean disabled, boolean toggled) {
+            this.pseudoClass = PseudoClass.getPseudoClass(pseudoClass);
+            this.disabled = disabled;
+            this.toggled = toggled;
+        }
+
+        public PseudoClass getPseudoClass() {
+            return pseudoClass;
+        }
+
+        /**
+         * @return true if a seat in this state cannot be clicked.
+         */
+        public boolean isDisabled() {
+            return disabled;
+        }
+    }
+
+    private final ToggleButton button;
+    private State state;
+    private boolean wheelchair;
+    private boolean vip;
+
+    private SeatView(ToggleButton button) {
+        this.button = button;
+    }
+
+    /**
+     * @param button A seat button.
+     * @return The button's seat view, created the first time it is asked for.
+     */
+    public static SeatView of(ToggleButton button) {
+        Object view = button.getProperties().get(PROPERTY_KEY);
+        if (view instanceof SeatView) {
+            return (SeatView) view;
+        }
+        SeatView created = new SeatView(button);
+        button.getProperties().put(PROPERTY_KEY, created);
+        return created;
+    }
+
+    /**
+     * @return The current state, or null if none has been set.
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Moves the seat to a new state, updating its pseudo-classes, toggle and disabled flag.
+     *
+     * @param newState The new state.
+     */
+    public void setState(State newState) {
+        if (newState == state) {
+            return;
+        }
+        if (state != null) {
+            button.pseudoClassStateChanged(state.pseudoClass, false);
+        }
+        state = newState;
+        // ToggleButton keeps its own :selected in step with the toggle, so set that first.
+        button.setSelected(newState.toggled);
+        button.setDisable(newState.disabled);
+        button.pseudoClassStateChanged(newState.pseudoClass, true);
+    }
+
+    public boolean isWheelchair() {
+        return wheelchair;
+    }
+
+    public void setWheelchair(boolean wheelchair) {
+        if (this.wheelchair != wheelchair) {
+            this.wheelchair = wheelchair;
+            button.pseudoClassStateChanged(WHEELCHAIR, wheelchair);
+        }
+    }
+
+    public boolean isVip() {
+        return vip;
+    }
+
+    public void setVip(boolean vip) {
+        if (this.vip != vip) {
+            this.vip = vip;
+            button.pseudoClassStateChanged(VIP, vip);
+        }
+    }
+}
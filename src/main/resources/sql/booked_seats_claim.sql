@@ -0,0 +1,14 @@
+-- Lets BookingCommitDAO claim seats atomically per event.
+-- Booked_Seats gains the Event_ID of its ticket, and (Event_ID, Seat_ID) becomes unique, so a
+-- seat of an event can only be booked once however many terminals commit at the same time.
+
+ALTER TABLE Booked_Seats ADD COLUMN Event_ID VARCHAR(50) NULL;
+
+-- Backfill from the owning ticket.
+UPDATE Booked_Seats bs
+JOIN Ticket t ON t.Ticket_ID = bs.Ticket_ID
+SET bs.Event_ID = t.Event_ID;
+
+-- Existing double bookings must be resolved before this succeeds:
+--   SELECT Event_ID, Seat_ID, COUNT(*) FROM Booked_Seats GROUP BY Event_ID, Seat_ID HAVING COUNT(*) > 1;
+ALTER TABLE Booked_Seats ADD CONSTRAINT uq_booked_seats_event_seat UNIQUE (Event_ID, Seat_ID);
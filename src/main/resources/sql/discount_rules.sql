@@ -0,0 +1,11 @@
+-- Optional rules on discount codes, read by DiscountDAO.getAllDiscounts and applied by DiscountRule.
+-- Every column may be left at its default: such a code works for every event, at any time, without limit.
+
+ALTER TABLE Discount
+    ADD COLUMN Valid_From  DATETIME    NULL,                -- not usable before this
+    ADD COLUMN Valid_Until DATETIME    NULL,                -- nor after this
+    ADD COLUMN Event_ID    VARCHAR(50) NULL,                -- only for this event
+    ADD COLUMN Max_Uses    INT         NULL,                -- bookings allowed in total
+    ADD COLUMN Times_Used  INT         NOT NULL DEFAULT 0,  -- bookings made so far
+    ADD COLUMN Priority    INT         NOT NULL DEFAULT 0,  -- higher is applied first
+    ADD COLUMN Stackable   BOOLEAN     NOT NULL DEFAULT FALSE;
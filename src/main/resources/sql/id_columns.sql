@@ -0,0 +1,20 @@
+-- Widens the ID columns for IdGenerator's IDs: a type prefix plus 13 characters, e.g.
+-- "TKT01HV3K9Q2M4ZP" (16) or "BKG-01HV3K9Q2M4ZP" and "CUS_01HV3K9Q2M4ZP" (17).
+-- VARCHAR(50) matches Event_ID and the other ID columns added in this series.
+
+-- The key and the columns that refer to it change together, so foreign keys are checked
+-- again only once both sides are the same width.
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE Customer MODIFY Customer_ID VARCHAR(50) NOT NULL;
+
+ALTER TABLE Ticket MODIFY Ticket_ID VARCHAR(50) NOT NULL;
+ALTER TABLE Ticket MODIFY Customer_ID VARCHAR(50) NULL;
+
+ALTER TABLE Booked_Seats MODIFY Ticket_ID VARCHAR(50) NOT NULL;
+
+ALTER TABLE Booking_Details MODIFY Booking_ID VARCHAR(50) NOT NULL;
+ALTER TABLE Booking_Details MODIFY Customer_ID VARCHAR(50) NULL;
+ALTER TABLE Booking_Details MODIFY Ticket_ID VARCHAR(50) NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,10 @@
+-- Indexes backing EventDAO.getBookedSeatIds(eventId, date, time).
+-- The query starts from one Event row, found through its primary key, then finds that
+-- event's tickets and their booked seats, so each of those steps needs an index on its
+-- join column. Event needs nothing extra: any index led by Event_ID only repeats the key.
+
+-- Ticket rows of one event, covering the Ticket_ID used for the next join.
+CREATE INDEX idx_ticket_event ON Ticket (Event_ID, Ticket_ID);
+
+-- Booked seats of one ticket, covering Seat_ID so the rows themselves are never read.
+CREATE INDEX idx_booked_seats_ticket ON Booked_Seats (Ticket_ID, Seat_ID);
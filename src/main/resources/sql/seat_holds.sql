@@ -0,0 +1,19 @@
+-- Temporary seat holds placed while a booking is in progress (see SeatHoldDAO).
+-- One row per held seat; every seat of one booking shares a Hold_ID.
+-- The primary key lets only one terminal hold a given seat of a performance at a time.
+CREATE TABLE Seat_Holds (
+    Hold_ID     VARCHAR(36)  NOT NULL,
+    Event_ID    VARCHAR(50)  NOT NULL,
+    Event_Date  DATE         NOT NULL,
+    Event_Time  VARCHAR(10)  NOT NULL,
+    Seat_ID     VARCHAR(50)  NOT NULL,
+    Held_By     VARCHAR(100) NOT NULL,
+    Expires_At  TIMESTAMP    NOT NULL,
+    PRIMARY KEY (Event_ID, Event_Date, Event_Time, Seat_ID)
+);
+
+-- Extend and release work on a whole hold.
+CREATE INDEX idx_seat_holds_hold ON Seat_Holds (Hold_ID);
+
+-- Sweeping expired holds.
+CREATE INDEX idx_seat_holds_expiry ON Seat_Holds (Expires_At);
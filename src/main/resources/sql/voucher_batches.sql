@@ -0,0 +1,28 @@
+-- Single-use voucher codes issued in batches for marketing campaigns (see VoucherDAO).
+-- A batch carries the discount; its codes are only keys, so issuing tens of thousands of
+-- codes is one batch row plus batched inserts of short rows.
+CREATE TABLE Voucher_Batch (
+    Batch_ID    VARCHAR(36)  NOT NULL PRIMARY KEY,
+    Percentage  INT          NOT NULL,
+    Reason      VARCHAR(100) NOT NULL,
+    Valid_Until DATETIME     NULL,
+    Size        INT          NOT NULL,
+    Created_At  TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE Voucher (
+    Code     VARCHAR(20) NOT NULL PRIMARY KEY,
+    Batch_ID VARCHAR(36) NOT NULL,
+    FOREIGN KEY (Batch_ID) REFERENCES Voucher_Batch (Batch_ID)
+);
+
+-- Redemption log. Rows are only ever inserted; the primary key lets each code be redeemed
+-- once, whichever terminal tries, without updating the Voucher or Discount rows.
+CREATE TABLE Voucher_Redemption (
+    Code        VARCHAR(20) NOT NULL PRIMARY KEY,
+    Ticket_ID   VARCHAR(50) NULL,
+    Redeemed_At TIMESTAMP   NOT NULL,
+    FOREIGN KEY (Code) REFERENCES Voucher (Code)
+);
+
+CREATE INDEX idx_voucher_batch ON Voucher (Batch_ID);
@@ -0,0 +1,55 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.AllocationRequest;
+import com.teamoneboxoffice.services.implementations.seatingImpl.BestAvailableAllocator;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestAvailableAllocatorTest {
+
+    private static final int SEATS_PER_ROW = 9;
+
+    private BestAvailableAllocator allocator;
+    private SeatAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        List<String> seatIds = new ArrayList<>();
+        for (char row = 'A'; row <= 'B'; row++) {
+            for (int seat = 1; seat <= SEATS_PER_ROW; seat++) {
+                seatIds.add("" + row + seat);
+            }
+        }
+        allocator = new BestAvailableAllocator(seatIds, null);
+        availability = new SeatAvailability();
+    }
+
+    @Test
+    void testPicksCentreOfFrontRow() {
+        List<String> seats = allocator.allocate(availability, AllocationRequest.of(3));
+        assertEquals(List.of("A4", "A5", "A6"), seats, "An empty hall should give the centre of row A");
+    }
+
+    @Test
+    void testSkipsTakenSeatsAndOrphans() {
+        // A1-A3 and A7-A9 free: three seats fit on either side, leaving no single seat behind.
+        availability.replaceBooked(List.of("A4", "A5", "A6"));
+        List<String> seats = allocator.allocate(availability, AllocationRequest.of(2));
+        assertEquals(2, seats.size(), "Two seats should be found");
+        assertFalse(seats.contains("A2") || seats.contains("A8"),
+                "A block that strands one seat should not be chosen while row B is free: " + seats);
+    }
+
+    @Test
+    void testNothingFits() {
+        availability.replaceBooked(List.of("A3", "A6", "B3", "B6"));
+        assertTrue(allocator.allocate(availability, AllocationRequest.of(4)).isEmpty(),
+                "No row has four adjacent free seats");
+    }
+}
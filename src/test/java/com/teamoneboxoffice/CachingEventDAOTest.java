@@ -0,0 +1,90 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.Event;
+import com.teamoneboxoffice.services.implementations.DAOs.CachingEventDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryEventDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingEventDAOTest {
+
+    private static final Date SHOW_DATE = java.sql.Date.valueOf(LocalDate.of(2025, 5, 1));
+
+    private InMemoryEventDAO store;
+    private CachingEventDAO eventDAO;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryEventDAO(new InMemoryStore());
+        store.create(new Event("E1", "Hamlet", "LivePerformance", 30.0, "Large Hall", SHOW_DATE, "19:30"));
+        store.create(new Event("E2", "Jaws", "Film", 10.0, "Large Hall", SHOW_DATE, "14:00"));
+        eventDAO = new CachingEventDAO(store);
+    }
+
+    @Test
+    void testReadsAreAnsweredFromMemory() {
+        assertEquals(2, eventDAO.getAll().size(), "All events should be loaded");
+        assertEquals(1, eventDAO.getMissCount(), "The first read should go to the wrapped DAO");
+
+        assertEquals("Jaws", eventDAO.getById("E2").getEventName(), "Events should be found by ID");
+        assertEquals(1, eventDAO.getByType("Film").size(), "Events should be found by type");
+        assertEquals(2, eventDAO.getByDate(SHOW_DATE).size(), "Events should be found by date");
+        assertNull(eventDAO.getById("E9"), "An unknown event should not be found");
+        assertEquals(1, eventDAO.getMissCount(), "Later reads should not go to the wrapped DAO");
+        assertEquals(4, eventDAO.getHitCount(), "Later reads should count as hits");
+    }
+
+    @Test
+    void testWritesInvalidate() {
+        eventDAO.getAll();
+        assertTrue(eventDAO.updateTicketStats("E1", 120.0, 4), "Ticket stats should be updated");
+        assertEquals(4, eventDAO.getById("E1").getTicketNumbers(), "Reads after a write should see it");
+        eventDAO.getAll();
+
+        store.create(new Event("E3", "Cats", "LivePerformance", 40.0, "Large Hall", SHOW_DATE, "19:30"));
+        assertEquals(2, eventDAO.getAll().size(), "Changes behind the cache's back should not show until it expires");
+        assertTrue(eventDAO.delete("E2"), "The event should be deleted");
+        List<Event> events = eventDAO.getAll();
+        assertEquals(2, events.size(), "Reads after a delete should reload every event");
+    }
+
+    @Test
+    void testCallersGetCopies() {
+        eventDAO.getById("E1").setTicketNumbers(99);
+        assertEquals(0, eventDAO.getById("E1").getTicketNumbers(), "Changing a returned event should not change the cache");
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        CachingEventDAO failing = new CachingEventDAO(new InMemoryEventDAO(new InMemoryStore()) {
+            @Override
+            public boolean forEach(Consumer<Event> action) {
+                return false;
+            }
+        });
+        assertTrue(failing.getAll().isEmpty(), "A failed load should return no events");
+        failing.getAll();
+        assertEquals(2, failing.getMissCount(), "A failed load should be retried on the next read");
+    }
+
+    @Test
+    void testEntriesExpire() {
+        CachingEventDAO expiring = new CachingEventDAO(store, 0);
+        expiring.getAll();
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        expiring.getAll();
+        assertEquals(2, expiring.getMissCount(), "An expired cache should be reloaded");
+    }
+}
@@ -0,0 +1,90 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.Customer;
+import com.teamoneboxoffice.services.implementations.customerImpl.CustomerSearchService;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryCustomerDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerSearchServiceTest {
+
+    private InMemoryCustomerDAO customerDAO;
+    private CustomerSearchService search;
+
+    @BeforeEach
+    void setUp() {
+        customerDAO = new InMemoryCustomerDAO(new InMemoryStore());
+        customerDAO.create(customer("C1", "John Smith", "John.Smith@example.com", "07700 900123"));
+        customerDAO.create(customer("C2", "Joanna Smith", "jo@example.com", "+44 7700 900456"));
+        customerDAO.create(customer("C3", "Mary Jones", "mary@example.com", null));
+        search = new CustomerSearchService(customerDAO);
+        search.warm();
+    }
+
+    @Test
+    void testKeysAreNormalised() {
+        assertEquals("C1", search.findByEmail("  john.smith@EXAMPLE.com ").getCustomerID(), "Email should ignore case and spaces");
+        assertEquals("C2", search.findByPhone("07700-900-456").getCustomerID(), "Phone should ignore punctuation and +44");
+        assertNull(search.findByEmail("nobody@example.com"), "An unknown email should not be found");
+    }
+
+    @Test
+    void testNamePrefixSearch() {
+        List<Customer> smiths = search.searchByName("smi", 10);
+        assertEquals(2, smiths.size(), "Both Smiths should match a surname prefix");
+        assertEquals("Joanna Smith", smiths.get(0).getName(), "Matches should be sorted by name");
+
+        List<Customer> jo = search.searchByName("jo sm", 10);
+        assertEquals(2, jo.size(), "Every typed word should match the start of a name word");
+        assertEquals(1, search.searchByName("smith joh", 10).size(), "Word order should not matter");
+        assertEquals(1, search.searchByName("smi", 1).size(), "Results should be limited");
+    }
+
+    @Test
+    void testRefreshAppliesChanges() {
+        customerDAO.create(customer("C4", "Sam Taylor", "sam@example.com", "01524 000000"));
+        customerDAO.delete("C3");
+        Customer moved = customer("C1", "John Smith", "john@example.org", "07700 900123");
+        customerDAO.update(moved);
+
+        search.refresh();
+        assertEquals("C4", search.findByPhone("01524 000000").getCustomerID(), "New customers should be indexed");
+        assertTrue(search.searchByName("mary", 10).isEmpty(), "Removed customers should be dropped");
+        assertEquals("C1", search.findByEmail("john@example.org").getCustomerID(), "Changed emails should be re-indexed");
+        assertTrue(search.searchByName("john", 10).stream().allMatch(c -> c.getEmailAddress().equals("john@example.org")),
+                "The old email should not be returned");
+    }
+
+    @Test
+    void testRefreshKeepsCustomersPutWhileItRuns() {
+        // Saves a new customer on "another thread" after the stream has passed its ID
+        InMemoryCustomerDAO racingDAO = new InMemoryCustomerDAO(new InMemoryStore()) {
+            @Override
+            public boolean forEach(Consumer<Customer> action) {
+                boolean complete = super.forEach(action);
+                Customer saved = customer("C0", "Ana Lee", "ana@example.com", null);
+                create(saved);
+                search.put(saved);
+                return complete;
+            }
+        };
+        racingDAO.create(customer("C1", "John Smith", "John.Smith@example.com", "07700 900123"));
+        search = new CustomerSearchService(racingDAO);
+
+        search.refresh();
+        assertEquals(1, search.searchByName("ana", 10).size(), "A customer put during a refresh should be kept");
+        assertEquals("C1", search.findByPhone("07700 900123").getCustomerID(), "Streamed customers should still be indexed");
+    }
+
+    private static Customer customer(String id, String name, String email, String phone) {
+        Customer customer = new Customer(id, false, null, null, null, email, phone);
+        customer.setName(name);
+        return customer;
+    }
+}
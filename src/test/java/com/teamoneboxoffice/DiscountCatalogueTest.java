@@ -0,0 +1,88 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.entities.Discount;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountCatalogue;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountRule;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryBookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryDiscountDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscountCatalogueTest {
+
+    private InMemoryDiscountDAO discountDAO;
+    private InMemoryBookingCommitDAO bookingCommitDAO;
+    private DiscountCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        InMemoryStore store = new InMemoryStore();
+        discountDAO = new InMemoryDiscountDAO(store);
+        bookingCommitDAO = new InMemoryBookingCommitDAO(store);
+        LocalDateTime now = LocalDateTime.now();
+        discountDAO.addDiscount(new Discount("STUDENT", 10, "Students"));
+        discountDAO.addDiscount(new Discount("FRIENDS", 20, "Friends of Lancaster", null, null, null, 0, 0, 5, true));
+        discountDAO.addDiscount(new Discount("MATINEE", 10, "Matinees", null, null, "E1", 0, 0, 1, true));
+        discountDAO.addDiscount(new Discount("SPRING", 15, "Spring sale", null, now.minusDays(1), null, 0, 0, 0, false));
+        discountDAO.addDiscount(new Discount("LAUNCH", 50, "Launch night", null, null, null, 1, 0, 0, false));
+        catalogue = new DiscountCatalogue(discountDAO);
+    }
+
+    @Test
+    void testCodesAreFoundIgnoringCase() throws SQLException {
+        assertNotNull(catalogue.find(" student "), "Codes should be matched ignoring case and spaces");
+        assertNull(catalogue.find("NOPE"), "An unknown code should not be found");
+        assertNull(catalogue.find("NOPE"), "An unknown code should stay unknown");
+    }
+
+    @Test
+    void testRulesAreChecked() throws SQLException {
+        DiscountCatalogue.Resolution resolution = catalogue.resolve("spring, matinee NOPE", "E2");
+        assertTrue(resolution.getRules().isEmpty(), "Expired, wrong-event and unknown codes should not be usable");
+        assertEquals(3, resolution.getProblems().size(), "Each unusable code should be reported");
+
+        DiscountCatalogue.Resolution launch = catalogue.resolve("LAUNCH", "E1");
+        assertEquals(1, launch.getRules().size(), "A code under its limit should be usable");
+        catalogue.recordUse(launch.getRules());
+        assertTrue(catalogue.resolve("LAUNCH", "E1").getRules().isEmpty(), "A used-up code should not be usable");
+    }
+
+    @Test
+    void testLimitIsEnforcedWhenTheBookingIsSaved() throws SQLException {
+        List<String> codes = DiscountCatalogue.cappedCodes(catalogue.resolve("LAUNCH STUDENT", "E1").getRules());
+        assertEquals(List.of("LAUNCH"), codes, "Only codes with a usage limit should be counted");
+
+        BookingRequest first = new BookingRequest("T00001", "CUS_00001", "First Customer", "first@example.com",
+                "07000000000", "E1", List.of("A1"), false, true, 25.0, codes, List.of());
+        BookingRequest second = new BookingRequest("T00002", "CUS_00002", "Second Customer", "second@example.com",
+                "07000000001", "E1", List.of("A2"), false, true, 25.0, codes, List.of());
+        assertTrue(bookingCommitDAO.claimSeatsAndCommit(first).isCommitted(), "The first use should be committed");
+
+        BookingCommitResult result = bookingCommitDAO.claimSeatsAndCommit(second);
+        assertEquals(BookingCommitResult.Status.CODES_USED_UP, result.getStatus(), "The booking over the limit should be rolled back");
+        assertEquals(List.of("LAUNCH"), result.getUsedUpCodes(), "The used-up code should be reported");
+        assertFalse(discountDAO.recordDiscountUse("LAUNCH"), "The saved booking should have counted the use");
+    }
+
+    @Test
+    void testCodesStackInPriorityOrder() throws SQLException {
+        List<DiscountRule> rules = catalogue.resolve("MATINEE FRIENDS", "E1").getRules();
+        assertEquals("FRIENDS", rules.get(0).getCode(), "The highest priority code should come first");
+        assertEquals(7200, DiscountRule.applyAll(rules, 10000), "Stackable codes should compound");
+
+        List<DiscountRule> withStudent = catalogue.resolve("STUDENT FRIENDS", "E1").getRules();
+        assertEquals(8000, DiscountRule.applyAll(withStudent, 10000),
+                "A code that does not stack should not be added to the stack");
+        assertEquals(List.of(withStudent.get(0)), DiscountRule.applied(withStudent),
+                "Only the codes taken off the price should be reported as applied");
+    }
+}
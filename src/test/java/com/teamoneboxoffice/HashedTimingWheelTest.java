@@ -0,0 +1,53 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.HashedTimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    // 10 ms ticks on 500 buckets: a timeout that missed its bucket would wait 5 s for the next pass.
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel("test-wheel", 10, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void testTimeoutsScheduledWhileTickingRunOnTime() throws InterruptedException {
+        int count = 2000;
+        CountDownLatch fired = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(fired::countDown, 0, TimeUnit.MILLISECONDS);
+            if (i % 100 == 0) {
+                Thread.sleep(1);
+            }
+        }
+        assertTrue(fired.await(2, TimeUnit.SECONDS), "Every timeout should run within a few ticks of its deadline");
+    }
+
+    @Test
+    void testCancelledTimeoutDoesNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+        wheel.schedule(later::countDown, 50, TimeUnit.MILLISECONDS);
+
+        timeout.cancel();
+        assertTrue(later.await(2, TimeUnit.SECONDS), "A later timeout should still run");
+        assertFalse(ran.get(), "A cancelled timeout should not run");
+    }
+}
@@ -0,0 +1,69 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.util.IdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    private static final int TERMINAL_ID = 37;
+
+    @Test
+    void testIdsAreOrderedAndCarryTheTerminal() {
+        IdGenerator generator = new IdGenerator(TERMINAL_ID);
+        long before = System.currentTimeMillis();
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous, "IDs should increase");
+            assertEquals(TERMINAL_ID, IdGenerator.terminalOf(id), "ID should carry the terminal number");
+            previous = id;
+        }
+        assertTrue(IdGenerator.timestampOf(previous) >= before, "ID should carry its creation time");
+
+        String first = generator.next(IdGenerator.TICKET_PREFIX);
+        String second = generator.next(IdGenerator.TICKET_PREFIX);
+        assertTrue(first.startsWith(IdGenerator.TICKET_PREFIX), "Encoded ID should keep its prefix");
+        assertTrue(first.compareTo(second) < 0, "Encoded IDs should sort in creation order");
+        assertEquals(IdGenerator.TICKET_PREFIX.length() + 13, first.length(), "Encoding should have a fixed width");
+    }
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        IdGenerator generator = new IdGenerator(TERMINAL_ID);
+        long id = generator.nextId();
+        assertEquals(id, IdGenerator.decode(IdGenerator.encode(id)), "Encoding should round-trip");
+        assertEquals(id, IdGenerator.decode(IdGenerator.BOOKING_PREFIX + IdGenerator.encode(id)), "Prefix should be ignored");
+        assertEquals(-1, IdGenerator.decode("BKG-IIII"), "Invalid encodings should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(IdGenerator.MAX_TERMINAL + 1),
+                "Terminal numbers out of range should be rejected");
+    }
+
+    @Test
+    void testNoDuplicatesAcrossThreadsOrTerminals() throws InterruptedException {
+        IdGenerator terminalA = new IdGenerator(1);
+        IdGenerator terminalB = new IdGenerator(2);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            IdGenerator generator = t % 2 == 0 ? terminalA : terminalB;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    seen.add(generator.nextId());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8 * 5_000, seen.size(), "Every generated ID should be unique");
+    }
+}
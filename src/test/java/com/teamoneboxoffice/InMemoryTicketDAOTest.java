@@ -0,0 +1,146 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.entities.Ticket;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryBookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryEventDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryTicketDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTicketDAOTest {
+
+    private static final String TEST_TICKET_ID = "T12345";
+    private static final String TEST_CUSTOMER_ID = "CUS_ABC01";
+    private static final String TEST_HALL = "Large Hall";
+    private static final String TEST_TICKET_TYPE = "VIP";
+
+    private InMemoryTicketDAO ticketDAO;
+    private InMemoryEventDAO eventDAO;
+    private InMemoryBookingCommitDAO bookingCommitDAO;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStore store = new InMemoryStore();
+        ticketDAO = new InMemoryTicketDAO(store);
+        eventDAO = new InMemoryEventDAO(store);
+        bookingCommitDAO = new InMemoryBookingCommitDAO(store);
+    }
+
+    private Ticket newTicket(String ticketId, String hall, String ticketType) {
+        Ticket ticket = new Ticket(ticketId, 10, 5, hall, ticketType, false, false, 50.0, "High");
+        ticket.setCustomerID(TEST_CUSTOMER_ID);
+        return ticket;
+    }
+
+    @Test
+    void testSecondaryIndexesFollowUpdates() {
+        assertTrue(ticketDAO.create(newTicket(TEST_TICKET_ID, TEST_HALL, TEST_TICKET_TYPE)), "Ticket should be created");
+        assertFalse(ticketDAO.create(newTicket(TEST_TICKET_ID, TEST_HALL, TEST_TICKET_TYPE)), "Duplicate Ticket_ID should be rejected");
+
+        assertEquals(1, ticketDAO.getByCustomerId(TEST_CUSTOMER_ID).size(), "Ticket should be found by customer");
+        assertEquals(1, ticketDAO.getByHall(TEST_HALL).size(), "Ticket should be found by hall");
+        assertEquals(1, ticketDAO.getByTicketType(TEST_TICKET_TYPE).size(), "Ticket should be found by type");
+
+        assertTrue(ticketDAO.update(newTicket(TEST_TICKET_ID, "Small Hall", "Standard")), "Ticket should be updated");
+        assertTrue(ticketDAO.getByHall(TEST_HALL).isEmpty(), "Old hall index entry should be removed");
+        assertEquals(1, ticketDAO.getByHall("Small Hall").size(), "New hall index entry should be added");
+        assertTrue(ticketDAO.getByTicketType(TEST_TICKET_TYPE).isEmpty(), "Old type index entry should be removed");
+    }
+
+    @Test
+    void testDeleteRemovesTicketAndBookedSeats() {
+        BookingRequest request = new BookingRequest(TEST_TICKET_ID, TEST_CUSTOMER_ID, "Test Customer",
+                "test@example.com", "07000000000", "EVT001", List.of("A1", "A2"), false, false, 100.0);
+        assertTrue(bookingCommitDAO.commitBooking(request), "Booking should be committed");
+        assertEquals(2, eventDAO.getAllBookedSeatIds().size(), "Both seats should be booked");
+
+        assertTrue(ticketDAO.delete(TEST_TICKET_ID), "Existing ticket should be deleted");
+        assertNull(ticketDAO.getById(TEST_TICKET_ID), "Ticket should no longer exist");
+        assertTrue(eventDAO.getAllBookedSeatIds().isEmpty(), "Booked seats should be deleted with the ticket");
+        assertFalse(ticketDAO.delete(TEST_TICKET_ID), "Deleting a missing ticket should fail");
+    }
+
+    @Test
+    void testFailedCommitLeavesStoreUntouched() {
+        BookingRequest first = new BookingRequest(TEST_TICKET_ID, TEST_CUSTOMER_ID, "Test Customer",
+                "test@example.com", "07000000000", "EVT001", List.of("A1"), false, false, 50.0);
+        BookingRequest duplicate = new BookingRequest(TEST_TICKET_ID, "CUS_NEW02", "Other Customer",
+                "other@example.com", "07000000001", "EVT001", List.of("A2"), false, false, 50.0);
+
+        assertTrue(bookingCommitDAO.commitBooking(first), "First booking should be committed");
+        assertFalse(bookingCommitDAO.commitBooking(duplicate), "Booking with a duplicate Ticket_ID should be rolled back");
+
+        assertEquals(1, ticketDAO.getAll().size(), "Only the first ticket should exist");
+        assertFalse(eventDAO.getAllBookedSeatIds().contains("A2"), "Seats of the rolled back booking should not be booked");
+        assertEquals(TEST_CUSTOMER_ID, ticketDAO.getById(TEST_TICKET_ID).getCustomerID(), "Ticket should keep its customer");
+    }
+
+    @Test
+    void testClaimReportsLostSeats() {
+        BookingRequest first = new BookingRequest(TEST_TICKET_ID, TEST_CUSTOMER_ID, "Test Customer",
+                "test@example.com", "07000000000", "EVT001", List.of("A1", "A2"), false, false, 100.0);
+        BookingRequest overlapping = new BookingRequest("T67890", "CUS_NEW02", "Other Customer",
+                "other@example.com", "07000000001", "EVT001", List.of("A2", "A3", "A1"), false, false, 150.0);
+        BookingRequest otherEvent = new BookingRequest("T24680", "CUS_NEW03", "Third Customer",
+                "third@example.com", "07000000002", "EVT002", List.of("A1"), false, false, 50.0);
+
+        assertTrue(bookingCommitDAO.claimSeatsAndCommit(first).isCommitted(), "First booking should be committed");
+
+        BookingCommitResult result = bookingCommitDAO.claimSeatsAndCommit(overlapping);
+        assertEquals(BookingCommitResult.Status.SEATS_TAKEN, result.getStatus(), "Overlapping booking should lose seats");
+        assertEquals(List.of("A2", "A1"), result.getLostSeatIds(), "Every lost seat should be reported in request order");
+        assertNull(ticketDAO.getById("T67890"), "Nothing of the rejected booking should be written");
+        assertFalse(eventDAO.getAllBookedSeatIds().contains("A3"), "Free seats of the rejected booking should stay free");
+
+        assertTrue(bookingCommitDAO.claimSeatsAndCommit(otherEvent).isCommitted(), "The same seat of another event should be bookable");
+    }
+
+    @Test
+    void testKeysetPagesCoverEveryTicket() {
+        for (int i = 0; i < 25; i++) {
+            assertTrue(ticketDAO.create(newTicket(String.format("T%03d", i), TEST_HALL, TEST_TICKET_TYPE)), "Ticket should be created");
+        }
+
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        List<Ticket> page;
+        do {
+            page = ticketDAO.getPage(after, 10);
+            for (Ticket ticket : page) {
+                seen.add(ticket.getTicketID());
+            }
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getTicketID();
+            }
+        } while (page.size() == 10);
+
+        assertEquals(25, seen.size(), "Every ticket should be on exactly one page");
+        assertEquals("T000", seen.get(0), "Pages should start at the lowest Ticket_ID");
+        assertEquals(seen.stream().sorted().toList(), seen, "Pages should be in Ticket_ID order");
+        assertTrue(ticketDAO.getPage("T024", 10).isEmpty(), "There should be nothing after the last ticket");
+    }
+
+    @Test
+    void testForEachAllowsWritesFromTheAction() {
+        for (int i = 0; i < 1200; i++) {
+            ticketDAO.create(newTicket(String.format("T%04d", i), TEST_HALL, TEST_TICKET_TYPE));
+        }
+
+        int[] visited = {0};
+        assertTrue(ticketDAO.forEach(ticket -> {
+            visited[0]++;
+            ticketDAO.delete(ticket.getTicketID());
+        }), "Every ticket should be read");
+
+        assertEquals(1200, visited[0], "Every ticket should be visited once across pages");
+        assertTrue(ticketDAO.getAll().isEmpty(), "The action should be able to delete what it is given");
+    }
+}
@@ -0,0 +1,73 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.SeatingConfig;
+import com.teamoneboxoffice.entities.Section;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplate;
+import com.teamoneboxoffice.services.implementations.seatingImpl.LayoutTemplates;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAdjacencyGraph;
+import com.teamoneboxoffice.util.SeatKey;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayoutTemplatesTest {
+
+    private static final int LIVE_PERFORMANCE_CONFIG = 101;
+
+    @Test
+    void testTemplateIsBuiltOnce() {
+        LayoutTemplate first = LayoutTemplates.get(LIVE_PERFORMANCE_CONFIG);
+        LayoutTemplate second = LayoutTemplates.get(1, "LivePerformance");
+
+        assertSame(first, second, "The same configuration should return the cached template");
+        assertThrows(UnsupportedOperationException.class, () -> first.getSections().clear(),
+                "Template sections should be read-only");
+    }
+
+    @Test
+    void testTemplateMatchesGeneratedLayout() {
+        LayoutTemplate template = LayoutTemplates.get(LIVE_PERFORMANCE_CONFIG);
+
+        int generatedSeats = 0;
+        for (Section section : SeatingConfig.generateSeatingLayout(LIVE_PERFORMANCE_CONFIG)) {
+            generatedSeats += section.getSeats().size();
+        }
+        assertEquals(generatedSeats, template.getSeatCount(), "Template should hold every generated seat");
+
+        LayoutTemplate.SeatTemplate seat = template.getSeat(SeatKey.parse("A5"));
+        assertNotNull(seat, "A5 should be in the live performance layout");
+        assertEquals("A5", seat.getSeatID(), "Seats should use the seat-map ID stored in Booked_Seats");
+        assertSame(seat, template.findSeat(SeatKey.rowLetters("A"), 5), "Row and number lookup should find the same seat");
+        for (String seatId : new String[] {"CC8", "BB6", "AA21", "AA1", "AA53", "BB28", "Q10", "O20"}) {
+            assertNotNull(template.getSeat(SeatKey.parse(seatId)), seatId + " should be in the large hall layout");
+        }
+        assertNull(template.getSeat(SeatKey.parse("I1")), "The large hall stalls have no row I");
+    }
+
+    @Test
+    void testAdjacencyFollowsRows() {
+        SeatAdjacencyGraph adjacency = LayoutTemplates.get(LIVE_PERFORMANCE_CONFIG).getAdjacency();
+        String rowStart = "A1";
+        String next = "A2";
+
+        assertEquals(next, adjacency.getRight(rowStart), "Stalls A2 should be next to A1");
+        assertEquals(rowStart, adjacency.getLeft(next), "Links should go both ways");
+        assertNull(adjacency.getLeft(rowStart), "The first seat of a row should have no left neighbour");
+        assertTrue(adjacency.isWheelchair(rowStart), "The ends of stalls row A should be wheelchair spaces");
+        assertFalse(adjacency.isWheelchair(next), "Seats inside a row should not be wheelchair spaces");
+        assertEquals("AA19", adjacency.getLeft("AA20"), "Side balcony seats should be linked along their row");
+        assertNull(adjacency.getRight("AA20"), "The side balcony should not run on into the centre balcony");
+        assertNull(adjacency.getLeft("AA21"), "The centre balcony should not run on into the side balcony");
+    }
+
+    @Test
+    void testWheelchairSpacesComeFromLayoutData() {
+        SeatAdjacencyGraph smallHall = LayoutTemplates.get(2, "Conference").getAdjacency();
+
+        assertTrue(smallHall.isWheelchair("L4"), "Every seat in small hall row L should be a wheelchair space");
+        assertTrue(smallHall.isWheelchair("D7"), "The aisle ends of row D should be wheelchair spaces");
+        assertFalse(smallHall.isWheelchair("M1"), "Row M has no wheelchair spaces");
+        assertTrue(LayoutTemplates.get(LIVE_PERFORMANCE_CONFIG).getAdjacency().isWheelchair("AA49"),
+                "Marked side balcony seats should be wheelchair spaces");
+    }
+}
@@ -0,0 +1,95 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.databaseImpl.AsyncDataAccess;
+import com.teamoneboxoffice.util.PageTasks;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageTasksTest {
+
+    private AsyncDataAccess async;
+    // Stands in for the FX thread: result callbacks wait here until the test runs them.
+    private BlockingQueue<Runnable> fxThread;
+    private PageTasks pageTasks;
+
+    @BeforeEach
+    void setUp() {
+        async = new AsyncDataAccess();
+        fxThread = new LinkedBlockingQueue<>();
+        pageTasks = new PageTasks(async, fxThread::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        async.shutdown();
+    }
+
+    @Test
+    void testOverlappingLoadsOnDifferentNodes() throws InterruptedException {
+        Pane lookupButton = new Pane();
+        Pane seatingPlan = new Pane();
+        CountDownLatch lookupDone = new CountDownLatch(1);
+        CountDownLatch seatingPlanDone = new CountDownLatch(1);
+
+        pageTasks.load(waitFor(lookupDone), result -> { }, error -> { }, lookupButton);
+        pageTasks.load(waitFor(seatingPlanDone), result -> { }, error -> { }, seatingPlan);
+        assertTrue(lookupButton.isDisabled(), "A node should be disabled while its load runs");
+        assertTrue(seatingPlan.isDisabled(), "A node should be disabled while its load runs");
+
+        lookupDone.countDown();
+        runNextCallback();
+        assertFalse(lookupButton.isDisabled(), "A node should be enabled once its own load finishes");
+        assertTrue(seatingPlan.isDisabled(), "Another node's load is still running");
+        assertTrue(pageTasks.isBusy(), "The page is still loading");
+
+        seatingPlanDone.countDown();
+        runNextCallback();
+        assertFalse(seatingPlan.isDisabled(), "The last node should be enabled when its load finishes");
+        assertFalse(pageTasks.isBusy(), "Nothing should be loading");
+    }
+
+    @Test
+    void testOverlappingLoadsOnOneNode() throws InterruptedException {
+        Pane bookButton = new Pane();
+        CountDownLatch firstDone = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        pageTasks.load(waitFor(firstDone), result -> { }, error -> { }, bookButton);
+        pageTasks.load(waitFor(secondDone), result -> { }, error -> { }, bookButton);
+
+        firstDone.countDown();
+        runNextCallback();
+        assertTrue(bookButton.isDisabled(), "The node should stay disabled while its second load runs");
+
+        secondDone.countDown();
+        runNextCallback();
+        assertFalse(bookButton.isDisabled(), "The node should be enabled once both loads finish");
+    }
+
+    private static Supplier<String> waitFor(CountDownLatch latch) {
+        return () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        };
+    }
+
+    private void runNextCallback() throws InterruptedException {
+        Runnable callback = fxThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull(callback, "The load should have finished");
+        callback.run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatAvailabilityTest {
+
+    private static final String SEAT_A1 = "A1";
+    private static final String SEAT_A2 = "A2";
+    private static final String SEAT_B1 = "B1";
+
+    private SeatAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        availability = new SeatAvailability();
+        availability.replaceBooked(List.of(SEAT_A1));
+    }
+
+    @Test
+    void testStatusChecks() {
+        availability.setHeld(SEAT_A2, true);
+
+        assertTrue(availability.isBooked(SEAT_A1), "A1 should be booked");
+        assertFalse(availability.isAvailable(SEAT_A1), "A booked seat should not be available");
+        assertTrue(availability.isHeld(SEAT_A2), "A2 should be held");
+        assertFalse(availability.isAvailable(SEAT_A2), "A held seat should not be available");
+        assertTrue(availability.isAvailable(SEAT_B1), "An unseen seat should be available");
+        assertFalse(availability.isBooked(SEAT_B1), "An unseen seat should not be booked");
+    }
+
+    @Test
+    void testHeldSeatsAreSeparateFromSelectedOnes() {
+        availability.replaceHeld(List.of(SEAT_A2));
+        availability.setSelected(SEAT_B1, true);
+
+        assertTrue(availability.isHeld(SEAT_A2), "A2 is held by another booking");
+        assertFalse(availability.isSelected(SEAT_A2), "A seat held elsewhere is not selected on this screen");
+        assertFalse(availability.isHeld(SEAT_B1), "A seat selected on this screen is not held elsewhere");
+
+        availability.clearSelectionState();
+        assertTrue(availability.isHeld(SEAT_A2), "Clearing this screen's selection should keep other bookings' holds");
+        assertTrue(availability.isAvailable(SEAT_B1), "Clearing the selection should free B1");
+
+        SeatAvailability.Snapshot before = availability.snapshot();
+        availability.replaceHeld(List.of());
+        assertEquals(List.of(SEAT_A2), availability.changedSince(before), "A released hold should be reported");
+    }
+
+    @Test
+    void testChangedSinceSnapshot() {
+        SeatAvailability.Snapshot before = availability.snapshot();
+
+        availability.replaceBooked(List.of(SEAT_B1));
+        availability.setBlocked(SEAT_A2, true);
+
+        List<String> changed = availability.changedSince(before);
+        assertEquals(Set.of(SEAT_A1, SEAT_A2, SEAT_B1), Set.copyOf(changed), "Freed, blocked and newly booked seats should all be reported");
+        assertTrue(availability.changedSince(availability.snapshot()).isEmpty(), "Nothing should change against a fresh snapshot");
+    }
+}
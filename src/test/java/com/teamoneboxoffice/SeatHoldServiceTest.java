@@ -0,0 +1,77 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryEventDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemorySeatHoldDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import com.teamoneboxoffice.services.implementations.seatingImpl.PerformanceKey;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatHoldService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatHoldServiceTest {
+
+    private static final PerformanceKey PERFORMANCE = new PerformanceKey("EVT001", LocalDate.of(2025, 6, 1), "19:30");
+    private static final String HOLDER = "staff@TEST";
+
+    private InMemoryStore store;
+    private SeatHoldService terminalA;
+    private SeatHoldService terminalB;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        terminalA = new SeatHoldService(new InMemorySeatHoldDAO(store), new InMemoryEventDAO(store));
+        terminalB = new SeatHoldService(new InMemorySeatHoldDAO(store), new InMemoryEventDAO(store));
+    }
+
+    @AfterEach
+    void tearDown() {
+        terminalA.shutdown();
+        terminalB.shutdown();
+    }
+
+    @Test
+    void testSecondTerminalCannotHoldHeldSeat() {
+        String holdId = terminalA.hold(PERFORMANCE, List.of("A1", "A2"), HOLDER, SeatHoldService.DEFAULT_TTL);
+        assertNotNull(holdId, "First hold should succeed");
+        assertTrue(terminalA.isActive(holdId), "Hold should be active");
+
+        assertNull(terminalB.hold(PERFORMANCE, List.of("A2", "A3"), HOLDER, SeatHoldService.DEFAULT_TTL),
+                "Overlapping hold from another terminal should be refused");
+        assertEquals(Set.of("A1", "A2"), terminalB.getHeldSeatIds(PERFORMANCE), "Other terminal should see the held seats");
+        assertTrue(terminalB.getHeldSeatIds(new PerformanceKey("EVT001", LocalDate.of(2025, 6, 2), "19:30")).isEmpty(),
+                "Holds should be scoped to one performance");
+
+        terminalA.release(holdId);
+        assertFalse(terminalA.isActive(holdId), "Released hold should not be active");
+        assertNotNull(terminalB.hold(PERFORMANCE, List.of("A2", "A3"), HOLDER, SeatHoldService.DEFAULT_TTL),
+                "Seats should be free after release");
+    }
+
+    @Test
+    void testExpiredHoldIsReclaimed() throws InterruptedException {
+        String holdId = terminalA.hold(PERFORMANCE, List.of("B5"), HOLDER, Duration.ofMillis(200));
+        assertNotNull(holdId, "Hold should succeed");
+
+        Thread.sleep(300);
+        assertFalse(terminalA.isActive(holdId), "Hold should have lapsed");
+        assertTrue(terminalB.getHeldSeatIds(PERFORMANCE).isEmpty(), "Lapsed hold should not be reported");
+        assertNotNull(terminalB.hold(PERFORMANCE, List.of("B5"), HOLDER, SeatHoldService.DEFAULT_TTL),
+                "Another terminal should reclaim a lapsed hold");
+    }
+
+    @Test
+    void testExtendKeepsHoldActive() {
+        String holdId = terminalA.hold(PERFORMANCE, List.of("C1"), HOLDER, Duration.ofSeconds(5));
+        assertTrue(terminalA.extend(holdId, Duration.ofMinutes(5)), "Active hold should be extended");
+        assertFalse(terminalA.extend("missing", Duration.ofMinutes(5)), "Unknown hold should not be extended");
+    }
+}
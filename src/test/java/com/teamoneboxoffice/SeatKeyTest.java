@@ -0,0 +1,63 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.util.SeatKey;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatKeyTest {
+
+    private static final String SEAT_MAP_ID = "AA34";
+    private static final String SECTION_ID = "Balcony-AA3-5";
+    private static final String SIDE_BALCONY_ID = "Side Balcony Left-2-7";
+
+    @Test
+    void testRoundTrip() {
+        for (String seatId : new String[] {"A1", SEAT_MAP_ID, "Stalls-A-12", SECTION_ID, SIDE_BALCONY_ID}) {
+            int key = SeatKey.parse(seatId);
+            assertNotEquals(SeatKey.INVALID, key, "Seat ID should parse: " + seatId);
+            assertEquals(seatId, SeatKey.format(key), "Seat ID should format back unchanged: " + seatId);
+        }
+    }
+
+    @Test
+    void testParts() {
+        int key = SeatKey.parse(SEAT_MAP_ID);
+        assertEquals(0, SeatKey.section(key), "Seat-map IDs have no section");
+        assertEquals(SeatKey.rowLetters("AA"), SeatKey.rowLetters(key), "Row letters should be AA");
+        assertEquals(34, SeatKey.number(key), "Seat number should be 34");
+        assertEquals("AA35", SeatKey.format(SeatKey.withNumber(key, 35)), "Adjacent seat should keep the row");
+
+        int sectionKey = SeatKey.parse(SECTION_ID);
+        assertEquals("Balcony", SeatKey.sectionName(SeatKey.section(sectionKey)), "Section name should be kept");
+        assertEquals("AA3", SeatKey.rowLabel(sectionKey), "Row label should include its suffix");
+    }
+
+    @Test
+    void testInvalidIds() {
+        assertEquals(SeatKey.INVALID, SeatKey.parse(null), "Null should not parse");
+        assertEquals(SeatKey.INVALID, SeatKey.parse("AB12"), "Mixed row letters should not parse");
+        assertEquals(SeatKey.INVALID, SeatKey.parse("A"), "A seat ID needs a number");
+        assertEquals(SeatKey.INVALID, SeatKey.parse("Stalls-A-x"), "A seat number must be numeric");
+        assertThrows(IllegalArgumentException.class, () -> SeatKey.of("Stalls", "AB", 1), "A row that does not encode should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> SeatKey.format(SeatKey.INVALID), "INVALID should not format as a seat ID");
+    }
+
+    @Test
+    void testHighSection() {
+        int key = SeatKey.of(127, 52, 63, 4095);
+        assertTrue(key >= 0, "The highest section should still give a non-negative key");
+        assertNotEquals(SeatKey.INVALID, key, "The highest section should not collide with INVALID");
+        assertEquals(127, SeatKey.section(key), "Section should be kept");
+        assertThrows(IllegalArgumentException.class, () -> SeatKey.of(128, 1, 0, 1), "Sections above 127 should be rejected");
+    }
+
+    @Test
+    void testUnknownSection() {
+        assertEquals(SeatKey.INVALID, SeatKey.parse("Nowhere-A-1"), "An unknown section should not parse");
+        for (int i = 0; i < 300; i++) {
+            assertEquals(SeatKey.INVALID, SeatKey.parse("Unknown " + i + "-A-1"), "Unknown sections should not be registered");
+        }
+        assertNotEquals(SeatKey.INVALID, SeatKey.parse("Stalls-A-1"), "Known sections should still parse");
+    }
+}
@@ -0,0 +1,47 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.Seat;
+import com.teamoneboxoffice.entities.SeatingConfig;
+import com.teamoneboxoffice.entities.Section;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatPriceTable;
+import com.teamoneboxoffice.util.SeatKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatPriceTableTest {
+
+    private static final String SECTION_NAME = "Stalls";
+    private static final float SEAT_1_PRICE = 45.5f;
+    private static final float SEAT_11_PRICE = 60.0f;
+
+    private SeatPriceTable table;
+
+    @BeforeEach
+    void setUp() {
+        Section section = new Section(SECTION_NAME, 0, 0, 0f);
+        section.getSeats().add(new Seat(SeatKey.of(SECTION_NAME, "A", 1), 1, 1, SEAT_1_PRICE));
+        section.getSeats().add(new Seat(SeatKey.of(SECTION_NAME, "A", 11), 1, 11, SEAT_11_PRICE));
+        table = SeatPriceTable.of(List.of(section));
+    }
+
+    @Test
+    void testLookupBothForms() {
+        assertEquals(4550, table.priceInPence(SeatKey.parse("Stalls-A-1")), "Full seat key should be priced in pence");
+        assertEquals(4550, table.priceInPence(SeatKey.parse("A1")), "Seat-map ID should find the same seat");
+        assertEquals(6000, table.priceInPence(SeatKey.rowLetters("A"), 11), "Seat 11 should not be confused with seat 1");
+        assertEquals(SeatPriceTable.NO_PRICE, table.priceInPence(SeatKey.parse("B1")), "Unknown seats should have no price");
+    }
+
+    @Test
+    void testConfigPriceTable() {
+        SeatingConfig config = new SeatingConfig(1, "Concert");
+        Seat seat = config.getSections().get(0).getSeats().get(0);
+
+        assertEquals(SeatPriceTable.toPence(seat.getPrice()), config.getPriceTable().priceInPence(seat.getSeatKey()),
+                "Config price table should match the seat's price");
+    }
+}
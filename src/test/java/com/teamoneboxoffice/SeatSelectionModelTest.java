@@ -0,0 +1,104 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAdjacencyGraph;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatAvailability;
+import com.teamoneboxoffice.services.implementations.seatingImpl.SeatSelectionModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatSelectionModelTest {
+
+    private SeatAvailability availability;
+    private SeatSelectionModel model;
+    private List<String> changed;
+
+    @BeforeEach
+    void setUp() {
+        availability = new SeatAvailability();
+        availability.replaceBooked(List.of("A3"));
+        SeatAdjacencyGraph seatGraph = SeatAdjacencyGraph.builder()
+                .addRow(List.of("A1", "A2", "A3", "A4"))
+                .addRow(List.of("B3", "B4"))
+                .markWheelchair("A1")
+                .markWheelchair("B4")
+                .build();
+        model = new SeatSelectionModel(availability, seatGraph, 2);
+        changed = new ArrayList<>();
+        model.addListener(changed::addAll);
+    }
+
+    @Test
+    void testSelectAndDeselect() {
+        assertEquals(SeatSelectionModel.Result.SELECTED, model.select("A2", false), "A free seat should be selectable");
+        assertTrue(availability.isSelected("A2"), "A selected seat should be marked selected");
+        assertEquals(List.of("A2"), changed, "Listeners should hear about the selected seat");
+
+        assertTrue(model.deselect("A2"), "A selected seat should be deselectable");
+        assertFalse(availability.isSelected("A2"), "A deselected seat should no longer be marked selected");
+        assertFalse(model.deselect("A2"), "Deselecting twice should do nothing");
+        assertEquals(0, model.getSelectedCount(), "Nothing should be selected");
+    }
+
+    @Test
+    void testSelectionRules() {
+        assertEquals(SeatSelectionModel.Result.UNAVAILABLE, model.select("A3", false), "A booked seat should not be selectable");
+        assertEquals(SeatSelectionModel.Result.UNAVAILABLE, model.select("Z9", false), "A seat off the map should not be selectable");
+
+        model.select("A2", false);
+        assertEquals(SeatSelectionModel.Result.UNAVAILABLE, model.select("A2", false), "A selected seat should not be selectable again");
+        model.select("A4", false);
+        assertTrue(model.isComplete(), "Two of two seats should complete the selection");
+        assertEquals(SeatSelectionModel.Result.LIMIT_REACHED, model.select("B3", false), "A third seat should exceed the limit");
+        assertEquals(List.of("A2", "A4"), model.getSelectedSeatIds(), "Seats should be listed in the order picked");
+    }
+
+    @Test
+    void testWheelchairCompanionSeat() {
+        assertEquals(SeatSelectionModel.Result.SELECTED, model.select("A1", true), "A wheelchair seat with a free neighbour should be selectable");
+        assertEquals("A2", model.getCompanionSeat("A1"), "The right-hand neighbour should be blocked");
+        assertTrue(availability.isBlocked("A2"), "The companion seat should be blocked");
+        assertEquals(List.of("A1", "A2"), changed, "Listeners should hear about both seats");
+
+        model.deselect("A1");
+        assertFalse(availability.isBlocked("A2"), "Deselecting should free the companion seat");
+
+        availability.setBooked("B3", true);
+        assertEquals(SeatSelectionModel.Result.NO_COMPANION_SEAT, model.select("B4", true),
+                "A wheelchair seat with no free neighbour should be refused");
+        assertEquals(SeatSelectionModel.Result.SELECTED, model.select("B4", false),
+                "Without a wheelchair booking no companion seat is needed");
+    }
+
+    @Test
+    void testUndo() {
+        model.select("A1", true);
+        model.deselect("A1");
+        assertTrue(model.undo(), "The deselect should be undone");
+        assertTrue(model.isSelected("A1"), "A1 should be selected again");
+        assertTrue(availability.isBlocked("A2"), "The companion seat should be blocked again");
+
+        assertTrue(model.undo(), "The select should be undone");
+        assertFalse(model.isSelected("A1"), "A1 should be deselected");
+        assertFalse(availability.isBlocked("A2"), "The companion seat should be freed");
+        assertFalse(model.undo(), "There should be nothing left to undo");
+    }
+
+    @Test
+    void testClear() {
+        model.select("A1", true);
+        model.select("B3", false);
+        changed.clear();
+
+        model.clear();
+        assertEquals(0, model.getSelectedCount(), "Nothing should be selected");
+        assertFalse(availability.isSelected("B3"), "Cleared seats should no longer be marked selected");
+        assertFalse(availability.isBlocked("A2"), "Companion seats should be freed");
+        assertEquals(3, changed.size(), "Listeners should hear about every seat cleared");
+        assertFalse(model.undo(), "Clearing should drop the undo history");
+    }
+}
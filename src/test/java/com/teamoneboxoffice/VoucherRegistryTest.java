@@ -0,0 +1,108 @@
+package com.teamoneboxoffice;
+
+import com.teamoneboxoffice.entities.BookingCommitResult;
+import com.teamoneboxoffice.entities.BookingRequest;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountCatalogue;
+import com.teamoneboxoffice.services.implementations.discountImpl.DiscountRule;
+import com.teamoneboxoffice.services.implementations.discountImpl.VoucherRegistry;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryBookingCommitDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryDiscountDAO;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryStore;
+import com.teamoneboxoffice.services.implementations.inMemoryImpl.InMemoryVoucherDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoucherRegistryTest {
+
+    private InMemoryStore store;
+    private VoucherRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        registry = new VoucherRegistry(new InMemoryVoucherDAO(store));
+    }
+
+    @Test
+    void testBatchCodesAreUnique() throws SQLException {
+        List<String> codes = registry.issueBatch(10, "Spring campaign", 20_000, null);
+        assertEquals(20_000, new HashSet<>(codes).size(), "Every code in a batch should be different");
+        assertEquals(20_000, new VoucherRegistry(new InMemoryVoucherDAO(store)).findBatch(codes.get(0)).getSize(),
+                "Another terminal should read the stored batch");
+    }
+
+    @Test
+    void testCodeIsRedeemedOnce() throws Exception {
+        String code = registry.issueBatch(10, "Spring campaign", 1, null).get(0);
+        InMemoryBookingCommitDAO bookingCommitDAO = new InMemoryBookingCommitDAO(store);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            BookingRequest request = booking(i, "A" + (i + 1), List.of(code));
+            attempts.add(pool.submit(() -> bookingCommitDAO.claimSeatsAndCommit(request).isCommitted()));
+        }
+        int redeemed = 0;
+        for (Future<Boolean> attempt : attempts) {
+            redeemed += attempt.get() ? 1 : 0;
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS), "Bookings should finish");
+        assertEquals(1, redeemed, "Only one booking should redeem the voucher");
+
+        VoucherRegistry otherTerminal = new VoucherRegistry(new InMemoryVoucherDAO(store));
+        assertNotNull(otherTerminal.findBatch(code), "Another terminal should read the voucher");
+        assertTrue(otherTerminal.isRedeemed(code), "Another terminal should read the redemption");
+    }
+
+    @Test
+    void testVouchersAreDiscountCodes() throws SQLException {
+        DiscountCatalogue catalogue = new DiscountCatalogue(new InMemoryDiscountDAO(store), registry);
+        String code = registry.issueBatch(25, "Launch", 1, null).get(0);
+        String expired = registry.issueBatch(25, "Old", 1, LocalDateTime.now().minusDays(1)).get(0);
+
+        List<DiscountRule> rules = catalogue.resolve(code, "E1").getRules();
+        assertEquals(7500, DiscountRule.applyAll(rules, 10000), "A voucher should apply its batch's discount");
+        assertEquals(1, catalogue.resolve(expired, "E1").getProblems().size(), "An expired voucher should be refused");
+
+        catalogue.recordUse(rules);
+        assertTrue(catalogue.resolve(code, "E1").getRules().isEmpty(), "A redeemed voucher should be refused");
+    }
+
+    @Test
+    void testVoucherIsRedeemedWhenTheBookingIsSaved() throws SQLException {
+        DiscountCatalogue catalogue = new DiscountCatalogue(new InMemoryDiscountDAO(store), registry);
+        InMemoryBookingCommitDAO bookingCommitDAO = new InMemoryBookingCommitDAO(store);
+        String code = registry.issueBatch(25, "Launch", 1, null).get(0);
+        List<String> vouchers = DiscountCatalogue.voucherCodes(catalogue.resolve(code.toLowerCase(), "E1").getRules());
+        assertEquals(List.of(code), vouchers, "The voucher should be redeemed under its code");
+
+        BookingRequest first = booking(1, "A1", vouchers);
+        BookingRequest second = booking(2, "A2", vouchers);
+        assertTrue(bookingCommitDAO.claimSeatsAndCommit(first).isCommitted(), "The first booking should redeem the voucher");
+
+        BookingCommitResult result = bookingCommitDAO.claimSeatsAndCommit(second);
+        assertEquals(BookingCommitResult.Status.CODES_USED_UP, result.getStatus(), "A second booking with the voucher should be rolled back");
+        assertEquals(vouchers, result.getUsedUpCodes(), "The redeemed voucher should be reported");
+        VoucherRegistry otherTerminal = new VoucherRegistry(new InMemoryVoucherDAO(store));
+        otherTerminal.findBatch(code);
+        assertTrue(otherTerminal.isRedeemed(code), "The saved booking should have logged the redemption");
+    }
+
+    private static BookingRequest booking(int number, String seatId, List<String> vouchers) {
+        return new BookingRequest(String.format("T%05d", number), String.format("CUS_%05d", number),
+                "Customer " + number, "customer" + number + "@example.com", "0700000000" + number,
+                "E1", List.of(seatId), false, true, 37.5, List.of(), vouchers);
+    }
+}